@@ -5,14 +5,12 @@
 
 import { intToHex, convertSprintColorToRgba, hexToRgbaWithAlpha } from '../color-utils.js';
 import { createSvgElement, createRect, createText, createLine, createClipPath } from '../svg-utils.js';
-import { MS, calculateDayIndex }                                    from '../date-utils.js';
+import { calculateDayIndex }                                        from '../date-utils.js';
 import { AbstractRenderer }                                         from '../abstract-renderer.js';
 import { Theme }                                                    from '../theme/theme.js';
 import { Milestones }                                               from '../milestones.js';
-import {
-    parseLocalDateTime, getDayAt8AM, getCalendarException,
-    isWorkingDay, CalendarException,
-} from './date-helpers.js';
+import { getDayAt8AM, CalendarException }                           from './date-helpers.js';
+import { GanttLayout }                                              from './gantt-layout.js';
 
 // ── Constants (mirrors Java AbstractGanttRenderer field declarations) ────────
 const FINE_LINE_STROKE_WIDTH      = 1.0;
@@ -23,6 +21,8 @@ export const SECONDS_PER_DAY      = 85 * 6 * 60; // 30600
 const TASK_BODY_BORDER            = 1;
 const TASK_NAME_TO_TASK_GAP       = 5 + 8;        // 13
 const NONE_WORKING_DAY_FONT_SIZE  = 22;
+const ROW_OVERSCAN                = 20;           // rows rendered above and below the viewport
+const GRID_PATTERN_PREFIX         = 'gantt-grid';
 
 export const DEFAULT_DW  = 20;
 export const MIN_DW      = 2;
@@ -50,6 +50,7 @@ export interface TaskDto {
     assignedUserAvailability?:string | null;
     assignedUserCountry?:    string | null;
     assignedUserState?:      string | null;
+    calendarIndex?:          number | null;
     calendarExceptions?:     CalendarException[];
     predecessors?:           { predecessorId: number | string; visible?: boolean }[];
 }
@@ -64,6 +65,13 @@ export abstract class AbstractGanttRenderer extends AbstractRenderer {
     tasks:         TaskDto[];
     _calendarH:    number;
     _taskById:     Record<string, TaskDto>;
+    _taskByRow:    TaskDto[];
+    layout:        GanttLayout;
+    viewportTop:   number;        // visible part of the chart in chart coordinates
+    viewportHeight:number;
+    firstRow:      number;        // rows rendered by the last draw, including the overscan
+    lastRow:       number;
+    gridPatternId: string;        // unique per container, several charts on one page must not share the pattern
 
     constructor(theme: Theme, milestones: Milestones, preRun: number, postRun: number) {
         super(theme, milestones, preRun, postRun);
@@ -76,6 +84,18 @@ export abstract class AbstractGanttRenderer extends AbstractRenderer {
         this.tasks          = [];
         this._calendarH     = 0;
         this._taskById      = {};
+        this._taskByRow     = [];
+        this.layout         = new GanttLayout('', new Date(0));
+        this.viewportTop    = 0;
+        this.viewportHeight = Infinity;
+        this.firstRow       = 0;
+        this.lastRow        = -1;
+        this.gridPatternId  = GRID_PATTERN_PREFIX;
+    }
+
+    /** Derives the id of the grid pattern from the id of the container the chart is rendered into. */
+    setContainerId(containerId: string): void {
+        this.gridPatternId = `${GRID_PATTERN_PREFIX}-${containerId.replace(/[^\w-]/g, '-')}`;
     }
 
     dayIndexToPixelX(dayIndex: number): number {
@@ -83,12 +103,36 @@ export abstract class AbstractGanttRenderer extends AbstractRenderer {
     }
 
     calculateX(datetimeStr: string, startTimeStr: string | null, secondsPerDay: number): number {
-        const date         = parseLocalDateTime(datetimeStr)!;
-        const startTime    = parseLocalDateTime(startTimeStr)!;
-        const dayIndex     = calculateDayIndex(datetimeStr, this.chartStart!);
-        const workedSeconds = (date.getTime() - startTime.getTime()) / 1000;
-        const timeOfDayX   = Math.floor(workedSeconds * this.dayWidth / secondsPerDay);
-        return this.dayIndexToPixelX(dayIndex) + timeOfDayX;
+        const position   = this.layout.position(datetimeStr, startTimeStr!);
+        const timeOfDayX = Math.floor(position.workedSeconds * this.dayWidth / secondsPerDay);
+        return this.dayIndexToPixelX(position.dayIndex) + timeOfDayX;
+    }
+
+    getRowY(rowIndex: number): number {
+        return this._calendarH + rowIndex * (this.getTaskHeight() + 1);
+    }
+
+    isRowRendered(rowIndex: number): boolean {
+        return rowIndex >= this.firstRow && rowIndex <= this.lastRow;
+    }
+
+    /** Rows intersecting the viewport plus {@link ROW_OVERSCAN} rows on each side, needs {@link _calendarH}. */
+    updateRenderedRows(): void {
+        const pitch    = this.getTaskHeight() + 1;
+        const top      = this.viewportTop - this._calendarH;
+        const bottom   = top + this.viewportHeight;
+        this.firstRow  = Math.max(0, Math.floor(top / pitch) - ROW_OVERSCAN);
+        this.lastRow   = Number.isFinite(bottom)
+            ? Math.min(this.tasks.length - 1, Math.ceil(bottom / pitch) + ROW_OVERSCAN)
+            : this.tasks.length - 1;
+    }
+
+    /** True if the rows needed for the given viewport are already rendered. */
+    coversViewport(viewportTop: number, viewportHeight: number): boolean {
+        const pitch = this.getTaskHeight() + 1;
+        const first = Math.max(0, Math.floor((viewportTop - this._calendarH) / pitch));
+        const last  = Math.min(this.tasks.length - 1, Math.ceil((viewportTop + viewportHeight - this._calendarH) / pitch));
+        return first >= this.firstRow && last <= this.lastRow;
     }
 
     getTaskHeight(): number { return LINE_HEIGHT; }
@@ -107,12 +151,7 @@ export abstract class AbstractGanttRenderer extends AbstractRenderer {
         return intToHex(this.theme.xAxesTheme.dayOfweekBgColor, '#ffffff');
     }
 
-    getGanttDayStripeColor(task: TaskDto, dayDate: Date): string {
-        const dow = dayDate.getDay();
-        if (dow === 6 || dow === 0 || isWorkingDay(dayDate, task.calendarExceptions)) {
-            return this.getDayOfWeekStripBgColor(dayDate);
-        }
-        const exception = getCalendarException(dayDate, task.calendarExceptions);
+    getOffDayColor(exception: CalendarException | null): string {
         if (exception) {
             const t = exception.type;
             if (t === 'VACATION') return intToHex(this.theme.ganttTheme.vacationBgColor, '#a0c8ff');
@@ -123,18 +162,51 @@ export abstract class AbstractGanttRenderer extends AbstractRenderer {
         return intToHex(this.theme.xAxesTheme.dayOfMonthWeekendBgColor, '#d7d7d7');
     }
 
-    override drawDayBars(g: SVGElement, dayDate: Date, calendarH = 0): void {
-        const dayIdx    = calculateDayIndex(dayDate, this.chartStart!);
-        const dayLeft   = this.dayIndexToPixelX(dayIdx);
+    /**
+     * Draws the grid and the day-of-week background of the rendered rows between firstDay and lastDay.
+     * One week of one row is defined once as SVG pattern and tiled over the whole area,
+     * only off-days of individual users are drawn on top by {@link drawDayBars}.
+     */
+    drawGrid(g: SVGElement, firstDay: number, lastDay: number): void {
+        if (this.lastRow < this.firstRow || lastDay < firstDay) return;
+        const th        = this.getTaskHeight();
+        const dw        = this.dayWidth;
         const gridColor = intToHex(this.theme.ganttTheme.gridColor, '#e4e8f3');
-        for (const task of this.tasks) {
-            const rowY = calendarH + task.rowIndex * (this.getTaskHeight() + 1);
-            g.appendChild(createRect(dayLeft, rowY - 1, this.dayWidth, 1, { fill: gridColor }));
-            g.appendChild(createRect(dayLeft, rowY, 1, LINE_HEIGHT, { fill: gridColor }));
-            const bgColor = this.getGanttDayStripeColor(task, dayDate);
-            g.appendChild(createRect(dayLeft + 1, rowY, this.dayWidth - 1, LINE_HEIGHT, { fill: bgColor }));
-            const exception = getCalendarException(dayDate, task.calendarExceptions);
-            if (exception?.letter && this.dayWidth >= 14) {
+        const pattern   = createSvgElement('pattern', {
+            id: this.gridPatternId, patternUnits: 'userSpaceOnUse',
+            x: this.dayIndexToPixelX(0), y: this.getRowY(0) - 1, width: 7 * dw, height: th + 1,
+        });
+        for (let day = 0; day < 7; day++) {
+            const left = day * dw;
+            pattern.appendChild(createRect(left, 0, dw, 1, { fill: gridColor }));
+            pattern.appendChild(createRect(left, 1, 1, th, { fill: gridColor }));
+            pattern.appendChild(createRect(left + 1, 1, dw - 1, th, { fill: this.getDayOfWeekStripBgColor(this.layout.dayDate(day)) }));
+        }
+        const defs = createSvgElement('defs');
+        defs.appendChild(pattern);
+        g.appendChild(defs);
+        const x1 = this.dayIndexToPixelX(firstDay);
+        const x2 = this.dayIndexToPixelX(lastDay + 1);
+        const y1 = this.getRowY(this.firstRow) - 1;
+        const y2 = this.getRowY(this.lastRow + 1) - 1;
+        g.appendChild(createRect(x1, y1, x2 - x1, y2 - y1, { fill: `url(#${this.gridPatternId})` }));
+    }
+
+    /** Draws the off-days of the rendered rows for one day on top of the {@link drawGrid} background. */
+    override drawDayBars(g: SVGElement, dayDate: Date, _calendarH = 0): void {
+        const dayIdx  = calculateDayIndex(dayDate, this.chartStart!);
+        const dayLeft = this.dayIndexToPixelX(dayIdx);
+        const dow     = dayDate.getDay();
+        const weekend = dow === 6 || dow === 0;
+        for (let row = this.firstRow; row <= this.lastRow; row++) {
+            const task      = this._taskByRow[row];
+            const exception = task ? this.layout.exception(dayIdx, task.calendarExceptions) : null;
+            if (!exception) continue;
+            const rowY = this.getRowY(task.rowIndex);
+            if (!weekend) {
+                g.appendChild(createRect(dayLeft + 1, rowY, this.dayWidth - 1, LINE_HEIGHT, { fill: this.getOffDayColor(exception) }));
+            }
+            if (exception.letter && this.dayWidth >= 14) {
                 const cx = dayLeft + this.dayWidth / 2;
                 const letter = createText(cx, rowY + LINE_HEIGHT / 2, exception.letter, {
                     fill: intToHex(this.theme.ganttTheme.outOfOfficeColor, '#ffffff'),
@@ -154,46 +226,31 @@ export abstract class AbstractGanttRenderer extends AbstractRenderer {
         const borderColor = task.critical
             ? intToHex(this.theme.ganttTheme.criticalTaskBorderColor, '#ff0000')
             : intToHex(this.theme.ganttTheme.taskBorderColor, '#888888');
-
-        const startDayIdx  = calculateDayIndex(task.start!, this.chartStart!);
-        const finishDayIdx = calculateDayIndex(task.finish!, this.chartStart!);
-        const days         = finishDayIdx - startDayIdx;
-
-        for (let day = 0; day <= days; day++) {
-            const dayIdx   = startDayIdx + day;
-            const dayDate  = new Date(this.chartStart!.getTime() + dayIdx * MS);
-            const working  = isWorkingDay(dayDate, task.calendarExceptions);
-            const xStart   = this.dayIndexToPixelX(dayIdx);
-            const xFinish  = xStart + this.dayWidth;
-
-            if (working) {
-                const th = this.getTaskHeight();
-                if (days === 0) {
-                    g.appendChild(createRect(x1, y - th/2 + TASK_BODY_BORDER, x2-x1+1, 1, { fill: borderColor }));
-                    g.appendChild(createRect(x1, y + th/2 - TASK_BODY_BORDER - 1, x2-x1+1, 1, { fill: borderColor }));
-                    g.appendChild(createRect(x1, y - th/2 + TASK_BODY_BORDER + 1, 1, th-TASK_BODY_BORDER*2-2, { fill: borderColor }));
-                    g.appendChild(createRect(x2, y - th/2 + TASK_BODY_BORDER + 1, 1, th-TASK_BODY_BORDER*2-2, { fill: borderColor }));
-                } else if (day === 0) {
-                    g.appendChild(createRect(x1, y-th/2+TASK_BODY_BORDER, xFinish-x1, 1, { fill: borderColor }));
-                    g.appendChild(createRect(x1, y+th/2-TASK_BODY_BORDER-1, xFinish-x1, 1, { fill: borderColor }));
-                    g.appendChild(createRect(x1, y-th/2+TASK_BODY_BORDER+1, 1, th-TASK_BODY_BORDER*2-2, { fill: borderColor }));
-                } else if (day === days) {
-                    g.appendChild(createRect(xStart, y-th/2+TASK_BODY_BORDER, x2-xStart+1, 1, { fill: borderColor }));
-                    g.appendChild(createRect(xStart, y+th/2-TASK_BODY_BORDER-1, x2-xStart+1, 1, { fill: borderColor }));
-                    g.appendChild(createRect(x2, y-th/2+TASK_BODY_BORDER+1, 1, th-TASK_BODY_BORDER*2-2, { fill: borderColor }));
-                } else {
-                    g.appendChild(createRect(xStart, y-th/2+TASK_BODY_BORDER, this.dayWidth, 1, { fill: borderColor }));
-                    g.appendChild(createRect(xStart, y+th/2-TASK_BODY_BORDER-1, this.dayWidth, 1, { fill: borderColor }));
-                }
+        const th     = this.getTaskHeight();
+        const top    = y - th/2 + TASK_BODY_BORDER;
+        const bottom = y + th/2 - TASK_BODY_BORDER - 1;
+        const runs   = this.layout.runs(task);
+        if (!runs.length) return;
+        const first  = runs[0].first;
+        const last   = runs[runs.length - 1].last;
+
+        // one rect per edge and run of working days, one dashed line per edge and run of non-working days
+        for (const run of runs) {
+            const xStart  = this.dayIndexToPixelX(run.first);
+            const xFinish = this.dayIndexToPixelX(run.last) + this.dayWidth;
+            if (run.working) {
+                const left  = run.first === first ? x1 : xStart;
+                const right = run.last === last ? x2 + 1 : xFinish;
+                g.appendChild(createRect(left, top,    right - left, 1, { fill: borderColor }));
+                g.appendChild(createRect(left, bottom, right - left, 1, { fill: borderColor }));
+                if (run.first === first) g.appendChild(createRect(x1, top + 1, 1, th-TASK_BODY_BORDER*2-2, { fill: borderColor }));
+                if (run.last === last)   g.appendChild(createRect(x2, top + 1, 1, th-TASK_BODY_BORDER*2-2, { fill: borderColor }));
             } else {
-                for (let i = 0; i < this.dayWidth - 1; i++) {
-                    if ((dayIdx * this.dayWidth + i) % 4 === 0) {
-                        const px = xStart + i;
-                        const th = this.getTaskHeight();
-                        g.appendChild(createRect(px, y-th/2+TASK_BODY_BORDER, 2, 1, { fill: borderColor }));
-                        g.appendChild(createRect(px, y+th/2-TASK_BODY_BORDER-1, 2, 1, { fill: borderColor }));
-                    }
-                }
+                // 2px dashes every 4px, aligned to the chart so that they do not move while scrolling
+                const phase  = ((run.first * this.dayWidth) % 4 + 4) % 4;
+                const dashes = { stroke: borderColor, 'stroke-width': '1', 'stroke-dasharray': '2 2', 'stroke-dashoffset': String(phase) };
+                g.appendChild(createLine(xStart, top + 0.5,    xFinish - 1, top + 0.5,    dashes));
+                g.appendChild(createLine(xStart, bottom + 0.5, xFinish - 1, bottom + 0.5, dashes));
             }
         }
     }
@@ -316,18 +373,26 @@ export abstract class AbstractGanttRenderer extends AbstractRenderer {
         if (!task.start || !task.finish) return;
         const x1 = this.calculateX(task.start,  getDayAt8AM(task.start)!,  SECONDS_PER_DAY);
         const x2 = this.calculateX(task.finish, getDayAt8AM(task.finish)!, SECONDS_PER_DAY);
-        const y  = this._calendarH + task.rowIndex * (this.getTaskHeight() + 1) + this.getTaskHeight() / 2;
+        const y  = this.getRowY(task.rowIndex) + this.getTaskHeight() / 2;
 
         this._drawTask(g, task, x1, x2, y, labelInside, alien, marker, conflict);
         if (doDrawId) this.drawId(g, task, y);
-        if (drawRelations && task.predecessors?.length) {
-            for (const rel of task.predecessors) {
-                if (!rel.visible) continue;
-                const targetTask = this._taskById[String(rel.predecessorId)];
-                if (!targetTask) continue;
-                const y1 = this._calendarH + targetTask.rowIndex * (this.getTaskHeight() + 1) + this.getTaskHeight() / 2;
-                this.drawRelation(g, task, y, targetTask, y1);
-            }
+        if (drawRelations) this.drawTaskRelations(g, task);
+    }
+
+    /** Draws the visible relations of the task whose arrow crosses the rendered rows. */
+    drawTaskRelations(g: SVGElement, task: TaskDto): void {
+        if (!task.start || !task.finish || !task.predecessors?.length) return;
+        const y = this.getRowY(task.rowIndex) + this.getTaskHeight() / 2;
+        for (const rel of task.predecessors) {
+            if (!rel.visible) continue;
+            const targetTask = this._taskById[String(rel.predecessorId)];
+            if (!targetTask?.finish) continue;
+            const topRow    = Math.min(task.rowIndex, targetTask.rowIndex);
+            const bottomRow = Math.max(task.rowIndex, targetTask.rowIndex);
+            if (bottomRow < this.firstRow || topRow > this.lastRow) continue;
+            const y1 = this.getRowY(targetTask.rowIndex) + this.getTaskHeight() / 2;
+            this.drawRelation(g, task, y, targetTask, y1);
         }
     }
 
@@ -427,31 +492,24 @@ export abstract class AbstractGanttRenderer extends AbstractRenderer {
             const y1 = y - th/2 + TASK_BODY_BORDER;
             const h  = th - TASK_BODY_BORDER * 2;
             if (x2 - x1 - 2 > 0) {
-                const startDayIdx  = calculateDayIndex(task.start!, this.chartStart!);
-                const finishDayIdx = calculateDayIndex(task.finish!, this.chartStart!);
-                const days         = finishDayIdx - startDayIdx;
-
-                for (let day = 0; day <= days; day++) {
-                    const dayIdx   = startDayIdx + day;
-                    const dayDate  = new Date(this.chartStart!.getTime() + dayIdx * MS);
-                    let segX: number, segW: number;
-
-                    if (isWorkingDay(dayDate, task.calendarExceptions)) {
-                        const fill = convertSprintColorToRgba(fillColor);
-                        if (days === 0) { segX = x1; segW = x2 - x1; }
-                        else if (day === 0) { segX = x1; segW = this.dayIndexToPixelX(dayIdx) + this.dayWidth - x1; }
-                        else if (day === days) { segX = this.dayIndexToPixelX(dayIdx); segW = x2 - segX + 1; }
-                        else { segX = this.dayIndexToPixelX(dayIdx); segW = this.dayWidth; }
-                        const rect = createRect(segX, y1, segW, h, { fill });
-                        rect.appendChild(createSvgElement('title', {}, tooltip));
-                        g.appendChild(rect);
-                    } else {
-                        const weekendFill = hexToRgbaWithAlpha(fillColor, this.theme.ganttTheme.taskWeekEndTransparency);
-                        const xStart4     = this.dayIndexToPixelX(dayIdx);
-                        const rectW       = createRect(xStart4, y1, this.dayWidth, h, { fill: weekendFill });
-                        rectW.appendChild(createSvgElement('title', {}, tooltip));
-                        g.appendChild(rectW);
+                // one rect per run of working or non-working days instead of one per day
+                const runs        = this.layout.runs(task);
+                if (!runs.length) return;
+                const first       = runs[0].first;
+                const last        = runs[runs.length - 1].last;
+                const workingFill = convertSprintColorToRgba(fillColor);
+                const weekendFill = hexToRgbaWithAlpha(fillColor, this.theme.ganttTheme.taskWeekEndTransparency);
+
+                for (const run of runs) {
+                    let segX = this.dayIndexToPixelX(run.first);
+                    let segR = this.dayIndexToPixelX(run.last) + this.dayWidth;
+                    if (run.working) {
+                        if (run.first === first) segX = x1;
+                        if (run.last === last)   segR = first === last ? x2 : x2 + 1;
                     }
+                    const rect = createRect(segX, y1, segR - segX, h, { fill: run.working ? workingFill : weekendFill });
+                    rect.appendChild(createSvgElement('title', {}, tooltip));
+                    g.appendChild(rect);
                 }
 
                 if (progress > 0) {
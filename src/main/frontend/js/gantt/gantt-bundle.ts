@@ -8,6 +8,7 @@ import { Theme }                                    from '../theme/theme.js';
 import { calculateDayIndex }                        from '../date-utils.js';
 import { GanttChart }                               from './gantt-chart-class.js';
 import { GanttRenderer, GanttChartDto }             from './gantt-renderer.js';
+import { GanttLayout }                              from './gantt-layout.js';
 import { DEFAULT_DW, MIN_DW, MAX_DW, ZOOM_STEP }   from './abstract-gantt-renderer.js';
 
 // ── localStorage helpers ────────────────────────────────────────────────────
@@ -40,21 +41,53 @@ interface ChartHandle { render(): void; schedule(): void; destroy(): void; }
 
 let currentGanttChartInstance: ChartHandle | null = null;
 
+// Themes already received from the server, the server omits meta.theme for a themeKey it has sent before.
+const themeCache: Record<string, Record<string, unknown>> = {};
+
+function hasTheme(meta: GanttChartDto['meta']): boolean {
+    return !!meta.theme || (!!meta.themeKey && meta.themeKey in themeCache);
+}
+
+function resolveTheme(meta: GanttChartDto['meta']): Record<string, unknown> {
+    if (meta.theme) {
+        if (meta.themeKey) themeCache[meta.themeKey] = meta.theme;
+        return meta.theme;
+    }
+    return (meta.themeKey && themeCache[meta.themeKey]) || {};
+}
+
+// Layouts keyed by the chart content (GanttLayout.keyOf), a theme switch remounts the chart with the same content and reuses it.
+// New content means the data was reloaded, the layouts of the old content are dropped.
+const layoutCache = new Map<string, GanttLayout>();
+
 function createChart(
     container: HTMLElement,
     data:      GanttChartDto,
     options:   { containerId?: string } = {},
 ): ChartHandle {
     const containerId = options.containerId || container.id || 'chart';
-    const theme       = new Theme(data.meta.theme as Record<string, unknown>);
-    const chart       = new GanttChart(data, theme);
+    const theme       = new Theme(resolveTheme(data.meta));
+    const layoutKey   = GanttLayout.keyOf(data);
+    const cached      = layoutCache.get(layoutKey);
+    if (!cached) layoutCache.clear();
+    const chart       = new GanttChart(data, theme, cached);
     const renderer    = chart.renderers[0] as GanttRenderer;
+    renderer.setContainerId(containerId);
+    layoutCache.set(layoutKey, renderer.layout);
 
     let dayWidth     = DEFAULT_DW;
     let scrollOffset = 0;
 
     function getContainerWidth() { return Math.max(200, container.clientWidth || 800); }
 
+    // Part of the chart inside the browser window, only these rows are rendered.
+    // Scroll containers in between only clip further, so the window is a safe upper bound.
+    function getViewport(): { top: number; height: number } {
+        const rect = container.getBoundingClientRect();
+        if (rect.height === 0) return { top: 0, height: Infinity };
+        return { top: -rect.top, height: window.innerHeight };
+    }
+
     function constrainScrollOffset() {
         scrollOffset = Math.max(0, Math.min(
             Math.max(0, renderer.totalDays - getContainerWidth() / dayWidth),
@@ -82,7 +115,8 @@ function createChart(
     let animationFrameId: number | null = null;
 
     function redrawChart() {
-        chart.updateViewState(dayWidth, scrollOffset, getContainerWidth());
+        const viewport = getViewport();
+        chart.updateViewState(dayWidth, scrollOffset, getContainerWidth(), viewport.top, viewport.height);
         chart.render(container);
     }
 
@@ -108,6 +142,11 @@ function createChart(
         scheduleSave();
     }
 
+    function handleScroll() {
+        const viewport = getViewport();
+        if (!renderer.coversViewport(viewport.top, viewport.height)) scheduleRender();
+    }
+
     let dragState: { startX: number; startOffset: number } | null = null;
 
     function handlePointerDown(e: PointerEvent) {
@@ -142,6 +181,8 @@ function createChart(
         container.removeEventListener('pointermove',   handlePointerMove as EventListener);
         container.removeEventListener('pointerup',     handlePointerUp);
         container.removeEventListener('pointercancel', handlePointerUp);
+        document.removeEventListener('scroll', handleScroll, { capture: true });
+        window.removeEventListener('resize', handleScroll);
         resizeObserver?.disconnect();
         if (animationFrameId) cancelAnimationFrame(animationFrameId);
         if (saveTimerId)      clearTimeout(saveTimerId);
@@ -154,6 +195,9 @@ function createChart(
     container.addEventListener('pointermove',   handlePointerMove as EventListener, { passive: true  });
     container.addEventListener('pointerup',     handlePointerUp);
     container.addEventListener('pointercancel', handlePointerUp);
+    // scroll does not bubble, capture it for whatever element scrolls the chart
+    document.addEventListener('scroll', handleScroll, { capture: true, passive: true });
+    window.addEventListener('resize', handleScroll);
 
     redrawChart();
     return { render: redrawChart, schedule: scheduleRender, destroy: cleanupChart };
@@ -161,10 +205,12 @@ function createChart(
 
 // ── Public mount API (called by Backlog.java via Vaadin executeJs) ───────────
 
-function mountGanttChart(containerId: string, injectedData: GanttChartDto): void {
+// Returns false if meta.theme was omitted but is not cached (e.g. after a page reload), the server must send it again.
+function mountGanttChart(containerId: string, injectedData: GanttChartDto): boolean {
     const elementId        = containerId || 'gantt-chart-container';
     const containerElement = document.getElementById(elementId);
-    if (!containerElement) return;
+    if (!containerElement) return true;
+    if (injectedData && !hasTheme(injectedData.meta)) return false;
 
     currentGanttChartInstance?.destroy();
     currentGanttChartInstance = null;
@@ -174,6 +220,7 @@ function mountGanttChart(containerId: string, injectedData: GanttChartDto): void
     } else {
         containerElement.innerHTML = '<div style="padding:16px;color:red;font-family:sans-serif;">No Gantt chart data provided.</div>';
     }
+    return true;
 }
 
 // ── Expose globals for Java interop ─────────────────────────────────────────
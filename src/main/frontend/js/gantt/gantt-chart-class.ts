@@ -6,18 +6,25 @@
 import { AbstractChart }             from '../abstract-chart.js';
 import { Theme }                     from '../theme/theme.js';
 import { GanttRenderer, GanttChartDto } from './gantt-renderer.js';
+import { GanttLayout }                  from './gantt-layout.js';
 
 export class GanttChart extends AbstractChart {
-    constructor(data: GanttChartDto, theme: Theme) {
+    constructor(data: GanttChartDto, theme: Theme, layout?: GanttLayout) {
         super('Gantt Chart', data.meta.sprintName || '', '', '', 'gantt-chart', theme);
-        this.addRenderer(new GanttRenderer(data, theme));
+        this.addRenderer(new GanttRenderer(data, theme, layout));
     }
 
-    updateViewState(dayWidth: number, scrollOffset: number, containerWidth: number): void {
+    /**
+     * @param viewportTop    first visible pixel row of the chart svg, rows outside the viewport are not rendered
+     * @param viewportHeight visible height, Infinity renders all rows
+     */
+    updateViewState(dayWidth: number, scrollOffset: number, containerWidth: number, viewportTop = 0, viewportHeight = Infinity): void {
         const renderer = this.renderers[0] as GanttRenderer;
         renderer.dayWidth       = dayWidth;
         renderer.scrollOffset   = scrollOffset;
         renderer.containerWidth = containerWidth;
+        renderer.viewportTop    = viewportTop;
+        renderer.viewportHeight = viewportHeight;
 
         const calendarH = renderer.calendarXAxes.getHeight(dayWidth, renderer.milestones.list.length > 0);
         const taskAreaH = renderer.tasks.length * (renderer.getTaskHeight() + 1);
@@ -0,0 +1,114 @@
+// gantt/gantt-layout.ts
+// Date and calendar lookups of a Gantt chart that only depend on the chart data.
+// Zoom, scroll and theme do not change them, so one layout is reused for every
+// frame and survives a theme switch as long as the tasks did not change.
+//
+// Copyright (C) 2025-2026 Abdalla Bushnaq – Apache License 2.0
+
+import { MS, calculateDayIndex }                                   from '../date-utils.js';
+import { parseLocalDateTime, getCalendarException, CalendarException } from './date-helpers.js';
+import type { TaskDto }                                            from './abstract-gantt-renderer.js';
+import type { GanttChartDto }                                      from './gantt-renderer.js';
+
+/** Day index relative to the chart start and seconds since the reference time of that day. */
+export interface DatePosition {
+    dayIndex:      number;
+    workedSeconds: number;
+}
+
+/** Consecutive days of a task that are all working days or all non-working days (inclusive day indexes). */
+export interface DayRun {
+    first:   number;
+    last:    number;
+    working: boolean;
+}
+
+export class GanttLayout {
+    readonly key:        string;
+    readonly chartStart: Date;
+    private readonly positions  = new Map<string, DatePosition>();
+    private readonly dayRuns    = new Map<string, DayRun[]>();
+    private readonly exceptions = new Map<CalendarException[], Map<number, CalendarException | null>>();
+
+    constructor(key: string, chartStart: Date) {
+        this.key        = key;
+        this.chartStart = chartStart;
+    }
+
+    /**
+     * Everything the layout depends on, including the calendar exceptions inlined into tasks without a shared calendar.
+     * Colors are left out on purpose, they change with the theme.
+     */
+    static keyOf(data: GanttChartDto): string {
+        const parts: string[] = [data.meta.chartStart, data.meta.chartEnd, JSON.stringify(data.calendars || [])];
+        for (const task of data.tasks || []) {
+            const exceptions = task.calendarIndex == null && task.calendarExceptions?.length ? JSON.stringify(task.calendarExceptions) : '';
+            parts.push(`${task.id},${task.rowIndex},${task.start},${task.finish},${task.calendarIndex},${exceptions}`);
+        }
+        return parts.join('|');
+    }
+
+    dayDate(dayIndex: number): Date {
+        return new Date(this.chartStart.getTime() + dayIndex * MS);
+    }
+
+    /** Calendar exception covering the day, cached per calendar since tasks of the same user share it. */
+    exception(dayIndex: number, exceptions: CalendarException[] | null | undefined): CalendarException | null {
+        if (!exceptions?.length) return null;
+        let byDay = this.exceptions.get(exceptions);
+        if (!byDay) {
+            byDay = new Map();
+            this.exceptions.set(exceptions, byDay);
+        }
+        let exception = byDay.get(dayIndex);
+        if (exception === undefined) {
+            exception = getCalendarException(this.dayDate(dayIndex), exceptions);
+            byDay.set(dayIndex, exception);
+        }
+        return exception;
+    }
+
+    /** Same as date-helpers isWorkingDay, but cached. */
+    isWorkingDay(dayIndex: number, exceptions: CalendarException[] | null | undefined): boolean {
+        const dow = this.dayDate(dayIndex).getDay();
+        if (dow === 0 || dow === 6) return false;
+        return this.exception(dayIndex, exceptions) === null;
+    }
+
+    position(datetimeStr: string, startTimeStr: string): DatePosition {
+        const key    = datetimeStr + '|' + startTimeStr;
+        let position = this.positions.get(key);
+        if (!position) {
+            const date      = parseLocalDateTime(datetimeStr)!;
+            const startTime = parseLocalDateTime(startTimeStr)!;
+            position = {
+                dayIndex:      calculateDayIndex(datetimeStr, this.chartStart),
+                workedSeconds: (date.getTime() - startTime.getTime()) / 1000,
+            };
+            this.positions.set(key, position);
+        }
+        return position;
+    }
+
+    /** Working and non-working day runs from the task start day to the task finish day. */
+    runs(task: TaskDto): DayRun[] {
+        const id = String(task.id);
+        let runs = this.dayRuns.get(id);
+        if (!runs) {
+            runs = [];
+            const startDayIdx  = calculateDayIndex(task.start!, this.chartStart);
+            const finishDayIdx = calculateDayIndex(task.finish!, this.chartStart);
+            for (let dayIdx = startDayIdx; dayIdx <= finishDayIdx; dayIdx++) {
+                const working = this.isWorkingDay(dayIdx, task.calendarExceptions);
+                const last    = runs[runs.length - 1];
+                if (last && last.working === working) {
+                    last.last = dayIdx;
+                } else {
+                    runs.push({ first: dayIdx, last: dayIdx, working });
+                }
+            }
+            this.dayRuns.set(id, runs);
+        }
+        return runs;
+    }
+}
@@ -3,14 +3,14 @@
 //
 // Copyright (C) 2025-2026 Abdalla Bushnaq – Apache License 2.0
 
-import { intToHex }                                    from '../color-utils.js';
-import { createSvgElement, createLine, createRect, createText } from '../svg-utils.js';
-import { MS, getDayMidnight, calculateDayIndex, calculateDayCount } from '../date-utils.js';
+import { createSvgElement, createLine }                from '../svg-utils.js';
+import { getDayMidnight, calculateDayIndex, calculateDayCount } from '../date-utils.js';
 import { Milestone }                                   from '../milestone.js';
 import { Milestones }                                  from '../milestones.js';
 import { Theme }                                       from '../theme/theme.js';
-import { getCalendarException }                        from './date-helpers.js';
+import { CalendarException }                           from './date-helpers.js';
 import { AbstractGanttRenderer, TaskDto, DEFAULT_DW } from './abstract-gantt-renderer.js';
+import { GanttLayout }                                 from './gantt-layout.js';
 
 export interface GanttChartMeta {
     chartStart:               string;
@@ -23,15 +23,20 @@ export interface GanttChartMeta {
     preRun?:                  number;
     postRun?:                 number;
     theme?:                   Record<string, unknown>;
+    themeKey?:                string;
 }
 
 export interface GanttChartDto {
-    tasks: TaskDto[];
-    meta:  GanttChartMeta;
+    tasks:      TaskDto[];
+    meta:       GanttChartMeta;
+    calendars?: CalendarException[][];
 }
 
 export class GanttRenderer extends AbstractGanttRenderer {
-    constructor(data: GanttChartDto, theme: Theme) {
+    /**
+     * @param layout layout of a previous renderer of the same data, e.g. before a theme switch
+     */
+    constructor(data: GanttChartDto, theme: Theme, layout?: GanttLayout) {
         const chartStart    = getDayMidnight(new Date(data.meta.chartStart));
         const chartEnd      = getDayMidnight(new Date(data.meta.chartEnd));
         const now           = data.meta.now ? getDayMidnight(new Date(data.meta.now)) : getDayMidnight(new Date());
@@ -58,9 +63,17 @@ export class GanttRenderer extends AbstractGanttRenderer {
         this.chartStart  = chartStart;
         this.totalDays   = calculateDayCount(chartStart, chartEnd);
         this.currentDate = now;
+        this.layout      = layout && layout.chartStart.getTime() === chartStart.getTime()
+            ? layout
+            : new GanttLayout(GanttLayout.keyOf(data), chartStart);
 
         for (const task of this.tasks) {
             this._taskById[String(task.id)] = task;
+            this._taskByRow[task.rowIndex]  = task;
+            // calendar exceptions are sent once per user and shared by all tasks of that user
+            if (task.calendarIndex != null && data.calendars) {
+                task.calendarExceptions = data.calendars[task.calendarIndex];
+            }
         }
     }
 
@@ -68,33 +81,14 @@ export class GanttRenderer extends AbstractGanttRenderer {
         this.dayWidth = DEFAULT_DW;
     }
 
-    override drawDayBars(g: SVGElement, dayDate: Date, calendarH = 0): void {
-        const dayIdx    = calculateDayIndex(dayDate, this.chartStart!);
-        const dayLeft   = this.dayIndexToPixelX(dayIdx);
-        const gridColor = intToHex(this.theme.ganttTheme.gridColor, '#e4e8f3');
-        for (const task of this.tasks) {
-            const rowY = calendarH + task.rowIndex * (this.getTaskHeight() + 1);
-            g.appendChild(createRect(dayLeft, rowY - 1, this.dayWidth, 1, { fill: gridColor }));
-            g.appendChild(createRect(dayLeft, rowY, 1, this.getTaskHeight(), { fill: gridColor }));
-            const bgColor = this.getGanttDayStripeColor(task, dayDate);
-            g.appendChild(createRect(dayLeft + 1, rowY, this.dayWidth - 1, this.getTaskHeight(), { fill: bgColor }));
-            const ex = getCalendarException(dayDate, task.calendarExceptions);
-            if (ex?.letter && this.dayWidth >= 14) {
-                const cx     = dayLeft + this.dayWidth / 2;
-                const letter = createText(cx, rowY + this.getTaskHeight() / 2, ex.letter, {
-                    fill: intToHex(this.theme.ganttTheme.outOfOfficeColor, '#ffffff'),
-                    'font-size': '22', 'font-family': 'sans-serif', 'font-weight': 'bold',
-                    'text-anchor': 'middle', 'dominant-baseline': 'middle',
-                });
-                letter.appendChild(createSvgElement('title', {}, ex.type || 'Off-day'));
-                g.appendChild(letter);
-            }
-        }
-    }
-
     drawGanttChart(g: SVGElement): void {
+        for (let row = this.firstRow; row <= this.lastRow; row++) {
+            const task = this._taskByRow[row];
+            if (task) this.drawTask(g, 0, task, true, false, false, false, null, null, true);
+        }
+        // relations of rows outside the viewport can still cross it
         for (const task of this.tasks) {
-            this.drawTask(g, 0, task, true, true, false, false, null, null, true);
+            this.drawTaskRelations(g, task);
         }
     }
 
@@ -113,13 +107,14 @@ export class GanttRenderer extends AbstractGanttRenderer {
         const taskAreaH = this.tasks.length * (this.getTaskHeight() + 1);
         const totalH    = calendarH + taskAreaH;
         this._calendarH = y + calendarH;
+        this.updateRenderedRows();
 
         const gDayBars = createSvgElement('g', { class: 'day-bars' });
         const firstDay = Math.max(0, Math.floor(this.scrollOffset) - 1);
         const lastDay  = Math.min(this.totalDays - 1, firstDay + Math.ceil(this.containerWidth / this.dayWidth) + 2);
+        this.drawGrid(gDayBars, firstDay, lastDay);
         for (let d = firstDay; d <= lastDay; d++) {
-            const dayDate = new Date(this.chartStart!.getTime() + d * MS);
-            this.drawDayBars(gDayBars, dayDate, this._calendarH);
+            this.drawDayBars(gDayBars, this.layout.dayDate(d), this._calendarH);
         }
         svg.appendChild(gDayBars);
 
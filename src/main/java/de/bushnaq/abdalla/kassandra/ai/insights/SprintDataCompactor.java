@@ -0,0 +1,100 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.ai.insights;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.*;
+
+/**
+ * Turns the JSON array of sprint statistics into a compact table for the LLM prompt.
+ * <p>
+ * The pretty printed JSON repeats every key for every sprint and spends most of its tokens on quotes, indentation and
+ * key names. The table lists the column names once, one row per sprint, and values that are equal for all sprints only
+ * once above the table. All values are kept.
+ */
+public class SprintDataCompactor {
+    private static final String       FIRST_COLUMN = "sprintName";
+    private static final ObjectMapper mapper       = new ObjectMapper();
+
+    /**
+     * Compact the sprint statistics.
+     *
+     * @param sprintJsonData JSON array of sprint objects, a single object is treated as an array of one
+     * @return the table, or the trimmed input if it is not JSON
+     */
+    public static String compact(String sprintJsonData) {
+        JsonNode root;
+        try {
+            root = mapper.readTree(sprintJsonData);
+        } catch (Exception e) {
+            return sprintJsonData.trim();
+        }
+        List<JsonNode> rows = new ArrayList<>();
+        if (root.isArray()) {
+            root.forEach(rows::add);
+        } else {
+            rows.add(root);
+        }
+        // columns in the order they first appear, sprint name first
+        Set<String> columns = new LinkedHashSet<>();
+        for (JsonNode row : rows) {
+            row.fieldNames().forEachRemaining(columns::add);
+        }
+        if (columns.remove(FIRST_COLUMN)) {
+            List<String> ordered = new ArrayList<>(columns);
+            ordered.addFirst(FIRST_COLUMN);
+            columns = new LinkedHashSet<>(ordered);
+        }
+        Map<String, String> constants = new LinkedHashMap<>();
+        List<String>        varying   = new ArrayList<>();
+        for (String column : columns) {
+            String first = value(rows.getFirst(), column);
+            if (rows.size() > 1 && rows.stream().allMatch(row -> value(row, column).equals(first))) {
+                constants.put(column, first);
+            } else {
+                varying.add(column);
+            }
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("sprints: ").append(rows.size()).append('\n');
+        if (!constants.isEmpty()) {
+            StringJoiner joiner = new StringJoiner("; ", "same for all sprints: ", "\n");
+            constants.forEach((column, value) -> joiner.add(column + "=" + value));
+            sb.append(joiner);
+        }
+        sb.append(String.join("|", varying)).append('\n');
+        for (JsonNode row : rows) {
+            StringJoiner joiner = new StringJoiner("|", "", "\n");
+            varying.forEach(column -> joiner.add(value(row, column)));
+            sb.append(joiner);
+        }
+        return sb.toString();
+    }
+
+    private static String value(JsonNode row, String column) {
+        JsonNode node = row.get(column);
+        if (node == null || node.isNull()) {
+            return "-";
+        }
+        String text = node.isValueNode() ? node.asText() : node.toString();
+        return text.replace('|', '/').replace('\n', ' ');
+    }
+}
@@ -27,18 +27,29 @@ import org.springframework.ai.openai.OpenAiChatOptions;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import static de.bushnaq.abdalla.util.AnsiColorConstants.*;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * AI-powered insights generator for sprint data analysis.
  * Analyzes JSON lists of sprints and provides AI-generated insights about patterns, trends, and recommendations.
  * Uses openthinker:7b model for deep thinking analysis.
+ * <p>
+ * The JSON is compacted by {@link SprintDataCompactor} before it goes into the prompt. Results are cached by a hash of
+ * the compacted data, the focus question and the model, so pressing the button again without any change in the sprint
+ * data does not call the LLM. Any change in the data changes the hash, so stale results are never returned.
  */
 @Component
 public class SprintInsightsGenerator {
 
+    private static final int    MAX_CACHED_INSIGHTS             = 32;
     private static final String SPRINT_INSIGHTS_PROMPT_TEMPLATE = """
-            CRITICAL INSTRUCTION: You MUST analyze the specific JSON data provided below. DO NOT return template responses with placeholders like [Sprint Name] or [Actual Progress Percentage]. Any response containing square brackets [ ] will be considered a failure.
+            CRITICAL INSTRUCTION: You MUST analyze the specific sprint data provided below. DO NOT return template responses with placeholders like [Sprint Name] or [Actual Progress Percentage]. Any response containing square brackets [ ] will be considered a failure.
             
             You are analyzing REAL sprint data. Here is what the data contains:
             
@@ -100,12 +111,18 @@ public class SprintInsightsGenerator {
             [SPECIFIC RECOMMENDATIONS BASED ON THE ACTUAL DATA PATTERNS]
             
             REMEMBER: Use the actual sprint names from "sprintName" field and actual percentages from "actualProgressDisplay" and other display fields. NO placeholders allowed.
-            
-            JSON DATA TO ANALYZE:
+            %s
+            SPRINT DATA TO ANALYZE (one row per sprint, columns separated by |, values that are equal for all sprints are listed once above the table):
             %s
             """;
 
     private static final Logger              logger = LoggerFactory.getLogger(SprintInsightsGenerator.class);
+    private final        Map<String, String> cache  = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > MAX_CACHED_INSIGHTS;
+        }
+    });// LRU of generated insights by keyOf()
     private final        ChatModel           chatModel;
     private final        KassandraProperties kassandraProperties;
 
@@ -162,35 +179,36 @@ public class SprintInsightsGenerator {
         }
 
         logger.info("Generating focused AI insights for sprint data with question: '{}'", focusQuestion);
+        return generate(sprintJsonData, "\nFocus your analysis on this specific question:\n" + focusQuestion + "\n", "focused sprint insights");
+    }
 
+    private String generate(String sprintJsonData, String focus, String what) {
+        String compactData = SprintDataCompactor.compact(sprintJsonData);
+        String key         = keyOf(compactData, focus);
+        String cached      = cache.get(key);
+        if (cached != null) {
+            logger.info("Returning cached {}", what);
+            return cached;
+        }
         try {
-            // Create a focused prompt that includes the specific question
-            String focusedPrompt = SPRINT_INSIGHTS_PROMPT_TEMPLATE.replace("\"\n\nJSON DATA TO ANALYZE:",
-                    "Focus your analysis on this specific question:\n" + focusQuestion + "\n\nJSON DATA TO ANALYZE:");
-
-            String formattedPrompt = String.format(focusedPrompt, sprintJsonData);
-
-
-            System.out.printf("Focused Sprint Insights LLM prompt for '%s':\n%s%s%s\n\n", focusQuestion, ANSI_GREEN, formattedPrompt, ANSI_RESET);
-            logger.debug("Focused Sprint Insights LLM prompt for '{}': {}", focusQuestion, formattedPrompt);
-            logger.debug("Focused Sprint Insights LLM prompt for '{}': {}", focusQuestion, formattedPrompt);
+            String formattedPrompt = String.format(SPRINT_INSIGHTS_PROMPT_TEMPLATE, focus, compactData);
+            logger.debug("{} LLM prompt ({} characters of data instead of {}): {}", what, compactData.length(), sprintJsonData.length(), formattedPrompt);
 
             ChatResponse response = chatModel.call(buildPrompt(formattedPrompt));
             String       content  = response.getResult().getOutput().getText();
-
-            System.out.printf("Focused Sprint Insights LLM response:\n\n%s%s%s\n\n", ANSI_YELLOW, content, ANSI_RESET);
-            logger.debug("Focused Sprint Insights LLM response: {}", content);
+            logger.debug("{} LLM response: {}", what, content);
 
             if (content == null || content.trim().isEmpty()) {
-                logger.warn("Focused sprint insights generation failed, result is empty");
-                return "Failed to generate focused insights - empty response from AI model.";
+                logger.warn("{} generation failed, result is empty", what);
+                return "Failed to generate insights - empty response from AI model.";
             }
 
+            cache.put(key, content.trim());
             return content.trim();
 
         } catch (Exception e) {
-            logger.error("Error generating focused sprint insights: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to generate focused sprint insights: " + e.getMessage(), e);
+            logger.error("Error generating {}: {}", what, e.getMessage(), e);
+            throw new RuntimeException("Failed to generate " + what + ": " + e.getMessage(), e);
         }
     }
 
@@ -207,32 +225,7 @@ public class SprintInsightsGenerator {
         }
 
         logger.info("Generating AI insights for sprint data");
-
-        try {
-            // Create prompt with the sprint data
-            String formattedPrompt = String.format(SPRINT_INSIGHTS_PROMPT_TEMPLATE, sprintJsonData);
-
-            System.out.printf("Sprint Insights LLM prompt:\n%s%s%s\n\n", ANSI_GREEN, formattedPrompt, ANSI_RESET);
-            logger.debug("Sprint Insights LLM prompt: {}", formattedPrompt);
-
-            ChatResponse response = chatModel.call(buildPrompt(formattedPrompt));
-            String       content  = response.getResult().getOutput().getText();
-
-            System.out.printf("Sprint Insights LLM response:\n\n%s%s%s\n\n", ANSI_YELLOW, content, ANSI_RESET);
-            logger.debug("Sprint Insights LLM response: {}", content);
-            logger.debug("Sprint Insights LLM prompt: {}", formattedPrompt);
-
-            if (content == null || content.trim().isEmpty()) {
-                logger.warn("Sprint insights generation failed, result is empty");
-                return "Failed to generate insights - empty response from AI model.";
-            }
-
-            return content.trim();
-
-        } catch (Exception e) {
-            logger.error("Error generating sprint insights: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to generate sprint insights: " + e.getMessage(), e);
-        }
+        return generate(sprintJsonData, "", "sprint insights");
     }
 
     /**
@@ -247,5 +240,16 @@ public class SprintInsightsGenerator {
                 "Provide only a brief summary with key metrics: total sprints, status distribution, " +
                         "and top 2 most important insights. Keep it under 200 words.");
     }
-}
 
+    /**
+     * Hash of everything that influences the generated insights.
+     */
+    private String keyOf(String compactData, String focus) {
+        String text = String.join("\n", kassandraProperties.getAi().getInsightsModel(), focus, compactData);
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
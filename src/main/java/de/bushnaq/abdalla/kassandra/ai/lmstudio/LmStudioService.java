@@ -19,6 +19,8 @@ package de.bushnaq.abdalla.kassandra.ai.lmstudio;
 
 import de.bushnaq.abdalla.kassandra.config.KassandraProperties;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
@@ -26,22 +28,22 @@ import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import java.time.Duration;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
 
 /**
  * Service for managing LM Studio model lifecycle via the LM Studio native REST API
  * ({@code /api/v1/models}, {@code /api/v1/models/load}, {@code /api/v1/models/unload}).
  *
- * <p>The primary entry-point for tests is {@link #ensureModelLoaded(String)}, which:
+ * <p>The primary entry-point is {@link #ensureModelLoaded(String)}, which keeps a small set of models resident:
  * <ol>
- *   <li>Lists all models known to LM Studio.</li>
- *   <li>Unloads every currently-loaded model that is <em>not</em> the required one
- *       (freeing GPU/VRAM before the target model is loaded).</li>
- *   <li>Loads the required model if it is not already loaded.</li>
+ *   <li>The model list is cached for {@code kassandra.lm-studio.model-state-ttl-seconds}, a model that is already
+ *       loaded is confirmed without a round trip.</li>
+ *   <li>Up to {@code max-loaded-models} LLMs stay loaded as long as their summed size fits into {@code vram-budget-mb},
+ *       the least recently used ones are unloaded to make room for the required model. More than one model requires a
+ *       budget.</li>
+ *   <li>Load and unload requests are serialized, two features that need different models do not race each other.</li>
  * </ol>
+ * The model {@code kassandra.ai.mcp-model} is loaded in the background when the application has started.
  *
  * <p>If LM Studio is not reachable the method logs a warning and returns {@code false}
  * so that callers can decide how to proceed (skip the test, throw, etc.).
@@ -55,11 +57,20 @@ public class LmStudioService {
     private static final String MODELS   = API_BASE + "/models";
     private static final String UNLOAD   = API_BASE + "/models/unload";
 
+    private final KassandraProperties.Ai       ai;
+    private       List<LmStudioModel>          cachedModels;// guarded by this
+    private       long                         cachedModelsTime;// guarded by this
     private final KassandraProperties.LmStudio config;
+    private final LinkedHashMap<String, Long>  recentlyUsed = new LinkedHashMap<>(16, 0.75f, true);// model keys in LRU order, guarded by this
     private final WebClient                    webClient;
 
     public LmStudioService(KassandraProperties kassandraProperties) {
+        this.ai     = kassandraProperties.getAi();
         this.config = kassandraProperties.getLmStudio();
+        if (config.getMaxLoadedModels() > 1 && config.getVramBudgetMb() <= 0) {
+            throw new IllegalStateException(String.format("kassandra.lm-studio.max-loaded-models=%d requires kassandra.lm-studio.vram-budget-mb, "
+                    + "without a budget the models might not fit into the GPU together", config.getMaxLoadedModels()));
+        }
 
         WebClient.Builder builder = WebClient.builder()
                 .baseUrl(config.getApiUrl())
@@ -77,12 +88,13 @@ public class LmStudioService {
     // -----------------------------------------------------------------------
 
     /**
-     * Ensures that {@code requiredModelId} is the <em>only</em> loaded LLM model in LM Studio.
+     * Ensures that {@code requiredModelId} is loaded in LM Studio.
      *
      * <ol>
-     *   <li>Fetches the current model list from LM Studio.</li>
-     *   <li>Unloads all loaded LLM instances that do not match {@code requiredModelId}.</li>
-     *   <li>Loads {@code requiredModelId} if it is not already loaded.</li>
+     *   <li>Looks the model up in the cached model list, if it is loaded nothing else happens.</li>
+     *   <li>Unloads least recently used LLM instances until the required model fits into
+     *       {@code max-loaded-models} and {@code vram-budget-mb}.</li>
+     *   <li>Loads {@code requiredModelId}.</li>
      * </ol>
      *
      * @param requiredModelId the model key exactly as it appears in LM Studio
@@ -90,10 +102,8 @@ public class LmStudioService {
      * @return {@code true} if the model is loaded and ready, {@code false} if LM Studio
      * is not reachable or the model is not found in the catalogue
      */
-    public boolean ensureModelLoaded(String requiredModelId) {
-        log.info("Ensuring LM Studio has model '{}' loaded (and only that model)", requiredModelId);
-
-        List<LmStudioModel> models = listModels();
+    public synchronized boolean ensureModelLoaded(String requiredModelId) {
+        List<LmStudioModel> models = getModels();
         if (models == null) {
             log.warn("LM Studio is not reachable at {} – skipping model management", config.getApiUrl());
             return false;
@@ -110,31 +120,34 @@ public class LmStudioService {
             return false;
         }
 
-        // Unload all other loaded LLM instances first to free VRAM
-        for (LmStudioModel model : models) {
-            if (!"llm".equals(model.type()) && !"vlm".equals(model.type())) {
-                continue; // leave embedding models alone
-            }
-            if (!model.isLoaded()) {
-                continue;
-            }
-            if (requiredModelId.equals(model.key())) {
-                log.info("Model '{}' is already loaded – no action needed", requiredModelId);
-                continue;
-            }
-            // Unload each loaded instance of the wrong model
-            for (LmStudioLoadedInstance instance : model.loadedInstances()) {
-                unloadModel(instance.id());
-            }
+        recentlyUsed.put(requiredModelId, System.currentTimeMillis());
+        if (target.get().isLoaded()) {
+            log.debug("Model '{}' is already loaded – no action needed", requiredModelId);
+            return true;
         }
 
-        // Load the target model if it is not already loaded
-        if (!target.get().isLoaded()) {
-            return loadModel(requiredModelId);
+        log.info("Ensuring LM Studio has model '{}' loaded", requiredModelId);
+        makeRoom(models, target.get());
+        return loadModel(requiredModelId);
+    }
+
+    /**
+     * Returns the cached model list, the list is requested again when it is older than
+     * {@code model-state-ttl-seconds} or after a model was loaded or unloaded.
+     *
+     * @return the models known to LM Studio, or {@code null} if the server is not reachable
+     */
+    public synchronized List<LmStudioModel> getModels() {
+        if (cachedModels != null && System.currentTimeMillis() - cachedModelsTime < config.getModelStateTtlSeconds() * 1000L) {
+            return cachedModels;
         }
+        cachedModels     = listModels();
+        cachedModelsTime = System.currentTimeMillis();
+        return cachedModels;
+    }
 
-        log.info("Model '{}' is ready", requiredModelId);
-        return true;
+    private static boolean isLanguageModel(LmStudioModel model) {
+        return "llm".equals(model.type()) || "vlm".equals(model.type());// leave embedding models alone
     }
 
     /**
@@ -144,7 +157,7 @@ public class LmStudioService {
      * @param modelId the model key to check
      */
     public boolean isModelLoaded(String modelId) {
-        List<LmStudioModel> models = listModels();
+        List<LmStudioModel> models = getModels();
         if (models == null) {
             return false;
         }
@@ -190,7 +203,7 @@ public class LmStudioService {
      *
      * @param modelId the model key (e.g. {@code "mistralai/ministral-3-3b"})
      */
-    public boolean loadModel(String modelId) {
+    public synchronized boolean loadModel(String modelId) {
         log.info("Loading model '{}' in LM Studio…", modelId);
 
         Map<String, Object> body = new HashMap<>();
@@ -224,15 +237,43 @@ public class LmStudioService {
         } catch (Exception e) {
             log.error("Failed to load model '{}': {}", modelId, e.getMessage(), e);
             return false;
+        } finally {
+            cachedModels = null;// the state changed, or is unknown after a failure
+        }
+    }
+
+    /**
+     * Unloads loaded LLMs, models that were not requested through this service first and then the least recently used ones,
+     * until the target model fits into {@code max-loaded-models} and {@code vram-budget-mb}.
+     */
+    private void makeRoom(List<LmStudioModel> models, LmStudioModel target) {
+        List<LmStudioModel> loaded = new ArrayList<>(models.stream()
+                .filter(m -> isLanguageModel(m) && m.isLoaded() && !m.key().equals(target.key()))
+                .toList());
+        List<String> order = new ArrayList<>(recentlyUsed.keySet());
+        loaded.sort(Comparator.comparingInt(m -> order.indexOf(m.key())));// unknown models (-1) first
+        long budget = config.getVramBudgetMb() * 1024 * 1024;
+        long used   = sizeOf(target) + loaded.stream().mapToLong(LmStudioService::sizeOf).sum();
+        while (!loaded.isEmpty() && (loaded.size() + 1 > config.getMaxLoadedModels() || (budget > 0 && used > budget))) {
+            LmStudioModel model = loaded.removeFirst();
+            for (LmStudioLoadedInstance instance : model.loadedInstances()) {
+                unloadModel(instance.id());
+            }
+            recentlyUsed.remove(model.key());
+            used -= sizeOf(model);
         }
     }
 
+    private static long sizeOf(LmStudioModel model) {
+        return model.sizeBytes() == null ? 0 : model.sizeBytes();
+    }
+
     /**
      * Unloads a model instance by its instance ID. Returns {@code true} on success.
      *
      * @param instanceId the instance ID returned by LM Studio (usually equal to the model key)
      */
-    public boolean unloadModel(String instanceId) {
+    public synchronized boolean unloadModel(String instanceId) {
         log.info("Unloading model instance '{}' from LM Studio…", instanceId);
 
         Map<String, Object> body = new HashMap<>();
@@ -260,6 +301,27 @@ public class LmStudioService {
         } catch (Exception e) {
             log.error("Failed to unload model instance '{}': {}", instanceId, e.getMessage(), e);
             return false;
+        } finally {
+            cachedModels = null;// the state changed, or is unknown after a failure
+        }
+    }
+
+    /**
+     * Loads the default model, so that the first question does not wait for it.
+     */
+    void warmUp() {
+        String model = ai.getMcpModel();
+        if (model != null && !model.isBlank() && ensureModelLoaded(model)) {
+            log.info("Model '{}' is warm", model);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void warmUpInBackground() {
+        if (config.isWarmUp()) {
+            Thread thread = new Thread(this::warmUp, "lm-studio-warm-up");
+            thread.setDaemon(true);
+            thread.start();
         }
     }
 }
@@ -28,6 +28,7 @@ import de.bushnaq.abdalla.kassandra.ai.mcp.api.version.VersionTools;
 import de.bushnaq.abdalla.kassandra.config.KassandraProperties;
 import de.bushnaq.abdalla.profiler.TimeKeeping;
 import de.bushnaq.abdalla.util.date.DateUtil;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.client.advisor.MessageChatMemoryAdvisor;
@@ -37,7 +38,7 @@ import org.springframework.ai.chat.memory.MessageWindowChatMemory;
 import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.openai.OpenAiChatOptions;
-import org.springframework.ai.tool.ToolCallbackProvider;
+import org.springframework.ai.tool.ToolCallback;
 import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.ai.tool.augment.AugmentedToolCallbackProvider;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -47,10 +48,9 @@ import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 
 import java.lang.reflect.Method;
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static de.bushnaq.abdalla.util.AnsiColorConstants.*;
@@ -59,6 +59,10 @@ import static de.bushnaq.abdalla.util.AnsiColorConstants.*;
  * AI Assistant Service that uses Spring AI's native tool calling.
  * Uses Spring AI's ChatMemory and MessageChatMemoryAdvisor for conversation history.
  * Tools are defined using @Tool annotation in dedicated tool classes.
+ * <p>
+ * The tool callbacks are created once at startup and the base {@link ChatClient} (system prompt, tools, options) is
+ * only rebuilt when the chat model, the configured model name or the date in the system prompt changes.
+ * Per query only the memory advisor and the tool context are added.
  */
 @Service
 @Slf4j
@@ -87,6 +91,7 @@ public class AiAssistantService {
             """;
     // Store ToolActivityContext per conversation/session for UI streaming
     private final        Map<String, SessionToolActivityContext> activityContexts     = new ConcurrentHashMap<>();
+    private volatile     ChatClientState                         chatClientState;
     @Autowired
     private              ChatModel                               chatModel;
     // Store ChatMemory per conversation/session
@@ -101,6 +106,8 @@ public class AiAssistantService {
     private              ProductTools                            productTools;
     @Autowired
     private              SprintTools                             sprintTools;
+    private              ToolCallback[]                          toolCallbacks;
+    private              List<Method>                            toolMethods;
     @Autowired
     private              UserGroupTools                          userGroupTools;
     @Autowired
@@ -108,8 +115,19 @@ public class AiAssistantService {
     @Autowired
     private              VersionTools                            versionTools;
 
-    private String augmentSystemPrompt(String systemPrompt) {
-        return "Today is " + DateUtil.createDateString(ParameterOptions.getNow().toLocalDate(), DateTimeFormatter.ISO_LOCAL_DATE) + ". " + systemPrompt;
+    private String augmentSystemPrompt(String systemPrompt, LocalDate today) {
+        return "Today is " + DateUtil.createDateString(today, DateTimeFormatter.ISO_LOCAL_DATE) + ". " + systemPrompt;
+    }
+
+    /**
+     * Build the base ChatClient with system prompt, tools and options, everything that does not depend on the query.
+     */
+    ChatClient buildChatClient(LocalDate today) {
+        return ChatClient.builder(chatModel)
+                .defaultSystem(augmentSystemPrompt(SYSTEM_PROMPT, today))
+                .defaultToolCallbacks(toolCallbacks)
+                .defaultOptions(buildChatOptions())
+                .build();
     }
 
     private OpenAiChatOptions buildChatOptions() {
@@ -158,23 +176,35 @@ public class AiAssistantService {
         return methods;
     }
 
-    private List<ToolCallbackProvider> createToolCallbackProviders(Object[] userTools, List<ThinkingStep> thinkingSteps) {
-        List<ToolCallbackProvider> providers = new ArrayList<>();
-        for (Object userTool : userTools) {
+    /**
+     * Creates the tool callbacks of all tool beans.
+     */
+    ToolCallback[] createToolCallbacks() {
+        return createToolCallbacks(userTools, userGroupTools, productTools, productAclTools, versionTools, featureTools, sprintTools);
+    }
+
+    /**
+     * Creates the tool callbacks of the given tool beans.
+     * The thinking steps are collected into the list that the current query passed in its tool context.
+     */
+    static ToolCallback[] createToolCallbacks(Object... toolBeans) {
+        List<ToolCallback> callbacks = new ArrayList<>();
+        for (Object toolBean : toolBeans) {
             AugmentedToolCallbackProvider<AgentThinking> augmented = AugmentedToolCallbackProvider
                     .<AgentThinking>builder()
-                    .toolObject(userTool)
+                    .toolObject(toolBean)
                     .argumentType(AgentThinking.class)
                     .argumentConsumer(event -> {
                         AgentThinking thinking = event.arguments();
                         log.info("{}Tool {}{}: {}{}{}", ANSI_GRAY, event.toolDefinition().name(), ANSI_RESET, ANSI_DARK_GRAY, thinking.innerThought(), ANSI_RESET);
-                        thinkingSteps.add(ThinkingStep.create(event.toolDefinition().name(), thinking));
+                        ToolContextHelper.addThinkingStep(ThinkingStep.create(event.toolDefinition().name(), thinking));
                     })
                     .removeExtraArgumentsAfterProcessing(true)
                     .build();
-            providers.add(new ContextPropagatingToolCallbackProvider(augmented));
+            // flatten once, both providers create their callbacks again on every getToolCallbacks()
+            callbacks.addAll(Arrays.asList(new ContextPropagatingToolCallbackProvider(augmented).getToolCallbacks()));
         }
-        return providers;
+        return callbacks.toArray(ToolCallback[]::new);
     }
 
     /**
@@ -239,7 +269,7 @@ public class AiAssistantService {
      */
     public String getAvailableTools() {
         StringBuilder sb = new StringBuilder();
-        for (Method method : collectToolMethods()) {
+        for (Method method : toolMethods) {
             sb.append("• ")
                     .append(method.getName())
                     .append(": ")
@@ -249,6 +279,26 @@ public class AiAssistantService {
         return sb.toString();
     }
 
+    /**
+     * Get the base ChatClient, rebuilding it if the chat model, the configured model name or the date changed.
+     */
+    ChatClient getChatClient() {
+        String          mcpModel = kassandraProperties.getAi().getMcpModel();
+        LocalDate       today    = ParameterOptions.getNow().toLocalDate();
+        ChatClientState state    = chatClientState;
+        if (state == null || !state.matches(chatModel, mcpModel, today)) {
+            synchronized (this) {
+                state = chatClientState;
+                if (state == null || !state.matches(chatModel, mcpModel, today)) {
+                    state           = new ChatClientState(chatModel, mcpModel, today, buildChatClient(today));
+                    chatClientState = state;
+                    log.debug("Chat client rebuilt for model {}", getModelName());
+                }
+            }
+        }
+        return state.chatClient();
+    }
+
     public String getModelName() {
         String mcpModel = kassandraProperties.getAi().getMcpModel();
         if (mcpModel != null && !mcpModel.isBlank()) {
@@ -275,7 +325,13 @@ public class AiAssistantService {
      * Returns the total number of @Tool-annotated methods across all registered tool beans.
      */
     public int getToolCount() {
-        return collectToolMethods().size();
+        return toolMethods.size();
+    }
+
+    @PostConstruct
+    private void init() {
+        toolMethods   = collectToolMethods();
+        toolCallbacks = createToolCallbacks();
     }
 
     /**
@@ -306,28 +362,16 @@ public class AiAssistantService {
                     .conversationId(conversationId)
                     .build();
 
-            Object[]                   userTools     = {this.userTools, userGroupTools, productTools, productAclTools, versionTools, featureTools, sprintTools};
-            List<ToolCallbackProvider> toolProviders = createToolCallbackProviders(userTools, thinkingSteps);
-
-            // Create ChatClient with:
-            // - System prompt defining the assistant's role
-            // - Memory advisor for conversation history
-            // - Tool beans with @Tool annotated methods
-            ChatClient chatClient = ChatClient.builder(chatModel)
-                    .defaultSystem(augmentSystemPrompt(SYSTEM_PROMPT))
-                    .defaultAdvisors(memoryAdvisor)
-                    .defaultToolCallbacks(toolProviders.get(0), toolProviders.get(1), toolProviders.get(2), toolProviders.get(3), toolProviders.get(4), toolProviders.get(5), toolProviders.get(6))
-                    .build();
-
-            // Build toolContext with SecurityContext and activity context for propagation
-            // to @Tool methods on any thread Spring AI may use.
+            // Build toolContext with SecurityContext, activity context and the thinking steps list
+            // for propagation to @Tool methods on any thread Spring AI may use.
             SessionToolActivityContext    activityCtx    = activityContexts.computeIfAbsent(conversationId, id -> new SessionToolActivityContext());
             SecurityContext               securityCtx    = SecurityContextHolder.getContext();
-            java.util.Map<String, Object> toolContextMap = ToolContextHelper.buildContextMap(securityCtx, activityCtx);
+            java.util.Map<String, Object> toolContextMap = ToolContextHelper.buildContextMap(securityCtx, activityCtx, thinkingSteps);
 
-            ChatResponse chatResponse = chatClient.prompt(userQuery)
+            // The shared ChatClient carries system prompt, tools and options, memory is per conversation
+            ChatResponse chatResponse = getChatClient().prompt(userQuery)
+                    .advisors(memoryAdvisor)
                     .toolContext(toolContextMap)
-                    .options(buildChatOptions())
                     .call()
                     .chatResponse();  // Get full ChatResponse instead of just text
 //                ResponseWithReasoning chatResponse = chatClient.prompt(userQuery)
@@ -420,7 +464,8 @@ public class AiAssistantService {
      * @param chatModel The ChatModel to use
      */
     public void setChatModel(ChatModel chatModel) {
-        this.chatModel = chatModel;
+        this.chatModel  = chatModel;
+        chatClientState = null;
         log.debug("Chat model updated");
     }
 
@@ -454,27 +499,18 @@ public class AiAssistantService {
                 .conversationId(conversationId)
                 .build();
 
-        Object[]                   toolBeans     = {this.userTools, userGroupTools, productTools, productAclTools, versionTools, featureTools, sprintTools};
-        List<ToolCallbackProvider> toolProviders = createToolCallbackProviders(toolBeans, thinkingSteps);
-
-        ChatClient chatClient = ChatClient.builder(chatModel)
-                .defaultSystem(augmentSystemPrompt(SYSTEM_PROMPT))
-                .defaultAdvisors(memoryAdvisor)
-                .defaultToolCallbacks(toolProviders.get(0), toolProviders.get(1), toolProviders.get(2), toolProviders.get(3), toolProviders.get(4), toolProviders.get(5), toolProviders.get(6))
-                .build();
-
         // Build toolContext with SecurityContext and activity context — propagated to every
         // @Tool method by Spring AI regardless of which thread executes the tool.
         SessionToolActivityContext    activityCtx    = activityContexts.computeIfAbsent(conversationId, id -> new SessionToolActivityContext());
-        java.util.Map<String, Object> toolContextMap = ToolContextHelper.buildContextMap(capturedSecurityContext, activityCtx);
+        java.util.Map<String, Object> toolContextMap = ToolContextHelper.buildContextMap(capturedSecurityContext, activityCtx, thinkingSteps);
 
         long          startNano   = System.nanoTime();
         final String  modelName   = getModelName();
         StringBuilder accumulated = new StringBuilder();
 
-        return chatClient.prompt(userQuery)
+        return getChatClient().prompt(userQuery)
+                .advisors(memoryAdvisor)
                 .toolContext(toolContextMap)
-                .options(buildChatOptions())
                 .stream()
                 .chatResponse()
                 .filter(r -> r != null
@@ -500,4 +536,13 @@ public class AiAssistantService {
                 .doOnError(e -> log.error("{}streamQuery error after {}ms: {}{}", ANSI_YELLOW,
                         (System.nanoTime() - startNano) / 1_000_000, e.getMessage(), ANSI_RESET));
     }
+
+    /**
+     * The base ChatClient together with the values it was built for.
+     */
+    private record ChatClientState(ChatModel chatModel, String mcpModel, LocalDate today, ChatClient chatClient) {
+        boolean matches(ChatModel chatModel, String mcpModel, LocalDate today) {
+            return this.chatModel == chatModel && Objects.equals(this.mcpModel, mcpModel) && this.today.equals(today);
+        }
+    }
 }
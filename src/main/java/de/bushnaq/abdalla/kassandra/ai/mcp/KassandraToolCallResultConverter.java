@@ -63,6 +63,13 @@ public class KassandraToolCallResultConverter implements ToolCallResultConverter
                 .setSerializationInclusion(JsonInclude.Include.NON_NULL);
     }
 
+    /**
+     * The mapper used for tool results, also used by {@link ToolResultPager} to measure and project results.
+     */
+    static ObjectMapper getMapper() {
+        return MAPPER;
+    }
+
     @Override
     public String convert(Object result, Type returnType) {
         if (returnType == Void.TYPE) {
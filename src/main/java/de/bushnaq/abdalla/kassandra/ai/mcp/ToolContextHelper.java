@@ -42,24 +42,28 @@ import java.util.Map;
  */
 public class ToolContextHelper {
 
-    public static final  String                       ACTIVITY_CONTEXT_KEY           = "activityContext";
+    public static final  String                          ACTIVITY_CONTEXT_KEY           = "activityContext";
     /**
      * Key used to pass the real filter-DTO entity list to the JS execution-validator tool.
      */
-    public static final  String                       FILTER_ENTITIES_KEY            = "filterEntities";
+    public static final  String                          FILTER_ENTITIES_KEY            = "filterEntities";
     /**
      * Key used to pass the reference date to the JS execution-validator tool.
      */
-    public static final  String                       FILTER_NOW_KEY                 = "filterNow";
+    public static final  String                          FILTER_NOW_KEY                 = "filterNow";
     /**
      * Key for the AtomicInteger that counts validateJavaScript calls; enforces the retry limit.
      */
-    public static final  String                       FILTER_VALIDATION_ATTEMPTS_KEY = "filterValidationAttempts";
+    public static final  String                          FILTER_VALIDATION_ATTEMPTS_KEY = "filterValidationAttempts";
     /**
      * Maximum number of times the LLM may call validateJavaScript before it is told to give up.
      */
-    public static final  int                          FILTER_VALIDATION_MAX_ATTEMPTS = 2;
-    public static final  String                       SECURITY_CONTEXT_KEY           = "securityContext";
+    public static final  int                             FILTER_VALIDATION_MAX_ATTEMPTS = 2;
+    public static final  String                          SECURITY_CONTEXT_KEY           = "securityContext";
+    /**
+     * Key for the per-request list that collects the {@link ThinkingStep}s of all tool calls of one query.
+     */
+    public static final  String                          THINKING_STEPS_KEY             = "thinkingSteps";
     /**
      * Saves the SecurityContext that was present on the thread before {@link #setup(ToolContext)}
      * replaced it. {@link #cleanup()} restores this context, so the thread is left exactly as it
@@ -67,16 +71,31 @@ public class ToolContextHelper {
      * is empty → restore is effectively a clear) or on the same thread as the caller
      * (e.g. a blocking test thread with @WithMockUser → the test's SecurityContext survives).
      */
-    private static final ThreadLocal<SecurityContext> previousSecurityContext        = new ThreadLocal<>();
+    private static final ThreadLocal<SecurityContext>    previousSecurityContext        = new ThreadLocal<>();
+    private static final ThreadLocal<List<ThinkingStep>> thinkingSteps                  = new ThreadLocal<>();
+
+    /**
+     * Add a thinking step to the list of the query whose tool call is running on this thread.
+     * Used by the tool callbacks that are built once and shared by all queries.
+     *
+     * @param step the thinking step extracted from the tool call arguments
+     */
+    public static void addThinkingStep(ThinkingStep step) {
+        List<ThinkingStep> steps = thinkingSteps.get();
+        if (steps != null) {
+            steps.add(step);
+        }
+    }
 
     /**
      * Build the toolContext map to pass to {@code ChatClient.prompt(...).toolContext(map)}.
      *
      * @param securityContext the Spring SecurityContext captured on the UI/request thread (may be null for test/basic-auth mode)
      * @param activityContext the session activity context for streaming UI updates
+     * @param thinkingSteps   list that collects the thinking steps of the tool calls (may be null)
      * @return a map suitable for {@link ToolContext}
      */
-    public static Map<String, Object> buildContextMap(SecurityContext securityContext, ToolActivityContext activityContext) {
+    public static Map<String, Object> buildContextMap(SecurityContext securityContext, ToolActivityContext activityContext, List<ThinkingStep> thinkingSteps) {
         Map<String, Object> ctx = new HashMap<>();
         if (securityContext != null) {
             ctx.put(SECURITY_CONTEXT_KEY, securityContext);
@@ -84,6 +103,9 @@ public class ToolContextHelper {
         if (activityContext != null) {
             ctx.put(ACTIVITY_CONTEXT_KEY, activityContext);
         }
+        if (thinkingSteps != null) {
+            ctx.put(THINKING_STEPS_KEY, thinkingSteps);
+        }
         return ctx;
     }
 
@@ -121,6 +143,7 @@ public class ToolContextHelper {
             SecurityContextHolder.clearContext();
         }
         ToolActivityContextHolder.clear();
+        thinkingSteps.remove();
     }
 
     /**
@@ -130,6 +153,7 @@ public class ToolContextHelper {
      * Saves the current SecurityContext first so that {@link #cleanup()} can restore it,
      * then installs the context that was captured on the UI/request thread.
      */
+    @SuppressWarnings("unchecked")
     public static void setup(ToolContext toolContext) {
         // Always save whatever is on the thread right now, even if we end up not replacing it.
         previousSecurityContext.set(SecurityContextHolder.getContext());
@@ -143,6 +167,13 @@ public class ToolContextHelper {
             if (activityCtx instanceof ToolActivityContext ctx) {
                 ToolActivityContextHolder.setContext(ctx);
             }
+            if (toolContext.getContext().get(THINKING_STEPS_KEY) instanceof List<?> steps) {
+                thinkingSteps.set((List<ThinkingStep>) steps);
+            } else {
+                thinkingSteps.remove();// never collect into the list of a previous request
+            }
+        } else {
+            thinkingSteps.remove();
         }
     }
 }
@@ -0,0 +1,46 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.ai.mcp;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of a list tool result, see {@link ToolResultPager}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonPropertyOrder({"total", "returned", "nextCursor", "items"})
+@Schema(description = "One page of a list result")
+public class ToolResultPage {
+    @Schema(description = "The items of this page, only the requested fields")
+    private List<Map<String, Object>> items;
+    @Schema(description = "Pass as cursor to get the next page; missing if this is the last page")
+    private String                    nextCursor;
+    @Schema(description = "Number of items in this page")
+    private int                       returned;
+    @Schema(description = "Number of items matching the filter")
+    private int                       total;
+}
@@ -0,0 +1,175 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.ai.mcp;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.bushnaq.abdalla.kassandra.config.KassandraProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Pages, projects and budgets the result of list tools before it is handed to the LLM.
+ * <p>
+ * A list tool returns at most {@code limit} items starting at {@code cursor}, reduced to the requested fields.
+ * The page is additionally cut when its JSON would exceed the token budget of one tool call
+ * ({@code kassandra.ai.tool-result-token-budget}), the returned {@link ToolResultPage#getNextCursor()} continues where
+ * the page stopped. Tokens are estimated from the JSON length.
+ */
+@Component
+@Slf4j
+public class ToolResultPager {
+    public static final  String                                       CURSOR_DESCRIPTION  = "Cursor returned as nextCursor by the previous call; omit for the first page";
+    public static final  String                                       FIELDS_DESCRIPTION  = "Comma-separated list of fields to return, e.g. 'name,status'; the id is always returned; omit for all fields";
+    public static final  String                                       LIMIT_DESCRIPTION   = "Maximum number of items to return";
+    private static final int                                          CHARS_PER_TOKEN     = 4;
+    private static final TypeReference<LinkedHashMap<String, Object>> MAP_TYPE            = new TypeReference<>() {
+    };
+    private static final int                                          MAX_LIMIT           = 500;
+    private final        KassandraProperties                          kassandraProperties;
+
+    public ToolResultPager(KassandraProperties kassandraProperties) {
+        this.kassandraProperties = kassandraProperties;
+    }
+
+    /**
+     * Estimated number of tokens of a JSON text.
+     */
+    public static int estimateTokens(String json) {
+        return (json.length() + CHARS_PER_TOKEN - 1) / CHARS_PER_TOKEN;
+    }
+
+    /**
+     * Case-insensitive name filter of the list tools.
+     *
+     * @param name         the name of an item
+     * @param nameContains the text the name must contain, null or blank matches every item
+     * @return true if the item passes the filter
+     */
+    public static boolean matchesName(String name, String nameContains) {
+        if (nameContains == null || nameContains.isBlank()) {
+            return true;
+        }
+        return name != null && name.toLowerCase(Locale.ROOT).contains(nameContains.trim().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Create one page of the given items.
+     *
+     * @param items  all items matching the filter of the tool, in the order they should be presented
+     * @param cursor cursor of a previous page or null for the first page
+     * @param limit  maximum number of items or null for the configured page size
+     * @param fields comma-separated fields to keep or null for all fields; the first property (the id) is always kept
+     * @return the page
+     * @throws IllegalArgumentException if the cursor or a field is not valid, the message is meant for the LLM
+     */
+    public ToolResultPage page(List<?> items, String cursor, Integer limit, String fields) {
+        ObjectMapper mapper     = KassandraToolCallResultConverter.getMapper();
+        int          offset     = parseCursor(cursor, items.size());
+        int          pageSize   = Math.clamp(limit != null ? limit : kassandraProperties.getAi().getToolResultPageSize(), 1, MAX_LIMIT);
+        int          budget     = kassandraProperties.getAi().getToolResultTokenBudget() * CHARS_PER_TOKEN;// in characters
+        Set<String>  projection = parseFields(fields);
+        if (projection != null && !items.isEmpty()) {
+            validateFields(mapper, items.getFirst().getClass(), projection);
+        }
+        List<Map<String, Object>> page = new ArrayList<>();
+        int                       used = 0;
+        for (int i = offset; i < items.size() && page.size() < pageSize; i++) {
+            Map<String, Object> item = project(mapper.convertValue(items.get(i), MAP_TYPE), projection);
+            int                 size = toJson(mapper, item).length() + 1;
+            if (!page.isEmpty() && used + size > budget) {
+                break;// the first item is always returned, otherwise the cursor could never advance
+            }
+            page.add(item);
+            used += size;
+        }
+        int    next       = offset + page.size();
+        String nextCursor = next < items.size() ? Integer.toString(next) : null;
+        if (nextCursor != null) {
+            log.debug("Tool result cut at {} of {} items (~{} tokens)", next, items.size(), used / CHARS_PER_TOKEN);
+        }
+        return new ToolResultPage(page, nextCursor, page.size(), items.size());
+    }
+
+    private static int parseCursor(String cursor, int size) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            int offset = Integer.parseInt(cursor.trim());
+            if (offset >= 0 && offset <= size) {
+                return offset;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException("Invalid cursor '" + cursor + "', use the nextCursor value of the previous result.");
+    }
+
+    private static Set<String> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> projection = new HashSet<>();
+        for (String field : fields.split(",")) {
+            if (!field.isBlank()) {
+                projection.add(field.trim());
+            }
+        }
+        return projection.isEmpty() ? null : projection;
+    }
+
+    private static Map<String, Object> project(LinkedHashMap<String, Object> item, Set<String> projection) {
+        if (projection == null) {
+            return item;
+        }
+        Map<String, Object> projected = new LinkedHashMap<>();
+        boolean             first     = true;
+        for (Map.Entry<String, Object> entry : item.entrySet()) {
+            if (first || projection.contains(entry.getKey())) {
+                projected.put(entry.getKey(), entry.getValue());
+            }
+            first = false;
+        }
+        return projected;
+    }
+
+    /**
+     * Null values are not serialized, so the known fields are taken from the DTO class and not from the items.
+     */
+    private static void validateFields(ObjectMapper mapper, Class<?> type, Set<String> projection) {
+        Set<String> known = new TreeSet<>();
+        mapper.getSerializationConfig().introspect(mapper.constructType(type)).findProperties().forEach(property -> known.add(property.getName()));
+        for (String field : projection) {
+            if (!known.contains(field)) {
+                throw new IllegalArgumentException("Unknown field '" + field + "', available fields are " + String.join(", ", known) + ".");
+            }
+        }
+    }
+
+    private static String toJson(ObjectMapper mapper, Object value) {
+        try {
+            return mapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Error serializing tool result: " + e.getMessage(), e);
+        }
+    }
+}
@@ -20,6 +20,8 @@ package de.bushnaq.abdalla.kassandra.ai.mcp.api.feature;
 import java.util.UUID;
 import de.bushnaq.abdalla.kassandra.ai.mcp.KassandraToolCallResultConverter;
 import de.bushnaq.abdalla.kassandra.ai.mcp.ToolActivityContextHolder;
+import de.bushnaq.abdalla.kassandra.ai.mcp.ToolResultPage;
+import de.bushnaq.abdalla.kassandra.ai.mcp.ToolResultPager;
 import de.bushnaq.abdalla.kassandra.ai.stablediffusion.GeneratedImageResult;
 import de.bushnaq.abdalla.kassandra.ai.stablediffusion.StableDiffusionException;
 import de.bushnaq.abdalla.kassandra.ai.stablediffusion.StableDiffusionService;
@@ -35,7 +37,6 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Spring AI native tool implementations for Feature operations.
@@ -50,6 +51,8 @@ import java.util.stream.Collectors;
  * 3. Use FeatureTools.getAllFeaturesByVersionId(versionId) to list features for a version.
  * <p>
  * Uses @Tool annotation for automatic tool registration with ChatClient.
+ * <p>
+ * The list tools filter on the server and return one {@link ToolResultPage} at a time, see {@link ToolResultPager}.
  */
 @Component
 @Slf4j
@@ -60,6 +63,8 @@ public class FeatureTools {
     private   FeatureApi             featureApi;
     @Autowired
     protected StableDiffusionService stableDiffusionService;
+    @Autowired
+    private   ToolResultPager        toolResultPager;
 
     @Tool(description = "Create a new feature for a version.", resultConverter = KassandraToolCallResultConverter.class)
     public FeatureDto createFeature(
@@ -109,19 +114,31 @@ public class FeatureTools {
         return stableDiffusionService.text2ImgWithOriginal(prompt);
     }
 
-    @Tool(description = "Get all features accessible to the current user.", resultConverter = KassandraToolCallResultConverter.class)
-    public List<FeatureDto> getAllFeatures() {
-        List<Feature> features = featureApi.getAll();
-        ToolActivityContextHolder.reportActivity("Found " + features.size() + " features.");
-        return features.stream().map(FeatureDto::from).collect(Collectors.toList());
+    private static List<FeatureDto> filter(List<Feature> features, String nameContains) {
+        return features.stream().filter(feature -> ToolResultPager.matchesName(feature.getName(), nameContains)).map(FeatureDto::from).toList();
+    }
+
+    @Tool(description = "Get the features accessible to the current user, one page at a time. Use nextCursor to get the next page.", resultConverter = KassandraToolCallResultConverter.class)
+    public ToolResultPage getAllFeatures(
+            @ToolParam(description = "Only return features whose name contains this text (case-insensitive)", required = false) String nameContains,
+            @ToolParam(description = ToolResultPager.FIELDS_DESCRIPTION, required = false) String fields,
+            @ToolParam(description = ToolResultPager.LIMIT_DESCRIPTION, required = false) Integer limit,
+            @ToolParam(description = ToolResultPager.CURSOR_DESCRIPTION, required = false) String cursor) {
+        ToolResultPage page = toolResultPager.page(filter(featureApi.getAll(), nameContains), cursor, limit, fields);
+        ToolActivityContextHolder.reportActivity("Found " + page.getTotal() + " features, returned " + page.getReturned() + ".");
+        return page;
     }
 
-    @Tool(description = "Get all features for a version.", resultConverter = KassandraToolCallResultConverter.class)
-    public List<FeatureDto> getAllFeaturesByVersionId(
-            @ToolParam(description = "The versionId") UUID versionId) {
-        List<Feature> features = featureApi.getAll(versionId);
-        ToolActivityContextHolder.reportActivity("Found " + features.size() + " features for version " + versionId + ".");
-        return features.stream().map(FeatureDto::from).collect(Collectors.toList());
+    @Tool(description = "Get the features of a version, one page at a time. Use nextCursor to get the next page.", resultConverter = KassandraToolCallResultConverter.class)
+    public ToolResultPage getAllFeaturesByVersionId(
+            @ToolParam(description = "The versionId") UUID versionId,
+            @ToolParam(description = "Only return features whose name contains this text (case-insensitive)", required = false) String nameContains,
+            @ToolParam(description = ToolResultPager.FIELDS_DESCRIPTION, required = false) String fields,
+            @ToolParam(description = ToolResultPager.LIMIT_DESCRIPTION, required = false) Integer limit,
+            @ToolParam(description = ToolResultPager.CURSOR_DESCRIPTION, required = false) String cursor) {
+        ToolResultPage page = toolResultPager.page(filter(featureApi.getAll(versionId), nameContains), cursor, limit, fields);
+        ToolActivityContextHolder.reportActivity("Found " + page.getTotal() + " features for version " + versionId + ", returned " + page.getReturned() + ".");
+        return page;
     }
 
     @Tool(description = "Get a feature by its featureId.", resultConverter = KassandraToolCallResultConverter.class)
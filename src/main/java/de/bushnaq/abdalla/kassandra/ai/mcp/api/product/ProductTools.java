@@ -20,6 +20,8 @@ package de.bushnaq.abdalla.kassandra.ai.mcp.api.product;
 import java.util.UUID;
 import de.bushnaq.abdalla.kassandra.ai.mcp.KassandraToolCallResultConverter;
 import de.bushnaq.abdalla.kassandra.ai.mcp.ToolActivityContextHolder;
+import de.bushnaq.abdalla.kassandra.ai.mcp.ToolResultPage;
+import de.bushnaq.abdalla.kassandra.ai.mcp.ToolResultPager;
 import de.bushnaq.abdalla.kassandra.ai.stablediffusion.GeneratedImageResult;
 import de.bushnaq.abdalla.kassandra.ai.stablediffusion.StableDiffusionException;
 import de.bushnaq.abdalla.kassandra.ai.stablediffusion.StableDiffusionService;
@@ -35,7 +37,6 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Spring AI native tool implementations for Product operations.
@@ -50,6 +51,8 @@ import java.util.stream.Collectors;
  * 3. Use FeatureTools.getAllFeaturesByVersionId(versionId) to list features for a version.
  * <p>
  * Uses @Tool annotation for automatic tool registration with ChatClient.
+ * <p>
+ * The list tools filter on the server and return one {@link ToolResultPage} at a time, see {@link ToolResultPager}.
  */
 @Component
 @Slf4j
@@ -59,6 +62,8 @@ public class ProductTools {
     private   ProductApi             productApi;
     @Autowired
     protected StableDiffusionService stableDiffusionService;
+    @Autowired
+    private   ToolResultPager        toolResultPager;
 
     @Tool(description = "Create a new product. Returns the created Product including its productId.", resultConverter = KassandraToolCallResultConverter.class)
     public ProductDto createProduct(
@@ -114,11 +119,16 @@ public class ProductTools {
         return stableDiffusionService.text2ImgWithOriginal(prompt);
     }
 
-    @Tool(description = "Get all products accessible to the current user.", resultConverter = KassandraToolCallResultConverter.class)
-    public List<ProductDto> getAllProducts() {
-        List<Product> products = productApi.getAll();
-        ToolActivityContextHolder.reportActivity("read " + products.size() + " products.");
-        return products.stream().map(ProductDto::from).collect(Collectors.toList());
+    @Tool(description = "Get the products accessible to the current user, one page at a time. Use nextCursor to get the next page.", resultConverter = KassandraToolCallResultConverter.class)
+    public ToolResultPage getAllProducts(
+            @ToolParam(description = "Only return products whose name contains this text (case-insensitive)", required = false) String nameContains,
+            @ToolParam(description = ToolResultPager.FIELDS_DESCRIPTION, required = false) String fields,
+            @ToolParam(description = ToolResultPager.LIMIT_DESCRIPTION, required = false) Integer limit,
+            @ToolParam(description = ToolResultPager.CURSOR_DESCRIPTION, required = false) String cursor) {
+        List<ProductDto> products = productApi.getAll().stream().filter(product -> ToolResultPager.matchesName(product.getName(), nameContains)).map(ProductDto::from).toList();
+        ToolResultPage   page     = toolResultPager.page(products, cursor, limit, fields);
+        ToolActivityContextHolder.reportActivity("read " + page.getReturned() + " of " + page.getTotal() + " products.");
+        return page;
     }
 
     @Tool(description = "Get a product by its productId.", resultConverter = KassandraToolCallResultConverter.class)
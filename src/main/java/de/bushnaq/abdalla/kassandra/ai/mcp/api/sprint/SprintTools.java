@@ -20,7 +20,10 @@ package de.bushnaq.abdalla.kassandra.ai.mcp.api.sprint;
 import java.util.UUID;
 import de.bushnaq.abdalla.kassandra.ai.mcp.KassandraToolCallResultConverter;
 import de.bushnaq.abdalla.kassandra.ai.mcp.ToolActivityContextHolder;
+import de.bushnaq.abdalla.kassandra.ai.mcp.ToolResultPage;
+import de.bushnaq.abdalla.kassandra.ai.mcp.ToolResultPager;
 import de.bushnaq.abdalla.kassandra.dto.Sprint;
+import de.bushnaq.abdalla.kassandra.dto.Status;
 import de.bushnaq.abdalla.kassandra.rest.api.SprintApi;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.tool.annotation.Tool;
@@ -29,12 +32,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
 
 /**
  * Spring AI native tool implementations for Sprint operations.
  * Uses @Tool annotation for automatic tool registration with ChatClient.
+ * <p>
+ * The list tools filter on the server and return one {@link ToolResultPage} at a time, see {@link ToolResultPager}.
  */
 @Component
 @Slf4j
@@ -42,7 +48,9 @@ public class SprintTools {
 
     @Autowired
     @Qualifier("aiSprintApi")
-    private SprintApi sprintApi;
+    private SprintApi       sprintApi;
+    @Autowired
+    private ToolResultPager toolResultPager;
 
     @Tool(description = "Create a new sprint for a feature.", resultConverter = KassandraToolCallResultConverter.class)
     public SprintDto createSprint(
@@ -68,19 +76,40 @@ public class SprintTools {
         ToolActivityContextHolder.reportActivity("Deleted sprint '" + sprint.getName() + "' (ID: " + sprintId + ")");
     }
 
-    @Tool(description = "Get all sprints accessible to the current user.", resultConverter = KassandraToolCallResultConverter.class)
-    public List<SprintDto> getAllSprints() {
-        List<Sprint> sprints = sprintApi.getAll();
-        ToolActivityContextHolder.reportActivity("read " + sprints.size() + " sprints.");
-        return sprints.stream().map(SprintDto::from).collect(Collectors.toList());
+    private static List<SprintDto> filter(List<Sprint> sprints, String nameContains, String status) {
+        Status wanted = parseStatus(status);
+        return sprints.stream()
+                .filter(sprint -> ToolResultPager.matchesName(sprint.getName(), nameContains))
+                .filter(sprint -> wanted == null || sprint.getStatus() == wanted)
+                .map(SprintDto::from)
+                .toList();
+    }
+
+    @Tool(description = "Get the sprints accessible to the current user, one page at a time. Use nextCursor to get the next page.", resultConverter = KassandraToolCallResultConverter.class)
+    public ToolResultPage getAllSprints(
+            @ToolParam(description = "Only return sprints whose name contains this text (case-insensitive)", required = false) String nameContains,
+            @ToolParam(description = "Only return sprints with this status: CREATED, STARTED or CLOSED", required = false) String status,
+            @ToolParam(description = ToolResultPager.FIELDS_DESCRIPTION, required = false) String fields,
+            @ToolParam(description = ToolResultPager.LIMIT_DESCRIPTION, required = false) Integer limit,
+            @ToolParam(description = ToolResultPager.CURSOR_DESCRIPTION, required = false) String cursor) {
+        List<SprintDto> sprints = filter(sprintApi.getAll(), nameContains, status);
+        ToolResultPage  page    = toolResultPager.page(sprints, cursor, limit, fields);
+        ToolActivityContextHolder.reportActivity("read " + page.getReturned() + " of " + page.getTotal() + " sprints.");
+        return page;
     }
 
-    @Tool(description = "Get all sprints for a feature.", resultConverter = KassandraToolCallResultConverter.class)
-    public List<SprintDto> getAllSprintsByFeatureId(
-            @ToolParam(description = "The featureId") UUID featureId) {
-        List<Sprint> sprints = sprintApi.getAll(featureId);
-        ToolActivityContextHolder.reportActivity("Found " + sprints.size() + " sprints for feature " + featureId + ".");
-        return sprints.stream().map(SprintDto::from).collect(Collectors.toList());
+    @Tool(description = "Get the sprints of a feature, one page at a time. Use nextCursor to get the next page.", resultConverter = KassandraToolCallResultConverter.class)
+    public ToolResultPage getAllSprintsByFeatureId(
+            @ToolParam(description = "The featureId") UUID featureId,
+            @ToolParam(description = "Only return sprints whose name contains this text (case-insensitive)", required = false) String nameContains,
+            @ToolParam(description = "Only return sprints with this status: CREATED, STARTED or CLOSED", required = false) String status,
+            @ToolParam(description = ToolResultPager.FIELDS_DESCRIPTION, required = false) String fields,
+            @ToolParam(description = ToolResultPager.LIMIT_DESCRIPTION, required = false) Integer limit,
+            @ToolParam(description = ToolResultPager.CURSOR_DESCRIPTION, required = false) String cursor) {
+        List<SprintDto> sprints = filter(sprintApi.getAll(featureId), nameContains, status);
+        ToolResultPage  page    = toolResultPager.page(sprints, cursor, limit, fields);
+        ToolActivityContextHolder.reportActivity("Found " + page.getTotal() + " sprints for feature " + featureId + ", returned " + page.getReturned() + ".");
+        return page;
     }
 
     @Tool(description = "Get a sprint by its sprintId.", resultConverter = KassandraToolCallResultConverter.class)
@@ -102,6 +131,17 @@ public class SprintTools {
                 .orElseThrow(() -> new IllegalArgumentException("Sprint '" + name + "' not found in feature " + featureId));
     }
 
+    private static Status parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            return Status.valueOf(status.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown sprint status '" + status + "', use one of " + Arrays.toString(Status.values()) + ".");
+        }
+    }
+
     @Tool(description = "Update a sprint name by its sprintId.", resultConverter = KassandraToolCallResultConverter.class)
     public SprintDto updateSprint(
             @ToolParam(description = "The sprintId") UUID sprintId,
@@ -20,6 +20,8 @@ package de.bushnaq.abdalla.kassandra.ai.mcp.api.version;
 import java.util.UUID;
 import de.bushnaq.abdalla.kassandra.ai.mcp.KassandraToolCallResultConverter;
 import de.bushnaq.abdalla.kassandra.ai.mcp.ToolActivityContextHolder;
+import de.bushnaq.abdalla.kassandra.ai.mcp.ToolResultPage;
+import de.bushnaq.abdalla.kassandra.ai.mcp.ToolResultPager;
 import de.bushnaq.abdalla.kassandra.dto.Version;
 import de.bushnaq.abdalla.kassandra.rest.api.VersionApi;
 import lombok.extern.slf4j.Slf4j;
@@ -30,7 +32,6 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Spring AI native tool implementations for Version operations.
@@ -45,14 +46,18 @@ import java.util.stream.Collectors;
  * 3. Use FeatureTools.getAllFeaturesByVersionId(versionId) to list features for a version.
  * <p>
  * Uses @Tool annotation for automatic tool registration with ChatClient.
+ * <p>
+ * The list tools filter on the server and return one {@link ToolResultPage} at a time, see {@link ToolResultPager}.
  */
 @Component
 @Slf4j
 public class VersionTools {
 
+    @Autowired
+    private ToolResultPager toolResultPager;
     @Autowired
     @Qualifier("aiVersionApi")
-    private VersionApi versionApi;
+    private VersionApi      versionApi;
 
     @Tool(description = "Create a new version for a product.", resultConverter = KassandraToolCallResultConverter.class)
     public VersionDto createVersion(
@@ -78,19 +83,31 @@ public class VersionTools {
         ToolActivityContextHolder.reportActivity("Deleted version '" + version.getName() + "' (ID: " + versionId + ")");
     }
 
-    @Tool(description = "Get all versions accessible to the current user.", resultConverter = KassandraToolCallResultConverter.class)
-    public List<VersionDto> getAllVersions() {
-        List<Version> versions = versionApi.getAll();
-        ToolActivityContextHolder.reportActivity("Found " + versions.size() + " versions.");
-        return versions.stream().map(VersionDto::from).collect(Collectors.toList());
+    private static List<VersionDto> filter(List<Version> versions, String nameContains) {
+        return versions.stream().filter(version -> ToolResultPager.matchesName(version.getName(), nameContains)).map(VersionDto::from).toList();
+    }
+
+    @Tool(description = "Get the versions accessible to the current user, one page at a time. Use nextCursor to get the next page.", resultConverter = KassandraToolCallResultConverter.class)
+    public ToolResultPage getAllVersions(
+            @ToolParam(description = "Only return versions whose name contains this text (case-insensitive)", required = false) String nameContains,
+            @ToolParam(description = ToolResultPager.FIELDS_DESCRIPTION, required = false) String fields,
+            @ToolParam(description = ToolResultPager.LIMIT_DESCRIPTION, required = false) Integer limit,
+            @ToolParam(description = ToolResultPager.CURSOR_DESCRIPTION, required = false) String cursor) {
+        ToolResultPage page = toolResultPager.page(filter(versionApi.getAll(), nameContains), cursor, limit, fields);
+        ToolActivityContextHolder.reportActivity("Found " + page.getTotal() + " versions, returned " + page.getReturned() + ".");
+        return page;
     }
 
-    @Tool(description = "Get all versions for a product.", resultConverter = KassandraToolCallResultConverter.class)
-    public List<VersionDto> getAllVersionsByProductId(
-            @ToolParam(description = "The productId") UUID productId) {
-        List<Version> versions = versionApi.getAll(productId);
-        ToolActivityContextHolder.reportActivity("Found " + versions.size() + " versions for product " + productId + ".");
-        return versions.stream().map(VersionDto::from).collect(Collectors.toList());
+    @Tool(description = "Get the versions of a product, one page at a time. Use nextCursor to get the next page.", resultConverter = KassandraToolCallResultConverter.class)
+    public ToolResultPage getAllVersionsByProductId(
+            @ToolParam(description = "The productId") UUID productId,
+            @ToolParam(description = "Only return versions whose name contains this text (case-insensitive)", required = false) String nameContains,
+            @ToolParam(description = ToolResultPager.FIELDS_DESCRIPTION, required = false) String fields,
+            @ToolParam(description = ToolResultPager.LIMIT_DESCRIPTION, required = false) Integer limit,
+            @ToolParam(description = ToolResultPager.CURSOR_DESCRIPTION, required = false) String cursor) {
+        ToolResultPage page = toolResultPager.page(filter(versionApi.getAll(productId), nameContains), cursor, limit, fields);
+        ToolActivityContextHolder.reportActivity("Found " + page.getTotal() + " versions for product " + productId + ", returned " + page.getReturned() + ".");
+        return page;
     }
 
     @Tool(description = "Get a version by its versionId.", resultConverter = KassandraToolCallResultConverter.class)
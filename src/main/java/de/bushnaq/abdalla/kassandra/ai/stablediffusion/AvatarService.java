@@ -32,6 +32,10 @@ import org.springframework.stereotype.Service;
  * to the programmatic defaults provided by {@link #generateDefaultLightAvatar} /
  * {@link #generateDefaultDarkAvatar}.
  * </p>
+ * <p>
+ * All AI avatars go through the {@link ImageGenerationQueue}, so concurrent callers share the GPU worker
+ * and identical requests are generated only once.
+ * </p>
  */
 @Service
 @Slf4j
@@ -57,6 +61,8 @@ public class AvatarService {
     @Autowired
     private             StableDiffusionConfig config;
 
+    @Autowired
+    private ImageGenerationQueue   imageGenerationQueue;
     @Autowired
     private StableDiffusionService stableDiffusionService;
 
@@ -183,8 +189,9 @@ public class AvatarService {
         if (!stableDiffusionService.isAvailable()) {
             throw new StableDiffusionException("Stable Diffusion is not available");
         }
-        return stableDiffusionService.text2ImgWithOriginal(basePrompt, negativePrompt, config.getAvatarOutputSize(), progress,
-                lightResult.getSeed(), config.getCfgScale());
+        return imageGenerationQueue.submit(basePrompt, negativePrompt, lightResult.getSeed(), config.getAvatarOutputSize(), config.getCfgScale())
+                .subscribe(progress)
+                .await();
     }
 
 //    /**
@@ -300,7 +307,9 @@ public class AvatarService {
         if (!stableDiffusionService.isAvailable()) {
             throw new StableDiffusionException("Stable Diffusion is not available");
         }
-        return stableDiffusionService.text2ImgWithOriginal(prompt, negativePrompt, config.getAvatarOutputSize(), progress, -1, config.getCfgScale());
+        return imageGenerationQueue.submit(prompt, negativePrompt, -1, config.getAvatarOutputSize(), config.getCfgScale())
+                .subscribe(progress)
+                .await();
     }
 
     // ─────────────────────────────────────────────────────────────────────────
@@ -0,0 +1,122 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.ai.stablediffusion;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Handle of a text-to-image job in the {@link ImageGenerationQueue}.
+ * <p>
+ * Callers either block with {@link #await()} or chain on {@link #getFuture()}, progress updates are delivered to
+ * callbacks registered with {@link #subscribe}. Identical requests share one handle.
+ */
+@Getter
+public class ImageGenerationJob {
+    private final double                                        cfgScale;
+    private final CompletableFuture<GeneratedImageResult>       future      = new CompletableFuture<>();
+    private final String                                        key;
+    private final String                                        negativePrompt;
+    private final int                                           outputSize;
+    private final String                                        prompt;
+    private final String                                        sampler;
+    private final long                                          seed;
+    private final int                                           size;
+    private final int                                           steps;
+    private final List<StableDiffusionService.ProgressCallback> subscribers = new CopyOnWriteArrayList<>();
+    private       UUID                                          id;//id of the persisted job
+
+    ImageGenerationJob(String prompt, String negativePrompt, long seed, int size, int outputSize, double cfgScale, int steps, String sampler) {
+        this.prompt         = prompt;
+        this.negativePrompt = negativePrompt;
+        this.seed           = seed;
+        this.size           = size;
+        this.outputSize     = outputSize;
+        this.cfgScale       = cfgScale;
+        this.steps          = steps;
+        this.sampler        = sampler;
+        this.key            = keyOf(prompt, negativePrompt, seed, size, outputSize, cfgScale, steps, sampler);
+    }
+
+    /**
+     * Blocks until the image is generated.
+     *
+     * @return the generated image
+     * @throws StableDiffusionException if generation failed or the waiting thread was interrupted
+     */
+    public GeneratedImageResult await() throws StableDiffusionException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StableDiffusionException("Interrupted while waiting for image generation", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof StableDiffusionException sde) {
+                throw sde;
+            }
+            throw new StableDiffusionException("Failed to generate image: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Jobs that only differ in their seed can be sent as one {@code batch_size} request.
+     */
+    boolean isBatchCompatible(ImageGenerationJob other) {
+        return prompt.equals(other.prompt) && negativePrompt.equals(other.negativePrompt) && size == other.size && cfgScale == other.cfgScale
+                && steps == other.steps && sampler.equals(other.sampler);
+    }
+
+    /**
+     * Hash of everything that influences the generated image.
+     */
+    static String keyOf(String prompt, String negativePrompt, long seed, int size, int outputSize, double cfgScale, int steps, String sampler) {
+        String text = String.join("|", prompt, negativePrompt, Long.toString(seed), Integer.toString(size), Integer.toString(outputSize), Double.toString(cfgScale),
+                Integer.toString(steps), sampler);
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    void setId(UUID id) {
+        this.id = id;
+    }
+
+    /**
+     * Registers a callback for progress updates while the job is running.
+     *
+     * @param callback progress callback, {@code null} is ignored
+     * @return this job for chaining
+     */
+    public ImageGenerationJob subscribe(StableDiffusionService.ProgressCallback callback) {
+        if (callback != null) {
+            subscribers.add(callback);
+        }
+        return this;
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.ai.stablediffusion;
+
+import de.bushnaq.abdalla.kassandra.dao.ImageGenerationJobDAO;
+import de.bushnaq.abdalla.kassandra.repository.ImageGenerationJobRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Queue of text-to-image jobs in front of the Stable Diffusion API.
+ * <p>
+ * <ul>
+ *   <li>Jobs are processed by a single worker thread, the GPU renders one request at a time anyway.</li>
+ *   <li>Identical jobs (same prompt, seed, size and settings) that are queued or running share one {@link ImageGenerationJob}.</li>
+ *   <li>Jobs with a fixed seed are persisted together with their image, a repeated request is answered from the database.
+ *   Random seed jobs only keep their metadata, their image can never be requested again.</li>
+ *   <li>Finished and failed jobs are deleted after {@code stable-diffusion.job-retention-days}, at startup and at most once per hour after a batch.</li>
+ *   <li>Queued jobs that only differ in consecutive seeds are sent as one {@code batch_size} request,
+ *   Stable Diffusion renders a batch with the seeds {@code seed, seed+1, ...}.</li>
+ *   <li>Progress of the running request is polled once and delivered to the subscribers of all jobs in the batch.</li>
+ * </ul>
+ * </p>
+ */
+@Service
+@Slf4j
+public class ImageGenerationQueue {
+    private static final long                            PURGE_INTERVAL_MILLIS = 60 * 60 * 1000L;
+    private final        Map<String, ImageGenerationJob> active                = new ConcurrentHashMap<>();// queued or running jobs by key
+    private final        StableDiffusionConfig           config;
+    private volatile     long                            lastPurge;
+    private final        Deque<ImageGenerationJob>       pending               = new ArrayDeque<>();// guarded by this
+    private final        ImageGenerationJobRepository    repository;
+    private final        StableDiffusionService          stableDiffusionService;
+    private final        ExecutorService                 worker;
+
+    public ImageGenerationQueue(StableDiffusionService stableDiffusionService, StableDiffusionConfig config, ImageGenerationJobRepository repository) {
+        this.stableDiffusionService = stableDiffusionService;
+        this.config                 = config;
+        this.repository             = repository;
+        this.worker                 = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "sd-generation-worker");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    private void destroy() {
+        worker.shutdownNow();
+        synchronized (this) {
+            for (ImageGenerationJob job : pending) {
+                job.getFuture().completeExceptionally(new StableDiffusionException("Image generation queue was shut down"));
+            }
+            pending.clear();
+        }
+    }
+
+    private void fail(List<ImageGenerationJob> batch, Exception e) {
+        for (ImageGenerationJob job : batch) {
+            if (!job.getFuture().isDone()) {
+                log.warn("Image generation failed for prompt '{}': {}", job.getPrompt(), e.getMessage());
+                update(job, dao -> {
+                    dao.setStatus(ImageGenerationJobStatus.FAILED);
+                    dao.setError(e.getMessage() == null ? null : e.getMessage().substring(0, Math.min(1000, e.getMessage().length())));
+                });
+                job.getFuture().completeExceptionally(e instanceof StableDiffusionException ? e : new StableDiffusionException("Failed to generate image: " + e.getMessage(), e));
+            }
+        }
+    }
+
+    private void finish(ImageGenerationJob job, byte[] originalImage, long resultSeed) throws Exception {
+        GeneratedImageResult result = new GeneratedImageResult(originalImage, job.getPrompt(), stableDiffusionService.resizeImage(originalImage, job.getOutputSize()), resultSeed);
+        result.setNegativePrompt(job.getNegativePrompt());
+        update(job, dao -> {
+            dao.setStatus(ImageGenerationJobStatus.DONE);
+            if (job.getSeed() >= 0) {
+                dao.setOriginalImage(originalImage);// only fixed seed results are reused
+            }
+            dao.setResultSeed(resultSeed);
+        });
+        job.getFuture().complete(result);
+    }
+
+    /**
+     * Jobs that were queued or running when the application stopped have no caller waiting for them anymore.
+     */
+    @PostConstruct
+    private void init() {
+        for (ImageGenerationJobStatus status : List.of(ImageGenerationJobStatus.QUEUED, ImageGenerationJobStatus.RUNNING)) {
+            for (ImageGenerationJobDAO dao : repository.findByStatus(status)) {
+                dao.setStatus(ImageGenerationJobStatus.FAILED);
+                dao.setError("Interrupted by application shutdown");
+                repository.save(dao);
+            }
+        }
+        purgeExpiredJobs();
+    }
+
+    /**
+     * Deletes finished and failed jobs older than {@link StableDiffusionConfig#getJobRetentionDays()}.
+     */
+    private void purgeExpiredJobs() {
+        lastPurge = System.currentTimeMillis();
+        if (config.getJobRetentionDays() > 0) {
+            purgeJobsUpdatedBefore(OffsetDateTime.now().minusDays(config.getJobRetentionDays()));
+        }
+    }
+
+    /**
+     * @param threshold jobs last updated before this time are deleted
+     * @return number of deleted jobs
+     */
+    long purgeJobsUpdatedBefore(OffsetDateTime threshold) {
+        try {
+            long deleted = repository.deleteByStatusAndUpdatedBefore(ImageGenerationJobStatus.DONE, threshold)
+                    + repository.deleteByStatusAndUpdatedBefore(ImageGenerationJobStatus.FAILED, threshold);
+            if (deleted > 0) {
+                log.info("Deleted {} image generation jobs last updated before {}", deleted, threshold);
+            }
+            return deleted;
+        } catch (Exception e) {
+            log.warn("Failed to delete expired image generation jobs: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    private void runNextBatch() {
+        List<ImageGenerationJob> batch = takeBatch();
+        if (batch.isEmpty()) {
+            return;
+        }
+        ImageGenerationJob head = batch.getFirst();
+        try {
+            if (!stableDiffusionService.isAvailable()) {
+                throw new StableDiffusionException("Stable Diffusion is not available");
+            }
+            if (!config.getModelName().equals(stableDiffusionService.getCurrentModel())) {
+                stableDiffusionService.selectModel(config.getModelName());
+            }
+            batch.forEach(job -> update(job, dao -> dao.setStatus(ImageGenerationJobStatus.RUNNING)));
+            ImageGenerationRequest request = ImageGenerationRequest.builder()
+                    .prompt(head.getPrompt())
+                    .negativePrompt(head.getNegativePrompt())
+                    .steps(head.getSteps())
+                    .samplerName(head.getSampler())
+                    .cfgScale(head.getCfgScale())
+                    .width(head.getSize())
+                    .height(head.getSize())
+                    .batchSize(batch.size())
+                    .seed(head.getSeed())
+                    .build();
+            log.info("Generating {} image(s) at {}x{} with seed {} for prompt '{}'", batch.size(), head.getSize(), head.getSize(), head.getSeed(), head.getPrompt());
+            ImageGenerationResponse response;
+            try (ProgressPoller.Subscription ignored = stableDiffusionService.subscribeProgress((progress, step, totalSteps) -> {
+                for (ImageGenerationJob job : batch) {
+                    job.getSubscribers().forEach(callback -> callback.onProgress(progress, step, totalSteps));
+                }
+            })) {
+                response = stableDiffusionService.txt2img(request);
+            }
+            List<String> images = response.getImages();
+            if (images.size() == batch.size() + 1) {
+                images = images.subList(1, images.size());// the grid image of a batch comes first
+            }
+            List<Long> seeds = stableDiffusionService.parseAllSeedsFromInfo(response.getInfo());
+            long       seed  = stableDiffusionService.parseSeedFromInfo(response.getInfo());
+            for (int i = 0; i < batch.size() && i < images.size(); i++) {
+                long resultSeed = i < seeds.size() ? seeds.get(i) : seed < 0 ? -1L : seed + i;
+                finish(batch.get(i), Base64.getDecoder().decode(images.get(i)), resultSeed);
+            }
+            fail(batch, new StableDiffusionException("No image returned from Stable Diffusion API"));// only jobs without image are affected
+        } catch (Exception e) {
+            fail(batch, e);
+        } finally {
+            batch.forEach(job -> active.remove(job.getKey(), job));
+            if (System.currentTimeMillis() - lastPurge >= PURGE_INTERVAL_MILLIS) {
+                purgeExpiredJobs();
+            }
+        }
+    }
+
+    /**
+     * Queues a text-to-image job or joins an identical one.
+     *
+     * @param prompt         The text description of the image to generate
+     * @param negativePrompt Negative prompt; falls back to {@link StableDiffusionService#NEGATIVE_PROMPT} when null or blank
+     * @param seed           Seed to use; pass {@code -1} for a random seed
+     * @param outputSize     The desired output size for the resized image (square image)
+     * @param cfgScale       Classifier Free Guidance scale
+     * @return the job, already completed if the image was found in the database
+     */
+    public ImageGenerationJob submit(String prompt, String negativePrompt, long seed, int outputSize, double cfgScale) {
+        String             resolvedNegativePrompt = (negativePrompt != null && !negativePrompt.isBlank()) ? negativePrompt : StableDiffusionService.NEGATIVE_PROMPT;
+        ImageGenerationJob job                    = new ImageGenerationJob(prompt, resolvedNegativePrompt, seed, config.getGenerationSize(), outputSize, cfgScale, config.getDefaultSteps(), config.getDefaultSampler());
+        synchronized (this) {
+            ImageGenerationJob existing = active.get(job.getKey());
+            if (existing != null) {
+                log.debug("Joining queued image generation for prompt '{}'", prompt);
+                return existing;
+            }
+            if (seed >= 0) {
+                Optional<ImageGenerationJobDAO> done = repository.findFirstByJobKeyAndStatus(job.getKey(), ImageGenerationJobStatus.DONE);
+                if (done.isPresent()) {
+                    try {
+                        GeneratedImageResult result = new GeneratedImageResult(done.get().getOriginalImage(), prompt,
+                                stableDiffusionService.resizeImage(done.get().getOriginalImage(), outputSize), done.get().getResultSeed());
+                        result.setNegativePrompt(resolvedNegativePrompt);
+                        job.getFuture().complete(result);
+                        log.info("Reusing generated image for prompt '{}' and seed {}", prompt, seed);
+                        return job;
+                    } catch (Exception e) {
+                        log.warn("Failed to reuse generated image for prompt '{}': {}", prompt, e.getMessage());
+                    }
+                }
+            }
+            ImageGenerationJobDAO dao = new ImageGenerationJobDAO();
+            dao.setJobKey(job.getKey());
+            dao.setPrompt(prompt);
+            dao.setNegativePrompt(resolvedNegativePrompt);
+            dao.setSeed(seed);
+            dao.setSize(job.getSize());
+            dao.setCfgScale(cfgScale);
+            dao.setSteps(job.getSteps());
+            dao.setSampler(job.getSampler());
+            dao.setStatus(ImageGenerationJobStatus.QUEUED);
+            job.setId(repository.save(dao).getId());
+            active.put(job.getKey(), job);
+            pending.add(job);
+        }
+        worker.execute(this::runNextBatch);
+        return job;
+    }
+
+    /**
+     * Takes the oldest job and all queued jobs that can be rendered in the same request.
+     */
+    private synchronized List<ImageGenerationJob> takeBatch() {
+        List<ImageGenerationJob> batch = new ArrayList<>();
+        ImageGenerationJob       head  = pending.poll();
+        if (head == null) {
+            return batch;
+        }
+        batch.add(head);
+        if (head.getSeed() >= 0) {
+            for (long seed = head.getSeed() + 1; batch.size() < config.getMaxBatchSize(); seed++) {
+                ImageGenerationJob next = null;
+                for (ImageGenerationJob job : pending) {
+                    if (job.getSeed() == seed && head.isBatchCompatible(job)) {
+                        next = job;
+                        break;
+                    }
+                }
+                if (next == null) {
+                    break;
+                }
+                pending.remove(next);
+                batch.add(next);
+            }
+        }
+        return batch;
+    }
+
+    private void update(ImageGenerationJob job, Consumer<ImageGenerationJobDAO> change) {
+        try {
+            repository.findById(job.getId()).ifPresent(dao -> {
+                change.accept(dao);
+                repository.save(dao);
+            });
+        } catch (Exception e) {
+            log.warn("Failed to persist state of image generation job {}: {}", job.getId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.ai.stablediffusion;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Polls the Stable Diffusion progress endpoint on one shared daemon thread.
+ * <p>
+ * Polling only runs while at least one subscriber is registered, every poll result is dispatched to all subscribers.
+ * This replaces the one polling thread per generation request.
+ */
+@Slf4j
+class ProgressPoller {
+    private static final long                                          POLL_INTERVAL_MS = 500;
+    private final        Supplier<ProgressResponse>                    source;
+    private final        ScheduledExecutorService                      scheduler;
+    private final        List<StableDiffusionService.ProgressCallback> subscribers      = new CopyOnWriteArrayList<>();
+    private              ScheduledFuture<?>                            task;
+
+    ProgressPoller(Supplier<ProgressResponse> source) {
+        this.source    = source;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "sd-progress-poller");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    private void poll() {
+        try {
+            ProgressResponse progress = source.get();
+            if (progress != null && progress.getState() != null) {
+                for (StableDiffusionService.ProgressCallback callback : subscribers) {
+                    try {
+                        callback.onProgress(progress.getProgress(), progress.getState().getSamplingStep(), progress.getState().getSamplingSteps());
+                    } catch (Exception e) {
+                        log.debug("Progress callback failed: {}", e.getMessage());
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.debug("Error polling progress: {}", e.getMessage());
+        }
+    }
+
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Registers a callback until the returned subscription is closed.
+     *
+     * @param callback callback for progress updates, {@code null} is ignored
+     * @return subscription to close when the generation is done
+     */
+    synchronized Subscription subscribe(StableDiffusionService.ProgressCallback callback) {
+        if (callback == null) {
+            return () -> {
+            };
+        }
+        subscribers.add(callback);
+        if (task == null) {
+            task = scheduler.scheduleWithFixedDelay(this::poll, POLL_INTERVAL_MS, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        }
+        return () -> unsubscribe(callback);
+    }
+
+    private synchronized void unsubscribe(StableDiffusionService.ProgressCallback callback) {
+        subscribers.remove(callback);
+        if (subscribers.isEmpty() && task != null) {
+            task.cancel(false);
+            task = null;
+        }
+    }
+
+    interface Subscription extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -70,6 +70,15 @@ public class StableDiffusionConfig {
      * Size to generate images at (before resizing)
      */
     private int    generationSize             = 512;
+    /**
+     * Finished and failed jobs are deleted this many days after their last update, {@code 0} keeps them forever.
+     */
+    private int    jobRetentionDays           = 30;
+    /**
+     * Maximum number of queued jobs that are sent as one {@code batch_size} request.
+     * Only jobs with the same prompt and settings and consecutive seeds can share a request.
+     */
+    private int    maxBatchSize               = 4;
     /**
      * Timeout in seconds for model-loading requests ({@code POST /sdapi/v1/options}).
      * Loading a new checkpoint can take several minutes; this timeout must be large enough
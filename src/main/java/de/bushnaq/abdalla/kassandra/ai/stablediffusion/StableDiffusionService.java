@@ -17,6 +17,7 @@
 
 package de.bushnaq.abdalla.kassandra.ai.stablediffusion;
 
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.ResourcePatternResolver;
@@ -32,7 +33,9 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
 
 /**
  * Service for generating images using Stable Diffusion WebUI API.
@@ -52,6 +55,7 @@ public class StableDiffusionService {
     public static final String                  NEGATIVE_PROMPT = "";
     private final       StableDiffusionConfig   config;
     static              boolean                 enabled         = true;//can be used to disable the service
+    private final       ProgressPoller          progressPoller;//one poller shared by all running generations
     private final       ResourcePatternResolver resourcePatternResolver;
     private final       WebClient               webClient;
 
@@ -69,6 +73,7 @@ public class StableDiffusionService {
                 .baseUrl(config.getApiUrl())
                 .exchangeStrategies(strategies)
                 .build();
+        this.progressPoller = new ProgressPoller(this::getProgress);
 
         String currentModel = getCurrentModel();
         getOptions();
@@ -530,14 +535,7 @@ public class StableDiffusionService {
                     .initImages(new String[]{base64Init})
                     .build();
 
-            Thread progressThread = null;
-            if (progressCallback != null) {
-                progressThread = new Thread(() -> pollProgress(progressCallback));
-                progressThread.setDaemon(true);
-                progressThread.start();
-            }
-
-            try {
+            try (ProgressPoller.Subscription ignored = progressPoller.subscribe(progressCallback)) {
                 ImageGenerationResponse response = webClient.post()
                         .uri("/sdapi/v1/img2img")
                         .bodyValue(request)
@@ -558,10 +556,6 @@ public class StableDiffusionService {
                 GeneratedImageResult result = new GeneratedImageResult(originalImage, prompt, resizedImage, actualSeed);
                 result.setNegativePrompt(resolvedNegativePrompt);
                 return result;
-            } finally {
-                if (progressThread != null) {
-                    progressThread.interrupt();
-                }
             }
         } catch (Exception e) {
             log.error("Error generating image-to-image with Stable Diffusion", e);
@@ -616,6 +610,37 @@ public class StableDiffusionService {
         }
     }
 
+    /**
+     * Parse the {@code all_seeds} array from the JSON string returned in {@code ImageGenerationResponse.info}.
+     * For a request with {@code batch_size > 1} it holds one seed per returned image.
+     *
+     * @param info The raw info JSON string from the SD API response
+     * @return The parsed seeds, empty if parsing fails or info is null
+     */
+    List<Long> parseAllSeedsFromInfo(String info) {
+        List<Long> seeds = new ArrayList<>();
+        if (info == null || info.isEmpty()) {
+            return seeds;
+        }
+        try {
+            int idx = info.indexOf("\"all_seeds\":");
+            if (idx < 0) {
+                return seeds;
+            }
+            int open  = info.indexOf('[', idx);
+            int close = info.indexOf(']', open);
+            for (String value : info.substring(open + 1, close).split(",")) {
+                if (!value.isBlank()) {
+                    seeds.add(Long.parseLong(value.strip()));
+                }
+            }
+        } catch (Exception e) {
+            log.debug("Failed to parse all_seeds from SD info: {}", e.getMessage());
+            seeds.clear();
+        }
+        return seeds;
+    }
+
     /**
      * Parse the {@code seed} value from the JSON string returned in {@code ImageGenerationResponse.info}.
      * The info field contains a JSON object such as {@code {"seed": 1234567890, ...}}.
@@ -623,7 +648,7 @@ public class StableDiffusionService {
      * @param info The raw info JSON string from the SD API response
      * @return The parsed seed, or {@code -1} if parsing fails or info is null
      */
-    private long parseSeedFromInfo(String info) {
+    long parseSeedFromInfo(String info) {
         if (info == null || info.isEmpty()) {
             return -1L;
         }
@@ -649,30 +674,6 @@ public class StableDiffusionService {
         }
     }
 
-    /**
-     * Poll progress and call callback with updates.
-     */
-    private void pollProgress(ProgressCallback callback) {
-        while (!Thread.currentThread().isInterrupted()) {
-            try {
-                ProgressResponse progress = getProgress();
-                if (progress != null && progress.getState() != null) {
-                    callback.onProgress(
-                            progress.getProgress(),
-                            progress.getState().getSamplingStep(),
-                            progress.getState().getSamplingSteps()
-                    );
-                }
-                Thread.sleep(500); // Poll every 500ms
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
-            } catch (Exception e) {
-                log.debug("Error polling progress: {}", e.getMessage());
-            }
-        }
-    }
-
     /**
      * Resize an image to the specified size (square).
      *
@@ -681,7 +682,7 @@ public class StableDiffusionService {
      * @return Resized image as byte array (PNG format)
      * @throws IOException if image processing fails
      */
-    private byte[] resizeImage(byte[] imageBytes, int targetSize) throws IOException {
+    byte[] resizeImage(byte[] imageBytes, int targetSize) throws IOException {
         // Read original image
         ByteArrayInputStream inputStream   = new ByteArrayInputStream(imageBytes);
         BufferedImage        originalImage = ImageIO.read(inputStream);
@@ -735,6 +736,11 @@ public class StableDiffusionService {
         }
     }
 
+    @PreDestroy
+    private void destroy() {
+        progressPoller.shutdown();
+    }
+
     public static void setEnabled(boolean enabled) {
         if (enabled)
             log.warn("Enabling Stable Diffusion integration. Ensure that the Stable Diffusion API is running and configured correctly.");
@@ -799,27 +805,9 @@ public class StableDiffusionService {
                     .seed(seed) // Random seed
                     .build();
 
-            // Start progress polling if callback provided
-            Thread progressThread = null;
-            if (progressCallback != null) {
-                progressThread = new Thread(() -> pollProgress(progressCallback));
-                progressThread.setDaemon(true);
-                progressThread.start();
-            }
-
-            try {
-                // Call Stable Diffusion API
-                ImageGenerationResponse response = webClient.post()
-                        .uri("/sdapi/v1/txt2img")
-                        .bodyValue(request)
-                        .retrieve()
-                        .bodyToMono(ImageGenerationResponse.class)
-                        .timeout(Duration.ofSeconds(config.getTimeoutSeconds()))
-                        .block();
-
-                if (response == null || response.getImages() == null || response.getImages().isEmpty()) {
-                    throw new StableDiffusionException("No image returned from Stable Diffusion API");
-                }
+            // Progress is polled while the callback is subscribed
+            try (ProgressPoller.Subscription ignored = progressPoller.subscribe(progressCallback)) {
+                ImageGenerationResponse response = txt2img(request);
 
                 // Decode base64 image (original size)
                 String base64Image   = response.getImages().getFirst();
@@ -835,11 +823,6 @@ public class StableDiffusionService {
                 GeneratedImageResult result = new GeneratedImageResult(originalImage, prompt, resizedImage, responseSeed);
                 result.setNegativePrompt(resolvedNegativePrompt);
                 return result;
-            } finally {
-                // Stop progress polling
-                if (progressThread != null) {
-                    progressThread.interrupt();
-                }
             }
 
         } catch (Exception e) {
@@ -848,6 +831,37 @@ public class StableDiffusionService {
         }
     }
 
+    /**
+     * Registers a progress callback at the shared poller until the subscription is closed.
+     *
+     * @param progressCallback Callback for progress updates (can be null)
+     * @return subscription to close when the generation is done
+     */
+    ProgressPoller.Subscription subscribeProgress(ProgressCallback progressCallback) {
+        return progressPoller.subscribe(progressCallback);
+    }
+
+    /**
+     * Sends a text-to-image request as is, without selecting the model or resizing the result.
+     *
+     * @param request the request, may have a {@code batch_size} larger than 1
+     * @return the response containing at least one image
+     * @throws StableDiffusionException if no image is returned
+     */
+    ImageGenerationResponse txt2img(ImageGenerationRequest request) throws StableDiffusionException {
+        ImageGenerationResponse response = webClient.post()
+                .uri("/sdapi/v1/txt2img")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(ImageGenerationResponse.class)
+                .timeout(Duration.ofSeconds(config.getTimeoutSeconds()))
+                .block();
+        if (response == null || response.getImages() == null || response.getImages().isEmpty()) {
+            throw new StableDiffusionException("No image returned from Stable Diffusion API");
+        }
+        return response;
+    }
+
     /**
      * Functional interface for progress callbacks.
      */
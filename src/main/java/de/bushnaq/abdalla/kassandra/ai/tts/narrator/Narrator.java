@@ -21,7 +21,6 @@ import de.bushnaq.abdalla.kassandra.ai.tts.SyncResult;
 import de.bushnaq.abdalla.kassandra.ai.tts.TtsEngine;
 import de.bushnaq.abdalla.kassandra.ai.tts.chatterbox.ChatterboxTTS;
 import de.bushnaq.abdalla.kassandra.ai.tts.indextts.IndexTTS;
-import de.bushnaq.abdalla.util.AnsiColorConstants;
 import lombok.Getter;
 import lombok.Setter;
 import org.slf4j.Logger;
@@ -29,7 +28,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.nio.file.Path;
-import java.util.concurrent.TimeUnit;
+import java.util.List;
 
 /**
  * Narrator orchestrates text-to-speech synthesis and audio playback.
@@ -38,22 +37,25 @@ import java.util.concurrent.TimeUnit;
  * <ul>
  *   <li>Builds a canonical name for the text + parameters via {@link TtsCacheManager#buildFileName(String, NarratorAttribute)}</li>
  *   <li>Requests a chronological target path from {@link TtsCacheManager#prepareChronological(String)}</li>
- *   <li>Synthesizes audio only when the current id is not up-to-date, then writes it via {@link TtsCacheManager#writeChronological(byte[], Path)}</li>
+ *   <li>Synthesizes audio only when neither the current id nor the store is up-to-date, using {@link TtsPrefetcher}</li>
  *   <li>Queues playback with {@link AudioPlayer}</li>
  * </ul>
+ * Sentences announced with {@link #prefetch(NarratorAttribute, String...)} are synthesized in the background while the current one is playing.
  */
 public class Narrator {
 
-    private static final Logger            logger  = LoggerFactory.getLogger(Narrator.class);
+    public static final  int               DEFAULT_LOOK_AHEAD = 3;
+    private static final Logger            logger             = LoggerFactory.getLogger(Narrator.class);
     private final        AudioPlayer       audioPlayer;  // playback queue/handles
     private static       TtsCacheManager   cacheManager; // chronological file coordinator, static to support mixing narrators
     @Getter
     @Setter
     private              NarratorAttribute defaultAttributes; // default TTS attributes for this narrator
     @Setter
-    private              boolean           enabled = true;
+    private              boolean           enabled            = true;
     @Getter
     private volatile     Playback          playback; // most recently scheduled playback for external access
+    private final        TtsPrefetcher     prefetcher;   // synthesizes upcoming sentences into the store
     @Getter
     @Setter
     private static       long              startTime;//used by VideoRecorder to sync time with audio playing (only used to log the time)
@@ -93,13 +95,25 @@ public class Narrator {
      * @param voiceReference optional voice reference to be applied for synthesis (may be null)
      */
     public Narrator(String relativeFolder, TtsEngine engine, String voiceReference) {
-        Path audioDir = Path.of(relativeFolder);
-        if (cacheManager == null)
-            cacheManager = new TtsCacheManager(audioDir);
-        this.audioPlayer       = new AudioPlayer();
+        this(sharedCacheManager(Path.of(relativeFolder)), engine, voiceReference, new AudioPlayer());
+    }
+
+    /**
+     * Creates a Narrator on the given cache manager and audio player, e.g. a player that does not need a sound device.
+     * The cache manager replaces the one shared by all narrators.
+     *
+     * @param manager        chronological file coordinator
+     * @param engine         TTS engine implementation used to synthesize audio
+     * @param voiceReference optional voice reference to be applied for synthesis (may be null)
+     * @param audioPlayer    plays the synthesized audio
+     */
+    Narrator(TtsCacheManager manager, TtsEngine engine, String voiceReference, AudioPlayer audioPlayer) {
+        cacheManager           = manager;
+        this.audioPlayer       = audioPlayer;
         this.ttsEngine         = engine;
         this.defaultAttributes = new NarratorAttribute().withTemperature(0.5f).withCfgWeight(1.0f).withExaggeration(0.5f);
         this.voiceReference    = voiceReference; // may be null
+        this.prefetcher        = new TtsPrefetcher(cacheManager, engine, DEFAULT_LOOK_AHEAD);
     }
 
     private static TtsEngine chatterboxTtsEngine(String audioFolder) throws Exception {
@@ -224,6 +238,20 @@ public class Narrator {
         return this;
     }
 
+    /**
+     * Narrates the sentences one after the other, synthesizing the next {@link #DEFAULT_LOOK_AHEAD} sentences while the current one plays.
+     * Blocks until the last playback finishes.
+     */
+    public Narrator narrateAll(NarratorAttribute attrs, List<String> texts) throws Exception {
+        if (enabled) {
+            for (int i = 0; i < texts.size(); i++) {
+                prefetch(attrs, texts.subList(i + 1, Math.min(texts.size(), i + 1 + prefetcher.getLookAhead())).toArray(String[]::new));
+                narrate(attrs, texts.get(i));
+            }
+        }
+        return this;
+    }
+
     /**
      * Create a narration gap for narration that might happen in a different block
      * reserves index slot in narration.
@@ -250,20 +278,13 @@ public class Narrator {
 
         Path pathToPlay;
         if (plan.upToDate()) {
-            // Already matches; reuse
+            // Already matches or linked from the store; reuse
             pathToPlay = plan.path();
             logger.debug("Narration up-to-date at {}", pathToPlay.getFileName());
         } else {
-
-            long t0 = System.nanoTime();
-            logger.info("{}⚡{} TTS generate start: attrs={}, file={}, text=\"{}\"", AnsiColorConstants.ANSI_RED, AnsiColorConstants.ANSI_RESET, eff, plan.path().getFileName(), text);
-
-            byte[] audio = ttsEngine.synthesize(text, eff);
-
-            cacheManager.writeChronological(audio, plan.path());
-            long tookMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0);
-            logger.info("TTS generate done:   attrs={}, file={}, bytes={}, took={} ms", eff, plan.path().getFileName(), audio.length, tookMs);
-            pathToPlay = plan.path();
+            // waits for a running prefetch or synthesizes on this thread
+            prefetcher.await(canonicalName, text, eff);
+            pathToPlay = cacheManager.link(canonicalName, plan.path());
         }
 
         File fileToPlay = cacheManager.toFile(pathToPlay);
@@ -271,6 +292,29 @@ public class Narrator {
         return this;
     }
 
+    /**
+     * Synthesizes the given sentences in the background, so that narrating them later does not wait for the TTS engine.
+     * Only up to {@link #DEFAULT_LOOK_AHEAD} sentences are synthesized ahead, the rest is ignored.
+     */
+    public Narrator prefetch(NarratorAttribute attrs, String... texts) {
+        if (enabled) {
+            NarratorAttribute eff = effectiveAttributes(attrs);
+            for (String text : texts) {
+                if (!prefetcher.prefetch(cacheManager.buildFileName(text, eff), text, eff)) {
+                    break;
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Synthesizes the given sentences in the background using instance defaults.
+     */
+    public Narrator prefetch(String... texts) {
+        return prefetch(defaultAttributes, texts);
+    }
+
     /**
      * Sleeps the current thread for roughly one second.
      */
@@ -311,6 +355,12 @@ public class Narrator {
         }
     }
 
+    private static TtsCacheManager sharedCacheManager(Path audioDir) {
+        if (cacheManager == null)
+            cacheManager = new TtsCacheManager(audioDir);
+        return cacheManager;
+    }
+
     public static void resetCache() {
         if (cacheManager != null)
             cacheManager = null;
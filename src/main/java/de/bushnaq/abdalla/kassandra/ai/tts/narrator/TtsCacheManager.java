@@ -27,19 +27,26 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.security.MessageDigest;
+import java.util.HashSet;
 import java.util.Locale;
+import java.util.Set;
 
 /**
- * Manages chronological files for generated TTS audio without maintaining a separate cache.
+ * Manages chronological files for generated TTS audio backed by a content-addressed store.
  * <p>
  * Behavior:
  * <ul>
  *   <li>Each narration call is assigned an incrementing id prefix: 001-, 002-, ...</li>
  *   <li>Chronological file names keep a sanitized text prefix and a short hash of text+parameters: {@code NNN-<prefix>_<hash>.wav}</li>
  *   <li>If a file already exists for the current id and its embedded hash matches the requested text+parameters, it is reused.</li>
- *   <li>Otherwise, any file with that id is deleted and the new audio is written to the target path.</li>
+ *   <li>Otherwise, any file with that id is deleted. If the store already holds audio for the hash, the chronological file is linked to it,
+ *   else the audio must be synthesized and written with {@link #store(byte[], String)} first.</li>
  * </ul>
+ * The store lives in the {@code store} sub folder and is keyed only by text+parameters, so inserting or moving a sentence
+ * does not invalidate the audio of all following sentences. Stored audio that no chronological file refers to any more is
+ * pruned when a manager is created, see {@link #pruneStore()}.
  */
 public class TtsCacheManager {
     private static final Logger logger = LoggerFactory.getLogger(TtsCacheManager.class);
@@ -50,6 +57,8 @@ public class TtsCacheManager {
     private static int    cacheMiss = 0;
     private final  Object idLock    = new Object();
     private        int    nextId;
+    @Getter
+    private final  Path   storeDir; // content-addressed audio, independent of the position in the narration
 
     /**
      * Creates a new manager bound to a directory for chronological files. Ensures the directory exists.
@@ -60,12 +69,14 @@ public class TtsCacheManager {
      */
     public TtsCacheManager(Path audioDir) {
         this.audioDir = audioDir;
+        this.storeDir = audioDir.resolve("store");
         try {
-            Files.createDirectories(this.audioDir);
+            Files.createDirectories(this.storeDir);
         } catch (IOException e) {
             throw new RuntimeException("Failed to create audio directory under " + audioDir, e);
         }
         initNextId();
+        pruneStore();
     }
 
     /**
@@ -172,16 +183,129 @@ public class TtsCacheManager {
         }
         Path existing = findExistingByIdPrefix(idPrefix);
         if (existing != null && hasSameHash(canonicalName, existing.getFileName().toString())) {
-            // Matching, reuse existing file
+            // Matching, reuse existing file and make sure the store knows it too
+            if (!isStored(canonicalName)) {
+                try {
+                    linkOrCopy(storePathFor(canonicalName), existing);
+                } catch (IOException e) {
+                    logger.warn("Failed to add {} to the store", existing.getFileName(), e);
+                }
+            }
             return new ChronoPlan(existing, true, idPrefix);
         }
-        cacheMiss++;
         // Not matching: ensure no conflicting file remains for that id
         deleteByIdPrefix(idPrefix);
         Path target = targetPathFor(idPrefix, canonicalName);
+        if (isStored(canonicalName)) {
+            try {
+                return new ChronoPlan(link(canonicalName, target), true, idPrefix);
+            } catch (IOException e) {
+                logger.warn("Failed to link {} to the store", target.getFileName(), e);
+            }
+        }
         return new ChronoPlan(target, false, idPrefix);
     }
 
+    /**
+     * Deletes stored audio that no chronological file refers to any more, e.g. of sentences that were removed from the narration.
+     *
+     * @return number of deleted files
+     */
+    public int pruneStore() {
+        Set<String> referenced = new HashSet<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(audioDir, "*.wav")) {
+            for (Path p : stream) {
+                String name = p.getFileName().toString();
+                int    dash = name.indexOf('-');
+                if (dash > 0) referenced.add(name.substring(dash + 1));
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to list {} to prune the store", audioDir, e);
+            return 0;
+        }
+        int deleted = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(storeDir, "*.wav")) {
+            for (Path p : stream) {
+                if (!referenced.contains(p.getFileName().toString())) {
+                    try {
+                        Files.deleteIfExists(p);
+                        deleted++;
+                    } catch (IOException ex) {
+                        logger.warn("Failed to delete {}", p.getFileName(), ex);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to list {} to prune the store", storeDir, e);
+        }
+        if (deleted > 0) {
+            logger.info("Pruned {} unreferenced files from {}", deleted, storeDir);
+        }
+        return deleted;
+    }
+
+    /**
+     * @param canonicalName name from {@link #buildFileName(String, NarratorAttribute)}
+     * @return true if the store already holds audio for this text+parameters
+     */
+    public boolean isStored(String canonicalName) {
+        return Files.exists(storePathFor(canonicalName));
+    }
+
+    /**
+     * Makes the chronological file point to the stored audio. Uses a hard link where the file system supports it and falls back to a copy.
+     *
+     * @param canonicalName name from {@link #buildFileName(String, NarratorAttribute)}, must be stored
+     * @param target        chronological path from {@link #prepareChronological(String)}
+     * @return the same {@code target} for convenience
+     * @throws IOException if neither linking nor copying works
+     */
+    public Path link(String canonicalName, Path target) throws IOException {
+        Files.deleteIfExists(target);
+        linkOrCopy(target, storePathFor(canonicalName));
+        return target;
+    }
+
+    private static void linkOrCopy(Path link, Path existing) throws IOException {
+        try {
+            Files.createLink(link, existing);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(existing, link, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes freshly synthesized audio bytes into the store and counts it as cache miss.
+     * The file is written under a temporary name and moved in place, so concurrent readers never see a partially written file.
+     *
+     * @param wavBytes      audio data in WAV format
+     * @param canonicalName name from {@link #buildFileName(String, NarratorAttribute)}
+     * @return path of the stored audio
+     * @throws IOException if writing fails
+     */
+    public Path store(byte[] wavBytes, String canonicalName) throws IOException {
+        synchronized (TtsCacheManager.class) {
+            cacheMiss++;
+        }
+        Path stored = storePathFor(canonicalName);
+        Path tmp    = Files.createTempFile(storeDir, "tts-", ".tmp");
+        try {
+            Files.write(tmp, wavBytes);
+            Files.move(tmp, stored, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        return stored;
+    }
+
+    /**
+     * @param canonicalName name from {@link #buildFileName(String, NarratorAttribute)}
+     * @return path of the audio in the store, the file may not exist yet
+     */
+    public Path storePathFor(String canonicalName) {
+        return storeDir.resolve(canonicalName);
+    }
+
     public void reset() {
         initNextId();
     }
@@ -238,20 +362,6 @@ public class TtsCacheManager {
         return p.toFile();
     }
 
-    /**
-     * Writes audio bytes directly to the provided chronological path.
-     * The caller must have obtained this path from {@link #prepareChronological(String)}.
-     *
-     * @param wavBytes audio data in WAV format
-     * @param target   full path to write to
-     * @return the same {@code target} for convenience
-     * @throws IOException if writing fails
-     */
-    public Path writeChronological(byte[] wavBytes, Path target) throws IOException {
-        Files.write(target, wavBytes);
-        return target;
-    }
-
     /**
      * Small immutable description of the next chronological action.
      *
@@ -0,0 +1,138 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.ai.tts.narrator;
+
+import de.bushnaq.abdalla.kassandra.ai.tts.TtsEngine;
+import de.bushnaq.abdalla.util.AnsiColorConstants;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * Synthesizes upcoming sentences into the {@link TtsCacheManager} store while the current sentence is playing.
+ * <p>
+ * At most {@link #getLookAhead()} sentences are synthesized ahead, they are processed one after the other by a single
+ * background thread, as the TTS servers only handle one request at a time anyway.
+ * A sentence that is requested for playback and was not prefetched is synthesized on the calling thread,
+ * a sentence that is still being prefetched is awaited instead of being synthesized twice.
+ */
+public class TtsPrefetcher {
+    private static final Logger                               logger   = LoggerFactory.getLogger(TtsPrefetcher.class);
+    private final        TtsCacheManager                      cacheManager;
+    private final        ExecutorService                      executor;
+    private final        Map<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();// canonical name -> stored audio
+    @Getter
+    private final        int                                  lookAhead;
+    private final        TtsEngine                            ttsEngine;
+    private final        Semaphore                            window;
+
+    /**
+     * @param cacheManager store the audio is written to
+     * @param ttsEngine    engine used to synthesize
+     * @param lookAhead    maximum number of sentences synthesized ahead of playback
+     */
+    public TtsPrefetcher(TtsCacheManager cacheManager, TtsEngine ttsEngine, int lookAhead) {
+        this.cacheManager = cacheManager;
+        this.ttsEngine    = ttsEngine;
+        this.lookAhead    = lookAhead;
+        this.window       = new Semaphore(lookAhead);
+        this.executor     = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "TtsPrefetcher");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Returns the stored audio, synthesizing it on the calling thread if it is neither stored nor being prefetched.
+     *
+     * @param canonicalName name from {@link TtsCacheManager#buildFileName(String, NarratorAttribute)}
+     * @param text          input text
+     * @param attributes    effective attributes used for synthesis
+     * @return path of the audio in the store
+     * @throws Exception on synthesis failure
+     */
+    public Path await(String canonicalName, String text, NarratorAttribute attributes) throws Exception {
+        if (cacheManager.isStored(canonicalName)) {
+            return cacheManager.storePathFor(canonicalName);
+        }
+        try {
+            return submit(canonicalName, text, attributes, Runnable::run).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Queues the sentence for background synthesis if it is not stored yet and the look-ahead window has room.
+     *
+     * @param canonicalName name from {@link TtsCacheManager#buildFileName(String, NarratorAttribute)}
+     * @param text          input text
+     * @param attributes    effective attributes used for synthesis
+     * @return true if the sentence is stored or queued, false if the window is full
+     */
+    public boolean prefetch(String canonicalName, String text, NarratorAttribute attributes) {
+        if (cacheManager.isStored(canonicalName) || inFlight.containsKey(canonicalName)) {
+            return true;
+        }
+        if (!window.tryAcquire()) {
+            return false;
+        }
+        CompletableFuture<Path> future = submit(canonicalName, text, attributes, executor);
+        future.whenComplete((path, e) -> window.release());
+        return true;
+    }
+
+    private CompletableFuture<Path> submit(String canonicalName, String text, NarratorAttribute attributes, Executor executor) {
+        CompletableFuture<Path> future   = new CompletableFuture<>();
+        CompletableFuture<Path> existing = inFlight.putIfAbsent(canonicalName, future);
+        if (existing != null) {
+            return existing;
+        }
+        future.whenComplete((path, e) -> inFlight.remove(canonicalName, future));
+        executor.execute(() -> {
+            try {
+                future.complete(synthesize(canonicalName, text, attributes));
+            } catch (Throwable e) {
+                logger.warn("TTS generate failed: file={}, text=\"{}\"", canonicalName, text, e);
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    private Path synthesize(String canonicalName, String text, NarratorAttribute attributes) throws Exception {
+        if (cacheManager.isStored(canonicalName)) {
+            return cacheManager.storePathFor(canonicalName);
+        }
+        long t0 = System.nanoTime();
+        logger.info("{}⚡{} TTS generate start: attrs={}, file={}, text=\"{}\"", AnsiColorConstants.ANSI_RED, AnsiColorConstants.ANSI_RESET, attributes, canonicalName, text);
+        byte[] audio  = ttsEngine.synthesize(text, attributes);
+        Path   stored = cacheManager.store(audio, canonicalName);
+        long   tookMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0);
+        logger.info("TTS generate done:   attrs={}, file={}, bytes={}, took={} ms", attributes, canonicalName, audio.length, tookMs);
+        return stored;
+    }
+}
@@ -32,13 +32,13 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalTime;
 import java.util.HashSet;
-import java.util.List;
 
 /**
  * Initializes default entities on application startup.
  * Creates a default Product, Version, Feature, Backlog sprint, and "All" user group if they don't exist.
  * The Backlog sprint is a global sprint where new tasks are created from the Backlog view.
  * The "All" group contains all users and has access to the Default product.
+ * Every start looks up each default entity and recreates the ones that were deleted, the lookups do not load users.
  */
 @Component
 @Order(1)
@@ -170,11 +170,7 @@ public class DefaultEntitiesInitializer implements ApplicationRunner {
             allUsersGroup.setDescription("Contains all users. Automatically updated when users are created.");
 
             // Add all existing users to the group
-            List<UserDAO> allUsers = userRepository.findAll();
-            allUsersGroup.setMemberIds(new HashSet<>());
-            for (UserDAO user : allUsers) {
-                allUsersGroup.addMember(user.getId());
-            }
+            allUsersGroup.setMemberIds(new HashSet<>(userRepository.findAllIds()));
 
             allUsersGroup = userGroupRepository.save(allUsersGroup);
             log.info("Created 'All' user group with ID: {} and {} members", allUsersGroup.getId(), allUsersGroup.getMemberCount());
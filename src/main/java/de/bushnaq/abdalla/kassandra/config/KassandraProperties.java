@@ -23,6 +23,9 @@ import lombok.Getter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Configuration holder for Kassandra-related settings.
  * Provides static access to configuration values for use in DTOs.
@@ -35,7 +38,7 @@ public class KassandraProperties {
     /**
      * Bound from {@code kassandra.ai.*}.
      */
-    private        Ai       ai                     = new Ai();
+    private        Ai             ai                     = new Ai();
     /**
      * Static holder so plain DTOs (e.g. User) can access the value without injection.
      * -- GETTER --
@@ -44,15 +47,23 @@ public class KassandraProperties {
      * @return the number of months to look ahead for holidays
      */
     @Getter
-    private static long     holidayLookAheadMonths = 24;
+    private static long           holidayLookAheadMonths = 24;
     /**
      * Bound from {@code kassandra.holidays.*}.
      */
-    private        Holidays holidays               = new Holidays();
+    private        Holidays       holidays               = new Holidays();
     /**
      * Bound from {@code kassandra.lm-studio.*}.
      */
-    private        LmStudio lmStudio               = new LmStudio();
+    private        LmStudio       lmStudio               = new LmStudio();
+    /**
+     * Bound from {@code kassandra.request-capture.*}.
+     */
+    private        RequestCapture requestCapture         = new RequestCapture();
+    /**
+     * Bound from {@code kassandra.view-executor.*}.
+     */
+    private        ViewExecutor   viewExecutor           = new ViewExecutor();
 
     /**
      * Copies the bound instance values into static fields after Spring has set them.
@@ -67,30 +78,39 @@ public class KassandraProperties {
         /**
          * Bound from {@code kassandra.ai.filter-model}.
          */
-        private String  filterModel   = "";
+        private String  filterModel           = "";
         /**
          * Bound from {@code kassandra.ai.insights-model}.
          */
-        private String  insightsModel = "";
+        private String  insightsModel         = "";
         /**
          * Maximum number of tokens to generate. Bound from {@code kassandra.ai.max-tokens}.
          * When null the model default is used.
          */
-        private Integer maxTokens     = null;
+        private Integer maxTokens             = null;
         /**
          * Bound from {@code kassandra.ai.mcp-model}.
          */
-        private String  mcpModel      = "";
+        private String  mcpModel              = "";
         /**
          * Random seed for reproducible outputs. Bound from {@code kassandra.ai.seed}.
          * When null the model default is used.
          */
-        private Integer seed          = null;
+        private Integer seed                  = null;
         /**
          * Sampling temperature (0.0 = deterministic). Bound from {@code kassandra.ai.temperature}.
          * When null the model default is used.
          */
-        private Double  temperature   = null;
+        private Double  temperature           = null;
+        /**
+         * Default number of items returned by one call of a list tool. Bound from {@code kassandra.ai.tool-result-page-size}.
+         */
+        private int     toolResultPageSize    = 50;
+        /**
+         * Estimated maximum number of tokens of one list tool result, larger pages are cut and continued with a cursor.
+         * Bound from {@code kassandra.ai.tool-result-token-budget}.
+         */
+        private int     toolResultTokenBudget = 2000;
     }
 
     @Data
@@ -107,27 +127,92 @@ public class KassandraProperties {
          * Optional Bearer token for LM Studio authentication.
          * Leave empty to skip the Authorization header (LM Studio default has no auth).
          */
-        private String  apiKey              = "";
+        private String  apiKey               = "";
         /**
          * Base URL of the LM Studio server (native API, not the OpenAI-compatible endpoint).
          */
-        private String  apiUrl              = "http://localhost:1234";
+        private String  apiUrl               = "http://localhost:1234";
         /**
          * Maximum context length (in tokens) to use when loading a model.
          * 0 means "use the model's default".
          */
-        private int     contextLength       = 0;
+        private int     contextLength        = 0;
         /**
          * Whether to enable Flash Attention when loading a model.
          */
-        private boolean flashAttention      = true;
+        private boolean flashAttention       = true;
+        /**
+         * Maximum number of LLMs kept loaded at the same time, the least recently used one is unloaded first.
+         * More than one requires {@code vramBudgetMb}, the model sizes alone do not tell whether two models fit.
+         */
+        private int     maxLoadedModels      = 1;
+        /**
+         * Seconds the model list of LM Studio is reused before it is requested again.
+         */
+        private int     modelStateTtlSeconds = 30;
         /**
          * Whether to offload the KV cache to GPU memory when loading a model.
          */
-        private boolean offloadKvCacheToGpu = true;
+        private boolean offloadKvCacheToGpu  = true;
         /**
          * Timeout in seconds for API requests to LM Studio.
          */
-        private int     timeoutSeconds      = 300;
+        private int     timeoutSeconds       = 300;
+        /**
+         * Maximum summed file size in MB of the loaded LLMs, least recently used models are unloaded to stay below.
+         * 0 means only {@code maxLoadedModels} applies, which is then limited to 1.
+         */
+        private long    vramBudgetMb         = 0;
+        /**
+         * Whether to load {@code kassandra.ai.mcp-model} in the background when the application has started.
+         */
+        private boolean warmUp               = true;
+    }
+
+    /**
+     * Opt-in diagnostic capture of HTTP request and response bodies.
+     * Requests that are not selected pass through without any buffering.
+     */
+    @Data
+    public static class RequestCapture {
+        /**
+         * Maximum number of captured exchanges kept in the ring buffer.
+         */
+        private int          bufferSize = 256;
+        /**
+         * Master switch, nothing is captured unless enabled (or {@code DebugUtil.DEBUG} is set).
+         */
+        private boolean      enabled    = false;
+        /**
+         * Requests carrying this header are captured.
+         */
+        private String       header     = "X-Kassandra-Capture";
+        /**
+         * Maximum number of body bytes captured per request and per response, the rest is passed through unrecorded.
+         */
+        private int          maxBytes   = 4096;
+        /**
+         * Ant style path patterns of requests to capture, e.g. {@code /api/task/**}.
+         */
+        private List<String> paths      = new ArrayList<>();
+        /**
+         * Fraction (0..1) of the selected requests that are actually captured.
+         */
+        private double       sampleRate = 1.0;
+    }
+
+    /**
+     * Sizing of the executor running the asynchronous work of the views.
+     */
+    @Data
+    public static class ViewExecutor {
+        /**
+         * Maximum number of tasks waiting for a thread, further work is refused.
+         */
+        private int queueCapacity = 200;
+        /**
+         * Number of worker threads, 0 means number of processors - 1 (at least 2).
+         */
+        private int threads       = 0;
     }
 }
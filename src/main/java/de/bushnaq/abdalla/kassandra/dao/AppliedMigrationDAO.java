@@ -0,0 +1,47 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.dao;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+
+/**
+ * JPA entity that marks a startup initialization step as done.
+ * <p>
+ * Steps like {@link de.bushnaq.abdalla.kassandra.config.DefaultEntitiesInitializer} and
+ * {@link de.bushnaq.abdalla.kassandra.service.UserRoleMigrationService} persist their marker after they completed, the
+ * next start skips them instead of checking the whole database again.
+ * </p>
+ */
+@Entity
+@Table(name = "applied_migrations")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(callSuper = true)
+@EqualsAndHashCode(of = {"name"}, callSuper = false)
+public class AppliedMigrationDAO extends AbstractTimeAwareDAO {
+
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+}
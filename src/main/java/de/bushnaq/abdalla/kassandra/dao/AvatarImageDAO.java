@@ -0,0 +1,66 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.dao;
+
+import de.bushnaq.abdalla.kassandra.dto.AvatarTheme;
+import de.bushnaq.abdalla.kassandra.dto.AvatarVariant;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.util.UUID;
+
+/**
+ * JPA entity that persists one size variant of one theme of an avatar.
+ * <p>
+ * Avatars of users, products, features and sprints share this table, {@code ownerId} is the id of the owning entity.
+ * Every row holds exactly one image, reads go through
+ * {@link de.bushnaq.abdalla.kassandra.repository.AvatarImageRepository#findImage} and only fetch the bytes of the
+ * requested theme and variant.
+ * </p>
+ */
+@Entity
+@Table(name = "avatar_images",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_avatar_images_owner_theme_variant", columnNames = {"owner_id", "theme", "variant"})
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(callSuper = true, exclude = "image")
+@EqualsAndHashCode(of = {"id"}, callSuper = false)
+public class AvatarImageDAO extends AbstractTimeAwareDAO {
+
+    @Id
+    @UuidGenerator(style = UuidGenerator.Style.RANDOM)
+    @Column(name = "id")
+    private UUID          id;
+    /**
+     * PNG bytes scaled to {@link AvatarVariant#getSize()}, {@link AvatarVariant#FULL} keeps the uploaded image.
+     */
+    @Lob
+    @Column(name = "image", nullable = false)
+    private byte[]        image;
+    @Column(name = "owner_id", nullable = false)
+    private UUID          ownerId;
+    @Column(name = "theme", nullable = false)
+    private AvatarTheme   theme;
+    @Column(name = "variant", nullable = false)
+    private AvatarVariant variant;
+}
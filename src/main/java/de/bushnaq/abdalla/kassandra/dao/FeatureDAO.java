@@ -29,7 +29,8 @@ import java.util.UUID;
 @Entity
 @Table(
         name = "features",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"versionId", "name"})
+        uniqueConstraints = @UniqueConstraint(columnNames = {"versionId", "name"}),
+        indexes = @Index(name = "idx_features_name", columnList = "name")
 )
 @Getter
 @Setter
@@ -0,0 +1,86 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.dao;
+
+import de.bushnaq.abdalla.kassandra.ai.stablediffusion.ImageGenerationJobStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.util.UUID;
+
+/**
+ * JPA entity that persists one job of the {@link de.bushnaq.abdalla.kassandra.ai.stablediffusion.ImageGenerationQueue}.
+ * <p>
+ * Finished jobs keep the generated image, so a request with the same {@code jobKey} (prompt, seed, size and settings)
+ * and a fixed seed is answered from the database instead of the GPU, also across restarts.
+ * </p>
+ */
+@Entity
+@Table(name = "image_generation_jobs",
+        indexes = {
+                @Index(name = "idx_image_generation_jobs_key", columnList = "job_key"),
+                @Index(name = "idx_image_generation_jobs_status", columnList = "status")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(callSuper = true, exclude = "originalImage")
+@EqualsAndHashCode(of = {"id"}, callSuper = false)
+public class ImageGenerationJobDAO extends AbstractTimeAwareDAO {
+
+    @Column(name = "cfg_scale")
+    private double                   cfgScale;
+    @Column(name = "error", length = 1000)
+    private String                   error;
+    @Id
+    @UuidGenerator(style = UuidGenerator.Style.RANDOM)
+    @Column(name = "id")
+    private UUID                     id;
+    /**
+     * Hash of everything that influences the generated image, see {@link de.bushnaq.abdalla.kassandra.ai.stablediffusion.ImageGenerationJob#keyOf}.
+     */
+    @Column(name = "job_key", length = 64, nullable = false)
+    private String                   jobKey;
+    @Column(name = "negative_prompt", length = 1000)
+    private String                   negativePrompt;
+    /**
+     * Raw PNG bytes at generation size, only set when the job is {@link ImageGenerationJobStatus#DONE}.
+     */
+    @Lob
+    @Column(name = "original_image")
+    private byte[]                   originalImage;
+    @Column(name = "prompt", length = 1000)
+    private String                   prompt;
+    /**
+     * Seed reported by Stable Diffusion, differs from {@link #seed} if a random seed was requested.
+     */
+    @Column(name = "result_seed")
+    private long                     resultSeed;
+    @Column(name = "sampler")
+    private String                   sampler;
+    @Column(name = "seed")
+    private long                     seed;
+    @Column(name = "generation_size")
+    private int                      size;
+    @Column(name = "status", nullable = false)
+    private ImageGenerationJobStatus status;
+    @Column(name = "steps")
+    private int                      steps;
+}
@@ -34,6 +34,10 @@ import java.util.UUID;
         uniqueConstraints = {
                 @UniqueConstraint(columnNames = {"product_id", "user_id"}),
                 @UniqueConstraint(columnNames = {"product_id", "group_id"})
+        },
+        indexes = {
+                @Index(name = "idx_product_acl_user", columnList = "user_id"),
+                @Index(name = "idx_product_acl_group", columnList = "group_id")
         }
 )
 @Getter
@@ -23,6 +23,13 @@ import org.hibernate.annotations.UuidGenerator;
 
 import java.util.UUID;
 
+/**
+ * Legacy storage of the light and dark avatar of a product in one row.
+ * <p>
+ * Avatars are stored per theme and size variant in {@link AvatarImageDAO}, existing rows are moved there at startup by
+ * {@link de.bushnaq.abdalla.kassandra.service.AvatarMigrationService}.
+ * </p>
+ */
 @Entity
 @Table(name = "product_avatars")
 @Getter
@@ -20,6 +20,7 @@ package de.bushnaq.abdalla.kassandra.dao;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -29,7 +30,10 @@ import org.hibernate.annotations.BatchSize;
 import java.util.UUID;
 
 @Entity
-@Table(name = "relations")
+@Table(
+        name = "relations",
+        indexes = @Index(name = "idx_relations_predecessor", columnList = "predecessorId")
+)
 @Getter
 @Setter
 @EqualsAndHashCode(of = {"id"}, callSuper = false)
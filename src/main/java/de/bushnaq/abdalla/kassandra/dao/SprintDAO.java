@@ -38,7 +38,11 @@ import java.util.UUID;
 @Entity
 @Table(
         name = "sprints",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"featureId", "name"})
+        uniqueConstraints = @UniqueConstraint(columnNames = {"featureId", "name"}),
+        indexes = {
+                @Index(name = "idx_sprints_name", columnList = "name"),
+                @Index(name = "idx_sprints_updated", columnList = "updated")
+        }
 )
 @Getter
 @Setter
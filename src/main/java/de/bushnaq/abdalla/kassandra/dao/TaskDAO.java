@@ -27,6 +27,7 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 import tools.jackson.databind.annotation.JsonDeserialize;
 import tools.jackson.databind.annotation.JsonSerialize;
 
@@ -40,7 +41,13 @@ import java.util.UUID;
  * represents a task in a Gantt chart.
  */
 @Entity
-@Table(name = "tasks")
+@Table(
+        name = "tasks",
+        indexes = {
+                @Index(name = "idx_tasks_sprint_order", columnList = "sprintId, orderId"),
+                @Index(name = "idx_tasks_parent", columnList = "parentTaskId")
+        }
+)
 @Getter
 @Setter
 @ToString(callSuper = false)
@@ -103,6 +110,10 @@ public class TaskDAO {
     @JsonSerialize(using = DurationSerializer.class)
     @JsonDeserialize(using = DurationDeserializer.class)
     private Duration                                    timeSpent         = Duration.ZERO;
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long                                        version;
 
     public TaskDAO() {
         this.setId(UUID.randomUUID());
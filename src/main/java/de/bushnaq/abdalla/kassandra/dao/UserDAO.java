@@ -26,6 +26,7 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.GeneratedColumn;
 
 import java.awt.*;
 import java.time.LocalDate;
@@ -39,7 +40,10 @@ import java.util.stream.Collectors;
  * Supports client side id generation.
  */
 @Entity
-@Table(name = "users")
+@Table(
+        name = "users",
+        indexes = @Index(name = "idx_users_email_lower", columnList = "email_lower")
+)
 @Getter
 @Setter
 @ToString(callSuper = true)
@@ -57,6 +61,13 @@ public class UserDAO extends AbstractTimeAwareDAO {
     private String                darkAvatarHash;
     @Column(nullable = false, unique = true)
     private String                email;
+    /**
+     * lower case copy of {@link #email} maintained by the database, so the case insensitive lookup can use an index
+     */
+    @Column(name = "email_lower")
+    @GeneratedColumn("lower(email)")
+    @JsonIgnore
+    private String                emailLower;
     @Column(nullable = false)
     private LocalDate             firstWorkingDay;//first working day
     @Id
@@ -56,7 +56,8 @@ public class UserGroupDAO extends AbstractTimeAwareDAO {
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(
             name = "user_group_members",
-            joinColumns = @JoinColumn(name = "group_id")
+            joinColumns = @JoinColumn(name = "group_id"),
+            indexes = @Index(name = "idx_user_group_members_user", columnList = "user_id")
     )
     @Column(name = "user_id")
     private Set<UUID> memberIds = new HashSet<>();
@@ -29,7 +29,8 @@ import java.util.UUID;
 @Entity
 @Table(
         name = "versions",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"productId", "name"})
+        uniqueConstraints = @UniqueConstraint(columnNames = {"productId", "name"}),
+        indexes = @Index(name = "idx_versions_name", columnList = "name")
 )
 @Getter
 @Setter
@@ -20,6 +20,7 @@ package de.bushnaq.abdalla.kassandra.dao;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -32,7 +33,13 @@ import java.time.OffsetDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "worklogs")
+@Table(
+        name = "worklogs",
+        indexes = {
+                @Index(name = "idx_worklogs_sprint", columnList = "sprintId"),
+                @Index(name = "idx_worklogs_task", columnList = "taskId")
+        }
+)
 @Getter
 @Setter
 @ToString(callSuper = true)
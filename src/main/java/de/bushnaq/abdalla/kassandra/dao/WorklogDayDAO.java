@@ -0,0 +1,74 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package de.bushnaq.abdalla.kassandra.dao;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Daily rollup of the worklogs of one task.
+ * <p>
+ * Maintained by {@link de.bushnaq.abdalla.kassandra.service.WorklogRollupService} whenever a worklog is created, updated or deleted.
+ */
+@Entity
+@Table(
+        name = "worklog_days",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"taskId", "day"}),
+        indexes = @Index(name = "idx_worklog_days_sprint", columnList = "sprintId")
+)
+@Getter
+@Setter
+@ToString(callSuper = true)
+@EqualsAndHashCode(of = {"id"}, callSuper = false)
+public class WorklogDayDAO extends AbstractTimeAwareDAO {
+
+    @Column(nullable = false)
+    private LocalDate day;
+
+    @Id
+    @Column(name = "id")
+    private UUID id;
+
+    /**
+     * start of the latest worklog of the day, the one that provided {@link #timeRemainingEstimate}
+     */
+    @Column(nullable = false)
+    private OffsetDateTime lastStart;
+
+    @Column(nullable = false)
+    private UUID     sprintId;
+    @Column(nullable = false)
+    private UUID     taskId;
+    @Column(nullable = false)
+    private Duration timeRemainingEstimate;
+    @Column(nullable = false)
+    private Duration timeSpent;
+    @Column(nullable = false)
+    private int      worklogCount;
+
+    public WorklogDayDAO() {
+        setId(UUID.randomUUID());
+    }
+}
@@ -1,6 +1,6 @@
 /*
  *
- * Copyright (C) 2025-2025 Abdalla Bushnaq
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
  * You may obtain a copy of the License at
@@ -15,8 +15,11 @@
  *
  */
 
-package de.bushnaq.abdalla.kassandra.ui;
+package de.bushnaq.abdalla.kassandra.dto;
 
-public enum SprintStatus {
-    CRITICAL, WARNING, GOOD, NORMAL
+/**
+ * Background variant of an avatar, each owner can have a light and a dark avatar.
+ */
+public enum AvatarTheme {
+    LIGHT, DARK
 }
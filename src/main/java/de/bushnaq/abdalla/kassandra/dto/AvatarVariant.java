@@ -0,0 +1,53 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.dto;
+
+import lombok.Getter;
+
+/**
+ * Pre-computed sizes of an avatar image.
+ * <p>
+ * All variants are generated once when an avatar is uploaded, so serving an avatar never resizes images.
+ * The pixel sizes cover twice the css size they are shown at, for high density displays.
+ * Variants are stored by ordinal, new variants must be appended.
+ */
+@Getter
+public enum AvatarVariant {
+    /**
+     * Small inline icons, e.g. chat messages (16px).
+     */
+    THUMBNAIL(32),
+    /**
+     * Grid cells, cards, dialog headers and name fields (20-24px), the default of the avatar proxies.
+     */
+    GRID(48),
+    /**
+     * The uploaded image, used for editing.
+     */
+    FULL(0),
+    /**
+     * Page headers (32px).
+     */
+    HEADER(64);
+
+    private final int size;//width and height in pixels, 0 keeps the uploaded size
+
+    AvatarVariant(int size) {
+        this.size = size;
+    }
+}
@@ -69,12 +69,30 @@ public class Product extends AbstractTimeAware implements Comparable<Product> {
      */
     @JsonIgnore
     public String getAvatarUrl(boolean dark) {
+        return getAvatarUrl(dark, AvatarVariant.GRID);
+    }
+
+    /**
+     * Get the avatar URL of the given theme and size variant.
+     * The avatar proxies serve {@link AvatarVariant#GRID} by default, other variants are requested with a {@code v} parameter.
+     *
+     * @param dark    {@code true} to request the dark-background avatar variant
+     * @param variant the size variant that covers the css size the avatar is shown at
+     * @return The avatar URL with hash parameter for cache-busting
+     */
+    @JsonIgnore
+    public String getAvatarUrl(boolean dark, AvatarVariant variant) {
+        String url;
         if (dark && darkAvatarHash != null && !darkAvatarHash.isEmpty()) {
-            return "/frontend/dark-avatar-proxy/product/" + id + "?h=" + darkAvatarHash;
+            url = "/frontend/dark-avatar-proxy/product/" + id + "?h=" + darkAvatarHash;
+        } else {
+            url = "/frontend/avatar-proxy/product/" + id;
+            if (lightAvatarHash != null && !lightAvatarHash.isEmpty()) {
+                url += "?h=" + lightAvatarHash;
+            }
         }
-        String url = "/frontend/avatar-proxy/product/" + id;
-        if (lightAvatarHash != null && !lightAvatarHash.isEmpty()) {
-            url += "?h=" + lightAvatarHash;
+        if (variant != AvatarVariant.GRID) {
+            url += (url.contains("?") ? "&" : "?") + "v=" + variant;
         }
         return url;
     }
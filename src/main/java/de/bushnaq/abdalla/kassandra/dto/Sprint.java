@@ -40,7 +40,9 @@ import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.OffsetDateTime;
 import java.util.*;
+import java.util.function.Consumer;
 
 @Getter
 @Setter
@@ -86,6 +88,8 @@ public class Sprint extends AbstractTimeAware implements Comparable<Sprint> {
     List<WorklogRemaining> worklogRemaining = new ArrayList<>();
     @JsonIgnore
     private List<Worklog> worklogs = new ArrayList<>();
+    @JsonIgnore
+    private transient OffsetDateTime lastWorklogStart;//start of the latest worklog, used if the sprint was initialized from the daily worklog rollup
 
     public Sprint() {
         setId(UUID.randomUUID());
@@ -165,13 +169,31 @@ public class Sprint extends AbstractTimeAware implements Comparable<Sprint> {
      */
     @JsonIgnore
     public String getAvatarUrl(boolean dark) {
+        return getAvatarUrl(dark, AvatarVariant.GRID);
+    }
+
+    /**
+     * Get the avatar URL of the given theme and size variant.
+     * The avatar proxies serve {@link AvatarVariant#GRID} by default, other variants are requested with a {@code v} parameter.
+     *
+     * @param dark    {@code true} to request the dark-background avatar variant
+     * @param variant the size variant that covers the css size the avatar is shown at
+     * @return The avatar URL with hash parameter for cache-busting
+     */
+    @JsonIgnore
+    public String getAvatarUrl(boolean dark, AvatarVariant variant) {
+        String url;
         if (dark && darkAvatarHash != null && !darkAvatarHash.isEmpty()) {
-            return "/frontend/dark-avatar-proxy/sprint/" + id + "?h=" + darkAvatarHash;
+            url = "/frontend/dark-avatar-proxy/sprint/" + id + "?h=" + darkAvatarHash;
+        } else {
+            // Light variant (or dark fallback when dark avatar not yet available)
+            url = "/frontend/avatar-proxy/sprint/" + id;
+            if (lightAvatarHash != null && !lightAvatarHash.isEmpty()) {
+                url += "?h=" + lightAvatarHash;
+            }
         }
-        // Light variant (or dark fallback when dark avatar not yet available)
-        String url = "/frontend/avatar-proxy/sprint/" + id;
-        if (lightAvatarHash != null && !lightAvatarHash.isEmpty()) {
-            url += "?h=" + lightAvatarHash;
+        if (variant != AvatarVariant.GRID) {
+            url += (url.contains("?") ? "&" : "?") + "v=" + variant;
         }
         return url;
     }
@@ -325,7 +347,12 @@ public class Sprint extends AbstractTimeAware implements Comparable<Sprint> {
     }
 
     public void initTaskMap(List<Task> tasks, List<Worklog> worklogs) {
-        this.worklogs = new ArrayList<>(worklogs);
+        this.worklogs    = new ArrayList<>(worklogs);
+        lastWorklogStart = null;
+        initTaskMap(tasks, task -> task.add(worklogs));
+    }
+
+    private void initTaskMap(List<Task> tasks, Consumer<Task> timeTracking) {
         taskMap.clear();
         worklogRemaining.clear();
         for (Task task : tasks) {
@@ -346,9 +373,7 @@ public class Sprint extends AbstractTimeAware implements Comparable<Sprint> {
                 //add the task to the parent task
                 task.getParentTask().addChildTask(task);
             }
-//            if (worklogs != null) {
-            task.add(worklogs);
-//            }
+            timeTracking.accept(task);
             task.setSprint(this);
             task.initialize();
             addWorklogRemaining(task);
@@ -356,6 +381,19 @@ public class Sprint extends AbstractTimeAware implements Comparable<Sprint> {
         setStart(getEarliestStartDate());
     }
 
+    /**
+     * Same as {@link #initTaskMap(List, List)}, but initializes the time tracking from the daily worklog rollup instead of the raw worklogs.
+     * Good enough for progress and release date, {@link #getWorklogs()} stays empty.
+     *
+     * @param tasks       tasks, tasks of other sprints are ignored
+     * @param worklogDays daily worklog rollup of this sprint
+     */
+    public void initTaskMapFromWorklogDays(List<Task> tasks, List<WorklogDay> worklogDays) {
+        this.worklogs    = new ArrayList<>();
+        lastWorklogStart = worklogDays.stream().map(WorklogDay::getLastStart).max(Comparator.naturalOrder()).orElse(null);
+        initTaskMap(tasks, task -> task.addWorklogDays(worklogDays));
+    }
+
     public void initUserMap(List<User> users) {
         userMap.clear();
         for (User user : users) {
@@ -482,6 +520,8 @@ public class Sprint extends AbstractTimeAware implements Comparable<Sprint> {
         if (getRemaining() != null && getRemaining().isZero() && worklogs != null && !worklogs.isEmpty()) {
             //if all work has been done, set the release date to the last worklog date
             releaseDate = DateUtil.offsetDateTimeToLocalDateTime(worklogs.getLast().getStart());
+        } else if (getRemaining() != null && getRemaining().isZero() && lastWorklogStart != null) {
+            releaseDate = DateUtil.offsetDateTimeToLocalDateTime(lastWorklogStart);
         } else {
             //calculate the release date based on the work done and the remaining work
             releaseDate = ReportUtil.calculateReleaseDate(getStart(), now, getWorked(), DateUtil.add(getWorked(), getRemaining()));
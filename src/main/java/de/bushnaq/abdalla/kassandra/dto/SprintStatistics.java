@@ -15,11 +15,9 @@
  *
  */
 
-package de.bushnaq.abdalla.kassandra.ui.view;
+package de.bushnaq.abdalla.kassandra.dto;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import de.bushnaq.abdalla.kassandra.dto.Sprint;
-import de.bushnaq.abdalla.kassandra.ui.HtmlColor;
 import de.bushnaq.abdalla.util.date.DateUtil;
 import de.bushnaq.abdalla.util.date.ReportUtil;
 import lombok.Getter;
@@ -102,8 +100,8 @@ public class SprintStatistics {
         this.currentEfficiency = ReportUtil.createPersonDayEfficiencyString(ReportUtil.calcualteEfficiency(sprint.getStart(), currentTime, sprint.getEnd(), sprint.getWorked(), sprint.getRemaining()));
 
         // Status calculations
-        this.status             = HtmlColor.calculateStatusColor(delayFraction);
-        this.extrapolatedStatus = HtmlColor.calculateStatusColor(extrapolatedDelayFraction);
+        this.status             = SprintStatus.of(delayFraction).name();
+        this.extrapolatedStatus = SprintStatus.of(extrapolatedDelayFraction).name();
 
         // Release date calculation
         this.isActualReleaseDate     = sprint.getRemaining() == null || sprint.getRemaining().equals(Duration.ZERO);
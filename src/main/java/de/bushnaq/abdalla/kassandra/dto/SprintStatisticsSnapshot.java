@@ -0,0 +1,42 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import tools.jackson.databind.JsonNode;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Statistics of one sprint as materialized by {@link de.bushnaq.abdalla.kassandra.service.SprintStatisticsService}.
+ * {@code statistics} holds the {@link SprintStatistics} exactly as they are serialized
+ * for the insights prompt, {@code computedAt} is the point in time they were calculated for.
+ * If the statistics of the sprint cannot be calculated, {@code statistics} is null and {@code error} tells why.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SprintStatisticsSnapshot {
+    private LocalDateTime computedAt;
+    private String        error;
+    private UUID          sprintId;
+    private JsonNode      statistics;
+}
@@ -0,0 +1,42 @@
+/*
+ *
+ * Copyright (C) 2025-2025 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.dto;
+
+public enum SprintStatus {
+    CRITICAL, WARNING, GOOD, NORMAL;
+
+    /**
+     * @param delayFraction the delay as fraction of the sprint duration, may be null
+     * @return the status of a sprint with this delay
+     */
+    public static SprintStatus of(Double delayFraction) {
+        if (delayFraction == null) {
+            return NORMAL;
+        }
+        if (delayFraction > 0.2) {
+            return CRITICAL;
+        }
+        if (delayFraction > 0.1) {
+            return WARNING;
+        }
+        if (delayFraction > 0.0) {
+            return NORMAL;
+        }
+        return GOOD;
+    }
+}
@@ -175,11 +175,20 @@ public class Task implements Comparable<Task> {
     @JsonSerialize(using = DurationSerializer.class)
     @JsonDeserialize(using = DurationDeserializer.class)
     private             Duration       timeSpent         = Duration.ZERO;
+    /**
+     * Optimistic locking version of the task, incremented by the server on every change.
+     */
+    private             long           version;
     /**
      * List of work log entries recording time spent on this task. Worklogs represent time a resource spent on this task at one time.
      */
     @JsonIgnore
     private             List<Worklog>  worklogs          = new ArrayList<>();
+    /**
+     * false if the time tracking was initialized from the daily worklog rollup and {@link #worklogs} has not been loaded yet.
+     */
+    @JsonIgnore
+    private transient   boolean        worklogsLoaded    = true;
 
     /**
      * clear all work data, so that we can reinitialize using worklogs
@@ -188,7 +197,8 @@ public class Task implements Comparable<Task> {
         OffsetDateTime last                  = OffsetDateTime.MIN;
         Duration       timeRemainingEstimate = null;
         this.worklogs.clear();
-        timeSpent = Duration.ZERO;
+        worklogsLoaded = true;
+        timeSpent      = Duration.ZERO;
         for (Worklog worklog : worklogs) {
             if (worklog.getTaskId().equals(getId())) {
                 if (worklog.getStart().isAfter(last)) {
@@ -205,6 +215,35 @@ public class Task implements Comparable<Task> {
         setRemainingEstimate(timeRemainingEstimate);
     }
 
+    /**
+     * Same as {@link #add(List)}, but initializes the time tracking from the daily worklog rollup.
+     * The individual worklogs are not loaded, see {@link #isWorklogsLoaded()}.
+     *
+     * @param worklogDays daily rollup rows, rows of other tasks are ignored
+     */
+    public void addWorklogDays(List<WorklogDay> worklogDays) {
+        OffsetDateTime last                  = OffsetDateTime.MIN;
+        Duration       timeRemainingEstimate = null;
+        this.worklogs.clear();
+        worklogsLoaded = false;
+        timeSpent      = Duration.ZERO;
+        for (WorklogDay worklogDay : worklogDays) {
+            if (worklogDay.getTaskId().equals(getId())) {
+                if (worklogDay.getLastStart().isAfter(last)) {
+                    last                  = worklogDay.getLastStart();
+                    timeRemainingEstimate = worklogDay.getTimeRemainingEstimate();
+                }
+                addTimeSpent(worklogDay.getTimeSpent());
+            }
+        }
+        if (timeRemainingEstimate == null) {
+            setRemainingEstimate(minEstimate);
+            return;
+        }
+        setRemainingEstimate(timeRemainingEstimate);
+        recalculate();
+    }
+
     /**
      * Adds a child task to this task's hierarchy.
      * If the child task already has a parent, it will be removed from that parent first.
@@ -0,0 +1,44 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+
+package de.bushnaq.abdalla.kassandra.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Position change of a single task, sent in batches by drag-and-drop reordering instead of the complete {@link Task}.
+ * The {@code version} is the task version the client has seen, the change is rejected if the task was modified since.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskReorder {
+    private UUID    id;
+    private Integer orderId;
+    private UUID    parentTaskId;
+    private UUID    sprintId;
+    private long    version;
+
+    public static TaskReorder of(Task task) {
+        return new TaskReorder(task.getId(), task.getOrderId(), task.getParentTaskId(), task.getSprintId(), task.getVersion());
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+
+package de.bushnaq.abdalla.kassandra.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Result of a batch of {@link TaskReorder} changes.
+ * A batch is applied completely or not at all, if any task was modified concurrently (or deleted) nothing is changed
+ * and the ids of these tasks are listed in {@code conflicts}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskReorderResult {
+    private List<UUID> conflicts = new ArrayList<>();
+    private int        updated;
+
+    public boolean isApplied() {
+        return conflicts.isEmpty();
+    }
+}
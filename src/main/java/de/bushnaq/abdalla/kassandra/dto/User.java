@@ -25,11 +25,13 @@ import de.bushnaq.abdalla.kassandra.ai.stablediffusion.AvatarService;
 import de.bushnaq.abdalla.kassandra.ai.stablediffusion.StableDiffusionService;
 import de.bushnaq.abdalla.kassandra.config.KassandraProperties;
 import de.bushnaq.abdalla.kassandra.report.calendar.CalendarUtil;
+import de.bushnaq.abdalla.kassandra.report.calendar.DayClassification;
 import de.bushnaq.abdalla.kassandra.report.gantt.GanttContext;
 import de.focus_shift.jollyday.core.Holiday;
 import de.focus_shift.jollyday.core.HolidayManager;
 import de.focus_shift.jollyday.core.ManagerParameters;
 import de.focus_shift.jollyday.core.parameter.UrlManagerParameter;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -42,6 +44,7 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Getter
@@ -51,24 +54,28 @@ import java.util.stream.Collectors;
 @JsonInclude(JsonInclude.Include.NON_EMPTY)
 public class User extends AbstractTimeAware implements Comparable<User> {
     @JsonManagedReference
-    private List<Availability> availabilities = new ArrayList<>();
+    private       List<Availability>              availabilities     = new ArrayList<>();
     @JsonIgnore
-    private ProjectCalendar    calendar;
-    private Color              color;
-    private String             darkAvatarHash;
-    private String             email;
-    private LocalDate          firstWorkingDay;
-    private UUID               id;
-    private LocalDate          lastWorkingDay;
-    private String             lightAvatarHash;
+    private       ProjectCalendar                 calendar;
+    private       Color                           color;
+    private       String                          darkAvatarHash;
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private final Map<Integer, DayClassification> dayClassifications = new ConcurrentHashMap<>();//by year, see getDayClassification
+    private       String                          email;
+    private       LocalDate                       firstWorkingDay;
+    private       UUID                            id;
+    private       LocalDate                       lastWorkingDay;
+    private       String                          lightAvatarHash;
     @JsonManagedReference
-    private List<Location>     locations      = new ArrayList<>();
-    private String             name;
+    private       List<Location>                  locations          = new ArrayList<>();
+    private       String                          name;
     @JsonManagedReference
-    private List<OffDay>       offDays        = new ArrayList<>();
-    private String             roles          = "USER"; // Default role for new users
+    private       List<OffDay>                    offDays            = new ArrayList<>();
+    private       String                          roles              = "USER"; // Default role for new users
     @JsonManagedReference
-    private List<UserWorkWeek> userWorkWeeks  = new ArrayList<>();
+    private       List<UserWorkWeek>              userWorkWeeks      = new ArrayList<>();
 
     public User() {
         setId(UUID.randomUUID());
@@ -86,10 +93,12 @@ public class User extends AbstractTimeAware implements Comparable<User> {
         if (location.getState() == null)
             throw new IllegalArgumentException("start date is null");
         locations.add(location);
+        dayClassifications.clear();
     }
 
     public void addOffday(OffDay offDay) {
         offDays.add(offDay);
+        dayClassifications.clear();
     }
 
     /**
@@ -117,6 +126,7 @@ public class User extends AbstractTimeAware implements Comparable<User> {
         if (userWorkWeek.getWorkWeek() == null)
             throw new IllegalArgumentException("work week is null");
         userWorkWeeks.add(userWorkWeek);
+        dayClassifications.clear();
     }
 
     /**
@@ -205,13 +215,31 @@ public class User extends AbstractTimeAware implements Comparable<User> {
      */
     @JsonIgnore
     public String getAvatarUrl(boolean dark) {
+        return getAvatarUrl(dark, AvatarVariant.GRID);
+    }
+
+    /**
+     * Get the avatar URL of the given theme and size variant.
+     * The avatar proxies serve {@link AvatarVariant#GRID} by default, other variants are requested with a {@code v} parameter.
+     *
+     * @param dark    {@code true} to request the dark-background avatar variant
+     * @param variant the size variant that covers the css size the avatar is shown at
+     * @return The avatar URL with hash parameter for cache-busting
+     */
+    @JsonIgnore
+    public String getAvatarUrl(boolean dark, AvatarVariant variant) {
+        String url;
         if (dark && darkAvatarHash != null && !darkAvatarHash.isEmpty()) {
-            return "/frontend/dark-avatar-proxy/user/" + id + "?h=" + darkAvatarHash;
+            url = "/frontend/dark-avatar-proxy/user/" + id + "?h=" + darkAvatarHash;
+        } else {
+            // Light variant (or dark fallback when dark avatar not yet available)
+            url = "/frontend/avatar-proxy/user/" + id;
+            if (lightAvatarHash != null && !lightAvatarHash.isEmpty()) {
+                url += "?h=" + lightAvatarHash;
+            }
         }
-        // Light variant (or dark fallback when dark avatar not yet available)
-        String url = "/frontend/avatar-proxy/user/" + id;
-        if (lightAvatarHash != null && !lightAvatarHash.isEmpty()) {
-            url += "?h=" + lightAvatarHash;
+        if (variant != AvatarVariant.GRID) {
+            url += (url.contains("?") ? "&" : "?") + "v=" + variant;
         }
         return url;
     }
@@ -232,6 +260,18 @@ public class User extends AbstractTimeAware implements Comparable<User> {
 //        return "close-up portrait of '" + userName + "' for a profile picture, photo quality, sharp focus, high resolution, 8k resolution, 50mm lens";
     }
 
+    /**
+     * Returns the type of every day of the given year, built from the calendar on first use.
+     * The result is cached until the calendar is initialized or replaced, or off days, locations or work weeks are added, removed or replaced.
+     *
+     * @param year the year
+     * @return the classification of the year
+     */
+    @JsonIgnore
+    public DayClassification getDayClassification(int year) {
+        return dayClassifications.computeIfAbsent(year, y -> new DayClassification(this, y));
+    }
+
     /**
      * Return the default negative prompt used when generating dark-background avatars.
      *
@@ -420,6 +460,7 @@ public class User extends AbstractTimeAware implements Comparable<User> {
                 pce.setName(String.format("%s (%s/%s)", holiday.getDescription(), location.getCountry(), location.getState()));
             }
         }
+        dayClassifications.clear();// the calendar changed
     }
 
     /**
@@ -444,10 +485,12 @@ public class User extends AbstractTimeAware implements Comparable<User> {
 
     public void removeLocation(Location location) {
         locations.remove(location);
+        dayClassifications.clear();
     }
 
     public void removeOffDay(OffDay offDay) {
         offDays.remove(offDay);
+        dayClassifications.clear();
     }
 
     /**
@@ -469,6 +512,22 @@ public class User extends AbstractTimeAware implements Comparable<User> {
      */
     public void removeUserWorkWeek(UserWorkWeek userWorkWeek) {
         userWorkWeeks.remove(userWorkWeek);
+        dayClassifications.clear();
+    }
+
+    public void setCalendar(ProjectCalendar calendar) {
+        this.calendar = calendar;
+        dayClassifications.clear();
+    }
+
+    public void setLocations(List<Location> locations) {
+        this.locations = locations;
+        dayClassifications.clear();
+    }
+
+    public void setOffDays(List<OffDay> offDays) {
+        this.offDays = offDays;
+        dayClassifications.clear();
     }
 
     /**
@@ -483,4 +542,9 @@ public class User extends AbstractTimeAware implements Comparable<User> {
                 .collect(Collectors.joining(","));
     }
 
+    public void setUserWorkWeeks(List<UserWorkWeek> userWorkWeeks) {
+        this.userWorkWeeks = userWorkWeeks;
+        dayClassifications.clear();
+    }
+
 }
@@ -0,0 +1,44 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package de.bushnaq.abdalla.kassandra.dto;
+
+import lombok.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Daily rollup of the worklogs of one task, see {@link de.bushnaq.abdalla.kassandra.dao.WorklogDayDAO}.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString(callSuper = true)
+@EqualsAndHashCode(of = {"id"}, callSuper = false)
+public class WorklogDay extends AbstractTimeAware {
+
+    private LocalDate      day;
+    private UUID           id;
+    private OffsetDateTime lastStart;//start of the latest worklog of the day
+    private UUID           sprintId;
+    private UUID           taskId;
+    private Duration       timeRemainingEstimate;
+    private Duration       timeSpent;
+    private int            worklogCount;
+}
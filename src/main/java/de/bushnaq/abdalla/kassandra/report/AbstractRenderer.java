@@ -23,6 +23,8 @@ import de.bushnaq.abdalla.kassandra.report.dao.*;
 import de.bushnaq.abdalla.kassandra.report.dao.theme.Theme;
 import de.bushnaq.abdalla.svg.util.ExtendedGraphics2D;
 import de.bushnaq.abdalla.util.date.DateUtil;
+import de.bushnaq.abdalla.util.date.WorkingDayIndex;
+import net.sf.mpxj.ProjectCalendar;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,6 +33,8 @@ import java.io.IOException;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 
 /**
@@ -56,6 +60,7 @@ public abstract class AbstractRenderer {
     protected final        Logger             logger                     = LoggerFactory.getLogger(this.getClass());
     public                 Milestones         milestones;
     public                 Theme              theme;
+    private final          Map<ProjectCalendar, WorkingDayIndex> workingDayIndices = new IdentityHashMap<>();// one index per calendar over the chart horizon
 
     public AbstractRenderer() {
 
@@ -122,6 +127,20 @@ public abstract class AbstractRenderer {
         return dayX + timeOfDayX;
     }
 
+    /**
+     * Looks up working days through a per calendar index over the chart horizon instead of asking the mpxj calendar for every day of every task.
+     *
+     * @param calendar the calendar of the task or user
+     * @param day      the day
+     * @return true if the day is a working day in the calendar
+     */
+    protected boolean isWorkingDate(ProjectCalendar calendar, LocalDate day) {
+        if (milestones == null || milestones.firstMilestone == null || milestones.lastMilestone == null) {
+            return calendar.isWorkingDate(day);
+        }
+        return workingDayIndices.computeIfAbsent(calendar, c -> WorkingDayIndex.of(c, milestones.firstMilestone, milestones.lastMilestone)).isWorkingDate(day);
+    }
+
     public abstract void draw(ExtendedGraphics2D graphics2D, int x, int y) throws Exception;
 
     protected void drawAuthor(int x, int y, int with, Color fillColor, String text, Color textColor, Font font) {
@@ -31,6 +31,7 @@ import de.bushnaq.abdalla.svg.util.ExtendedGraphics2D;
 import de.bushnaq.abdalla.svg.util.ExtendedPolygon;
 import de.bushnaq.abdalla.util.ErrorException;
 import de.bushnaq.abdalla.util.date.DateUtil;
+import net.sf.mpxj.ProjectCalendar;
 import org.apache.xmlgraphics.java2d.color.ColorUtil;
 
 import java.awt.*;
@@ -244,9 +245,10 @@ public class BurnDownRenderer extends AbstractRenderer {
                                 }
                             }
                             if (startDayIndex + 1 < stopDayIndex) {
+                                ProjectCalendar calendar = task.getEffectiveCalendar();
                                 for (int index = startDayIndex + 1; index < stopDayIndex; index++) {
                                     LocalDate today = calculateDayFromIndex(index);
-                                    if (task.getEffectiveCalendar().isWorkingDate(today))
+                                    if (isWorkingDate(calendar, today))
 //                                    if (isResourceWorkingDay(context, task.getAssignedUser(), today))
                                     {
                                         Duration work = Duration.ofSeconds((long) (availability.doubleValue() * SECONDS_PER_WORKING_DAY));
@@ -0,0 +1,72 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.report.calendar;
+
+import de.bushnaq.abdalla.kassandra.dto.OffDayType;
+import net.sf.mpxj.ProjectCalendarException;
+
+/**
+ * Type of a calendar day as shown by the calendar and gantt renderers.
+ * The ordinal is the type code of a day in {@code year-calendar.js}, new types are appended.
+ */
+public enum CalendarDayType {
+    WORKING(null),
+    WEEKEND(null),
+    HOLIDAY("H"),
+    VACATION("V"),
+    SICK("S"),
+    TRIP("T");
+
+    private final String letter;
+
+    CalendarDayType(String letter) {
+        this.letter = letter;
+    }
+
+    /**
+     * Maps a calendar exception to its day type, exceptions that are not off days are holidays.
+     *
+     * @param exception the exception, not null
+     * @return the day type
+     */
+    public static CalendarDayType of(ProjectCalendarException exception) {
+        String name = exception.getName();
+        if (OffDayType.VACATION.name().equals(name)) {
+            return VACATION;
+        } else if (OffDayType.SICK.name().equals(name)) {
+            return SICK;
+        } else if (OffDayType.TRIP.name().equals(name)) {
+            return TRIP;
+        }
+        return HOLIDAY;
+    }
+
+    /**
+     * @return the letter drawn into off days in the gantt chart, null for working days and weekends
+     */
+    public String getLetter() {
+        return letter;
+    }
+
+    /**
+     * @return true if the day is a calendar exception (holiday, vacation, sick leave or business trip)
+     */
+    public boolean isException() {
+        return letter != null;
+    }
+}
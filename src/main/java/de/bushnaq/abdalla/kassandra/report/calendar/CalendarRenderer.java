@@ -18,13 +18,11 @@
 package de.bushnaq.abdalla.kassandra.report.calendar;
 
 import de.bushnaq.abdalla.kassandra.Context;
-import de.bushnaq.abdalla.kassandra.dto.OffDayType;
 import de.bushnaq.abdalla.kassandra.dto.User;
 import de.bushnaq.abdalla.kassandra.report.AbstractRenderer;
 import de.bushnaq.abdalla.kassandra.report.dao.theme.Theme;
 import de.bushnaq.abdalla.svg.util.ExtendedGraphics2D;
 import net.sf.mpxj.ProjectCalendar;
-import net.sf.mpxj.ProjectCalendarException;
 
 import java.awt.*;
 import java.awt.font.TextAttribute;
@@ -95,6 +93,8 @@ public class CalendarRenderer extends AbstractRenderer {
         // Fonts
         Font smallFont = new Font(Font.SANS_SERIF, Font.PLAIN, 6);
 
+        DayClassification days = user.getDayClassification(year);
+
         int yearTextHeight = drawYear(graphics2D, year, x, y);
 
         // Calculate offset for calendar to position below the year text
@@ -157,8 +157,7 @@ public class CalendarRenderer extends AbstractRenderer {
                 int dayCenterX = dayX + (DAY_SIZE / 2);
                 int dayCenterY = dayY + (DAY_SIZE / 2) - 6; // Adjusted to center the text better
 
-                ProjectCalendar pc        = user.getCalendar();
-                boolean         isWeekend = !pc.isWorkingDay(currentDate.getDayOfWeek());
+                boolean isWeekend = days.isWeekend(currentDate);
                 // Check if today
                 boolean isToday = currentDate.equals(today);
 
@@ -170,26 +169,29 @@ public class CalendarRenderer extends AbstractRenderer {
                     bgColor   = kassandraTheme.calendarTheme.weekendBgColor;
                     textColor = kassandraTheme.calendarTheme.weekendTextColor;
                 } else {
-                    ProjectCalendarException exception = pc.getException(currentDate);
-                    if (exception != null) {
-                        String name = exception.getName();
-                        if (name.equals(OffDayType.VACATION.name())) {
+                    switch (days.getType(currentDate)) {
+                        case VACATION -> {
                             bgColor   = kassandraTheme.calendarTheme.vacationBgColor;
                             textColor = kassandraTheme.calendarTheme.vacationTextColor;
                             vacationDays++;
-                        } else if (name.equals(OffDayType.SICK.name())) {
+                        }
+                        case SICK -> {
                             bgColor   = kassandraTheme.calendarTheme.sickBgColor;
                             textColor = kassandraTheme.calendarTheme.sickTextColor;
                             sickDays++;
-                        } else if (name.equals(OffDayType.TRIP.name())) {
+                        }
+                        case TRIP -> {
                             bgColor   = kassandraTheme.calendarTheme.tripBgColor;
                             textColor = kassandraTheme.calendarTheme.tripTextColor;
                             tripDays++;
-                        } else {
+                        }
+                        case HOLIDAY -> {
                             bgColor   = kassandraTheme.calendarTheme.holidayBgColor;
                             textColor = kassandraTheme.calendarTheme.holidayTextColor;
                             this.holidays++;
                         }
+                        default -> {
+                        }
                     }
                 }
 
@@ -0,0 +1,102 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.report.calendar;
+
+import de.bushnaq.abdalla.kassandra.dto.User;
+import de.bushnaq.abdalla.kassandra.dto.UserWorkWeek;
+import de.bushnaq.abdalla.kassandra.dto.WorkDaySchedule;
+import lombok.Getter;
+import net.sf.mpxj.ProjectCalendar;
+import net.sf.mpxj.ProjectCalendarException;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Type of every day of one year for one user.
+ * <p>
+ * Built once from the user's MPXJ calendar exceptions and work weeks, so renderers do not query the calendar and compare
+ * exception names for every day they draw. Use {@link User#getDayClassification(int)}, it caches the classification until
+ * the off days, locations or work weeks of the user change.
+ */
+public class DayClassification {
+    private final BitSet            nonWorkingWeekDays = new BitSet();//by work week, ignoring exceptions
+    private final CalendarDayType[] types;
+    @Getter
+    private final int               year;
+
+    public DayClassification(User user, int year) {
+        this.year = year;
+        ProjectCalendar    pc        = user.getCalendar();
+        LocalDate          yearStart = LocalDate.of(year, 1, 1);
+        List<UserWorkWeek> weeks     = user.getUserWorkWeeks().stream().sorted(Comparator.comparing(UserWorkWeek::getStart)).toList();
+        int                next      = 0;
+        UserWorkWeek       current   = weeks.isEmpty() ? null : weeks.getFirst();// the first work week is back-dated, like in the calendar
+        types = new CalendarDayType[yearStart.lengthOfYear()];
+        for (int i = 0; i < types.length; i++) {
+            LocalDate date = yearStart.plusDays(i);
+            while (next < weeks.size() && !weeks.get(next).getStart().isAfter(date)) {
+                current = weeks.get(next++);
+            }
+            boolean working;
+            if (current != null) {
+                WorkDaySchedule schedule = current.getWorkWeek() == null ? null : current.getWorkWeek().getScheduleForDay(date.getDayOfWeek());
+                working = current.getWorkWeek() == null || schedule != null && schedule.isWorkingDay();
+            } else {
+                // no work week, the default week of the calendar applies
+                working = pc == null || pc.isWorkingDay(date.getDayOfWeek());
+            }
+            if (!working) {
+                nonWorkingWeekDays.set(i);
+            }
+            ProjectCalendarException exception = pc == null ? null : pc.getException(date);
+            if (exception != null) {
+                types[i] = CalendarDayType.of(exception);
+            } else if (!working) {
+                types[i] = CalendarDayType.WEEKEND;
+            } else {
+                types[i] = CalendarDayType.WORKING;
+            }
+        }
+    }
+
+    private int indexOf(LocalDate date) {
+        if (date.getYear() != year) {
+            throw new IllegalArgumentException(String.format("%s is not in %d", date, year));
+        }
+        return date.getDayOfYear() - 1;
+    }
+
+    /**
+     * @param date a day of {@link #getYear()}
+     * @return the type of the day, calendar exceptions take precedence over the work week
+     */
+    public CalendarDayType getType(LocalDate date) {
+        return types[indexOf(date)];
+    }
+
+    /**
+     * @param date a day of {@link #getYear()}
+     * @return true if the day is a non-working day in the user's work week, ignoring holidays and off days
+     */
+    public boolean isWeekend(LocalDate date) {
+        return nonWorkingWeekDays.get(indexOf(date));
+    }
+}
@@ -17,7 +17,7 @@
 
 package de.bushnaq.abdalla.kassandra.report.dao;
 
-import de.bushnaq.abdalla.kassandra.dto.OffDayType;
+import de.bushnaq.abdalla.kassandra.report.calendar.CalendarDayType;
 import de.bushnaq.abdalla.kassandra.report.dao.theme.Theme;
 import net.sf.mpxj.ProjectCalendar;
 import net.sf.mpxj.ProjectCalendarException;
@@ -87,34 +87,30 @@ public class GraphColorUtil {
     public static Color getGanttDayStripeColor(Theme theme, ProjectCalendar pc, LocalDate currentDate) {
         if (currentDate.getDayOfWeek() == DayOfWeek.SATURDAY || currentDate.getDayOfWeek() == DayOfWeek.SUNDAY || pc.isWorkingDate(currentDate)) {
             return getDayOfWeekStripBgColor(theme, currentDate);
-        } else {
-            ProjectCalendarException exception = pc.getException(currentDate);
-            if (exception != null) {
-                if (exception.getName().equals(OffDayType.VACATION.name())) {
-                    return theme.ganttTheme.vacationBgColor;
-                } else if (exception.getName().equals(OffDayType.TRIP.name())) {
-                    return theme.ganttTheme.tripBgColor;
-                } else if (exception.getName().equals(OffDayType.SICK.name())) {
-                    return theme.ganttTheme.sickBgColor;
-                } else {
-                    return theme.ganttTheme.holidayBgColor;
-                }
-            }
-            return theme.xAxesTheme.dayOfMonthWeekendBgColor;
         }
+        ProjectCalendarException exception = pc.getException(currentDate);
+        return getGanttDayStripeColor(theme, exception != null ? CalendarDayType.of(exception) : CalendarDayType.WEEKEND, currentDate);
+    }
+
+    /**
+     * Same as {@link #getGanttDayStripeColor(Theme, ProjectCalendar, LocalDate)} for a day that was already classified.
+     */
+    public static Color getGanttDayStripeColor(Theme theme, CalendarDayType type, LocalDate currentDate) {
+        if (currentDate.getDayOfWeek() == DayOfWeek.SATURDAY || currentDate.getDayOfWeek() == DayOfWeek.SUNDAY || type == CalendarDayType.WORKING) {
+            return getDayOfWeekStripBgColor(theme, currentDate);
+        }
+        return switch (type) {
+            case VACATION -> theme.ganttTheme.vacationBgColor;
+            case TRIP -> theme.ganttTheme.tripBgColor;
+            case SICK -> theme.ganttTheme.sickBgColor;
+            case HOLIDAY -> theme.ganttTheme.holidayBgColor;
+            default -> theme.xAxesTheme.dayOfMonthWeekendBgColor;
+        };
     }
 
     public static String getOffDayLetter(ProjectCalendarException exception) {
         if (exception != null) {
-            if (exception.getName().equals(OffDayType.VACATION.name())) {
-                return "V";
-            } else if (exception.getName().equals(OffDayType.TRIP.name())) {
-                return "T";
-            } else if (exception.getName().equals(OffDayType.SICK.name())) {
-                return "S";
-            } else {
-                return "H";
-            }
+            return CalendarDayType.of(exception).getLetter();
         }
         return null;
     }
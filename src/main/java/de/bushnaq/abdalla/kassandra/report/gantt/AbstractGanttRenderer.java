@@ -117,7 +117,7 @@ public abstract class AbstractGanttRenderer extends AbstractRenderer {
         int days = (int) Duration.between(task.getStart().truncatedTo(ChronoUnit.DAYS), task.getFinish().truncatedTo(ChronoUnit.DAYS)).toDays();
         for (int day = 0; day <= days; day++) {
             LocalDateTime currentDay = task.getStart().truncatedTo(ChronoUnit.DAYS).plusDays(day);
-            if (pc.isWorkingDate(currentDay.toLocalDate())) {
+            if (isWorkingDate(pc, currentDay.toLocalDate())) {
                 if (days == 0) {
                     //this is the left and right end
                     graphics2D.fillRect(x1, y - getTaskHeight() / 2 + TASK_BODY_BORDER, x2 - x1 + 1, 1);//upper -
@@ -530,7 +530,7 @@ public abstract class AbstractGanttRenderer extends AbstractRenderer {
                 for (int day = 0; day <= days; day++) {
                     LocalDateTime currentDay = task.getStart().truncatedTo(ChronoUnit.DAYS).plusDays(day);
                     Shape         s;
-                    if (pc.isWorkingDate(currentDay.toLocalDate())) {
+                    if (isWorkingDate(pc, currentDay.toLocalDate())) {
                         graphics2D.setColor(fillColor);
                         if (days == 0) {
                             //this is the left and right end
@@ -22,6 +22,7 @@ import de.bushnaq.abdalla.kassandra.dto.Status;
 import de.bushnaq.abdalla.kassandra.dto.Task;
 import de.bushnaq.abdalla.kassandra.dto.User;
 import de.bushnaq.abdalla.kassandra.report.burndown.RenderDao;
+import de.bushnaq.abdalla.kassandra.report.calendar.CalendarDayType;
 import de.bushnaq.abdalla.kassandra.report.dao.AuthorContribution;
 import de.bushnaq.abdalla.kassandra.report.dao.GraphColorUtil;
 import de.bushnaq.abdalla.svg.util.ExtendedGraphics2D;
@@ -136,10 +137,17 @@ public class GanttRenderer extends AbstractGanttRenderer {
             }
             {
                 //background
-                graphics2D.setColor(GraphColorUtil.getGanttDayStripeColor(theme, pc, currentDay));
-                Shape s = new Rectangle(x1, y1, calendarXAxes.dayOfWeek.getWidth() - 1, getTaskHeight());
-
-                ProjectCalendarException exception = GraphColorUtil.getException(theme, pc, currentDay);
+                Shape                    s = new Rectangle(x1, y1, calendarXAxes.dayOfWeek.getWidth() - 1, getTaskHeight());
+                ProjectCalendarException exception;
+                if (task.getAssignedUser() != null) {
+                    // classified once per user and year instead of querying the calendar for every task and day
+                    CalendarDayType type = task.getAssignedUser().getDayClassification(currentDay.getYear()).getType(currentDay);
+                    graphics2D.setColor(GraphColorUtil.getGanttDayStripeColor(theme, type, currentDay));
+                    exception = type.isException() ? GraphColorUtil.getException(theme, pc, currentDay) : null;// only needed for the tooltip
+                } else {
+                    graphics2D.setColor(GraphColorUtil.getGanttDayStripeColor(theme, pc, currentDay));
+                    exception = GraphColorUtil.getException(theme, pc, currentDay);
+                }
                 if (exception != null) {
                     String letter = GraphColorUtil.getOffDayLetter(exception);
                     if (letter != null) {
@@ -31,9 +31,7 @@ import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.HashSet;
-import java.util.Objects;
-import java.util.Set;
+import java.util.*;
 
 import static java.time.temporal.ChronoUnit.SECONDS;
 
@@ -49,6 +47,7 @@ public class GanttUtil {
     private final        DateUtil  localDateTimeUtil                                                       = new DateUtil();
     private final        Logger    logger                                                                  = LoggerFactory.getLogger(this.getClass());
     private final        Set<Task> manualSet                                                               = new HashSet<>();
+    private final        Map<ProjectCalendar, Map<LocalDateTime, LocalDateTime>> nextWorkStartCache        = new IdentityHashMap<>();// leveling asks the same calendar for the same dates over and over
     int maxLoop;
     //    private              ProjectProperties projectProperties                                                       = null;
     private final Set<Task> startSet = new HashSet<>();
@@ -392,6 +391,7 @@ public class GanttUtil {
     public void levelResources(GanttErrorHandler eh, Sprint sprint, String projectRequestKey, LocalDateTime currentStartTime) {
         logger.info("-------------------------------------------------------------------------------------------");
         logger.info(String.format("Leveling resources for sprint %s.", sprint.getName()));
+        nextWorkStartCache.clear();//calendars might have changed since the last run
         prepareForLeveling(sprint);
 //        for (Task task : sprint.getTasks()) {
 //            logger.info(" task={} {} start={} finish={}", task.getName(), task.getKey(), task.getStart(), task.getFinish());
@@ -462,7 +462,7 @@ public class GanttUtil {
                             if (!isManual(task) && !hasChildTasks(task)) {
                                 if (start != null) {
                                     ProjectCalendar calendar = getCalendar(task);
-                                    start = calendar.getNextWorkStart(start);//ensure we are not starting on a none-working-day
+                                    start = nextWorkStart(calendar, start);//ensure we are not starting on a none-working-day
                                     if (!equals(getCalendar(task), start, task.getStart())) {
                                         setStart(eh, task, start);
                                         anythingChanged = true;
@@ -530,7 +530,7 @@ public class GanttUtil {
                                 LocalDateTime   finish   = getLastChildFinish(task);
                                 ProjectCalendar calendar = getCalendar(task);
                                 if (start != null) {
-                                    start = calendar.getNextWorkStart(start);
+                                    start = nextWorkStart(calendar, start);
                                     if (!equals(calendar, start, task.getStart())) {
                                         setStart(eh, task, start);
                                         anythingChanged = true;
@@ -557,7 +557,7 @@ public class GanttUtil {
                             if (start != null) {
                                 //TODO reintroduce calendar fixed
                                 ProjectCalendar calendar = getCalendar(task);
-                                start = calendar.getNextWorkStart(start);
+                                start = nextWorkStart(calendar, start);
                                 if (!equals(calendar, start, task.getStart())) {
 
                                     setStart(eh, task, start);
@@ -640,6 +640,13 @@ public class GanttUtil {
         logger.trace(String.format("executed %d checks to mark critical path.", checks));
     }
 
+    /**
+     * Memoized {@link ProjectCalendar#getNextWorkStart(LocalDateTime)}, only valid during one leveling run.
+     */
+    private LocalDateTime nextWorkStart(ProjectCalendar calendar, LocalDateTime date) {
+        return nextWorkStartCache.computeIfAbsent(calendar, c -> new HashMap<>()).computeIfAbsent(date, calendar::getNextWorkStart);
+    }
+
     private boolean overlap(Task task1, Task task2) {
         //  s1   f1
         //s2   f2
@@ -717,7 +724,7 @@ public class GanttUtil {
 
     private void setStart(GanttErrorHandler eh, Task task, LocalDateTime endOfLastTask) {
         ProjectCalendar calendar = getCalendar(task);
-        LocalDateTime   start    = calendar.getNextWorkStart(endOfLastTask);
+        LocalDateTime   start    = nextWorkStart(calendar, endOfLastTask);
         task.setStart(start);
         if (task.isMilestone()) {
             task.setFinish(start);
@@ -0,0 +1,71 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.repository;
+
+import de.bushnaq.abdalla.kassandra.dao.AvatarImageDAO;
+import de.bushnaq.abdalla.kassandra.dto.AvatarTheme;
+import de.bushnaq.abdalla.kassandra.dto.AvatarVariant;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository for avatar images.
+ * <p>
+ * Images are read and deleted with explicit queries, the derived variants would load every matching entity including
+ * its image.
+ */
+public interface AvatarImageRepository extends ListCrudRepository<AvatarImageDAO, UUID> {
+
+    /**
+     * Delete all themes and variants of an avatar
+     *
+     * @param ownerId the id of the user, product, feature or sprint
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM AvatarImageDAO a WHERE a.ownerId = :ownerId")
+    void deleteByOwnerId(@Param("ownerId") UUID ownerId);
+
+    /**
+     * Delete all variants of one theme of an avatar
+     *
+     * @param ownerId the id of the user, product, feature or sprint
+     * @param theme   the theme
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM AvatarImageDAO a WHERE a.ownerId = :ownerId AND a.theme = :theme")
+    void deleteByOwnerIdAndTheme(@Param("ownerId") UUID ownerId, @Param("theme") AvatarTheme theme);
+
+    /**
+     * Read the bytes of one theme and size variant of an avatar
+     *
+     * @param ownerId the id of the user, product, feature or sprint
+     * @param theme   the theme
+     * @param variant the size variant
+     * @return PNG bytes, or empty if no such image was stored
+     */
+    @Query("SELECT a.image FROM AvatarImageDAO a WHERE a.ownerId = :ownerId AND a.theme = :theme AND a.variant = :variant")
+    Optional<byte[]> findImage(@Param("ownerId") UUID ownerId, @Param("theme") AvatarTheme theme, @Param("variant") AvatarVariant variant);
+}
@@ -18,14 +18,26 @@
 package de.bushnaq.abdalla.kassandra.repository;
 
 import de.bushnaq.abdalla.kassandra.dao.FeatureAvatarDAO;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.ListCrudRepository;
 
-import java.util.Optional;
+import java.util.List;
 import java.util.UUID;
 
+/**
+ * Repository for the legacy {@link FeatureAvatarDAO} table, only used to migrate existing avatars into
+ * {@link AvatarImageRepository}.
+ */
 public interface FeatureAvatarRepository extends ListCrudRepository<FeatureAvatarDAO, UUID> {
-    void deleteByFeatureId(UUID featureId);
 
-    Optional<FeatureAvatarDAO> findByFeatureId(UUID featureId);
+    /**
+     * Read ids only, the migration pages through the table without loading the images of all rows.
+     *
+     * @param pageable the page
+     * @return ids of the legacy rows
+     */
+    @Query("SELECT a.id FROM FeatureAvatarDAO a ORDER BY a.id")
+    List<UUID> findIds(Pageable pageable);
 }
 
@@ -0,0 +1,45 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.repository;
+
+import de.bushnaq.abdalla.kassandra.ai.stablediffusion.ImageGenerationJobStatus;
+import de.bushnaq.abdalla.kassandra.dao.ImageGenerationJobDAO;
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ImageGenerationJobRepository extends ListCrudRepository<ImageGenerationJobDAO, UUID> {
+
+    /**
+     * Deletes all jobs in the given state that were last updated before the given time.
+     *
+     * @param status  the job state
+     * @param updated the threshold
+     * @return number of deleted jobs
+     */
+    @Transactional
+    long deleteByStatusAndUpdatedBefore(ImageGenerationJobStatus status, OffsetDateTime updated);
+
+    List<ImageGenerationJobDAO> findByStatus(ImageGenerationJobStatus status);
+
+    Optional<ImageGenerationJobDAO> findFirstByJobKeyAndStatus(String jobKey, ImageGenerationJobStatus status);
+}
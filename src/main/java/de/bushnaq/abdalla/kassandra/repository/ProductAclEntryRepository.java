@@ -81,13 +81,16 @@ public interface ProductAclEntryRepository extends ListCrudRepository<ProductAcl
 
     /**
      * Find all product IDs that a user has access to (either directly or through groups)
+     * <p>
+     * Written as union so that both branches can use an index, an OR across user_id and group_id would scan the table.
      *
      * @param userId the user ID
      * @return list of product IDs
      */
-    @Query("SELECT DISTINCT acl.productId FROM ProductAclEntryDAO acl " +
-            "WHERE acl.userId = :userId OR acl.groupId IN " +
-            "(SELECT g.id FROM UserGroupDAO g WHERE :userId MEMBER OF g.memberIds)")
+    @Query("SELECT acl.productId FROM ProductAclEntryDAO acl WHERE acl.userId = :userId " +
+            "UNION " +
+            "SELECT acl.productId FROM ProductAclEntryDAO acl WHERE acl.groupId IN " +
+            "(SELECT g.id FROM UserGroupDAO g JOIN g.memberIds m WHERE m = :userId)")
     List<UUID> findProductIdsByUserAccess(@Param("userId") UUID userId);
 
     /**
@@ -101,7 +104,7 @@ public interface ProductAclEntryRepository extends ListCrudRepository<ProductAcl
             "FROM ProductAclEntryDAO acl " +
             "WHERE acl.productId = :productId AND " +
             "(acl.userId = :userId OR acl.groupId IN " +
-            "(SELECT g.id FROM UserGroupDAO g WHERE :userId MEMBER OF g.memberIds))")
+            "(SELECT g.id FROM UserGroupDAO g JOIN g.memberIds m WHERE m = :userId))")
     boolean hasUserAccessToProduct(
             @Param("productId") UUID productId,
             @Param("userId") UUID userId
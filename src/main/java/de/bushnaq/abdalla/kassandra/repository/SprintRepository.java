@@ -18,8 +18,10 @@
 package de.bushnaq.abdalla.kassandra.repository;
 
 import de.bushnaq.abdalla.kassandra.dao.SprintDAO;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.ListCrudRepository;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -43,4 +45,12 @@ public interface SprintRepository extends ListCrudRepository<SprintDAO, UUID> {
     SprintDAO findByName(String name);
 
     SprintDAO findByNameAndFeatureId(String name, UUID featureId);
+
+    /**
+     * Latest modification time of any sprint, together with {@link #count()} it identifies the version of the sprint table.
+     *
+     * @return the latest updated timestamp or null if there are no sprints
+     */
+    @Query("SELECT MAX(s.updated) FROM SprintDAO s")
+    OffsetDateTime findMaxUpdated();
 }
\ No newline at end of file
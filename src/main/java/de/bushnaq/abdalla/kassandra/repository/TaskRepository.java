@@ -18,6 +18,7 @@
 package de.bushnaq.abdalla.kassandra.repository;
 
 import de.bushnaq.abdalla.kassandra.dao.TaskDAO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.ListCrudRepository;
 import org.springframework.data.repository.query.Param;
@@ -33,6 +34,15 @@ public interface TaskRepository extends ListCrudRepository<TaskDAO, UUID> {
 
     List<TaskDAO> findBySprintIdOrderByOrderIdAsc(UUID sprintId);
 
+    /**
+     * One page of the tasks of a sprint, used to export large sprints without loading all tasks at once.
+     *
+     * @param sprintId the sprint ID
+     * @param pageable the page, should be sorted by a unique key to get a stable order
+     * @return the tasks of the page
+     */
+    List<TaskDAO> findBySprintId(UUID sprintId, Pageable pageable);
+
     /**
      * Find all tasks that are direct children of the given parent task.
      *
@@ -52,4 +62,22 @@ public interface TaskRepository extends ListCrudRepository<TaskDAO, UUID> {
 
     @Query("SELECT COALESCE(MAX(t.orderId), -1) FROM TaskDAO t where sprintId=:sprintId")
     Integer findMaxOrderId(UUID sprintId);
+
+    /**
+     * Find the sprints the given tasks currently belong to.
+     *
+     * @param ids the task IDs
+     * @return the distinct sprint IDs
+     */
+    @Query("SELECT DISTINCT t.sprintId FROM TaskDAO t WHERE t.id IN :ids")
+    List<UUID> findSprintIdsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Find the current optimistic locking version of the given tasks.
+     *
+     * @param ids the task IDs
+     * @return pairs of task ID and version
+     */
+    @Query("SELECT t.id, t.version FROM TaskDAO t WHERE t.id IN :ids")
+    List<Object[]> findVersionsByIdIn(@Param("ids") Collection<UUID> ids);
 }
\ No newline at end of file
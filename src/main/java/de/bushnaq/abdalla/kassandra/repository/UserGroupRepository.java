@@ -71,7 +71,7 @@ public interface UserGroupRepository extends ListCrudRepository<UserGroupDAO, UU
      * @param userId the user ID
      * @return list of groups containing this user
      */
-    @Query("SELECT g FROM UserGroupDAO g WHERE :userId MEMBER OF g.memberIds")
+    @Query("SELECT g FROM UserGroupDAO g JOIN g.memberIds m WHERE m = :userId")
     List<UserGroupDAO> findGroupsByUserId(@Param("userId") UUID userId);
 }
 
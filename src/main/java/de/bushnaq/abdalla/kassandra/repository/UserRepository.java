@@ -18,9 +18,11 @@
 package de.bushnaq.abdalla.kassandra.repository;
 
 import de.bushnaq.abdalla.kassandra.dao.UserDAO;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.ListCrudRepository;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -46,13 +48,29 @@ public interface UserRepository extends ListCrudRepository<UserDAO, UUID> {
      */
     boolean existsByNameAndIdNot(String name, UUID id);
 
+    /**
+     * Check if any user has the given role, without loading users and their collections.
+     *
+     * @param role The role to look for, e.g. "ADMIN"
+     * @return true if at least one user has the role
+     */
+    boolean existsByRolesContaining(String role);
+
+    /**
+     * Find the IDs of all users, without loading users and their collections.
+     *
+     * @return The IDs of all users
+     */
+    @Query("SELECT u.id FROM UserDAO u")
+    List<UUID> findAllIds();
+
     /**
      * Find user by email address, ignoring case sensitivity.
      *
      * @param email The email address to search for
      * @return An Optional containing the user if found, or empty if not found
      */
-    @Query("SELECT u FROM UserDAO u WHERE LOWER(u.email) = LOWER(:email)")
+    @Query("SELECT u FROM UserDAO u WHERE u.emailLower = LOWER(:email)")
     Optional<UserDAO> findByEmail(@Param("email") String email);
 
     Optional<UserDAO> findByName(String name);
@@ -69,4 +87,15 @@ public interface UserRepository extends ListCrudRepository<UserDAO, UUID> {
     @Query("SELECT DISTINCT u FROM UserDAO u WHERE u.id IN " +
             "(SELECT t.resourceId FROM TaskDAO t WHERE t.sprintId = :sprintId AND t.resourceId IS NOT NULL)")
     List<UserDAO> findBySprintId(@Param("sprintId") UUID sprintId);
+
+    /**
+     * Assign a role to all users that have none, in one statement.
+     *
+     * @param role The role to assign
+     * @return The number of updated users
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE UserDAO u SET u.roles = :role WHERE u.roles IS NULL OR u.roles = ''")
+    int setRolesWhereMissing(@Param("role") String role);
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package de.bushnaq.abdalla.kassandra.repository;
+
+import de.bushnaq.abdalla.kassandra.dao.WorklogDayDAO;
+import org.springframework.data.repository.ListCrudRepository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface WorklogDayRepository extends ListCrudRepository<WorklogDayDAO, UUID> {
+    void deleteBySprintId(UUID sprintId);
+
+    void deleteByTaskIdIn(Collection<UUID> taskIds);
+
+    List<WorklogDayDAO> findBySprintIdOrderByDayAsc(UUID sprintId);
+
+    Optional<WorklogDayDAO> findByTaskIdAndDay(UUID taskId, LocalDate day);
+}
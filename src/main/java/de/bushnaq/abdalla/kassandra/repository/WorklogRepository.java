@@ -18,11 +18,20 @@
 package de.bushnaq.abdalla.kassandra.repository;
 
 import de.bushnaq.abdalla.kassandra.dao.WorklogDAO;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.ListCrudRepository;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
 public interface WorklogRepository extends ListCrudRepository<WorklogDAO, UUID> {
     List<WorklogDAO> findBySprintId(UUID sprintId);
+
+    List<WorklogDAO> findByTaskId(UUID taskId);
+
+    List<WorklogDAO> findByTaskIdAndStartGreaterThanEqualAndStartLessThan(UUID taskId, OffsetDateTime from, OffsetDateTime to);
+
+    @Query("SELECT DISTINCT w.sprintId FROM WorklogDAO w")
+    List<UUID> findDistinctSprintIds();
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ package de.bushnaq.abdalla.kassandra.rest.api;
 
 import java.util.UUID;
 import de.bushnaq.abdalla.kassandra.rest.ErrorResponse;
+import de.bushnaq.abdalla.kassandra.security.AccessTokenCache;
 import de.bushnaq.abdalla.kassandra.security.SecurityConfig;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -39,6 +40,7 @@ import org.springframework.security.oauth2.client.OAuth2AuthorizedClientManager;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.security.oauth2.client.web.OAuth2AuthorizedClientRepository;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.web.client.*;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -59,6 +61,8 @@ import java.util.stream.Collectors;
 public class AbstractApi {
     private static final Logger                           logger = LoggerFactory.getLogger(AbstractApi.class);
     @Autowired(required = false)
+    protected            AccessTokenCache                 accessTokenCache;
+    @Autowired(required = false)
     protected            OAuth2AuthorizedClientManager    authorizedClientManager;
     @Autowired(required = false)
     protected            OAuth2AuthorizedClientRepository authorizedClientRepository;
@@ -118,76 +122,18 @@ public class AbstractApi {
 
             // Check if the authentication is OAuth2/OIDC
             if (authentication instanceof OAuth2AuthenticationToken oauth2Token) {
-                OAuth2AuthorizedClient client = null;
-
-                // Try to use the OAuth2AuthorizedClientManager first (supports automatic token refresh)
-                if (authorizedClientManager != null) {
-                    try {
-                        // Check if we're in a request context
-                        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-
-                        if (attributes != null) {
-                            // We have a servlet request context - use the manager with the request
-                            HttpServletRequest  request  = attributes.getRequest();
-                            HttpServletResponse response = attributes.getResponse();
-
-                            // Build an authorize request with servlet request and response
-                            OAuth2AuthorizeRequest.Builder authorizeRequestBuilder = OAuth2AuthorizeRequest
-                                    .withClientRegistrationId(oauth2Token.getAuthorizedClientRegistrationId())
-                                    .principal(oauth2Token);
-
-                            // Add request and response as attributes
-                            authorizeRequestBuilder.attribute(HttpServletRequest.class.getName(), request);
-                            if (response != null) {
-                                authorizeRequestBuilder.attribute(HttpServletResponse.class.getName(), response);
-                            }
-
-                            OAuth2AuthorizeRequest authorizeRequest = authorizeRequestBuilder.build();
-
-                            // This call will automatically refresh the token if it's expired
-                            client = authorizedClientManager.authorize(authorizeRequest);
-
-                            if (client != null) {
-//                                logger.trace("Token loaded via OAuth2AuthorizedClientManager (supports auto-refresh)");
-                            }
-                        } else {
-                            // No request context available - fall back to service
-//                            logger.trace("No servlet request context available, falling back to OAuth2AuthorizedClientService");
-                            if (authorizedClientService != null) {
-                                client = authorizedClientService.loadAuthorizedClient(
-                                        oauth2Token.getAuthorizedClientRegistrationId(),
-                                        oauth2Token.getName());
-
-                                if (client != null) {
-//                                    logger.debug("Token loaded via OAuth2AuthorizedClientService (no auto-refresh in this context)");
-                                }
-                            }
-                        }
-                    } catch (Exception e) {
-                        logger.warn("Failed to use OAuth2AuthorizedClientManager: {}, falling back to service", e.getMessage());
-                        // Fallback to service
-                        if (authorizedClientService != null) {
-                            client = authorizedClientService.loadAuthorizedClient(
-                                    oauth2Token.getAuthorizedClientRegistrationId(),
-                                    oauth2Token.getName());
-                        }
-                    }
-                }
-                // Fallback to OAuth2AuthorizedClientService if manager not available (no auto-refresh)
-                else if (authorizedClientService != null) {
-                    client = authorizedClientService.loadAuthorizedClient(
-                            oauth2Token.getAuthorizedClientRegistrationId(),
-                            oauth2Token.getName());
-
-                    if (client != null) {
-                        logger.warn("Token loaded via OAuth2AuthorizedClientService (NO auto-refresh support)");
-                    }
+                OAuth2AccessToken accessToken;
+                if (accessTokenCache != null) {
+                    accessToken = accessTokenCache.get(oauth2Token.getAuthorizedClientRegistrationId(), oauth2Token.getName(), () -> loadAuthorizedClient(oauth2Token));
+                } else {
+                    OAuth2AuthorizedClient client = loadAuthorizedClient(oauth2Token);
+                    accessToken = client != null ? client.getAccessToken() : null;
                 }
 
-                if (client != null && client.getAccessToken() != null) {
+                if (accessToken != null) {
                     // Check if token is expired
-                    if (client.getAccessToken().getExpiresAt() != null) {
-                        java.time.Instant expiresAt          = client.getAccessToken().getExpiresAt();
+                    if (accessToken.getExpiresAt() != null) {
+                        java.time.Instant expiresAt          = accessToken.getExpiresAt();
                         java.time.Instant now                = java.time.Instant.now();
                         long              secondsUntilExpiry = java.time.Duration.between(now, expiresAt).getSeconds();
 
@@ -195,13 +141,7 @@ public class AbstractApi {
                             logger.error("Access token has EXPIRED for user {}. Expired {} seconds ago. Token will not work!",
                                     oauth2Token.getName(), Math.abs(secondsUntilExpiry));
                             logger.error("Token expiry time: {}, Current time: {}", expiresAt, now);
-
-                            // Check if we have a refresh token
-                            if (client.getRefreshToken() != null) {
-                                logger.error("Refresh token is available but was NOT used. Check OAuth2AuthorizedClientManager configuration!");
-                            } else {
-                                logger.error("No refresh token available. Cannot refresh the expired access token.");
-                            }
+                            logger.error("The access token could not be refreshed. Check OAuth2AuthorizedClientManager configuration and refresh token availability!");
                         } else if (secondsUntilExpiry < 60) {
                             logger.warn("Access token for user {} will expire in {} seconds",
                                     oauth2Token.getName(), secondsUntilExpiry);
@@ -211,7 +151,7 @@ public class AbstractApi {
                     }
 
                     // Use OAuth2 Bearer Token authentication
-                    String tokenValue = client.getAccessToken().getTokenValue();
+                    String tokenValue = accessToken.getTokenValue();
 
                     // Critical: Ensure token is properly formatted for JWT authentication
                     // Spring Security's JWT processing expects "Bearer" prefix
@@ -264,6 +204,78 @@ public class AbstractApi {
         return headers;
     }
 
+    /**
+     * Resolves the authorized client of the OAuth2 user, preferring the {@link OAuth2AuthorizedClientManager} as it refreshes expired tokens.
+     */
+    private OAuth2AuthorizedClient loadAuthorizedClient(OAuth2AuthenticationToken oauth2Token) {
+        OAuth2AuthorizedClient client = null;
+
+        // Try to use the OAuth2AuthorizedClientManager first (supports automatic token refresh)
+        if (authorizedClientManager != null) {
+            try {
+                // Check if we're in a request context
+                ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+
+                if (attributes != null) {
+                    // We have a servlet request context - use the manager with the request
+                    HttpServletRequest  request  = attributes.getRequest();
+                    HttpServletResponse response = attributes.getResponse();
+
+                    // Build an authorize request with servlet request and response
+                    OAuth2AuthorizeRequest.Builder authorizeRequestBuilder = OAuth2AuthorizeRequest
+                            .withClientRegistrationId(oauth2Token.getAuthorizedClientRegistrationId())
+                            .principal(oauth2Token);
+
+                    // Add request and response as attributes
+                    authorizeRequestBuilder.attribute(HttpServletRequest.class.getName(), request);
+                    if (response != null) {
+                        authorizeRequestBuilder.attribute(HttpServletResponse.class.getName(), response);
+                    }
+
+                    OAuth2AuthorizeRequest authorizeRequest = authorizeRequestBuilder.build();
+
+                    // This call will automatically refresh the token if it's expired
+                    client = authorizedClientManager.authorize(authorizeRequest);
+
+                    if (client != null) {
+//                                logger.trace("Token loaded via OAuth2AuthorizedClientManager (supports auto-refresh)");
+                    }
+                } else {
+                    // No request context available - fall back to service
+//                            logger.trace("No servlet request context available, falling back to OAuth2AuthorizedClientService");
+                    if (authorizedClientService != null) {
+                        client = authorizedClientService.loadAuthorizedClient(
+                                oauth2Token.getAuthorizedClientRegistrationId(),
+                                oauth2Token.getName());
+
+                        if (client != null) {
+//                                    logger.debug("Token loaded via OAuth2AuthorizedClientService (no auto-refresh in this context)");
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                logger.warn("Failed to use OAuth2AuthorizedClientManager: {}, falling back to service", e.getMessage());
+                // Fallback to service
+                if (authorizedClientService != null) {
+                    client = authorizedClientService.loadAuthorizedClient(
+                            oauth2Token.getAuthorizedClientRegistrationId(),
+                            oauth2Token.getName());
+                }
+            }
+        }
+        // Fallback to OAuth2AuthorizedClientService if manager not available (no auto-refresh)
+        else if (authorizedClientService != null) {
+            client = authorizedClientService.loadAuthorizedClient(
+                    oauth2Token.getAuthorizedClientRegistrationId(),
+                    oauth2Token.getName());
+
+            if (client != null) {
+                logger.warn("Token loaded via OAuth2AuthorizedClientService (NO auto-refresh support)");
+            }
+        }
+        return client;
+    }
+
     /**
      * Creates an HttpEntity with authentication headers for use with RestTemplate
      */
@@ -18,6 +18,7 @@
 package de.bushnaq.abdalla.kassandra.rest.api;
 
 import de.bushnaq.abdalla.kassandra.dto.AvatarUpdateRequest;
+import de.bushnaq.abdalla.kassandra.dto.AvatarVariant;
 import de.bushnaq.abdalla.kassandra.dto.AvatarWrapper;
 import de.bushnaq.abdalla.kassandra.dto.Feature;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -105,16 +106,18 @@ public class FeatureApi extends AbstractApi {
      * Get avatar image bytes for a feature.
      *
      * @param featureId The feature ID
+     * @param variant   The size variant
      * @return The avatar image as byte array, or null if not found
      */
-    public AvatarWrapper getAvatarImage(UUID featureId) {
+    public AvatarWrapper getAvatarImage(UUID featureId, AvatarVariant variant) {
         try {
             ResponseEntity<AvatarWrapper> response = executeWithErrorHandling(() -> restTemplate.exchange(
-                    getBaseUrl() + "/feature/{id}/avatar",
+                    getBaseUrl() + "/feature/{id}/avatar?variant={variant}",
                     HttpMethod.GET,
                     createHttpEntity(),
                     AvatarWrapper.class,
-                    featureId
+                    featureId,
+                    variant
             ));
             return response.getBody();
         } catch (Exception e) {
@@ -127,16 +130,18 @@ public class FeatureApi extends AbstractApi {
      * The server falls back to the light image automatically if no dark variant has been stored yet.
      *
      * @param featureId The feature ID
+     * @param variant   The size variant
      * @return The dark avatar image (or light fallback), or null if not found
      */
-    public AvatarWrapper getDarkAvatarImage(UUID featureId) {
+    public AvatarWrapper getDarkAvatarImage(UUID featureId, AvatarVariant variant) {
         try {
             ResponseEntity<AvatarWrapper> response = executeWithErrorHandling(() -> restTemplate.exchange(
-                    getBaseUrl() + "/feature/{id}/dark-avatar",
+                    getBaseUrl() + "/feature/{id}/dark-avatar?variant={variant}",
                     HttpMethod.GET,
                     createHttpEntity(),
                     AvatarWrapper.class,
-                    featureId
+                    featureId,
+                    variant
             ));
             return response.getBody();
         } catch (Exception e) {
@@ -18,6 +18,7 @@
 package de.bushnaq.abdalla.kassandra.rest.api;
 
 import de.bushnaq.abdalla.kassandra.dto.AvatarUpdateRequest;
+import de.bushnaq.abdalla.kassandra.dto.AvatarVariant;
 import de.bushnaq.abdalla.kassandra.dto.AvatarWrapper;
 import de.bushnaq.abdalla.kassandra.dto.Product;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -104,16 +105,18 @@ public class ProductApi extends AbstractApi {
      * Get avatar image bytes for a product.
      *
      * @param productId The product ID
+     * @param variant   The size variant
      * @return The avatar image as byte array, or null if not found
      */
-    public AvatarWrapper getAvatarImage(UUID productId) {
+    public AvatarWrapper getAvatarImage(UUID productId, AvatarVariant variant) {
         try {
             ResponseEntity<AvatarWrapper> response = executeWithErrorHandling(() -> restTemplate.exchange(
-                    getBaseUrl() + "/product/{id}/avatar",
+                    getBaseUrl() + "/product/{id}/avatar?variant={variant}",
                     HttpMethod.GET,
                     createHttpEntity(),
                     AvatarWrapper.class,
-                    productId
+                    productId,
+                    variant
             ));
             return response.getBody();
         } catch (Exception e) {
@@ -126,16 +129,18 @@ public class ProductApi extends AbstractApi {
      * The server falls back to the light image automatically if no dark variant has been stored yet.
      *
      * @param productId The product ID
+     * @param variant   The size variant
      * @return The dark avatar image (or light fallback), or null if not found
      */
-    public AvatarWrapper getDarkAvatarImage(UUID productId) {
+    public AvatarWrapper getDarkAvatarImage(UUID productId, AvatarVariant variant) {
         try {
             ResponseEntity<AvatarWrapper> response = executeWithErrorHandling(() -> restTemplate.exchange(
-                    getBaseUrl() + "/product/{id}/dark-avatar",
+                    getBaseUrl() + "/product/{id}/dark-avatar?variant={variant}",
                     HttpMethod.GET,
                     createHttpEntity(),
                     AvatarWrapper.class,
-                    productId
+                    productId,
+                    variant
             ));
             return response.getBody();
         } catch (Exception e) {
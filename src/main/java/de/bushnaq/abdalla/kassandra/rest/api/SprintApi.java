@@ -18,8 +18,10 @@
 package de.bushnaq.abdalla.kassandra.rest.api;
 
 import de.bushnaq.abdalla.kassandra.dto.AvatarUpdateRequest;
+import de.bushnaq.abdalla.kassandra.dto.AvatarVariant;
 import de.bushnaq.abdalla.kassandra.dto.AvatarWrapper;
 import de.bushnaq.abdalla.kassandra.dto.Sprint;
+import de.bushnaq.abdalla.kassandra.dto.SprintStatisticsSnapshot;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpMethod;
@@ -108,16 +110,18 @@ public class SprintApi extends AbstractApi {
      * Get avatar image bytes for a sprint.
      *
      * @param sprintId The sprint ID
+     * @param variant  The size variant
      * @return The avatar image as byte array, or null if not found
      */
-    public AvatarWrapper getAvatarImage(UUID sprintId) {
+    public AvatarWrapper getAvatarImage(UUID sprintId, AvatarVariant variant) {
         try {
             ResponseEntity<AvatarWrapper> response = executeWithErrorHandling(() -> restTemplate.exchange(
-                    getBaseUrl() + "/sprint/{id}/avatar",
+                    getBaseUrl() + "/sprint/{id}/avatar?variant={variant}",
                     HttpMethod.GET,
                     createHttpEntity(),
                     AvatarWrapper.class,
-                    sprintId
+                    sprintId,
+                    variant
             ));
             return response.getBody();
         } catch (Exception e) {
@@ -131,16 +135,18 @@ public class SprintApi extends AbstractApi {
      * The server falls back to the light image automatically if no dark variant has been stored yet.
      *
      * @param sprintId The sprint ID
+     * @param variant  The size variant
      * @return The dark avatar image (or light fallback), or null if not found
      */
-    public AvatarWrapper getDarkAvatarImage(UUID sprintId) {
+    public AvatarWrapper getDarkAvatarImage(UUID sprintId, AvatarVariant variant) {
         try {
             ResponseEntity<AvatarWrapper> response = executeWithErrorHandling(() -> restTemplate.exchange(
-                    getBaseUrl() + "/sprint/{id}/dark-avatar",
+                    getBaseUrl() + "/sprint/{id}/dark-avatar?variant={variant}",
                     HttpMethod.GET,
                     createHttpEntity(),
                     AvatarWrapper.class,
-                    sprintId
+                    sprintId,
+                    variant
             ));
             return response.getBody();
         } catch (Exception e) {
@@ -194,6 +200,21 @@ public class SprintApi extends AbstractApi {
         }
     }
 
+    /**
+     * Get the statistics of all sprints visible to the current user, except the Backlog sprint, in one call.
+     *
+     * @return one snapshot per sprint
+     */
+    public List<SprintStatisticsSnapshot> getStatistics() {
+        ResponseEntity<SprintStatisticsSnapshot[]> response = executeWithErrorHandling(() -> restTemplate.exchange(
+                getBaseUrl() + "/sprint/statistics",
+                HttpMethod.GET,
+                createHttpEntity(),
+                SprintStatisticsSnapshot[].class
+        ));
+        return Arrays.asList(response.getBody());
+    }
+
     public Sprint persist(Sprint sprint) {
         ResponseEntity<Sprint> response = executeWithErrorHandling(() -> restTemplate.exchange(
                 getBaseUrl() + "/sprint",
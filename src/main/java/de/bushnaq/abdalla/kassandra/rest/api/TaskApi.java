@@ -18,6 +18,8 @@
 package de.bushnaq.abdalla.kassandra.rest.api;
 
 import de.bushnaq.abdalla.kassandra.dto.Task;
+import de.bushnaq.abdalla.kassandra.dto.TaskReorder;
+import de.bushnaq.abdalla.kassandra.dto.TaskReorderResult;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
@@ -25,10 +27,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import tools.jackson.databind.json.JsonMapper;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 public class TaskApi extends AbstractApi {
@@ -107,6 +107,65 @@ public class TaskApi extends AbstractApi {
         return response.getBody();
     }
 
+    /**
+     * Sends the position (order, parent and sprint) of the given tasks in a single HTTP call.
+     * <p>
+     * Prefer this over {@link #updateBatch(List, UUID)} for drag-and-drop reordering, it only transfers and writes the position
+     * and is rejected as a whole if any of the tasks was modified by someone else since it was loaded.
+     * </p>
+     *
+     * @param tasks    the reordered tasks
+     * @param sprintId the sprint the reordering happens in (used for server-side ACL check)
+     * @return the result, listing the conflicting tasks if the batch was rejected
+     */
+    public TaskReorderResult reorder(List<Task> tasks, UUID sprintId) {
+        if (tasks == null || tasks.isEmpty()) {
+            return new TaskReorderResult();
+        }
+        List<TaskReorder> changes = tasks.stream().map(TaskReorder::of).toList();
+        ResponseEntity<TaskReorderResult> response = executeWithErrorHandling(() -> restTemplate.exchange(
+                getBaseUrl() + "/task/sprint/{sprintId}/reorder",
+                HttpMethod.PUT,
+                createHttpEntity(changes),
+                TaskReorderResult.class,
+                sprintId
+        ));
+        TaskReorderResult result = response.getBody();
+        if (result != null && result.isApplied()) {
+            tasks.forEach(task -> task.setVersion(task.getVersion() + 1));
+        }
+        return result;
+    }
+
+    /**
+     * Writes the changes of a backlog editing session or drag-and-drop operation.
+     * <p>
+     * The positions of the moved tasks are written first with {@link #reorder}, including their versions. If that is
+     * rejected because someone else changed one of the tasks, nothing else is written. Otherwise new tasks are created and
+     * the edited tasks are updated with one {@link #updateBatch} call per sprint.
+     * </p>
+     *
+     * @param movedTasks  tasks whose order, parent or sprint changed
+     * @param editedTasks tasks whose other fields changed and tasks that were never saved
+     * @param sprintId    the sprint the changes are made in (used for server-side ACL check)
+     * @return the result of the reordering, listing the conflicting tasks if it was rejected
+     */
+    public TaskReorderResult saveChanges(Collection<Task> movedTasks, Collection<Task> editedTasks, UUID sprintId) {
+        TaskReorderResult result = reorder(movedTasks.stream().filter(task -> task.getId() != null).toList(), sprintId);
+        if (result != null && !result.isApplied()) {
+            return result;
+        }
+        Set<Task> newTasks = new LinkedHashSet<>();
+        movedTasks.stream().filter(task -> task.getId() == null).forEach(newTasks::add);
+        editedTasks.stream().filter(task -> task.getId() == null).forEach(newTasks::add);
+        newTasks.forEach(this::persist);
+        Map<UUID, List<Task>> editedBySprint = editedTasks.stream()
+                .filter(task -> task.getId() != null)
+                .collect(Collectors.groupingBy(Task::getSprintId, LinkedHashMap::new, Collectors.toList()));
+        editedBySprint.forEach((id, tasks) -> updateBatch(tasks, id));
+        return result != null ? result : new TaskReorderResult();
+    }
+
     public void update(Task task) {
         String a = task.getName();
         executeWithErrorHandling(() -> restTemplate.exchange(
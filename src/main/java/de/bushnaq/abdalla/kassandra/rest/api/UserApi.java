@@ -18,6 +18,7 @@
 package de.bushnaq.abdalla.kassandra.rest.api;
 
 import de.bushnaq.abdalla.kassandra.dto.AvatarUpdateRequest;
+import de.bushnaq.abdalla.kassandra.dto.AvatarVariant;
 import de.bushnaq.abdalla.kassandra.dto.AvatarWrapper;
 import de.bushnaq.abdalla.kassandra.dto.User;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -110,16 +111,18 @@ public class UserApi extends AbstractApi {
     /**
      * Get avatar image bytes for a user.
      *
-     * @param userId The user ID
+     * @param userId  The user ID
+     * @param variant The size variant
      * @return The light avatar image, or null if not found
      */
-    public AvatarWrapper getAvatarImage(UUID userId) {
+    public AvatarWrapper getAvatarImage(UUID userId, AvatarVariant variant) {
         ResponseEntity<AvatarWrapper> response = executeWithErrorHandling(() -> restTemplate.exchange(
-                getBaseUrl() + "/user/{id}/avatar",
+                getBaseUrl() + "/user/{id}/avatar?variant={variant}",
                 HttpMethod.GET,
                 createHttpEntity(),
                 AvatarWrapper.class,
-                userId
+                userId,
+                variant
         ));
         return response.getBody();
     }
@@ -128,16 +131,18 @@ public class UserApi extends AbstractApi {
      * Get the dark-mode avatar image bytes for a user.
      * The server falls back to the light image automatically if no dark variant has been stored yet.
      *
-     * @param userId The user ID
+     * @param userId  The user ID
+     * @param variant The size variant
      * @return The dark avatar image (or light fallback), or null if not found
      */
-    public AvatarWrapper getDarkAvatarImage(UUID userId) {
+    public AvatarWrapper getDarkAvatarImage(UUID userId, AvatarVariant variant) {
         ResponseEntity<AvatarWrapper> response = executeWithErrorHandling(() -> restTemplate.exchange(
-                getBaseUrl() + "/user/{id}/dark-avatar",
+                getBaseUrl() + "/user/{id}/dark-avatar?variant={variant}",
                 HttpMethod.GET,
                 createHttpEntity(),
                 AvatarWrapper.class,
-                userId
+                userId,
+                variant
         ));
         return response.getBody();
     }
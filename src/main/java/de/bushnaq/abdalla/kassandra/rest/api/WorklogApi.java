@@ -18,6 +18,7 @@
 package de.bushnaq.abdalla.kassandra.rest.api;
 
 import de.bushnaq.abdalla.kassandra.dto.Worklog;
+import de.bushnaq.abdalla.kassandra.dto.WorklogDay;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
@@ -77,6 +78,17 @@ public class WorklogApi extends AbstractApi {
         return Arrays.asList(response.getBody());
     }
 
+    public List<Worklog> getAllByTask(UUID taskId) {
+        ResponseEntity<Worklog[]> response = executeWithErrorHandling(() -> restTemplate.exchange(
+                getBaseUrl() + "/worklog/task/{taskId}",
+                HttpMethod.GET,
+                createHttpEntity(),
+                Worklog[].class,
+                taskId
+        ));
+        return Arrays.asList(response.getBody());
+    }
+
     public Worklog getById(UUID id) {
         ResponseEntity<Worklog> response = executeWithErrorHandling(() -> restTemplate.exchange(
                 getBaseUrl() + "/worklog/{id}",
@@ -88,6 +100,23 @@ public class WorklogApi extends AbstractApi {
         return response.getBody();
     }
 
+    /**
+     * Daily worklog rollup of one sprint, one row per task and day.
+     *
+     * @param sprintId the sprint
+     * @return the rollup rows ordered by day
+     */
+    public List<WorklogDay> getRollup(UUID sprintId) {
+        ResponseEntity<WorklogDay[]> response = executeWithErrorHandling(() -> restTemplate.exchange(
+                getBaseUrl() + "/worklog/rollup/sprint/{sprintId}",
+                HttpMethod.GET,
+                createHttpEntity(),
+                WorklogDay[].class,
+                sprintId
+        ));
+        return Arrays.asList(response.getBody());
+    }
+
     public Worklog persist(Worklog worklog) {
         ResponseEntity<Worklog> response = executeWithErrorHandling(() -> restTemplate.exchange(
                 getBaseUrl() + "/worklog",
@@ -114,6 +143,33 @@ public class WorklogApi extends AbstractApi {
         return response.getBody();
     }
 
+    /**
+     * Rebuilds the daily worklog rollup of all sprints from the raw worklogs.
+     */
+    public void rebuildRollup() {
+        executeWithErrorHandling(() -> restTemplate.exchange(
+                getBaseUrl() + "/worklog/rollup/rebuild",
+                HttpMethod.POST,
+                createHttpEntity(),
+                Void.class
+        ));
+    }
+
+    /**
+     * Rebuilds the daily worklog rollup of one sprint from the raw worklogs.
+     *
+     * @param sprintId the sprint
+     */
+    public void rebuildRollup(UUID sprintId) {
+        executeWithErrorHandling(() -> restTemplate.exchange(
+                getBaseUrl() + "/worklog/rollup/rebuild/{sprintId}",
+                HttpMethod.POST,
+                createHttpEntity(),
+                Void.class,
+                sprintId
+        ));
+    }
+
     public void update(Worklog worklog) {
         executeWithErrorHandling(() -> restTemplate.exchange(
                 getBaseUrl() + "/worklog",
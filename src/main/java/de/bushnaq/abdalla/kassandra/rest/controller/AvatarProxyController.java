@@ -18,6 +18,7 @@
 package de.bushnaq.abdalla.kassandra.rest.controller;
 
 import java.util.UUID;
+import de.bushnaq.abdalla.kassandra.dto.AvatarVariant;
 import de.bushnaq.abdalla.kassandra.dto.AvatarWrapper;
 import de.bushnaq.abdalla.kassandra.rest.api.FeatureApi;
 import de.bushnaq.abdalla.kassandra.rest.api.ProductApi;
@@ -31,8 +32,16 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+/**
+ * Proxy controller that serves light avatar images from the Kassandra API to the Vaadin frontend.
+ * <p>
+ * The {@code v} parameter selects the {@link AvatarVariant}. Without it the {@link AvatarVariant#GRID} variant is served,
+ * which covers grid cells, cards and dialogs up to 24px. Page headers show avatars at 32px and request
+ * {@link AvatarVariant#HEADER}, see {@code getAvatarUrl(boolean, AvatarVariant)} of the dtos.
+ */
 @RestController
 @RequestMapping("/frontend/avatar-proxy")
 @Slf4j
@@ -51,8 +60,8 @@ public class AvatarProxyController {
     }
 
     @GetMapping("/feature/{featureId}")
-    public ResponseEntity<byte[]> proxyFeatureAvatar(@PathVariable("featureId") UUID featureId) {
-        AvatarWrapper avatarImage = featureApi.getAvatarImage(featureId);
+    public ResponseEntity<byte[]> proxyFeatureAvatar(@PathVariable("featureId") UUID featureId, @RequestParam(name = "v", defaultValue = "GRID") AvatarVariant variant) {
+        AvatarWrapper avatarImage = featureApi.getAvatarImage(featureId, variant);
         if (avatarImage == null || avatarImage.getAvatar() == null) {
             return ResponseEntity.notFound().build();
         }
@@ -63,8 +72,8 @@ public class AvatarProxyController {
     }
 
     @GetMapping("/product/{productId}")
-    public ResponseEntity<byte[]> proxyProductAvatar(@PathVariable("productId") UUID productId) {
-        AvatarWrapper avatarImage = productApi.getAvatarImage(productId);
+    public ResponseEntity<byte[]> proxyProductAvatar(@PathVariable("productId") UUID productId, @RequestParam(name = "v", defaultValue = "GRID") AvatarVariant variant) {
+        AvatarWrapper avatarImage = productApi.getAvatarImage(productId, variant);
         if (avatarImage == null || avatarImage.getAvatar() == null) {
             return ResponseEntity.notFound().build();
         }
@@ -75,8 +84,8 @@ public class AvatarProxyController {
     }
 
     @GetMapping("/sprint/{sprintId}")
-    public ResponseEntity<byte[]> proxySprintAvatar(@PathVariable("sprintId") UUID sprintId) {
-        AvatarWrapper avatarImage = sprintApi.getAvatarImage(sprintId);
+    public ResponseEntity<byte[]> proxySprintAvatar(@PathVariable("sprintId") UUID sprintId, @RequestParam(name = "v", defaultValue = "GRID") AvatarVariant variant) {
+        AvatarWrapper avatarImage = sprintApi.getAvatarImage(sprintId, variant);
         if (avatarImage == null || avatarImage.getAvatar() == null) {
             return ResponseEntity.notFound().build();
         }
@@ -87,8 +96,8 @@ public class AvatarProxyController {
     }
 
     @GetMapping("/user/{userId}")
-    public ResponseEntity<byte[]> proxyUserAvatar(@PathVariable("userId") UUID userId) {
-        AvatarWrapper avatarImage = userApi.getAvatarImage(userId);
+    public ResponseEntity<byte[]> proxyUserAvatar(@PathVariable("userId") UUID userId, @RequestParam(name = "v", defaultValue = "GRID") AvatarVariant variant) {
+        AvatarWrapper avatarImage = userApi.getAvatarImage(userId, variant);
         if (avatarImage == null || avatarImage.getAvatar() == null) {
             return ResponseEntity.notFound().build();
         }
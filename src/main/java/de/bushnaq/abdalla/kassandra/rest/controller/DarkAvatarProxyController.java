@@ -18,6 +18,7 @@
 package de.bushnaq.abdalla.kassandra.rest.controller;
 
 import java.util.UUID;
+import de.bushnaq.abdalla.kassandra.dto.AvatarVariant;
 import de.bushnaq.abdalla.kassandra.dto.AvatarWrapper;
 import de.bushnaq.abdalla.kassandra.rest.api.FeatureApi;
 import de.bushnaq.abdalla.kassandra.rest.api.ProductApi;
@@ -31,6 +32,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -70,11 +72,12 @@ public class DarkAvatarProxyController {
      * (the server-side {@code GET /api/feature/{id}/dark-avatar} handles the fallback).
      *
      * @param featureId The feature ID
+     * @param variant   The size variant, {@link AvatarVariant#GRID} if not specified
      * @return PNG image bytes for the dark avatar, or 404 if no avatar exists at all
      */
     @GetMapping("/feature/{featureId}")
-    public ResponseEntity<byte[]> proxyFeatureDarkAvatar(@PathVariable("featureId") UUID featureId) {
-        AvatarWrapper avatarImage = featureApi.getDarkAvatarImage(featureId);
+    public ResponseEntity<byte[]> proxyFeatureDarkAvatar(@PathVariable("featureId") UUID featureId, @RequestParam(name = "v", defaultValue = "GRID") AvatarVariant variant) {
+        AvatarWrapper avatarImage = featureApi.getDarkAvatarImage(featureId, variant);
         if (avatarImage == null || avatarImage.getAvatar() == null) {
             return ResponseEntity.notFound().build();
         }
@@ -90,11 +93,12 @@ public class DarkAvatarProxyController {
      * (the server-side {@code GET /api/product/{id}/dark-avatar} handles the fallback).
      *
      * @param productId The product ID
+     * @param variant   The size variant, {@link AvatarVariant#GRID} if not specified
      * @return PNG image bytes for the dark avatar, or 404 if no avatar exists at all
      */
     @GetMapping("/product/{productId}")
-    public ResponseEntity<byte[]> proxyProductDarkAvatar(@PathVariable("productId") UUID productId) {
-        AvatarWrapper avatarImage = productApi.getDarkAvatarImage(productId);
+    public ResponseEntity<byte[]> proxyProductDarkAvatar(@PathVariable("productId") UUID productId, @RequestParam(name = "v", defaultValue = "GRID") AvatarVariant variant) {
+        AvatarWrapper avatarImage = productApi.getDarkAvatarImage(productId, variant);
         if (avatarImage == null || avatarImage.getAvatar() == null) {
             return ResponseEntity.notFound().build();
         }
@@ -109,12 +113,13 @@ public class DarkAvatarProxyController {
      * Falls back to the light avatar transparently when no dark variant has been stored yet
      * (the server-side {@code GET /api/user/{id}/dark-avatar} handles the fallback).
      *
-     * @param userId The user ID
+     * @param userId  The user ID
+     * @param variant The size variant, {@link AvatarVariant#GRID} if not specified
      * @return PNG image bytes for the dark avatar, or 404 if no avatar exists at all
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<byte[]> proxyUserDarkAvatar(@PathVariable("userId") UUID userId) {
-        AvatarWrapper avatarImage = userApi.getDarkAvatarImage(userId);
+    public ResponseEntity<byte[]> proxyUserDarkAvatar(@PathVariable("userId") UUID userId, @RequestParam(name = "v", defaultValue = "GRID") AvatarVariant variant) {
+        AvatarWrapper avatarImage = userApi.getDarkAvatarImage(userId, variant);
         if (avatarImage == null || avatarImage.getAvatar() == null) {
             return ResponseEntity.notFound().build();
         }
@@ -130,11 +135,12 @@ public class DarkAvatarProxyController {
      * (the server-side {@code GET /api/sprint/{id}/dark-avatar} handles the fallback).
      *
      * @param sprintId The sprint ID
+     * @param variant  The size variant, {@link AvatarVariant#GRID} if not specified
      * @return PNG image bytes for the dark avatar, or 404 if no avatar exists at all
      */
     @GetMapping("/sprint/{sprintId}")
-    public ResponseEntity<byte[]> proxySprintDarkAvatar(@PathVariable("sprintId") UUID sprintId) {
-        AvatarWrapper avatarImage = sprintApi.getDarkAvatarImage(sprintId);
+    public ResponseEntity<byte[]> proxySprintDarkAvatar(@PathVariable("sprintId") UUID sprintId, @RequestParam(name = "v", defaultValue = "GRID") AvatarVariant variant) {
+        AvatarWrapper avatarImage = sprintApi.getDarkAvatarImage(sprintId, variant);
         if (avatarImage == null || avatarImage.getAvatar() == null) {
             return ResponseEntity.notFound().build();
         }
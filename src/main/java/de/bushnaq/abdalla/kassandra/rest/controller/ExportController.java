@@ -0,0 +1,115 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.rest.controller;
+
+import de.bushnaq.abdalla.kassandra.dao.ProductDAO;
+import de.bushnaq.abdalla.kassandra.dao.SprintDAO;
+import de.bushnaq.abdalla.kassandra.dao.UserDAO;
+import de.bushnaq.abdalla.kassandra.repository.*;
+import de.bushnaq.abdalla.kassandra.service.SprintExportService;
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Streaming JSON export of sprints and whole products.
+ * <p>
+ * The document is written directly into the response, tasks are read page by page and the persistence context is
+ * cleared between pages, so the memory needed does not grow with the number of exported tasks.
+ */
+@RestController
+@RequestMapping("/api/export")
+@Slf4j
+public class ExportController {
+
+    private static final Comparator<SprintDAO> BY_START_THEN_ID =
+            Comparator.comparing(SprintDAO::getStart, Comparator.nullsLast(Comparator.naturalOrder()))
+                    .thenComparing(SprintDAO::getId);
+
+    @Autowired
+    EntityManager entityManager;
+    @Autowired
+    private FeatureRepository   featureRepository;
+    @Autowired
+    private ProductRepository   productRepository;
+    @Autowired
+    private SprintExportService sprintExportService;
+    @Autowired
+    private SprintRepository    sprintRepository;
+    @Autowired
+    private TaskRepository      taskRepository;
+    @Autowired
+    private UserRepository      userRepository;
+    @Autowired
+    private VersionRepository   versionRepository;
+
+    @GetMapping("/product/{productId}")
+    @PreAuthorize("@aclSecurityService.hasProductAccess(#productId) or hasRole('ADMIN')")
+    @Transactional
+    public void exportProduct(@PathVariable UUID productId, @RequestParam(defaultValue = "" + SprintExportService.TASK_PAGE_SIZE) int pageSize, HttpServletResponse response) throws IOException {
+        ProductDAO product = productRepository.findById(productId).orElseThrow();
+        List<SprintDAO> sprints = versionRepository.findByProductId(productId).stream()
+                .flatMap(version -> featureRepository.findByVersionId(version.getId()).stream())
+                .flatMap(feature -> sprintRepository.findByFeatureId(feature.getId()).stream())
+                .sorted(BY_START_THEN_ID)
+                .toList();
+        write(product.getName(), sprints, pageSize, response);
+    }
+
+    @GetMapping("/sprint/{sprintId}")
+    @PreAuthorize("@aclSecurityService.hasSprintAccess(#sprintId) or hasRole('ADMIN')")
+    @Transactional
+    public void exportSprint(@PathVariable UUID sprintId, @RequestParam(defaultValue = "" + SprintExportService.TASK_PAGE_SIZE) int pageSize, HttpServletResponse response) throws IOException {
+        SprintDAO sprint = sprintRepository.findById(sprintId).orElseThrow();
+        write(sprint.getName(), List.of(sprint), pageSize, response);
+    }
+
+    private void write(String name, List<SprintDAO> sprints, int pageSize, HttpServletResponse response) throws IOException {
+        Map<UUID, UserDAO> users = new HashMap<>();
+        for (SprintDAO sprint : sprints) {
+            userRepository.findBySprintId(sprint.getId()).forEach(user -> users.putIfAbsent(user.getId(), user));
+        }
+        List<UserDAO> sortedUsers = users.values().stream()
+                .sorted(Comparator.comparing(UserDAO::getName))
+                .toList();
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(name + ".json", StandardCharsets.UTF_8).build().toString());
+        long time = System.currentTimeMillis();
+        sprintExportService.writeSprintsJson(sortedUsers, sprints, (sprint, pageIndex, limit) -> {
+            // everything loaded so far has already been written, do not keep it in the persistence context
+            entityManager.clear();
+            return taskRepository.findBySprintId(sprint.getId(), PageRequest.of(pageIndex, limit, Sort.by("orderId", "id")));
+        }, Math.max(1, pageSize), response.getOutputStream());
+        log.info("Exported {} sprint(s) of '{}' in {} ms", sprints.size(), name, System.currentTimeMillis() - time);
+    }
+}
@@ -17,18 +17,19 @@
 
 package de.bushnaq.abdalla.kassandra.rest.controller;
 
-import de.bushnaq.abdalla.kassandra.dao.FeatureAvatarDAO;
 import de.bushnaq.abdalla.kassandra.dao.FeatureAvatarGenerationDataDAO;
 import de.bushnaq.abdalla.kassandra.dao.FeatureDAO;
+import de.bushnaq.abdalla.kassandra.dto.AvatarTheme;
 import de.bushnaq.abdalla.kassandra.dto.AvatarUpdateRequest;
+import de.bushnaq.abdalla.kassandra.dto.AvatarVariant;
 import de.bushnaq.abdalla.kassandra.dto.AvatarWrapper;
 import de.bushnaq.abdalla.kassandra.dto.util.AvatarUtil;
 import de.bushnaq.abdalla.kassandra.repository.FeatureAvatarGenerationDataRepository;
-import de.bushnaq.abdalla.kassandra.repository.FeatureAvatarRepository;
 import de.bushnaq.abdalla.kassandra.repository.FeatureRepository;
 import de.bushnaq.abdalla.kassandra.repository.VersionRepository;
 import de.bushnaq.abdalla.kassandra.rest.exception.UniqueConstraintViolationException;
 import de.bushnaq.abdalla.kassandra.security.SecurityUtils;
+import de.bushnaq.abdalla.kassandra.service.AvatarImageService;
 import de.bushnaq.abdalla.kassandra.service.ProductAclService;
 import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
@@ -52,9 +53,9 @@ public class FeatureController {
     @Autowired
     EntityManager entityManager;
     @Autowired
-    private FeatureAvatarGenerationDataRepository featureAvatarGenerationDataRepository;
+    private AvatarImageService                    avatarImageService;
     @Autowired
-    private FeatureAvatarRepository               featureAvatarRepository;
+    private FeatureAvatarGenerationDataRepository featureAvatarGenerationDataRepository;
     @Autowired
     private FeatureRepository                     featureRepository;
     @Autowired
@@ -67,7 +68,7 @@ public class FeatureController {
     @Transactional
     public void delete(@PathVariable UUID id) {
         // Delete avatars first (cascade delete)
-        featureAvatarRepository.deleteByFeatureId(id);
+        avatarImageService.delete(id);
         featureAvatarGenerationDataRepository.deleteByFeatureId(id);
         // Then delete feature
         featureRepository.deleteById(id);
@@ -106,14 +107,9 @@ public class FeatureController {
 
     @GetMapping("/{id}/avatar")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    public ResponseEntity<AvatarWrapper> getAvatar(@PathVariable UUID id) {
-        return featureAvatarRepository.findByFeatureId(id)
-                .map(avatar -> {
-                    if (avatar.getLightAvatarImage() == null || avatar.getLightAvatarImage().length == 0) {
-                        return ResponseEntity.status(HttpStatus.NOT_FOUND).body((AvatarWrapper) null);
-                    }
-                    return ResponseEntity.ok(new AvatarWrapper(avatar.getLightAvatarImage()));
-                })
+    public ResponseEntity<AvatarWrapper> getAvatar(@PathVariable UUID id, @RequestParam(defaultValue = "FULL") AvatarVariant variant) {
+        return avatarImageService.find(id, AvatarTheme.LIGHT, variant)
+                .map(image -> ResponseEntity.ok(new AvatarWrapper(image)))
                 .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND).body(null));
     }
 
@@ -123,11 +119,8 @@ public class FeatureController {
         AvatarUpdateRequest response = new AvatarUpdateRequest();
 
         // Get avatar images (light + dark)
-        featureAvatarRepository.findByFeatureId(id)
-                .ifPresent(avatar -> {
-                    response.setLightAvatarImage(avatar.getLightAvatarImage());
-                    response.setDarkAvatarImage(avatar.getDarkAvatarImage());
-                });
+        avatarImageService.find(id, AvatarTheme.LIGHT, AvatarVariant.FULL).ifPresent(response::setLightAvatarImage);
+        avatarImageService.find(id, AvatarTheme.DARK, AvatarVariant.FULL).ifPresent(response::setDarkAvatarImage);
 
         // Get generation data (originals + prompt)
         featureAvatarGenerationDataRepository.findByFeatureId(id)
@@ -157,24 +150,15 @@ public class FeatureController {
      * Return the dark-mode avatar for the given feature.
      * Falls back to the light avatar when no dark variant has been stored yet.
      *
-     * @param id The feature ID
+     * @param id      The feature ID
+     * @param variant The size variant, the uploaded image if not specified
      * @return The dark avatar image, or the light avatar as fallback, or 404 if no avatar exists
      */
     @GetMapping("/{id}/dark-avatar")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    public ResponseEntity<AvatarWrapper> getDarkAvatar(@PathVariable UUID id) {
-        return featureAvatarRepository.findByFeatureId(id)
-                .map(avatar -> {
-                    byte[] imageBytes = avatar.getDarkAvatarImage();
-                    if (imageBytes == null || imageBytes.length == 0) {
-                        // Fall back to light image when dark variant not yet generated
-                        imageBytes = avatar.getLightAvatarImage();
-                    }
-                    if (imageBytes == null || imageBytes.length == 0) {
-                        return ResponseEntity.status(HttpStatus.NOT_FOUND).body((AvatarWrapper) null);
-                    }
-                    return ResponseEntity.ok(new AvatarWrapper(imageBytes));
-                })
+    public ResponseEntity<AvatarWrapper> getDarkAvatar(@PathVariable UUID id, @RequestParam(defaultValue = "FULL") AvatarVariant variant) {
+        return avatarImageService.findDark(id, variant)
+                .map(image -> ResponseEntity.ok(new AvatarWrapper(image)))
                 .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND).body(null));
     }
 
@@ -217,20 +201,12 @@ public class FeatureController {
 
         // Update or create light avatar image
         if (request.getLightAvatarImage() != null && request.getLightAvatarImage().length != 0) {
-            FeatureAvatarDAO avatar = featureAvatarRepository.findByFeatureId(id)
-                    .orElse(new FeatureAvatarDAO());
-            avatar.setFeatureId(id);
-            avatar.setLightAvatarImage(request.getLightAvatarImage());
-            featureAvatarRepository.save(avatar);
+            avatarImageService.store(id, AvatarTheme.LIGHT, request.getLightAvatarImage());
         }
 
         // Update or create dark avatar image; compute and persist darkAvatarHash automatically
         if (request.getDarkAvatarImage() != null && request.getDarkAvatarImage().length != 0) {
-            FeatureAvatarDAO avatar = featureAvatarRepository.findByFeatureId(id)
-                    .orElse(new FeatureAvatarDAO());
-            avatar.setFeatureId(id);
-            avatar.setDarkAvatarImage(request.getDarkAvatarImage());
-            featureAvatarRepository.save(avatar);
+            avatarImageService.store(id, AvatarTheme.DARK, request.getDarkAvatarImage());
 
             feature.setDarkAvatarHash(AvatarUtil.computeHash(request.getDarkAvatarImage()));
             featureRepository.save(feature);
@@ -6,10 +6,13 @@ import de.bushnaq.abdalla.kassandra.service.SprintsOverviewService;
 import jakarta.annotation.security.PermitAll;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDateTime;
 
@@ -23,12 +26,18 @@ public class OverviewController {
 
     @GetMapping("/sprints")
     @PermitAll
-    public SprintOverviewDto getSprintsOverview(
+    public ResponseEntity<SprintOverviewDto> getSprintsOverview(
             @RequestParam(required = false) Integer limitMonths,
-            @RequestParam(required = false, defaultValue = "light") String theme) {
+            @RequestParam(required = false, defaultValue = "light") String theme,
+            WebRequest webRequest) {
         LocalDateTime now  = ParameterOptions.getLocalNow();
         boolean       dark = "dark".equalsIgnoreCase(theme);
-        return sprintsOverviewService.getOverview(now, limitMonths, dark);
+        // dashboards poll this endpoint, answer with 304 as long as no sprint changed
+        String eTag = sprintsOverviewService.getOverviewETag(now, limitMonths, dark);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(sprintsOverviewService.getOverview(now, limitMonths, dark));
     }
 
 }
@@ -17,18 +17,19 @@
 
 package de.bushnaq.abdalla.kassandra.rest.controller;
 
-import de.bushnaq.abdalla.kassandra.dao.ProductAvatarDAO;
 import de.bushnaq.abdalla.kassandra.dao.ProductAvatarGenerationDataDAO;
 import de.bushnaq.abdalla.kassandra.dao.ProductDAO;
+import de.bushnaq.abdalla.kassandra.dto.AvatarTheme;
 import de.bushnaq.abdalla.kassandra.dto.AvatarUpdateRequest;
+import de.bushnaq.abdalla.kassandra.dto.AvatarVariant;
 import de.bushnaq.abdalla.kassandra.dto.AvatarWrapper;
 import de.bushnaq.abdalla.kassandra.dto.util.AvatarUtil;
 import de.bushnaq.abdalla.kassandra.repository.ProductAvatarGenerationDataRepository;
-import de.bushnaq.abdalla.kassandra.repository.ProductAvatarRepository;
 import de.bushnaq.abdalla.kassandra.repository.ProductRepository;
 import de.bushnaq.abdalla.kassandra.repository.UserRepository;
 import de.bushnaq.abdalla.kassandra.rest.exception.UniqueConstraintViolationException;
 import de.bushnaq.abdalla.kassandra.security.SecurityUtils;
+import de.bushnaq.abdalla.kassandra.service.AvatarImageService;
 import de.bushnaq.abdalla.kassandra.service.ProductAclService;
 import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
@@ -51,12 +52,12 @@ public class ProductController {
     @Autowired
     EntityManager entityManager;
     @Autowired
+    private AvatarImageService                    avatarImageService;
+    @Autowired
     private ProductAclService                     productAclService;
     @Autowired
     private ProductAvatarGenerationDataRepository productAvatarGenerationDataRepository;
     @Autowired
-    private ProductAvatarRepository               productAvatarRepository;
-    @Autowired
     private ProductRepository                     productRepository;
     @Autowired
     private UserRepository                        userRepository;
@@ -68,7 +69,7 @@ public class ProductController {
         // Delete ACL entries first
         productAclService.deleteProductAcl(id);
         // Delete avatars
-        productAvatarRepository.deleteByProductId(id);
+        avatarImageService.delete(id);
         productAvatarGenerationDataRepository.deleteByProductId(id);
         // Then delete product
         productRepository.deleteById(id);
@@ -89,7 +90,7 @@ public class ProductController {
         // Delete ACL entries first
         productAclService.deleteProductAcl(id);
         // Delete avatars
-        productAvatarRepository.deleteByProductId(id);
+        avatarImageService.delete(id);
         productAvatarGenerationDataRepository.deleteByProductId(id);
         // Then delete product
         productRepository.deleteById(id);
@@ -129,14 +130,9 @@ public class ProductController {
 
     @GetMapping("/{id}/avatar")
     @PreAuthorize("@aclSecurityService.hasProductAccess(#id) or hasRole('ADMIN')")
-    public ResponseEntity<AvatarWrapper> getAvatar(@PathVariable UUID id) {
-        return productAvatarRepository.findByProductId(id)
-                .map(avatar -> {
-                    if (avatar.getLightAvatarImage() == null || avatar.getLightAvatarImage().length == 0) {
-                        return ResponseEntity.status(HttpStatus.NOT_FOUND).body((AvatarWrapper) null);
-                    }
-                    return ResponseEntity.ok(new AvatarWrapper(avatar.getLightAvatarImage()));
-                })
+    public ResponseEntity<AvatarWrapper> getAvatar(@PathVariable UUID id, @RequestParam(defaultValue = "FULL") AvatarVariant variant) {
+        return avatarImageService.find(id, AvatarTheme.LIGHT, variant)
+                .map(image -> ResponseEntity.ok(new AvatarWrapper(image)))
                 .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND).body(null));
     }
 
@@ -146,11 +142,8 @@ public class ProductController {
         AvatarUpdateRequest response = new AvatarUpdateRequest();
 
         // Get avatar images (light + dark)
-        productAvatarRepository.findByProductId(id)
-                .ifPresent(avatar -> {
-                    response.setLightAvatarImage(avatar.getLightAvatarImage());
-                    response.setDarkAvatarImage(avatar.getDarkAvatarImage());
-                });
+        avatarImageService.find(id, AvatarTheme.LIGHT, AvatarVariant.FULL).ifPresent(response::setLightAvatarImage);
+        avatarImageService.find(id, AvatarTheme.DARK, AvatarVariant.FULL).ifPresent(response::setDarkAvatarImage);
 
         // Get generation data
         productAvatarGenerationDataRepository.findByProductId(id)
@@ -199,24 +192,15 @@ public class ProductController {
      * Return the dark-mode avatar for the given product.
      * Falls back to the light avatar when no dark variant has been stored yet.
      *
-     * @param id The product ID
+     * @param id      The product ID
+     * @param variant The size variant, the uploaded image if not specified
      * @return The dark avatar image, or the light avatar as fallback, or 404 if no avatar exists
      */
     @GetMapping("/{id}/dark-avatar")
     @PreAuthorize("@aclSecurityService.hasProductAccess(#id) or hasRole('ADMIN')")
-    public ResponseEntity<AvatarWrapper> getDarkAvatar(@PathVariable UUID id) {
-        return productAvatarRepository.findByProductId(id)
-                .map(avatar -> {
-                    byte[] imageBytes = avatar.getDarkAvatarImage();
-                    if (imageBytes == null || imageBytes.length == 0) {
-                        // Fall back to light image when dark variant not yet generated
-                        imageBytes = avatar.getLightAvatarImage();
-                    }
-                    if (imageBytes == null || imageBytes.length == 0) {
-                        return ResponseEntity.status(HttpStatus.NOT_FOUND).body((AvatarWrapper) null);
-                    }
-                    return ResponseEntity.ok(new AvatarWrapper(imageBytes));
-                })
+    public ResponseEntity<AvatarWrapper> getDarkAvatar(@PathVariable UUID id, @RequestParam(defaultValue = "FULL") AvatarVariant variant) {
+        return avatarImageService.findDark(id, variant)
+                .map(image -> ResponseEntity.ok(new AvatarWrapper(image)))
                 .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND).body(null));
     }
 
@@ -281,20 +265,12 @@ public class ProductController {
 
         // Update or create avatar image (light)
         if (request.getLightAvatarImage() != null && request.getLightAvatarImage().length != 0) {
-            ProductAvatarDAO avatar = productAvatarRepository.findByProductId(id)
-                    .orElse(new ProductAvatarDAO());
-            avatar.setProductId(id);
-            avatar.setLightAvatarImage(request.getLightAvatarImage());
-            productAvatarRepository.save(avatar);
+            avatarImageService.store(id, AvatarTheme.LIGHT, request.getLightAvatarImage());
         }
 
         // Update or create dark avatar image; compute and persist darkAvatarHash automatically
         if (request.getDarkAvatarImage() != null && request.getDarkAvatarImage().length != 0) {
-            ProductAvatarDAO avatar = productAvatarRepository.findByProductId(id)
-                    .orElse(new ProductAvatarDAO());
-            avatar.setProductId(id);
-            avatar.setDarkAvatarImage(request.getDarkAvatarImage());
-            productAvatarRepository.save(avatar);
+            avatarImageService.store(id, AvatarTheme.DARK, request.getDarkAvatarImage());
 
             product.setDarkAvatarHash(AvatarUtil.computeHash(request.getDarkAvatarImage()));
             productRepository.save(product);
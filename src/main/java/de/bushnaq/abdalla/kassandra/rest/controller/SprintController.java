@@ -18,16 +18,22 @@
 package de.bushnaq.abdalla.kassandra.rest.controller;
 
 import de.bushnaq.abdalla.kassandra.config.DefaultEntitiesInitializer;
-import de.bushnaq.abdalla.kassandra.dao.SprintAvatarDAO;
 import de.bushnaq.abdalla.kassandra.dao.SprintAvatarGenerationDataDAO;
 import de.bushnaq.abdalla.kassandra.dao.SprintDAO;
+import de.bushnaq.abdalla.kassandra.dto.AvatarTheme;
 import de.bushnaq.abdalla.kassandra.dto.AvatarUpdateRequest;
+import de.bushnaq.abdalla.kassandra.dto.AvatarVariant;
 import de.bushnaq.abdalla.kassandra.dto.AvatarWrapper;
+import de.bushnaq.abdalla.kassandra.dto.SprintStatisticsSnapshot;
 import de.bushnaq.abdalla.kassandra.dto.util.AvatarUtil;
 import de.bushnaq.abdalla.kassandra.repository.*;
 import de.bushnaq.abdalla.kassandra.rest.exception.UniqueConstraintViolationException;
 import de.bushnaq.abdalla.kassandra.security.SecurityUtils;
+import de.bushnaq.abdalla.kassandra.service.AvatarImageService;
 import de.bushnaq.abdalla.kassandra.service.ProductAclService;
+import de.bushnaq.abdalla.kassandra.service.SprintStatisticsService;
+import de.bushnaq.abdalla.kassandra.service.SprintsOverviewService;
+import de.bushnaq.abdalla.kassandra.service.WorklogRollupService;
 import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
@@ -59,17 +65,23 @@ public class SprintController {
     @Autowired
     EntityManager entityManager;
     @Autowired
+    private AvatarImageService                   avatarImageService;
+    @Autowired
     private FeatureRepository                    featureRepository;
     @Autowired
     private ProductAclService                    productAclService;
     @Autowired
     private SprintAvatarGenerationDataRepository sprintAvatarGenerationDataRepository;
     @Autowired
-    private SprintAvatarRepository               sprintAvatarRepository;
-    @Autowired
     private SprintRepository                     sprintRepository;
     @Autowired
+    private SprintStatisticsService              sprintStatisticsService;
+    @Autowired
+    private SprintsOverviewService               sprintsOverviewService;
+    @Autowired
     private VersionRepository                    versionRepository;
+    @Autowired
+    private WorklogRollupService                 worklogRollupService;
 
     @DeleteMapping("/{id}")
     @PreAuthorize("@aclSecurityService.hasSprintAccess(#id) or hasRole('ADMIN')")
@@ -82,10 +94,13 @@ public class SprintController {
         }
 
         // Delete avatars first (cascade delete)
-        sprintAvatarRepository.deleteBySprintId(id);
+        avatarImageService.delete(id);
         sprintAvatarGenerationDataRepository.deleteBySprintId(id);
+        worklogRollupService.deleteBySprintId(id);
         // Then delete sprint
         sprintRepository.deleteById(id);
+        sprintStatisticsService.invalidate(id);
+        sprintsOverviewService.evict();
     }
 
     @GetMapping("/{id}")
@@ -128,14 +143,9 @@ public class SprintController {
 
     @GetMapping("/{id}/avatar")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    public ResponseEntity<AvatarWrapper> getAvatar(@PathVariable UUID id) {
-        return sprintAvatarRepository.findBySprintId(id)
-                .map(avatar -> {
-                    if (avatar.getLightAvatarImage() == null || avatar.getLightAvatarImage().length == 0) {
-                        return ResponseEntity.status(HttpStatus.NOT_FOUND).body((AvatarWrapper) null);
-                    }
-                    return ResponseEntity.ok(new AvatarWrapper(avatar.getLightAvatarImage()));
-                })
+    public ResponseEntity<AvatarWrapper> getAvatar(@PathVariable UUID id, @RequestParam(defaultValue = "FULL") AvatarVariant variant) {
+        return avatarImageService.find(id, AvatarTheme.LIGHT, variant)
+                .map(image -> ResponseEntity.ok(new AvatarWrapper(image)))
                 .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND).body(null));
     }
 
@@ -145,11 +155,8 @@ public class SprintController {
         AvatarUpdateRequest response = new AvatarUpdateRequest();
 
         // Get avatar images (light + dark)
-        sprintAvatarRepository.findBySprintId(id)
-                .ifPresent(avatar -> {
-                    response.setLightAvatarImage(avatar.getLightAvatarImage());
-                    response.setDarkAvatarImage(avatar.getDarkAvatarImage());
-                });
+        avatarImageService.find(id, AvatarTheme.LIGHT, AvatarVariant.FULL).ifPresent(response::setLightAvatarImage);
+        avatarImageService.find(id, AvatarTheme.DARK, AvatarVariant.FULL).ifPresent(response::setDarkAvatarImage);
 
         // Get generation data (originals + prompt)
         sprintAvatarGenerationDataRepository.findBySprintId(id)
@@ -189,27 +196,32 @@ public class SprintController {
      * Return the dark-mode avatar for the given sprint.
      * Falls back to the light avatar when no dark variant has been stored yet.
      *
-     * @param id The sprint ID
+     * @param id      The sprint ID
+     * @param variant The size variant, the uploaded image if not specified
      * @return The dark avatar image, or the light avatar as fallback, or 404 if no avatar exists
      */
     @GetMapping("/{id}/dark-avatar")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    public ResponseEntity<AvatarWrapper> getDarkAvatar(@PathVariable UUID id) {
-        return sprintAvatarRepository.findBySprintId(id)
-                .map(avatar -> {
-                    byte[] imageBytes = avatar.getDarkAvatarImage();
-                    if (imageBytes == null || imageBytes.length == 0) {
-                        // Fall back to light image when dark variant not yet generated
-                        imageBytes = avatar.getLightAvatarImage();
-                    }
-                    if (imageBytes == null || imageBytes.length == 0) {
-                        return ResponseEntity.status(HttpStatus.NOT_FOUND).body((AvatarWrapper) null);
-                    }
-                    return ResponseEntity.ok(new AvatarWrapper(imageBytes));
-                })
+    public ResponseEntity<AvatarWrapper> getDarkAvatar(@PathVariable UUID id, @RequestParam(defaultValue = "FULL") AvatarVariant variant) {
+        return avatarImageService.findDark(id, variant)
+                .map(image -> ResponseEntity.ok(new AvatarWrapper(image)))
                 .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND).body(null));
     }
 
+    /**
+     * Statistics of all sprints visible to the current user in one call, the Backlog sprint is skipped.
+     * The statistics are materialized by {@link SprintStatisticsService} and only recalculated after a change.
+     *
+     * @return one snapshot per sprint
+     */
+    @GetMapping("/statistics")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public List<SprintStatisticsSnapshot> getStatistics() {
+        return sprintStatisticsService.getSnapshots(getAll().stream()
+                .filter(sprint -> !DefaultEntitiesInitializer.BACKLOG_SPRINT_NAME.equals(sprint.getName()))
+                .toList());
+    }
+
     @PostMapping()
     @PreAuthorize("@aclSecurityService.hasFeatureAccess(#sprintDAO.featureId) or hasRole('ADMIN')")
     @Transactional
@@ -227,6 +239,7 @@ public class SprintController {
             throw new UniqueConstraintViolationException("Sprint", "name", sprintDAO.getName());
         }
         entityManager.persist(sprintDAO);
+        sprintsOverviewService.evict();
         return ResponseEntity.ok(sprintDAO);
     }
 
@@ -238,6 +251,8 @@ public class SprintController {
         if (sprintRepository.existsByNameAndFeatureIdAndIdNot(sprintEntity.getName(), sprintEntity.getFeatureId(), sprintEntity.getId())) {
             throw new UniqueConstraintViolationException("Sprint", "name", sprintEntity.getName());
         }
+        sprintStatisticsService.invalidate(sprintEntity.getId());
+        sprintsOverviewService.evict();
         return sprintRepository.save(sprintEntity);
     }
 
@@ -254,20 +269,12 @@ public class SprintController {
 
         // Update or create avatar image (light)
         if (request.getLightAvatarImage() != null && request.getLightAvatarImage().length != 0) {
-            SprintAvatarDAO avatar = sprintAvatarRepository.findBySprintId(id)
-                    .orElse(new SprintAvatarDAO());
-            avatar.setSprintId(id);
-            avatar.setLightAvatarImage(request.getLightAvatarImage());
-            sprintAvatarRepository.save(avatar);
+            avatarImageService.store(id, AvatarTheme.LIGHT, request.getLightAvatarImage());
         }
 
         // Update or create dark avatar image; compute and persist darkAvatarHash automatically
         if (request.getDarkAvatarImage() != null && request.getDarkAvatarImage().length != 0) {
-            SprintAvatarDAO avatar = sprintAvatarRepository.findBySprintId(id)
-                    .orElse(new SprintAvatarDAO());
-            avatar.setSprintId(id);
-            avatar.setDarkAvatarImage(request.getDarkAvatarImage());
-            sprintAvatarRepository.save(avatar);
+            avatarImageService.store(id, AvatarTheme.DARK, request.getDarkAvatarImage());
 
             sprint.setDarkAvatarHash(AvatarUtil.computeHash(request.getDarkAvatarImage()));
             sprintRepository.save(sprint);
@@ -18,19 +18,30 @@
 package de.bushnaq.abdalla.kassandra.rest.controller;
 
 import de.bushnaq.abdalla.kassandra.dao.TaskDAO;
+import de.bushnaq.abdalla.kassandra.dto.TaskReorder;
+import de.bushnaq.abdalla.kassandra.dto.TaskReorderResult;
 import de.bushnaq.abdalla.kassandra.repository.FeatureRepository;
 import de.bushnaq.abdalla.kassandra.repository.SprintRepository;
 import de.bushnaq.abdalla.kassandra.repository.TaskRepository;
 import de.bushnaq.abdalla.kassandra.repository.VersionRepository;
 import de.bushnaq.abdalla.kassandra.security.SecurityUtils;
+import de.bushnaq.abdalla.kassandra.service.AclSecurityService;
 import de.bushnaq.abdalla.kassandra.service.ProductAclService;
+import de.bushnaq.abdalla.kassandra.service.SprintStatisticsService;
+import de.bushnaq.abdalla.kassandra.service.WorklogRollupService;
 import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.sql.Types;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -38,18 +49,41 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/task")
 public class TaskController {
 
+    private static final String REORDER_SQL = "UPDATE tasks SET order_id = ?, parent_task_id = ?, sprint_id = ?, version = version + 1 WHERE id = ? AND version = ?";
+    @Autowired
+    private AclSecurityService      aclSecurityService;
     @Autowired
     EntityManager entityManager;
     @Autowired
-    private FeatureRepository featureRepository;
+    private FeatureRepository       featureRepository;
+    @Autowired
+    private JdbcTemplate            jdbcTemplate;
+    @Autowired
+    private ProductAclService       productAclService;
     @Autowired
-    private ProductAclService productAclService;
+    private SprintRepository        sprintRepository;
     @Autowired
-    private SprintRepository  sprintRepository;
+    private SprintStatisticsService sprintStatisticsService;
     @Autowired
-    private TaskRepository    taskRepository;
+    private TaskRepository          taskRepository;
     @Autowired
-    private VersionRepository versionRepository;
+    private VersionRepository       versionRepository;
+    @Autowired
+    private WorklogRollupService    worklogRollupService;
+
+    /**
+     * Full task updates keep their last-writer-wins semantics, only {@link #reorder} is version checked.
+     * Copies the current version onto the incoming tasks so that merging does not fail on a stale client version.
+     *
+     * @param tasks the tasks to update
+     */
+    private void adoptCurrentVersions(List<TaskDAO> tasks) {
+        Map<UUID, Long> versions = new HashMap<>();
+        for (Object[] row : taskRepository.findVersionsByIdIn(tasks.stream().map(TaskDAO::getId).toList())) {
+            versions.put((UUID) row[0], (Long) row[1]);
+        }
+        tasks.forEach(task -> task.setVersion(versions.getOrDefault(task.getId(), task.getVersion())));
+    }
 
     /**
      * Recursively collects the IDs of a task and all of its descendants.
@@ -86,9 +120,27 @@ public class TaskController {
         }
 
         // 3. Delete all collected tasks (CascadeType.ALL removes their owned relations)
+        invalidateStatistics(idsToDelete, List.of());
+        worklogRollupService.deleteByTaskIds(idsToDelete);
         taskRepository.deleteAllById(idsToDelete);
     }
 
+    /**
+     * Collects the sprints affected by a change of tasks.
+     * Must be called before the change is written, so that the sprints the tasks are moved away from are included.
+     *
+     * @param taskIds   the changed tasks
+     * @param sprintIds the sprints the tasks belong to after the change
+     * @return the sprints the tasks belong to before and after the change
+     */
+    private Set<UUID> findAffectedSprintIds(Collection<UUID> taskIds, Collection<UUID> sprintIds) {
+        Set<UUID> ids = new HashSet<>(sprintIds);
+        if (!taskIds.isEmpty()) {
+            ids.addAll(taskRepository.findSprintIdsByIdIn(taskIds));
+        }
+        return ids;
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("@aclSecurityService.hasTaskAccess(#id) or hasRole('ADMIN')")
     public Optional<TaskDAO> get(@PathVariable UUID id) {
@@ -135,6 +187,77 @@ public class TaskController {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Reports the change of tasks to the {@link SprintStatisticsService}.
+     * Must be called before the change is written, so that the sprints the tasks are moved away from are included.
+     *
+     * @param taskIds   the changed tasks
+     * @param sprintIds the sprints the tasks belong to after the change
+     */
+    private void invalidateStatistics(Collection<UUID> taskIds, Collection<UUID> sprintIds) {
+        findAffectedSprintIds(taskIds, sprintIds).forEach(sprintStatisticsService::invalidate);
+    }
+
+    /**
+     * Applies a batch of position changes (order, parent and sprint) produced by drag-and-drop reordering.
+     * <p>
+     * Only the position columns are written, using a single JDBC batch without loading the tasks.
+     * Every change carries the task version the client has seen, if any task was modified in between the whole batch
+     * is rolled back and the conflicting task ids are returned, so that concurrent reordering never silently overwrites.
+     * </p>
+     *
+     * @param changes  the position changes
+     * @param sprintId the sprint the reordering happens in (used for ACL check)
+     * @return the number of updated tasks or the conflicts
+     */
+    @PutMapping("/sprint/{sprintId}/reorder")
+    @PreAuthorize("@aclSecurityService.hasSprintAccess(#sprintId) or hasRole('ADMIN')")
+    @Transactional
+    public TaskReorderResult reorder(@RequestBody List<TaskReorder> changes, @PathVariable UUID sprintId) {
+        if (changes.isEmpty()) {
+            return new TaskReorderResult();
+        }
+        for (TaskReorder change : changes) {
+            if (change.getId() == null || change.getOrderId() == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, String.format("Reordering of task %s without id or orderId", change.getId()));
+            }
+        }
+        if (!SecurityUtils.isAdmin()) {
+            // tasks may be moved from and into other sprints, the user needs access to all of them
+            Set<UUID> sprintIds = new HashSet<>(taskRepository.findSprintIdsByIdIn(changes.stream().map(TaskReorder::getId).toList()));
+            changes.forEach(change -> sprintIds.add(change.getSprintId()));
+            sprintIds.remove(sprintId);
+            for (UUID id : sprintIds) {
+                if (!aclSecurityService.hasSprintAccess(id)) {
+                    throw new AccessDeniedException(String.format("No access to sprint %s", id));
+                }
+            }
+        }
+        Set<UUID> affectedSprintIds = findAffectedSprintIds(changes.stream().map(TaskReorder::getId).toList(), changes.stream().map(TaskReorder::getSprintId).toList());
+        int[][] counts = jdbcTemplate.batchUpdate(REORDER_SQL, changes, changes.size(), (ps, change) -> {
+            ps.setInt(1, change.getOrderId());
+            // both may be null, the driver cannot infer the column type from a null UUID
+            ps.setObject(2, change.getParentTaskId(), Types.OTHER);
+            ps.setObject(3, change.getSprintId(), Types.OTHER);
+            ps.setObject(4, change.getId());
+            ps.setLong(5, change.getVersion());
+        });
+        TaskReorderResult result = new TaskReorderResult();
+        for (int i = 0; i < changes.size(); i++) {
+            // drivers may answer SUCCESS_NO_INFO (-2) instead of a row count, only 0 is a conflict
+            if (counts[0][i] == 0) {
+                result.getConflicts().add(changes.get(i).getId());
+            }
+        }
+        if (result.isApplied()) {
+            result.setUpdated(changes.size());
+            affectedSprintIds.forEach(sprintStatisticsService::invalidate);
+        } else {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        }
+        return result;
+    }
+
     @PostMapping
     @PreAuthorize("@aclSecurityService.hasSprintAccess(#task.sprintId) or hasRole('ADMIN')")
     @Transactional
@@ -146,6 +269,7 @@ public class TaskController {
             task.setOrderId(maxOrderId + 1);
         }
         entityManager.persist(task); // INSERT, no SELECT, no cascade conflict
+        sprintStatisticsService.invalidate(task.getSprintId());
         return ResponseEntity.ok(task);
     }
 
@@ -153,6 +277,8 @@ public class TaskController {
     @PreAuthorize("@aclSecurityService.hasTaskAccess(#task.id) or hasRole('ADMIN')")
     @Transactional
     public void update(@RequestBody TaskDAO task) {
+        adoptCurrentVersions(List.of(task));
+        invalidateStatistics(List.of(task.getId()), List.of(task.getSprintId()));
         taskRepository.save(task);
     }
 
@@ -170,6 +296,8 @@ public class TaskController {
     @PreAuthorize("@aclSecurityService.hasSprintAccess(#sprintId) or hasRole('ADMIN')")
     @Transactional
     public void updateBatch(@RequestBody List<TaskDAO> tasks, @PathVariable UUID sprintId) {
+        adoptCurrentVersions(tasks);
+        invalidateStatistics(tasks.stream().map(TaskDAO::getId).toList(), List.of(sprintId));
         taskRepository.saveAll(tasks);
     }
 
@@ -182,6 +310,7 @@ public class TaskController {
             TaskDAO task = taskOptional.get();
             task.setTaskStatus(status);
             taskRepository.save(task);
+            sprintStatisticsService.invalidate(task.getSprintId());
         }
     }
 }
\ No newline at end of file
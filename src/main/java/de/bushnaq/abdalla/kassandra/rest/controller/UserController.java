@@ -18,16 +18,18 @@
 package de.bushnaq.abdalla.kassandra.rest.controller;
 
 import de.bushnaq.abdalla.kassandra.config.DefaultEntitiesInitializer;
-import de.bushnaq.abdalla.kassandra.dao.UserAvatarDAO;
 import de.bushnaq.abdalla.kassandra.dao.UserAvatarGenerationDataDAO;
 import de.bushnaq.abdalla.kassandra.dao.UserDAO;
+import de.bushnaq.abdalla.kassandra.dto.AvatarTheme;
 import de.bushnaq.abdalla.kassandra.dto.AvatarUpdateRequest;
+import de.bushnaq.abdalla.kassandra.dto.AvatarVariant;
 import de.bushnaq.abdalla.kassandra.dto.AvatarWrapper;
 import de.bushnaq.abdalla.kassandra.dto.util.AvatarUtil;
 import de.bushnaq.abdalla.kassandra.repository.*;
 import de.bushnaq.abdalla.kassandra.rest.debug.DebugUtil;
 import de.bushnaq.abdalla.kassandra.rest.exception.UniqueConstraintViolationException;
 import de.bushnaq.abdalla.kassandra.security.SecurityUtils;
+import de.bushnaq.abdalla.kassandra.service.AvatarImageService;
 import de.bushnaq.abdalla.kassandra.service.UserRoleService;
 import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
@@ -53,13 +55,13 @@ public class UserController {
     @Autowired
     EntityManager entityManager;
 
+    @Autowired
+    private AvatarImageService                 avatarImageService;
     @Autowired
     private LocationRepository                 locationRepository;
     @Autowired
     private UserAvatarGenerationDataRepository userAvatarGenerationDataRepository;
     @Autowired
-    private UserAvatarRepository               userAvatarRepository;
-    @Autowired
     private UserGroupRepository                userGroupRepository;
     @Autowired
     private UserRepository                     userRepository;
@@ -89,7 +91,7 @@ public class UserController {
     @Transactional
     public void delete(@PathVariable UUID id) {
         // Delete avatars first (cascade delete)
-        userAvatarRepository.deleteByUserId(id);
+        avatarImageService.delete(id);
         userAvatarGenerationDataRepository.deleteByUserId(id);
         // Then delete user
         userRepository.deleteById(id);
@@ -117,14 +119,9 @@ public class UserController {
 
     @GetMapping("/{id}/avatar")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    public ResponseEntity<AvatarWrapper> getAvatar(@PathVariable UUID id) {
-        return userAvatarRepository.findByUserId(id)
-                .map(avatar -> {
-                    if (avatar.getLightAvatarImage() == null || avatar.getLightAvatarImage().length == 0) {
-                        return ResponseEntity.status(HttpStatus.NOT_FOUND).body((AvatarWrapper) null);
-                    }
-                    return ResponseEntity.ok(new AvatarWrapper(avatar.getLightAvatarImage()));
-                })
+    public ResponseEntity<AvatarWrapper> getAvatar(@PathVariable UUID id, @RequestParam(defaultValue = "FULL") AvatarVariant variant) {
+        return avatarImageService.find(id, AvatarTheme.LIGHT, variant)
+                .map(image -> ResponseEntity.ok(new AvatarWrapper(image)))
                 .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND).body(null));
     }
 
@@ -132,24 +129,15 @@ public class UserController {
      * Return the dark-mode avatar for the given user.
      * Falls back to the light avatar when no dark variant has been stored yet.
      *
-     * @param id The user ID
+     * @param id      The user ID
+     * @param variant The size variant, the uploaded image if not specified
      * @return The dark avatar image, or the light avatar as fallback, or 404 if no avatar exists
      */
     @GetMapping("/{id}/dark-avatar")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    public ResponseEntity<AvatarWrapper> getDarkAvatar(@PathVariable UUID id) {
-        return userAvatarRepository.findByUserId(id)
-                .map(avatar -> {
-                    byte[] imageBytes = avatar.getDarkAvatarImage();
-                    if (imageBytes == null || imageBytes.length == 0) {
-                        // Fall back to light image when dark variant not yet generated
-                        imageBytes = avatar.getLightAvatarImage();
-                    }
-                    if (imageBytes == null || imageBytes.length == 0) {
-                        return ResponseEntity.status(HttpStatus.NOT_FOUND).body((AvatarWrapper) null);
-                    }
-                    return ResponseEntity.ok(new AvatarWrapper(imageBytes));
-                })
+    public ResponseEntity<AvatarWrapper> getDarkAvatar(@PathVariable UUID id, @RequestParam(defaultValue = "FULL") AvatarVariant variant) {
+        return avatarImageService.findDark(id, variant)
+                .map(image -> ResponseEntity.ok(new AvatarWrapper(image)))
                 .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND).body(null));
     }
 
@@ -159,11 +147,8 @@ public class UserController {
         AvatarUpdateRequest response = new AvatarUpdateRequest();
 
         // Get avatar images (light + dark)
-        userAvatarRepository.findByUserId(id)
-                .ifPresent(avatar -> {
-                    response.setLightAvatarImage(avatar.getLightAvatarImage());
-                    response.setDarkAvatarImage(avatar.getDarkAvatarImage());
-                });
+        avatarImageService.find(id, AvatarTheme.LIGHT, AvatarVariant.FULL).ifPresent(response::setLightAvatarImage);
+        avatarImageService.find(id, AvatarTheme.DARK, AvatarVariant.FULL).ifPresent(response::setDarkAvatarImage);
 
         // Get generation data (originals + prompt)
         userAvatarGenerationDataRepository.findByUserId(id)
@@ -285,20 +270,12 @@ public class UserController {
 
         // Update or create avatar image (light)
         if (request.getLightAvatarImage() != null && request.getLightAvatarImage().length != 0) {
-            UserAvatarDAO avatar = userAvatarRepository.findByUserId(id)
-                    .orElse(new UserAvatarDAO());
-            avatar.setUserId(id);
-            avatar.setLightAvatarImage(request.getLightAvatarImage());
-            userAvatarRepository.save(avatar);
+            avatarImageService.store(id, AvatarTheme.LIGHT, request.getLightAvatarImage());
         }
 
         // Update or create dark avatar image; compute and persist darkAvatarHash automatically
         if (request.getDarkAvatarImage() != null && request.getDarkAvatarImage().length != 0) {
-            UserAvatarDAO avatar = userAvatarRepository.findByUserId(id)
-                    .orElse(new UserAvatarDAO());
-            avatar.setUserId(id);
-            avatar.setDarkAvatarImage(request.getDarkAvatarImage());
-            userAvatarRepository.save(avatar);
+            avatarImageService.store(id, AvatarTheme.DARK, request.getDarkAvatarImage());
 
             user.setDarkAvatarHash(AvatarUtil.computeHash(request.getDarkAvatarImage()));
             userRepository.save(user);
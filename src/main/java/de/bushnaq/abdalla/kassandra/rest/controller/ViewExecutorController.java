@@ -0,0 +1,46 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.rest.controller;
+
+import de.bushnaq.abdalla.kassandra.ui.util.ViewExecutor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Exposes the metrics of the {@link ViewExecutor} for monitoring.
+ * The tree has no meter registry, so queue depth, active tasks, wait times and rejections are polled from here.
+ */
+@RestController
+@RequestMapping("/api/view-executor")
+public class ViewExecutorController {
+
+    @Autowired
+    private ViewExecutor viewExecutor;
+
+    /**
+     * @return the current queue depth, active tasks, completed and rejected tasks and wait times
+     */
+    @GetMapping("/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ViewExecutor.Stats getStats() {
+        return viewExecutor.getStats();
+    }
+}
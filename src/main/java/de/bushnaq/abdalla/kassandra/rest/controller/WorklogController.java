@@ -18,7 +18,11 @@
 package de.bushnaq.abdalla.kassandra.rest.controller;
 
 import de.bushnaq.abdalla.kassandra.dao.WorklogDAO;
+import de.bushnaq.abdalla.kassandra.dao.WorklogDayDAO;
 import de.bushnaq.abdalla.kassandra.repository.WorklogRepository;
+import de.bushnaq.abdalla.kassandra.service.SprintStatisticsService;
+import de.bushnaq.abdalla.kassandra.service.WorklogRollupService;
+import de.bushnaq.abdalla.kassandra.service.WorklogRollupService.TaskDay;
 import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,6 +31,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -38,12 +43,19 @@ public class WorklogController {
     @Autowired
     EntityManager entityManager;
     @Autowired
-    private WorklogRepository worklogRepository;
+    private SprintStatisticsService sprintStatisticsService;
+    @Autowired
+    private WorklogRepository       worklogRepository;
+    @Autowired
+    private WorklogRollupService    worklogRollupService;
 
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @Transactional
     public void delete(@PathVariable UUID id) {
+        Optional<TaskDay> key = worklogRepository.findById(id).map(TaskDay::of);
         worklogRepository.deleteById(id);
+        key.ifPresent(taskDay -> refresh(List.of(taskDay)));
     }
 
     @GetMapping("/{id}")
@@ -65,11 +77,63 @@ public class WorklogController {
         return worklogRepository.findBySprintId(sprintId);
     }
 
+    @GetMapping("/task/{taskId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public List<WorklogDAO> getByTaskId(@PathVariable UUID taskId) {
+        return worklogRepository.findByTaskId(taskId);
+    }
+
+    /**
+     * Daily rollup of the worklogs of a sprint, one row per task and day.
+     *
+     * @param sprintId the sprint
+     * @return the rollup rows ordered by day
+     */
+    @GetMapping("/rollup/sprint/{sprintId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public List<WorklogDayDAO> getRollupBySprintId(@PathVariable UUID sprintId) {
+        return worklogRollupService.getBySprintId(sprintId);
+    }
+
+    /**
+     * Recreates the daily rollup of all sprints from the raw worklogs.
+     *
+     * @return number of rollup rows
+     */
+    @PostMapping("/rollup/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public int rebuildRollup() {
+        return worklogRollupService.rebuildAll();
+    }
+
+    /**
+     * Recreates the daily rollup of one sprint from its raw worklogs.
+     *
+     * @param sprintId the sprint
+     * @return number of rollup rows
+     */
+    @PostMapping("/rollup/rebuild/{sprintId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public int rebuildRollup(@PathVariable UUID sprintId) {
+        return worklogRollupService.rebuild(sprintId);
+    }
+
+    /**
+     * Recomputes the rollup rows and reports the change to the sprint statistics.
+     *
+     * @param keys the task days that had a worklog created, updated or deleted
+     */
+    private void refresh(Collection<TaskDay> keys) {
+        worklogRollupService.refresh(keys);
+        keys.stream().map(TaskDay::sprintId).distinct().forEach(sprintStatisticsService::invalidate);
+    }
+
     @PostMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
     @Transactional
     public ResponseEntity<WorklogDAO> save(@RequestBody WorklogDAO worklog) {
         entityManager.persist(worklog);
+        refresh(List.of(TaskDay.of(worklog)));
         return ResponseEntity.ok(worklog);
     }
 
@@ -86,18 +150,28 @@ public class WorklogController {
      */
     @PostMapping("/batch")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @Transactional
     public ResponseEntity<List<WorklogDAO>> saveBatch(@RequestBody List<WorklogDAO> worklogs) {
         List<WorklogDAO> saved = new ArrayList<>(worklogs.size());
         for (WorklogDAO worklog : worklogs) {
             saved.add(worklogRepository.save(worklog));
         }
+        refresh(saved.stream().map(TaskDay::of).toList());
         return ResponseEntity.ok(saved);
     }
 
     @PutMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @Transactional
     public WorklogDAO update(@RequestBody WorklogDAO worklog) {
-        return worklogRepository.save(worklog);
+        // the worklog might move to another day, both the old and the new day need to be recomputed
+        Optional<TaskDay> before = worklogRepository.findById(worklog.getId()).map(TaskDay::of);
+        WorklogDAO        saved  = worklogRepository.save(worklog);
+        List<TaskDay>     keys   = new ArrayList<>();
+        before.ifPresent(keys::add);
+        keys.add(TaskDay.of(saved));
+        refresh(keys);
+        return saved;
     }
 
 }
\ No newline at end of file
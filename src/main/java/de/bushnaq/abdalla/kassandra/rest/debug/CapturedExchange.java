@@ -0,0 +1,46 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+
+package de.bushnaq.abdalla.kassandra.rest.debug;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * One request/response pair recorded by {@link RequestLoggingFilter}.
+ * Bodies are cut after {@code kassandra.request-capture.max-bytes}, the truncated flags tell if there was more.
+ */
+public record CapturedExchange(Instant timestamp, String method, String uri, int status, long durationMillis,
+                               byte[] requestBody, boolean requestTruncated,
+                               byte[] responseBody, boolean responseTruncated) {
+
+    public String getRequestBodyAsString() {
+        return new String(requestBody, StandardCharsets.UTF_8);
+    }
+
+    public String getResponseBodyAsString() {
+        return new String(responseBody, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s -> %d (%d ms) request=%s%s response=%s%s", method, uri, status, durationMillis,
+                getRequestBodyAsString(), requestTruncated ? "..." : "",
+                getResponseBodyAsString(), responseTruncated ? "..." : "");
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+
+package de.bushnaq.abdalla.kassandra.rest.debug;
+
+import de.bushnaq.abdalla.kassandra.config.KassandraProperties;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fixed size ring buffer of the most recent {@link CapturedExchange}s.
+ * <p>
+ * Request threads only {@link #offer} into a bounded queue and never block, if the queue is full the exchange is dropped and counted.
+ * A single daemon thread moves queued exchanges into the ring and logs them, so formatting and logging cost stays off the request path.
+ */
+@Component
+public class RequestCaptureBuffer {
+    private static final Logger                          logger  = LoggerFactory.getLogger(RequestCaptureBuffer.class);
+    private final        AtomicLong                      dropped = new AtomicLong();
+    private final        BlockingQueue<CapturedExchange> queue;
+    private final        CapturedExchange[]              ring;
+    private volatile     boolean                         running = true;
+    private final        Thread                          writer;
+    private              long                            written;//guarded by ring
+
+    public RequestCaptureBuffer(KassandraProperties kassandraProperties) {
+        int size = Math.max(1, kassandraProperties.getRequestCapture().getBufferSize());
+        ring   = new CapturedExchange[size];
+        queue  = new ArrayBlockingQueue<>(size);
+        writer = Thread.ofPlatform().name("request-capture-writer").daemon().unstarted(this::drain);
+        writer.start();
+    }
+
+    private void drain() {
+        while (running) {
+            try {
+                CapturedExchange exchange = queue.poll(1, TimeUnit.SECONDS);
+                if (exchange != null) {
+                    synchronized (ring) {
+                        ring[(int) (written++ % ring.length)] = exchange;
+                    }
+                    if (DebugUtil.DEBUG) {
+                        logger.info("Captured exchange: {}", exchange);
+                    } else {
+                        logger.debug("Captured exchange: {}", exchange);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return number of exchanges dropped because the writer could not keep up
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * @return snapshot of the buffered exchanges, oldest first
+     */
+    public List<CapturedExchange> getRecent() {
+        synchronized (ring) {
+            int                    count  = (int) Math.min(written, ring.length);
+            List<CapturedExchange> recent = new ArrayList<>(count);
+            for (long i = written - count; i < written; i++) {
+                recent.add(ring[(int) (i % ring.length)]);
+            }
+            return recent;
+        }
+    }
+
+    /**
+     * Hands the exchange to the writer thread without blocking.
+     *
+     * @param exchange the captured exchange
+     * @return false if the exchange was dropped
+     */
+    public boolean offer(CapturedExchange exchange) {
+        if (queue.offer(exchange)) {
+            return true;
+        }
+        dropped.incrementAndGet();
+        return false;
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        writer.interrupt();
+    }
+}
@@ -15,27 +15,46 @@
  *
  */
 
+
 package de.bushnaq.abdalla.kassandra.rest.debug;
 
 
+import de.bushnaq.abdalla.kassandra.config.KassandraProperties;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletRequestWrapper;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
 
-import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.*;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.stream.Collectors;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Opt-in diagnostic capture of request and response bodies.
+ * <p>
+ * Requests are passed through untouched unless capture is switched on ({@code kassandra.request-capture.enabled}) and the request
+ * either carries the capture header or matches one of the configured paths, and it survives sampling.
+ * {@link DebugUtil#DEBUG} captures every request.
+ * Captured bodies are recorded while the application reads/writes them and are cut after {@code max-bytes},
+ * so streaming uploads are never buffered as a whole. The result is handed to {@link RequestCaptureBuffer} without blocking,
+ * for asynchronous requests only once the exchange completed.
+ */
 @Component
 public class RequestLoggingFilter implements Filter {
 
-    private static final Logger logger = LoggerFactory.getLogger(RequestLoggingFilter.class);
+    private final RequestCaptureBuffer               captureBuffer;
+    private final KassandraProperties.RequestCapture config;
+    private final AntPathMatcher                     pathMatcher = new AntPathMatcher();
+
+    public RequestLoggingFilter(KassandraProperties kassandraProperties, RequestCaptureBuffer captureBuffer) {
+        this.config        = kassandraProperties.getRequestCapture();
+        this.captureBuffer = captureBuffer;
+    }
 
     @Override
     public void destroy() {
@@ -45,14 +64,46 @@ public class RequestLoggingFilter implements Filter {
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
             throws IOException, ServletException {
-        if (request instanceof HttpServletRequest httpRequest) {
-            CachedBodyHttpServletRequest cachedRequest = new CachedBodyHttpServletRequest(httpRequest);
-            String                       body          = cachedRequest.getRequestBody();
-            String                       requestURL    = httpRequest.getRequestURL().toString();
-            if (DebugUtil.DEBUG) {
-                System.out.format("Received JSON request: %s %s\n", requestURL, body);
+        if (request instanceof HttpServletRequest httpRequest && response instanceof HttpServletResponse httpResponse && isCaptured(httpRequest)) {
+            int         maxBytes    = Math.max(0, config.getMaxBytes());
+            TeeRequest  teeRequest  = new TeeRequest(httpRequest, maxBytes);
+            TeeResponse teeResponse = new TeeResponse(httpResponse, maxBytes);
+            Instant     timestamp   = Instant.now();
+            long        start       = System.nanoTime();
+            boolean     async       = false;
+            try {
+                chain.doFilter(teeRequest, teeResponse);
+                if (teeRequest.isAsyncStarted()) {
+                    // the response is written after this method returns, capture it once the exchange completes
+                    teeRequest.getAsyncContext().addListener(new AsyncListener() {
+                        @Override
+                        public void onComplete(AsyncEvent event) {
+                            offer(httpRequest, httpResponse, teeRequest, teeResponse, timestamp, start);
+                        }
+
+                        @Override
+                        public void onError(AsyncEvent event) {
+                            // onComplete follows
+                        }
+
+                        @Override
+                        public void onStartAsync(AsyncEvent event) {
+                            // keep listening to the restarted exchange
+                            event.getAsyncContext().addListener(this);
+                        }
+
+                        @Override
+                        public void onTimeout(AsyncEvent event) {
+                            // onComplete follows
+                        }
+                    });
+                    async = true;
+                }
+            } finally {
+                if (!async) {
+                    offer(httpRequest, httpResponse, teeRequest, teeResponse, timestamp, start);
+                }
             }
-            chain.doFilter(cachedRequest, response);
         } else {
             chain.doFilter(request, response);
         }
@@ -63,50 +114,189 @@ public class RequestLoggingFilter implements Filter {
         // Initialization code, if needed
     }
 
-    private static class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
+    private boolean isCaptured(HttpServletRequest request) {
+        if (DebugUtil.DEBUG) {
+            return true;
+        }
+        if (!config.isEnabled()) {
+            return false;
+        }
+        boolean selected = config.getHeader() != null && request.getHeader(config.getHeader()) != null;
+        if (!selected) {
+            String path = request.getRequestURI().substring(request.getContextPath().length());
+            for (String pattern : config.getPaths()) {
+                if (pathMatcher.match(pattern, path)) {
+                    selected = true;
+                    break;
+                }
+            }
+        }
+        return selected && (config.getSampleRate() >= 1.0 || ThreadLocalRandom.current().nextDouble() < config.getSampleRate());
+    }
+
+    private void offer(HttpServletRequest request, HttpServletResponse response, TeeRequest teeRequest, TeeResponse teeResponse, Instant timestamp, long start) {
+        teeResponse.flushWriter();
+        String uri = request.getQueryString() == null ? request.getRequestURI() : request.getRequestURI() + "?" + request.getQueryString();
+        captureBuffer.offer(new CapturedExchange(timestamp, request.getMethod(), uri, response.getStatus(),
+                (System.nanoTime() - start) / 1_000_000,
+                teeRequest.capture.toByteArray(), teeRequest.capture.truncated,
+                teeResponse.capture.toByteArray(), teeResponse.capture.truncated));
+    }
+
+    private static Charset toCharset(String encoding) {
+        return encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+    }
+
+    /**
+     * Keeps the first {@code limit} bytes written to it and only remembers that there was more.
+     */
+    private static class BoundedCapture extends ByteArrayOutputStream {
+        private final int     limit;
+        private       boolean truncated;
+
+        BoundedCapture(int limit) {
+            super(Math.min(limit, 256));
+            this.limit = limit;
+        }
+
+        void record(byte[] b, int off, int len) {
+            int n = Math.min(len, limit - count);
+            if (n > 0) {
+                write(b, off, n);
+            }
+            if (n < len) {
+                truncated = true;
+            }
+        }
+
+        void record(int b) {
+            if (count < limit) {
+                write(b);
+            } else {
+                truncated = true;
+            }
+        }
+    }
 
-        private final String requestBody;
+    private static class TeeRequest extends HttpServletRequestWrapper {
+        private final BoundedCapture     capture;
+        private       ServletInputStream inputStream;
+        private       BufferedReader     reader;
 
-        public CachedBodyHttpServletRequest(HttpServletRequest request) throws IOException {
+        TeeRequest(HttpServletRequest request, int maxBytes) {
             super(request);
-            this.requestBody = new BufferedReader(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8))
-                    .lines()
-                    .collect(Collectors.joining("\n"));
+            this.capture = new BoundedCapture(maxBytes);
         }
 
         @Override
         public ServletInputStream getInputStream() throws IOException {
-            ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(requestBody.getBytes(StandardCharsets.UTF_8));
-            return new ServletInputStream() {
-                @Override
-                public boolean isFinished() {
-                    return byteArrayInputStream.available() == 0;
-                }
+            if (inputStream == null) {
+                ServletInputStream delegate = super.getInputStream();
+                inputStream = new ServletInputStream() {
+                    @Override
+                    public boolean isFinished() {
+                        return delegate.isFinished();
+                    }
 
-                @Override
-                public boolean isReady() {
-                    return true;
-                }
+                    @Override
+                    public boolean isReady() {
+                        return delegate.isReady();
+                    }
 
-                @Override
-                public int read() throws IOException {
-                    return byteArrayInputStream.read();
-                }
+                    @Override
+                    public int read() throws IOException {
+                        int b = delegate.read();
+                        if (b != -1) {
+                            capture.record(b);
+                        }
+                        return b;
+                    }
 
-                @Override
-                public void setReadListener(ReadListener readListener) {
-                    // No implementation needed
-                }
-            };
+                    @Override
+                    public int read(byte[] b, int off, int len) throws IOException {
+                        int n = delegate.read(b, off, len);
+                        if (n > 0) {
+                            capture.record(b, off, n);
+                        }
+                        return n;
+                    }
+
+                    @Override
+                    public void setReadListener(ReadListener readListener) {
+                        delegate.setReadListener(readListener);
+                    }
+                };
+            }
+            return inputStream;
         }
 
         @Override
         public BufferedReader getReader() throws IOException {
-            return new BufferedReader(new InputStreamReader(this.getInputStream(), StandardCharsets.UTF_8));
+            if (reader == null) {
+                reader = new BufferedReader(new InputStreamReader(getInputStream(), toCharset(getCharacterEncoding())));
+            }
+            return reader;
+        }
+    }
+
+    private static class TeeResponse extends HttpServletResponseWrapper {
+        private final BoundedCapture      capture;
+        private       ServletOutputStream outputStream;
+        private       PrintWriter         writer;
+
+        TeeResponse(HttpServletResponse response, int maxBytes) {
+            super(response);
+            this.capture = new BoundedCapture(maxBytes);
         }
 
-        public String getRequestBody() {
-            return this.requestBody;
+        void flushWriter() {
+            if (writer != null) {
+                writer.flush();
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream delegate = super.getOutputStream();
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void flush() throws IOException {
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return delegate.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                        delegate.setWriteListener(writeListener);
+                    }
+
+                    @Override
+                    public void write(int b) throws IOException {
+                        delegate.write(b);
+                        capture.record(b);
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        delegate.write(b, off, len);
+                        capture.record(b, off, len);
+                    }
+                };
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), toCharset(getCharacterEncoding())));
+            }
+            return writer;
         }
     }
-}
\ No newline at end of file
+}
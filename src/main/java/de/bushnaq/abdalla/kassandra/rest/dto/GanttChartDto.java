@@ -37,6 +37,11 @@ public class GanttChartDto {
 
     public List<TaskDto>       tasks      = new ArrayList<>();
     public Meta                meta       = new Meta();
+    /**
+     * Calendar exceptions of every assigned user, sent only once per user.
+     * Tasks refer to their entry by {@link TaskDto#calendarIndex}.
+     */
+    public List<List<CalendarExceptionDto>> calendars = new ArrayList<>();
 
     /**
      * Chart metadata: date range, sprint info, and theme colors.
@@ -71,8 +76,12 @@ public class GanttChartDto {
          * Theme colors as a nested class-structured object mirroring Java's {@code Theme} hierarchy.
          * Each sub-theme (chartTheme, ganttTheme, xAxesTheme, ...) contains typed color fields
          * as 0xRRGGBB integers. Mirrors Java: {@code Theme → ChartTheme / GanttTheme / ...}
+         * <p>
+         * {@code null} if the client already received the theme with the same {@link #themeKey}.
          */
         public ThemeDto theme = new ThemeDto();
+        /** Key the client uses to cache the theme ("light" or "dark"). */
+        public String   themeKey;
     }
 
 
@@ -152,10 +161,17 @@ public class GanttChartDto {
         public int    rowIndex;
         /** Finish-to-start predecessor relations for drawing dependency arrows. */
         public List<RelationDto>          predecessors       = new ArrayList<>();
+        /**
+         * Index into {@link GanttChartDto#calendars} holding the non-working day ranges of the assigned user,
+         * {@code null} if no user is assigned.
+         */
+        public Integer                    calendarIndex;
         /**
          * Non-working day ranges for the assigned user (weekdays only).
          * Weekends are excluded because the JS derives them from the day-of-week.
+         * Left empty by the server and therefore not serialized, the JS resolves it from {@link #calendarIndex}.
          */
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
         public List<CalendarExceptionDto> calendarExceptions = new ArrayList<>();
     }
 }
@@ -16,6 +16,25 @@ public class SprintOverviewDto {
     public List<LaneDto> lanes = new ArrayList<>();
     public Meta          meta  = new Meta();
 
+    /**
+     * Shallow copy that shares lanes and theme, but has its own meta with the given current time.
+     * Allows handing out a cached overview without modifying it.
+     *
+     * @param now the current time
+     * @return the copy
+     */
+    public SprintOverviewDto withNow(LocalDateTime now) {
+        SprintOverviewDto copy = new SprintOverviewDto();
+        copy.lanes           = lanes;
+        copy.meta.chartEnd   = meta.chartEnd;
+        copy.meta.chartStart = meta.chartStart;
+        copy.meta.laneCount  = meta.laneCount;
+        copy.meta.now        = now;
+        copy.meta.version    = meta.version;
+        copy.meta.theme      = meta.theme;
+        return copy;
+    }
+
     public static class LaneDto {
         public int             laneId;
         public List<SprintDto> sprints = new ArrayList<>();
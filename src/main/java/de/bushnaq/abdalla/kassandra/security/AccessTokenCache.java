@@ -0,0 +1,173 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.event.LogoutSuccessEvent;
+import org.springframework.security.core.session.SessionDestroyedEvent;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Caches OAuth2 access tokens per principal and client registration for the loopback REST calls of the UI.
+ * <p>
+ * Resolving the {@link OAuth2AuthorizedClient} through the authorized client manager on every REST call is expensive,
+ * a single view can issue dozens of calls. A token is kept until {@link #DEFAULT_REFRESH_MARGIN} before it expires,
+ * then the next caller resolves it again while concurrent callers for the same key wait for that one result instead of
+ * resolving it themselves. Tokens of a principal are evicted on logout.
+ */
+@Component
+public class AccessTokenCache {
+    public static final  Duration                 DEFAULT_REFRESH_MARGIN = Duration.ofSeconds(30);
+    /**
+     * tokens without expiry information are resolved again after this time
+     */
+    public static final  Duration                 MAX_AGE_WITHOUT_EXPIRY = Duration.ofMinutes(1);
+    private static final Logger                   logger                 = LoggerFactory.getLogger(AccessTokenCache.class);
+    private final        Clock                    clock;
+    private final        LongAdder                hits                   = new LongAdder();
+    private final        LongAdder                loads                  = new LongAdder();
+    private final        Map<Key, Object>         locks                  = new ConcurrentHashMap<>();
+    private final        Duration                 refreshMargin;
+    private final        Map<Key, CachedToken>    tokens                 = new ConcurrentHashMap<>();
+
+    public AccessTokenCache() {
+        this(Clock.systemUTC(), DEFAULT_REFRESH_MARGIN);
+    }
+
+    /**
+     * @param clock         clock used to decide if a cached token is still fresh
+     * @param refreshMargin a token is resolved again this long before it expires
+     */
+    public AccessTokenCache(Clock clock, Duration refreshMargin) {
+        this.clock         = clock;
+        this.refreshMargin = refreshMargin;
+    }
+
+    /**
+     * Removes all cached tokens.
+     */
+    public void clear() {
+        tokens.clear();
+        locks.clear();
+    }
+
+    /**
+     * Removes all cached tokens of the principal.
+     *
+     * @param principalName the principal name
+     */
+    public void evict(String principalName) {
+        if (principalName == null) {
+            return;
+        }
+        tokens.keySet().removeIf(key -> key.principalName().equals(principalName));
+        locks.keySet().removeIf(key -> key.principalName().equals(principalName));
+        logger.trace("Evicted cached access tokens of {}", principalName);
+    }
+
+    /**
+     * Returns the cached access token or resolves it with the loader if there is none or it is about to expire.
+     * Only one thread per key calls the loader, other threads asking for the same key wait for its result.
+     *
+     * @param registrationId the client registration id
+     * @param principalName  the principal name
+     * @param loader         resolves the authorized client, may return null
+     * @return the access token or null if the loader did not provide one
+     */
+    public OAuth2AccessToken get(String registrationId, String principalName, Supplier<OAuth2AuthorizedClient> loader) {
+        Key         key    = new Key(registrationId, principalName);
+        CachedToken cached = tokens.get(key);
+        if (cached != null && cached.isFresh(clock.instant())) {
+            hits.increment();
+            return cached.token();
+        }
+        synchronized (locks.computeIfAbsent(key, k -> new Object())) {
+            //another thread might have resolved the token while we were waiting
+            cached = tokens.get(key);
+            if (cached != null && cached.isFresh(clock.instant())) {
+                hits.increment();
+                return cached.token();
+            }
+            loads.increment();
+            OAuth2AuthorizedClient client = loader.get();
+            OAuth2AccessToken      token  = client != null ? client.getAccessToken() : null;
+            if (token == null) {
+                tokens.remove(key);
+                return null;
+            }
+            Instant now        = clock.instant();
+            Instant freshUntil = token.getExpiresAt() != null ? token.getExpiresAt().minus(refreshMargin) : now.plus(MAX_AGE_WITHOUT_EXPIRY);
+            if (freshUntil.isAfter(now)) {
+                tokens.put(key, new CachedToken(token, freshUntil));
+            } else {
+                //already (almost) expired, do not keep it around
+                tokens.remove(key);
+            }
+            return token;
+        }
+    }
+
+    /**
+     * @return number of calls answered from the cache
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of calls that had to resolve the token
+     */
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    @EventListener
+    public void onLogoutSuccess(LogoutSuccessEvent event) {
+        evict(event.getAuthentication().getName());
+    }
+
+    @EventListener
+    public void onSessionDestroyed(SessionDestroyedEvent event) {
+        event.getSecurityContexts().forEach(context -> {
+            if (context.getAuthentication() != null) {
+                evict(context.getAuthentication().getName());
+            }
+        });
+    }
+
+    private record CachedToken(OAuth2AccessToken token, Instant freshUntil) {
+        boolean isFresh(Instant now) {
+            return now.isBefore(freshUntil);
+        }
+    }
+
+    private record Key(String registrationId, String principalName) {
+    }
+}
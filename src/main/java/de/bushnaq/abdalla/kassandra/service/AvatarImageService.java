@@ -0,0 +1,183 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.service;
+
+import de.bushnaq.abdalla.kassandra.dao.AvatarImageDAO;
+import de.bushnaq.abdalla.kassandra.dto.AvatarTheme;
+import de.bushnaq.abdalla.kassandra.dto.AvatarVariant;
+import de.bushnaq.abdalla.kassandra.repository.AvatarImageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Stores and serves the avatars of users, products, features and sprints.
+ * <p>
+ * Each uploaded image is scaled once to all {@link AvatarVariant}s and every variant is stored in its own
+ * {@link AvatarImageDAO} row. Serving an avatar reads the bytes of exactly one theme and variant, a grid of 24px avatars
+ * no longer reads the full light and dark images of every row.
+ * </p>
+ */
+@Service
+@Slf4j
+public class AvatarImageService {
+
+    @Autowired
+    private AvatarImageRepository avatarImageRepository;
+
+    /**
+     * Delete all themes and variants of an avatar.
+     *
+     * @param ownerId the id of the user, product, feature or sprint
+     */
+    public void delete(UUID ownerId) {
+        avatarImageRepository.deleteByOwnerId(ownerId);
+    }
+
+    /**
+     * Read one theme and size variant of an avatar.
+     * Avatars stored before a variant was introduced fall back to the uploaded image.
+     *
+     * @param ownerId the id of the user, product, feature or sprint
+     * @param theme   the theme
+     * @param variant the size variant
+     * @return PNG bytes, or empty if the avatar theme was never uploaded
+     */
+    public Optional<byte[]> find(UUID ownerId, AvatarTheme theme, AvatarVariant variant) {
+        Optional<byte[]> image = avatarImageRepository.findImage(ownerId, theme, variant);
+        if (image.isEmpty() && variant != AvatarVariant.FULL) {
+            return avatarImageRepository.findImage(ownerId, theme, AvatarVariant.FULL);
+        }
+        return image;
+    }
+
+    /**
+     * Read the dark avatar, falls back to the light avatar when no dark variant has been stored yet.
+     *
+     * @param ownerId the id of the user, product, feature or sprint
+     * @param variant the size variant
+     * @return PNG bytes, or empty if no avatar exists at all
+     */
+    public Optional<byte[]> findDark(UUID ownerId, AvatarVariant variant) {
+        return find(ownerId, AvatarTheme.DARK, variant)
+                .or(() -> find(ownerId, AvatarTheme.LIGHT, variant));
+    }
+
+    /**
+     * Move one batch of avatars from a legacy table that stored light and dark image in one row.
+     * Migrated rows are deleted.
+     *
+     * @param repository the legacy repository
+     * @param ids        ids of the legacy rows of this batch
+     * @param owner      id of the user, product, feature or sprint of a legacy row
+     * @param light      light image of a legacy row
+     * @param dark       dark image of a legacy row
+     * @param <T>        the legacy entity
+     * @return number of migrated rows
+     */
+    @Transactional
+    public <T> int migrate(ListCrudRepository<T, UUID> repository, List<UUID> ids, Function<T, UUID> owner, Function<T, byte[]> light, Function<T, byte[]> dark) {
+        List<T> batch = repository.findAllById(ids);
+        for (T legacy : batch) {
+            UUID   ownerId    = owner.apply(legacy);
+            byte[] lightImage = light.apply(legacy);
+            byte[] darkImage  = dark.apply(legacy);
+            if (lightImage != null && lightImage.length != 0) {
+                store(ownerId, AvatarTheme.LIGHT, lightImage);
+            }
+            if (darkImage != null && darkImage.length != 0) {
+                store(ownerId, AvatarTheme.DARK, darkImage);
+            }
+        }
+        repository.deleteAll(batch);
+        return batch.size();
+    }
+
+    /**
+     * Scale an image to fit into a square, images that already fit are returned unchanged.
+     *
+     * @param imageBytes the image
+     * @param size       width and height of the square, 0 keeps the image
+     * @return PNG bytes
+     * @throws IOException if the bytes are not a readable image
+     */
+    static byte[] scale(byte[] imageBytes, int size) throws IOException {
+        if (size == 0) {
+            return imageBytes;
+        }
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(imageBytes));
+        if (image == null) {
+            throw new IOException("Failed to read image from byte array");
+        }
+        if (image.getWidth() <= size && image.getHeight() <= size) {
+            return imageBytes;
+        }
+        double        factor = Math.min((double) size / image.getWidth(), (double) size / image.getHeight());
+        int           width  = Math.max(1, (int) Math.round(image.getWidth() * factor));
+        int           height = Math.max(1, (int) Math.round(image.getHeight() * factor));
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D    g      = scaled.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.drawImage(image, 0, 0, width, height, null);
+        g.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(scaled, "PNG", out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Replace one theme of an avatar, all size variants are computed here once.
+     * Bytes that cannot be decoded as image are stored unchanged for every variant.
+     *
+     * @param ownerId the id of the user, product, feature or sprint
+     * @param theme   the theme
+     * @param image   the uploaded image
+     */
+    @Transactional
+    public void store(UUID ownerId, AvatarTheme theme, byte[] image) {
+        avatarImageRepository.deleteByOwnerIdAndTheme(ownerId, theme);
+        for (AvatarVariant variant : AvatarVariant.values()) {
+            AvatarImageDAO dao = new AvatarImageDAO();
+            dao.setOwnerId(ownerId);
+            dao.setTheme(theme);
+            dao.setVariant(variant);
+            try {
+                dao.setImage(scale(image, variant.getSize()));
+            } catch (IOException e) {
+                log.warn("Could not scale {} avatar of {} to {}: {}", theme, ownerId, variant, e.getMessage());
+                dao.setImage(image);
+            }
+            avatarImageRepository.save(dao);
+        }
+    }
+}
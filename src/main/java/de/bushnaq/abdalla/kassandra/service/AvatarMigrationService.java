@@ -0,0 +1,98 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.service;
+
+import de.bushnaq.abdalla.kassandra.dao.*;
+import de.bushnaq.abdalla.kassandra.repository.*;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Moves avatars from the legacy tables that stored light and dark image in one row into per variant storage.
+ * Runs automatically at application startup, once, and is recorded in {@link AppliedMigrationDAO}.
+ * Every batch of {@link #BATCH_SIZE} rows is migrated in its own transaction, only the ids of the legacy rows are read
+ * up front.
+ */
+@Service
+@Slf4j
+public class AvatarMigrationService {
+    static final        int    BATCH_SIZE               = 50;
+    public static final String LEGACY_AVATARS_MIGRATION = "legacy-avatars";
+
+    @Autowired
+    private AppliedMigrationRepository appliedMigrationRepository;
+    @Autowired
+    private AvatarImageService         avatarImageService;
+    @Autowired
+    private FeatureAvatarRepository    featureAvatarRepository;
+    @Autowired
+    private ProductAvatarRepository    productAvatarRepository;
+    @Autowired
+    private SprintAvatarRepository     sprintAvatarRepository;
+    @Autowired
+    private UserAvatarRepository       userAvatarRepository;
+
+    /**
+     * Migrated rows are deleted, so every batch reads the first page of the remaining ids.
+     */
+    private int migrate(Function<Pageable, List<UUID>> findIds, ToIntFunction<List<UUID>> migrateBatch, int batchSize) {
+        int count = 0;
+        for (List<UUID> ids = findIds.apply(PageRequest.of(0, batchSize)); !ids.isEmpty(); ids = findIds.apply(PageRequest.of(0, batchSize))) {
+            count += migrateBatch.applyAsInt(ids);
+        }
+        return count;
+    }
+
+    /**
+     * Move all avatars of the legacy tables.
+     *
+     * @param batchSize number of legacy rows migrated per transaction
+     * @return number of migrated rows
+     */
+    int migrateAll(int batchSize) {
+        return migrate(userAvatarRepository::findIds,
+                ids -> avatarImageService.migrate(userAvatarRepository, ids, UserAvatarDAO::getUserId, UserAvatarDAO::getLightAvatarImage, UserAvatarDAO::getDarkAvatarImage), batchSize)
+                + migrate(productAvatarRepository::findIds,
+                ids -> avatarImageService.migrate(productAvatarRepository, ids, ProductAvatarDAO::getProductId, ProductAvatarDAO::getLightAvatarImage, ProductAvatarDAO::getDarkAvatarImage), batchSize)
+                + migrate(featureAvatarRepository::findIds,
+                ids -> avatarImageService.migrate(featureAvatarRepository, ids, FeatureAvatarDAO::getFeatureId, FeatureAvatarDAO::getLightAvatarImage, FeatureAvatarDAO::getDarkAvatarImage), batchSize)
+                + migrate(sprintAvatarRepository::findIds,
+                ids -> avatarImageService.migrate(sprintAvatarRepository, ids, SprintAvatarDAO::getSprintId, SprintAvatarDAO::getLightAvatarImage, SprintAvatarDAO::getDarkAvatarImage), batchSize);
+    }
+
+    @PostConstruct
+    public void migrateLegacyAvatars() {
+        if (appliedMigrationRepository.existsById(LEGACY_AVATARS_MIGRATION)) {
+            log.info("Legacy avatar migration already applied.");
+            return;
+        }
+        log.info("Starting legacy avatar migration...");
+        int count = migrateAll(BATCH_SIZE);
+        appliedMigrationRepository.save(new AppliedMigrationDAO(LEGACY_AVATARS_MIGRATION));
+        log.info("Legacy avatar migration completed with {} avatars.", count);
+    }
+}
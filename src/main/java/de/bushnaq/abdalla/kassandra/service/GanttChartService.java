@@ -18,6 +18,7 @@
 package de.bushnaq.abdalla.kassandra.service;
 
 import de.bushnaq.abdalla.kassandra.dto.*;
+import de.bushnaq.abdalla.kassandra.report.calendar.CalendarDayType;
 import de.bushnaq.abdalla.kassandra.report.dao.theme.DarkTheme;
 import de.bushnaq.abdalla.kassandra.report.dao.theme.LightTheme;
 import de.bushnaq.abdalla.kassandra.report.dao.theme.Theme;
@@ -32,7 +33,10 @@ import org.springframework.stereotype.Service;
 import java.awt.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Builds a {@link GanttChartDto} from a fully-loaded {@link Sprint} so that
@@ -40,9 +44,9 @@ import java.util.List;
  * Gantt chart without any further server calls.
  *
  * <p>Colour computation mirrors {@code AbstractGanttRenderer.drawTask()} and
- * related methods.  Calendar exceptions are extracted from each task's
- * assigned user's off-day list so the browser can determine working vs.
- * non-working days per row.
+ * related methods.  Calendar exceptions (off days and holidays) are taken from
+ * each task's assigned user's day classification so the browser can determine
+ * working vs. non-working days per row.
  */
 @Service
 @Slf4j
@@ -119,13 +123,23 @@ public class GanttChartService {
         dto.meta.preRun     = preRun;
         dto.meta.postRun    = postRun;
         dto.meta.theme = ThemeDto.fromTheme(theme);
+        dto.meta.themeKey = dark ? "dark" : "light";
 
 
         // ── Task rows ─────────────────────────────────────────────────────
-        int rowIndex = 0;
+        // every user's calendar exceptions are sent once and referenced by index
+        Map<User, Integer> calendarIndexByUser = new IdentityHashMap<>();
+        int                rowIndex            = 0;
         for (Task task : sprint.getTasks()) {
             if (GanttUtil.isValidTask(task)) {
-                dto.tasks.add(buildTaskDto(task, rowIndex, theme));
+                GanttChartDto.TaskDto taskDto = buildTaskDto(task, rowIndex, theme);
+                if (task.getAssignedUser() != null) {
+                    taskDto.calendarIndex = calendarIndexByUser.computeIfAbsent(task.getAssignedUser(), user -> {
+                        dto.calendars.add(buildCalendarExceptions(user, dto.meta.chartStart.toLocalDate(), dto.meta.chartEnd.toLocalDate()));
+                        return dto.calendars.size() - 1;
+                    });
+                }
+                dto.tasks.add(taskDto);
                 rowIndex++;
             }
         }
@@ -135,6 +149,52 @@ public class GanttChartService {
 
     // ── Private helpers ───────────────────────────────────────────────────────
 
+    /**
+     * Calendar exceptions within the chart range, built from the user's cached day classification,
+     * consecutive days of the same type are merged into one exception.
+     * Falls back to the user's off-day list if the user calendar was not initialized.
+     */
+    private List<GanttChartDto.CalendarExceptionDto> buildCalendarExceptions(User user, LocalDate chartStart, LocalDate chartEnd) {
+        if (user.getCalendar() == null) {
+            return buildCalendarExceptionsFromOffDays(user);
+        }
+        List<GanttChartDto.CalendarExceptionDto> exceptions = new ArrayList<>();
+        GanttChartDto.CalendarExceptionDto       current    = null;
+        for (LocalDate day = chartStart; !day.isAfter(chartEnd); day = day.plusDays(1)) {
+            CalendarDayType type = user.getDayClassification(day.getYear()).getType(day);
+            if (!type.isException()) {
+                current = null;
+            } else if (current != null && current.type.equals(type.name())) {
+                current.to = day;
+            } else {
+                current        = new GanttChartDto.CalendarExceptionDto();
+                current.from   = day;
+                current.to     = day;
+                current.type   = type.name();
+                current.letter = type.getLetter();
+                exceptions.add(current);
+            }
+        }
+        return exceptions;
+    }
+
+    /** Calendar exceptions from the user's off-day list. */
+    private List<GanttChartDto.CalendarExceptionDto> buildCalendarExceptionsFromOffDays(User user) {
+        List<GanttChartDto.CalendarExceptionDto> exceptions = new ArrayList<>();
+        List<OffDay>                             offDays    = user.getOffDays();
+        if (offDays != null) {
+            for (OffDay offDay : offDays) {
+                GanttChartDto.CalendarExceptionDto ex = new GanttChartDto.CalendarExceptionDto();
+                ex.from   = offDay.getFirstDay();
+                ex.to     = offDay.getLastDay();
+                ex.type   = offDay.getType() != null ? offDay.getType().name() : "HOLIDAY";
+                ex.letter = getOffDayLetter(offDay.getType());
+                exceptions.add(ex);
+            }
+        }
+        return exceptions;
+    }
+
     private GanttChartDto.TaskDto buildTaskDto(Task task, int rowIndex, Theme theme) {
         GanttChartDto.TaskDto dto = new GanttChartDto.TaskDto();
 
@@ -201,21 +261,6 @@ public class GanttChartService {
             }
         }
 
-        // ── Calendar exceptions from assigned user's off-day list ────────
-        if (task.getAssignedUser() != null) {
-            List<OffDay> offDays = task.getAssignedUser().getOffDays();
-            if (offDays != null) {
-                for (OffDay offDay : offDays) {
-                    GanttChartDto.CalendarExceptionDto ex = new GanttChartDto.CalendarExceptionDto();
-                    ex.from   = offDay.getFirstDay();
-                    ex.to     = offDay.getLastDay();
-                    ex.type   = offDay.getType() != null ? offDay.getType().name() : "HOLIDAY";
-                    ex.letter = getOffDayLetter(offDay.getType());
-                    dto.calendarExceptions.add(ex);
-                }
-            }
-        }
-
         return dto;
     }
 
@@ -0,0 +1,74 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Greedy first-fit packing of closed time intervals into lanes.
+ * <p>
+ * Intervals must be offered in ascending start order. Every interval is placed into the lowest lane
+ * that does not contain an overlapping interval, intervals that only touch are considered overlapping
+ * (same as {@link de.bushnaq.abdalla.util.date.DateUtil#isOverlapping}).
+ * Busy lanes are kept in a priority queue ordered by their end time and released lanes in a sorted set,
+ * so packing n intervals costs O(n log n).
+ */
+public class LaneAllocator {
+    private final PriorityQueue<BusyLane> busyLanes = new PriorityQueue<>(Comparator.comparing(BusyLane::end).thenComparingInt(BusyLane::laneId));
+    private final TreeSet<Integer>        freeLanes = new TreeSet<>();
+    private final List<LocalDateTime>     laneEnds  = new ArrayList<>();
+    private       LocalDateTime           lastStart;
+
+    /**
+     * Places the interval into the lowest free lane.
+     *
+     * @param start start of the interval, must not be before the start of the previous interval
+     * @param end   end of the interval
+     * @return the lane id, lanes are numbered from 0 without gaps
+     */
+    public int allocate(LocalDateTime start, LocalDateTime end) {
+        if (lastStart != null && start.isBefore(lastStart)) {
+            throw new IllegalArgumentException(String.format("Intervals must be allocated in ascending start order, %s is before %s", start, lastStart));
+        }
+        lastStart = start;
+        // lanes whose last interval ended before this one starts can never overlap again
+        while (!busyLanes.isEmpty() && busyLanes.peek().end().isBefore(start)) {
+            freeLanes.add(busyLanes.poll().laneId());
+        }
+        int laneId;
+        if (freeLanes.isEmpty()) {
+            laneId = laneEnds.size();
+            laneEnds.add(end);
+        } else {
+            laneId = freeLanes.pollFirst();
+            if (end.isAfter(laneEnds.get(laneId))) {
+                laneEnds.set(laneId, end);
+            }
+        }
+        busyLanes.add(new BusyLane(laneEnds.get(laneId), laneId));
+        return laneId;
+    }
+
+    public int getLaneCount() {
+        return laneEnds.size();
+    }
+
+    private record BusyLane(LocalDateTime end, int laneId) {
+    }
+}
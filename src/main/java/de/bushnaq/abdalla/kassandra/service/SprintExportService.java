@@ -27,9 +27,13 @@ import net.sf.mpxj.*;
 import net.sf.mpxj.mspdi.MSPDIWriter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import tools.jackson.core.JsonEncoding;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteFeature;
 import tools.jackson.databind.json.JsonMapper;
 
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 
@@ -45,10 +49,17 @@ import java.util.*;
  *     tasks become MPXJ tasks with hierarchy and predecessor relations preserved,
  *     and work estimates are written as resource-assignment work values.</li>
  * </ul>
+ * The {@code write*} methods stream the document to an {@link OutputStream} instead of returning a byte array,
+ * {@link #writeSprintsJson} additionally pulls the tasks of every sprint page by page so that exporting a whole product
+ * never needs all of its tasks in memory at once.
  */
 @Service
 @Slf4j
 public class SprintExportService {
+    /**
+     * Default number of tasks loaded per page by {@link #writeSprintsJson}.
+     */
+    public static final int TASK_PAGE_SIZE = 200;
 
     @Autowired
     private JsonMapper jsonMapper;
@@ -69,6 +80,149 @@ public class SprintExportService {
      * @throws Exception if the MPXJ writer encounters an error
      */
     public byte[] exportToMspdiXml(Sprint sprint) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+        writeMspdiXml(sprint, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Exports the sprint to JSON format using the same container structure as the Gantt
+     * regression tests ({@code users}, {@code sprint}, {@code tasks} keys).
+     *
+     * @param sprint the fully initialised sprint (users, tasks, and worklogs already loaded)
+     * @return UTF-8 encoded JSON bytes
+     * @throws Exception if the Jackson serialiser encounters an error
+     */
+    public byte[] exportToJson(Sprint sprint) throws Exception {
+        Map<String, Object> container = new LinkedHashMap<>();
+        container.put("users", sprint.getUserMap().values().stream()
+                .sorted(Comparator.comparing(User::getName))
+                .toList());
+        container.put("sprint", sprint);
+        container.put("tasks", sprint.getTasks());
+
+        String json = jsonMapper.writerWithDefaultPrettyPrinter().writeValueAsString(container);
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Streams the sprint to the output in the format of {@link #exportToJson(Sprint)}, the output is byte identical.
+     * Tasks are serialized one by one, no intermediate tree or string is built.
+     *
+     * @param sprint the fully initialised sprint (users, tasks, and worklogs already loaded)
+     * @param out    the target, it is flushed but not closed
+     */
+    public void writeJson(Sprint sprint, OutputStream out) {
+        try (JsonGenerator generator = createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeName("users");
+            writeArray(generator, sprint.getUserMap().values().stream()
+                    .sorted(Comparator.comparing(User::getName))
+                    .toList());
+            generator.writeName("sprint");
+            generator.writePOJO(sprint);
+            generator.writeName("tasks");
+            writeArray(generator, sprint.getTasks());
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Streams the sprint to the output in MSPDI XML format, see {@link #exportToMspdiXml(Sprint)}.
+     * <p>
+     * MSPDI needs the complete MPXJ project model to resolve resources and predecessors, so the project is still built
+     * in memory, but the XML is marshalled directly into the output instead of an intermediate byte array.
+     *
+     * @param sprint the fully initialised sprint (users, tasks, and worklogs already loaded)
+     * @param out    the target, it is not closed
+     * @throws Exception if the MPXJ writer encounters an error
+     */
+    public void writeMspdiXml(Sprint sprint, OutputStream out) throws Exception {
+        new MSPDIWriter().write(createProjectFile(sprint), out);
+    }
+
+    /**
+     * Streams several sprints into one JSON document of the form
+     * {@code {"users": [...], "sprints": [{"sprint": {...}, "tasks": [...]}, ...]}}.
+     * <p>
+     * The tasks of every sprint are requested from the loader one page at a time and are written before the next page
+     * is requested, so a loader that does not keep the returned pages (e.g. clears the persistence context) keeps the
+     * heap flat independent of the number of tasks.
+     *
+     * @param users    the users referenced by the tasks
+     * @param sprints  the sprints, any object Jackson can serialize
+     * @param loader   provides the tasks of a sprint page by page
+     * @param pageSize number of tasks requested per page
+     * @param out      the target, it is flushed but not closed
+     * @param <S>      the sprint type
+     */
+    public <S> void writeSprintsJson(Collection<?> users, Collection<S> sprints, TaskPageLoader<S> loader, int pageSize, OutputStream out) {
+        try (JsonGenerator generator = createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeName("users");
+            writeArray(generator, users);
+            generator.writeName("sprints");
+            generator.writeStartArray();
+            for (S sprint : sprints) {
+                generator.writeStartObject();
+                generator.writeName("sprint");
+                generator.writePOJO(sprint);
+                generator.writeName("tasks");
+                generator.writeStartArray();
+                for (int pageIndex = 0; ; pageIndex++) {
+                    List<?> page = loader.load(sprint, pageIndex, pageSize);
+                    for (Object task : page) {
+                        generator.writePOJO(task);
+                    }
+                    generator.flush();
+                    if (page.size() < pageSize) {
+                        break;
+                    }
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // private helpers
+    // -------------------------------------------------------------------------
+
+    /**
+     * Recursively adds child MPXJ tasks under the given parent.
+     *
+     * @param mpxjParent        the MPXJ parent task to add children to
+     * @param parent            the Kassandra parent task whose children should be added
+     * @param userToResourceMap mapping of user IDs to their MPXJ resource counterparts
+     * @param mpxjTaskMap       accumulator map of Kassandra task ID → MPXJ task
+     */
+    private void addChildTasksRecursively(net.sf.mpxj.Task mpxjParent, Task parent,
+            Map<UUID, net.sf.mpxj.Resource> userToResourceMap,
+            Map<UUID, net.sf.mpxj.Task> mpxjTaskMap) {
+        List<Task> children = parent.getChildTasks().stream()
+                .sorted(Comparator.comparingInt(Task::getOrderId))
+                .toList();
+        for (Task child : children) {
+            net.sf.mpxj.Task mpxjChild = mpxjParent.addTask();
+            populateMpxjTask(mpxjChild, child, userToResourceMap);
+            mpxjTaskMap.put(child.getId(), mpxjChild);
+            addChildTasksRecursively(mpxjChild, child, userToResourceMap, mpxjTaskMap);
+        }
+    }
+
+    private JsonGenerator createGenerator(OutputStream out) {
+        return jsonMapper.writerWithDefaultPrettyPrinter()
+                .without(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                .createGenerator(out, JsonEncoding.UTF8);
+    }
+
+    /**
+     * Builds the MPXJ project for the sprint, see {@link #exportToMspdiXml(Sprint)}.
+     */
+    private ProjectFile createProjectFile(Sprint sprint) {
         ProjectFile projectFile = new ProjectFile();
 
         // Project properties
@@ -121,55 +275,7 @@ public class SprintExportService {
             }
         }
 
-        ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
-        new MSPDIWriter().write(projectFile, out);
-        return out.toByteArray();
-    }
-
-    /**
-     * Exports the sprint to JSON format using the same container structure as the Gantt
-     * regression tests ({@code users}, {@code sprint}, {@code tasks} keys).
-     *
-     * @param sprint the fully initialised sprint (users, tasks, and worklogs already loaded)
-     * @return UTF-8 encoded JSON bytes
-     * @throws Exception if the Jackson serialiser encounters an error
-     */
-    public byte[] exportToJson(Sprint sprint) throws Exception {
-        Map<String, Object> container = new LinkedHashMap<>();
-        container.put("users", sprint.getUserMap().values().stream()
-                .sorted(Comparator.comparing(User::getName))
-                .toList());
-        container.put("sprint", sprint);
-        container.put("tasks", sprint.getTasks());
-
-        String json = jsonMapper.writerWithDefaultPrettyPrinter().writeValueAsString(container);
-        return json.getBytes(StandardCharsets.UTF_8);
-    }
-
-    // -------------------------------------------------------------------------
-    // private helpers
-    // -------------------------------------------------------------------------
-
-    /**
-     * Recursively adds child MPXJ tasks under the given parent.
-     *
-     * @param mpxjParent        the MPXJ parent task to add children to
-     * @param parent            the Kassandra parent task whose children should be added
-     * @param userToResourceMap mapping of user IDs to their MPXJ resource counterparts
-     * @param mpxjTaskMap       accumulator map of Kassandra task ID → MPXJ task
-     */
-    private void addChildTasksRecursively(net.sf.mpxj.Task mpxjParent, Task parent,
-            Map<UUID, net.sf.mpxj.Resource> userToResourceMap,
-            Map<UUID, net.sf.mpxj.Task> mpxjTaskMap) {
-        List<Task> children = parent.getChildTasks().stream()
-                .sorted(Comparator.comparingInt(Task::getOrderId))
-                .toList();
-        for (Task child : children) {
-            net.sf.mpxj.Task mpxjChild = mpxjParent.addTask();
-            populateMpxjTask(mpxjChild, child, userToResourceMap);
-            mpxjTaskMap.put(child.getId(), mpxjChild);
-            addChildTasksRecursively(mpxjChild, child, userToResourceMap, mpxjTaskMap);
-        }
+        return projectFile;
     }
 
     /**
@@ -213,6 +319,30 @@ public class SprintExportService {
             }
         }
     }
+
+    private void writeArray(JsonGenerator generator, Collection<?> values) {
+        generator.writeStartArray();
+        for (Object value : values) {
+            generator.writePOJO(value);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Loads the tasks of a sprint page by page.
+     *
+     * @param <S> the sprint type
+     */
+    @FunctionalInterface
+    public interface TaskPageLoader<S> {
+        /**
+         * @param sprint    the sprint
+         * @param pageIndex zero based page index
+         * @param pageSize  maximum number of tasks in the page
+         * @return the tasks of the page, a page with less than pageSize tasks is the last one
+         */
+        List<?> load(S sprint, int pageIndex, int pageSize);
+    }
 }
 
 
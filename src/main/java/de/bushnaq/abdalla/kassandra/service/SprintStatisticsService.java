@@ -0,0 +1,182 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.service;
+
+import de.bushnaq.abdalla.kassandra.ParameterOptions;
+import de.bushnaq.abdalla.kassandra.dao.SprintDAO;
+import de.bushnaq.abdalla.kassandra.dto.*;
+import de.bushnaq.abdalla.kassandra.repository.SprintRepository;
+import de.bushnaq.abdalla.kassandra.repository.TaskRepository;
+import de.bushnaq.abdalla.kassandra.repository.UserRepository;
+import de.bushnaq.abdalla.kassandra.repository.WorklogRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Materialized {@link SprintStatistics} of every sprint that has been requested at least once.
+ * <p>
+ * Calculating the statistics needs the sprint with all its users, tasks and worklogs, doing this for every sprint each time
+ * the insights are opened costs four REST calls and a full recalculation per sprint. Instead, the snapshots are kept in memory
+ * and recalculated on a background thread whenever {@link #invalidate(UUID)} reports a change of the sprint, its tasks or its
+ * worklogs. Several changes within {@link #DEBOUNCE_MS} are coalesced into one recalculation. A snapshot that is not up to date
+ * when it is requested, or that was calculated on a previous day, is recalculated synchronously.
+ */
+@Service
+@Slf4j
+public class SprintStatisticsService {
+    private static final long                     DEBOUNCE_MS       = 500;
+    private final        JsonMapper               jsonMapper;
+    private final        Set<UUID>                scheduled         = ConcurrentHashMap.newKeySet();// sprints with a pending background recalculation
+    private final        Map<UUID, Entry>         snapshots         = new ConcurrentHashMap<>();
+    private final        SprintRepository         sprintRepository;
+    private final        JsonMapper               statisticsMapper  = new JsonMapper();// same serialization as the insights prompt
+    private final        TaskRepository           taskRepository;
+    private final        UserRepository           userRepository;
+    private final        Map<UUID, Long>          versions          = new ConcurrentHashMap<>();// incremented on every change of a sprint
+    private final        ScheduledExecutorService worker;
+    private final        WorklogRepository        worklogRepository;
+
+    public SprintStatisticsService(SprintRepository sprintRepository, TaskRepository taskRepository, UserRepository userRepository, WorklogRepository worklogRepository, JsonMapper jsonMapper) {
+        this.sprintRepository  = sprintRepository;
+        this.taskRepository    = taskRepository;
+        this.userRepository    = userRepository;
+        this.worklogRepository = worklogRepository;
+        this.jsonMapper        = jsonMapper;
+        this.worker            = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "sprint-statistics-worker");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Calculates the statistics of a sprint the same way the insights view did, but from the repositories.
+     * The DAOs are converted with the mapper of the REST API, so the DTOs are identical to the ones a client receives.
+     */
+    private Entry calculate(SprintDAO sprintDAO) {
+        long          version = versions.getOrDefault(sprintDAO.getId(), 0L);
+        LocalDateTime now     = ParameterOptions.getLocalNow();
+        Sprint        sprint  = jsonMapper.convertValue(sprintDAO, Sprint.class);
+        sprint.initialize();
+        sprint.initUserMap(userRepository.findBySprintId(sprint.getId()).stream().map(user -> jsonMapper.convertValue(user, User.class)).toList());
+        sprint.initTaskMap(taskRepository.findBySprintIdOrderByOrderIdAsc(sprint.getId()).stream().map(task -> jsonMapper.convertValue(task, Task.class)).toList(),
+                worklogRepository.findBySprintId(sprint.getId()).stream().map(worklog -> jsonMapper.convertValue(worklog, Worklog.class)).toList());
+        sprint.recalculate(now);
+        SprintStatisticsSnapshot snapshot = new SprintStatisticsSnapshot(now, null, sprint.getId(), statisticsMapper.valueToTree(new SprintStatistics(sprint, now)));
+        Entry                    entry    = new Entry(version, snapshot);
+        // a slower calculation must not replace the result of a newer one
+        snapshots.merge(sprint.getId(), entry, (old, calculated) -> calculated.version() >= old.version() ? calculated : old);
+        return entry;
+    }
+
+    private void changed(UUID sprintId) {
+        versions.merge(sprintId, 1L, Long::sum);
+        // only snapshots that have been requested before are kept up to date
+        if (snapshots.containsKey(sprintId) && scheduled.add(sprintId)) {
+            worker.schedule(() -> recalculate(sprintId), DEBOUNCE_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    private void destroy() {
+        worker.shutdownNow();
+    }
+
+    /**
+     * Returns the snapshots of the given sprints, snapshots that are missing or outdated are calculated first.
+     *
+     * @param sprints the sprints
+     * @return one snapshot per sprint in the same order, a sprint that cannot be calculated gets a snapshot with the error
+     */
+    public List<SprintStatisticsSnapshot> getSnapshots(List<SprintDAO> sprints) {
+        LocalDateTime                  now    = ParameterOptions.getLocalNow();
+        List<SprintStatisticsSnapshot> result = new ArrayList<>(sprints.size());
+        for (SprintDAO sprint : sprints) {
+            Entry entry = snapshots.get(sprint.getId());
+            if (entry == null || !isUpToDate(sprint.getId()) || !entry.snapshot().getComputedAt().toLocalDate().equals(now.toLocalDate())) {
+                try {
+                    entry = calculate(sprint);
+                } catch (Exception e) {
+                    log.error("Cannot calculate statistics of sprint {}", sprint.getName(), e);
+                    result.add(new SprintStatisticsSnapshot(now, String.format("Cannot calculate statistics of sprint %s: %s", sprint.getName(), e.getMessage()), sprint.getId(), null));
+                    continue;
+                }
+            }
+            result.add(entry.snapshot());
+        }
+        return result;
+    }
+
+    /**
+     * Reports a change of a sprint, its tasks or its worklogs.
+     * Within a transaction the snapshot is only recalculated after the commit, a rollback leaves it untouched.
+     *
+     * @param sprintId the sprint, {@code null} is ignored
+     */
+    public void invalidate(UUID sprintId) {
+        if (sprintId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    changed(sprintId);
+                }
+            });
+        } else {
+            changed(sprintId);
+        }
+    }
+
+    /**
+     * @param sprintId the sprint
+     * @return true if a snapshot of the sprint exists that includes all reported changes
+     */
+    boolean isUpToDate(UUID sprintId) {
+        Entry entry = snapshots.get(sprintId);
+        return entry != null && entry.version() == versions.getOrDefault(sprintId, 0L);
+    }
+
+    private void recalculate(UUID sprintId) {
+        scheduled.remove(sprintId);
+        try {
+            sprintRepository.findById(sprintId).ifPresentOrElse(this::calculate, () -> snapshots.remove(sprintId));
+        } catch (Exception e) {
+            log.error("Cannot recalculate statistics of sprint {}", sprintId, e);
+        }
+    }
+
+    private record Entry(long version, SprintStatisticsSnapshot snapshot) {
+    }
+}
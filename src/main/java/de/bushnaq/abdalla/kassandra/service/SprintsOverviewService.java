@@ -13,7 +13,11 @@ import de.bushnaq.abdalla.kassandra.rest.dto.ThemeDto;
 import de.bushnaq.abdalla.util.date.DateUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.awt.*;
 import java.time.LocalDate;
@@ -25,6 +29,9 @@ import java.util.List;
 @Slf4j
 public class SprintsOverviewService {
 
+    public static final String SPRINTS_OVERVIEW_CACHE = "sprintsOverview";
+
+    private final CacheManager      cacheManager;
     private final DarkTheme         darkTheme;
     private final FeatureRepository featureRepository;
     private final LightTheme        lightTheme;
@@ -38,42 +45,18 @@ public class SprintsOverviewService {
                                   VersionRepository versionRepository,
                                   ProductAclService productAclService,
                                   LightTheme lightTheme,
-                                  DarkTheme darkTheme) {
+                                  DarkTheme darkTheme,
+                                  CacheManager cacheManager) {
         this.sprintRepository  = sprintRepository;
         this.featureRepository = featureRepository;
         this.versionRepository = versionRepository;
         this.productAclService = productAclService;
         this.lightTheme        = lightTheme;
         this.darkTheme         = darkTheme;
+        this.cacheManager      = cacheManager;
     }
 
-    private <T extends Comparable<? super T>> List<T> asSortedList(Collection<T> c) {
-        List<T> list = new ArrayList<>(c);
-        Collections.sort(list);
-        return list;
-    }
-
-    private int findFirstFreeLane(Map<Integer, List<SprintDAO>> projectScheduleList, SprintDAO o) {
-        LocalDateTime os = o.getStart();
-        LocalDateTime of = o.getEnd();
-        if (os != null && of != null) {
-            for (int laneId : asSortedList(projectScheduleList.keySet())) {
-                boolean overlapping = false;
-                for (SprintDAO p : projectScheduleList.get(laneId)) {
-                    LocalDateTime ps = p.getStart();
-                    LocalDateTime pf = p.getEnd();
-                    if (ps != null && pf != null) {
-                        overlapping = DateUtil.isOverlapping(os, of, overlapping, ps, pf);
-                    }
-                }
-                if (!overlapping) return laneId;
-            }
-            return projectScheduleList.size();
-        }
-        return -1;
-    }
-
-    public SprintOverviewDto getOverview(LocalDateTime now, Integer limitMonths, boolean dark) {
+    private SprintOverviewDto buildOverview(LocalDateTime now, Integer limitMonths, boolean dark) {
         List<SprintDAO> sprints = sprintRepository.findAll();
         // Ensure we operate on a modifiable list: repositories or tests may return immutable lists
         sprints = new ArrayList<>(sprints);
@@ -91,8 +74,8 @@ public class SprintsOverviewService {
 //            sprints = new ArrayList<>(sprints);
 //        }
 
-        // sort by start date then id to get deterministic order
-        sprints.sort(Comparator.comparing(SprintDAO::getStart, Comparator.nullsLast(Comparator.naturalOrder()))
+        // sort by (inferred) start date then id to get deterministic order, lane allocation requires ascending start dates
+        sprints.sort(Comparator.comparing(SprintsOverviewService::getInferredStart, Comparator.nullsLast(Comparator.naturalOrder()))
                 .thenComparing(SprintDAO::getId));
 
         SprintOverviewDto dto = new SprintOverviewDto();
@@ -134,39 +117,22 @@ public class SprintsOverviewService {
         dto.meta.chartStart = minDate.atStartOfDay();
         dto.meta.chartEnd   = maxDate.atStartOfDay();
 
-        // compute lanes: reuse overlapping logic. Only consider sprints with both start and end for lane placement
+        // compute lanes: greedy first fit. Only consider sprints with at least one temporal endpoint for lane placement
+        LaneAllocator                 laneAllocator       = new LaneAllocator();
         Map<Integer, List<SprintDAO>> projectScheduleList = new TreeMap<>();
 
         for (SprintDAO sprint : sprints) {
             // Accept sprints that have at least one temporal endpoint. If one endpoint is missing
             // we treat the sprint as a point-in-time (start==end) for placement and rendering so
             // it is visible in the overview. Sprints with neither start nor end are skipped.
-            LocalDateTime sStart = sprint.getStart();
-            LocalDateTime sEnd   = sprint.getEnd();
-            if (sStart == null && sEnd == null) continue;
-            if (sStart == null) sStart = sEnd;
-            if (sEnd == null) sEnd = sStart;
+            LocalDateTime sStart = getInferredStart(sprint);
+            LocalDateTime sEnd   = sprint.getEnd() != null ? sprint.getEnd() : sStart;
+            if (sStart == null) continue;
 
             // visibility: include if end >= chartStart
             if (!sEnd.toLocalDate().isBefore(minDate)) {
-                // Create a lightweight wrapper object with the inferred dates for lane placement
-                final LocalDateTime fs = sStart;
-                final LocalDateTime fe = sEnd;
-                int laneId = findFirstFreeLane(projectScheduleList, new SprintDAO() {
-                    @Override
-                    public LocalDateTime getEnd() {
-                        return fe;
-                    }
-
-                    // anonymous SprintDAO override to provide start/end for overlapping check
-                    @Override
-                    public LocalDateTime getStart() {
-                        return fs;
-                    }
-                });
-                if (laneId != -1) {
-                    projectScheduleList.computeIfAbsent(laneId, k -> new ArrayList<>()).add(sprint);
-                }
+                int laneId = laneAllocator.allocate(sStart, sEnd);
+                projectScheduleList.computeIfAbsent(laneId, k -> new ArrayList<>()).add(sprint);
             }
         }
 
@@ -208,6 +174,72 @@ public class SprintsOverviewService {
         return dto;
     }
 
+    /**
+     * Drops all cached overviews.
+     * Within a transaction the cache is only cleared after the commit, so a concurrent reader cannot cache the old state again.
+     */
+    public void evict() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow();
+                }
+            });
+        } else {
+            evictNow();
+        }
+    }
+
+    private void evictNow() {
+        Cache cache = cacheManager == null ? null : cacheManager.getCache(SPRINTS_OVERVIEW_CACHE);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Sprints are polled by dashboards, so the overview is cached per (limitMonths, theme).
+     * The chart range depends on the current day, a cached overview that was built on another day is rebuilt.
+     * The cache is evicted by {@link de.bushnaq.abdalla.kassandra.rest.controller.SprintController} whenever a sprint changes.
+     *
+     * @param now         current time
+     * @param limitMonths optional limit of the chart start
+     * @param dark        true for the dark theme
+     * @return the overview with meta.now set to now
+     */
+    public SprintOverviewDto getOverview(LocalDateTime now, Integer limitMonths, boolean dark) {
+        Cache cache = cacheManager == null ? null : cacheManager.getCache(SPRINTS_OVERVIEW_CACHE);
+        if (cache == null) {
+            return buildOverview(now, limitMonths, dark);
+        }
+        String            key      = String.format("%s-%b", limitMonths, dark);
+        SprintOverviewDto overview = cache.get(key, SprintOverviewDto.class);
+        if (overview == null || !overview.meta.now.toLocalDate().equals(now.toLocalDate())) {
+            overview = buildOverview(now, limitMonths, dark);
+            cache.put(key, overview);
+        }
+        return overview.withNow(now);
+    }
+
+    /**
+     * Weak entity tag of the overview, derived from the version of the sprint table instead of the rendered payload.
+     * Two calls on the same day return the same tag as long as no sprint was created, updated or deleted.
+     *
+     * @param now         current time, only the day is relevant
+     * @param limitMonths optional limit of the chart start
+     * @param dark        true for the dark theme
+     * @return the weak ETag value including quotes
+     */
+    public String getOverviewETag(LocalDateTime now, Integer limitMonths, boolean dark) {
+        String version = String.format("%d-%s-%s-%b-%s", sprintRepository.count(), sprintRepository.findMaxUpdated(), limitMonths, dark, now.toLocalDate());
+        return String.format("W/\"%08x\"", version.hashCode());
+    }
+
+    private static LocalDateTime getInferredStart(SprintDAO sprint) {
+        return sprint.getStart() != null ? sprint.getStart() : sprint.getEnd();
+    }
+
     private String getStatusColorHex(Status status) {
         Color color = switch (status) {
             case CREATED -> new Color(0x0, 0x0, 0x0, 0xa0);
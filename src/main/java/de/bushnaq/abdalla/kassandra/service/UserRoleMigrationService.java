@@ -17,7 +17,9 @@
 
 package de.bushnaq.abdalla.kassandra.service;
 
+import de.bushnaq.abdalla.kassandra.dao.AppliedMigrationDAO;
 import de.bushnaq.abdalla.kassandra.dao.UserDAO;
+import de.bushnaq.abdalla.kassandra.repository.AppliedMigrationRepository;
 import de.bushnaq.abdalla.kassandra.repository.UserRepository;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
@@ -27,16 +29,20 @@ import org.springframework.stereotype.Service;
 
 import java.awt.*;
 import java.time.LocalDate;
-import java.util.List;
 import java.util.Optional;
 
 /**
  * Service to handle migration of existing users and initial admin setup.
  * Runs automatically at application startup.
+ * The role migration runs once and is recorded in {@link AppliedMigrationDAO}, the admin check is a single existence query.
  */
 @Service
 @Slf4j
 public class UserRoleMigrationService {
+    public static final String USER_ROLES_MIGRATION = "user-roles";
+
+    @Autowired
+    private AppliedMigrationRepository appliedMigrationRepository;
 
     @Value("${kassandra.security.initial-admin-email:}")
     private String initialAdminEmail;
@@ -68,10 +74,7 @@ public class UserRoleMigrationService {
      */
     private void ensureAdminExists() {
         // Check if any admin exists
-        boolean hasAdmin = userRepository.findAll().stream()
-                .anyMatch(u -> u.getRoles() != null && u.getRoles().contains("ADMIN"));
-
-        if (hasAdmin) {
+        if (userRepository.existsByRolesContaining("ADMIN")) {
             log.info("Admin user(s) already exist in the system.");
             return;
         }
@@ -106,18 +109,15 @@ public class UserRoleMigrationService {
     public void migrateExistingUsers() {
         log.info("Starting user role migration...");
 
-        // 1. Assign USER role to all users without roles
-        List<UserDAO> usersWithoutRoles = userRepository.findAll().stream()
-                .filter(user -> user.getRoles() == null || user.getRoles().isEmpty())
-                .toList();
-
-        if (!usersWithoutRoles.isEmpty()) {
-            log.info("Found {} users without roles. Assigning USER role...", usersWithoutRoles.size());
-            usersWithoutRoles.forEach(user -> {
-                user.setRoles("USER");
-                userRepository.save(user);
-                log.info("Assigned USER role to user: {}", user.getEmail());
-            });
+        // 1. Assign USER role to all users without roles, once
+        if (appliedMigrationRepository.existsById(USER_ROLES_MIGRATION)) {
+            log.info("USER role migration already applied.");
+        } else {
+            int updated = userRepository.setRolesWhereMissing("USER");
+            if (updated > 0) {
+                log.info("Assigned USER role to {} users without roles.", updated);
+            }
+            appliedMigrationRepository.save(new AppliedMigrationDAO(USER_ROLES_MIGRATION));
         }
 
         // 2. Ensure at least one admin exists
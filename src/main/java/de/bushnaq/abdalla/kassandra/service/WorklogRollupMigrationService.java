@@ -0,0 +1,52 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.service;
+
+import de.bushnaq.abdalla.kassandra.dao.AppliedMigrationDAO;
+import de.bushnaq.abdalla.kassandra.repository.AppliedMigrationRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Backfills the {@code worklog_days} rollup from the raw worklogs of an installation that existed before the rollup.
+ * Runs automatically at application startup, once, and is recorded in {@link AppliedMigrationDAO}.
+ */
+@Service
+@Slf4j
+public class WorklogRollupMigrationService {
+    public static final String WORKLOG_ROLLUP_MIGRATION = "worklog-rollup";
+
+    @Autowired
+    private AppliedMigrationRepository appliedMigrationRepository;
+    @Autowired
+    private WorklogRollupService       worklogRollupService;
+
+    @PostConstruct
+    public void migrateWorklogRollup() {
+        if (appliedMigrationRepository.existsById(WORKLOG_ROLLUP_MIGRATION)) {
+            log.info("Worklog rollup migration already applied.");
+            return;
+        }
+        log.info("Starting worklog rollup migration...");
+        int rows = worklogRollupService.rebuildAll();
+        appliedMigrationRepository.save(new AppliedMigrationDAO(WORKLOG_ROLLUP_MIGRATION));
+        log.info("Worklog rollup migration completed with {} rows.", rows);
+    }
+}
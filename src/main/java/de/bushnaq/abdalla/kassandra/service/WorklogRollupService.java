@@ -0,0 +1,209 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package de.bushnaq.abdalla.kassandra.service;
+
+import de.bushnaq.abdalla.kassandra.dao.WorklogDAO;
+import de.bushnaq.abdalla.kassandra.dao.WorklogDayDAO;
+import de.bushnaq.abdalla.kassandra.repository.WorklogDayRepository;
+import de.bushnaq.abdalla.kassandra.repository.WorklogRepository;
+import de.bushnaq.abdalla.util.date.DateUtil;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.*;
+
+/**
+ * Maintains the {@code worklog_days} table, one row per task and day with the summed time spent and the remaining
+ * estimate of the latest worklog of that day.
+ * <p>
+ * Progress and release date only need these daily values, reading them instead of the raw worklogs makes the cost grow with
+ * the number of days instead of the number of worklogs. The rows are refreshed in the same transaction that creates,
+ * updates or deletes a worklog and removed together with their task or sprint. {@link #rebuild(UUID)} and {@link #rebuildAll()}
+ * recreate them from the raw worklogs, e.g. once at startup by {@link WorklogRollupMigrationService} or after importing a database snapshot.
+ */
+@Service
+@Slf4j
+public class WorklogRollupService {
+
+    @Autowired
+    private EntityManager        entityManager;
+    @Autowired
+    private WorklogDayRepository worklogDayRepository;
+    @Autowired
+    private WorklogRepository    worklogRepository;
+
+    private static void add(WorklogDayDAO rollup, WorklogDAO worklog) {
+        rollup.setTimeSpent(rollup.getTimeSpent().plus(worklog.getTimeSpent()));
+        rollup.setWorklogCount(rollup.getWorklogCount() + 1);
+        if (rollup.getLastStart() == null || worklog.getStart().isAfter(rollup.getLastStart())) {
+            rollup.setLastStart(worklog.getStart());
+            rollup.setTimeRemainingEstimate(worklog.getTimeRemainingEstimate());
+        }
+    }
+
+    /**
+     * Aggregates worklogs into one row per task and day.
+     *
+     * @param worklogs the worklogs
+     * @return the new, not yet persisted rollup rows
+     */
+    public static List<WorklogDayDAO> aggregate(Collection<WorklogDAO> worklogs) {
+        Map<TaskDay, WorklogDayDAO> rollups = new LinkedHashMap<>();
+        for (WorklogDAO worklog : worklogs) {
+            TaskDay key = TaskDay.of(worklog);
+            add(rollups.computeIfAbsent(key, TaskDay::createRollup), worklog);
+        }
+        return new ArrayList<>(rollups.values());
+    }
+
+    /**
+     * The day a worklog is accounted to, same day boundary as the burndown chart.
+     *
+     * @param start start of the worklog
+     * @return the day
+     */
+    public static LocalDate dayOf(OffsetDateTime start) {
+        return DateUtil.toDayPrecision(start).toLocalDate();
+    }
+
+    /**
+     * Removes the rollup rows of a sprint that is deleted.
+     *
+     * @param sprintId the sprint
+     */
+    @Transactional
+    public void deleteBySprintId(UUID sprintId) {
+        worklogDayRepository.deleteBySprintId(sprintId);
+    }
+
+    /**
+     * Removes the rollup rows of tasks that are deleted.
+     *
+     * @param taskIds the tasks
+     */
+    @Transactional
+    public void deleteByTaskIds(Collection<UUID> taskIds) {
+        if (!taskIds.isEmpty()) {
+            worklogDayRepository.deleteByTaskIdIn(taskIds);
+        }
+    }
+
+    /**
+     * @param sprintId the sprint
+     * @return the rollup rows of the sprint ordered by day
+     */
+    public List<WorklogDayDAO> getBySprintId(UUID sprintId) {
+        return worklogDayRepository.findBySprintIdOrderByDayAsc(sprintId);
+    }
+
+    /**
+     * Recomputes the rollup rows touched by a worklog change.
+     *
+     * @param keys the task days that had a worklog created, updated or deleted
+     */
+    @Transactional
+    public void refresh(Collection<TaskDay> keys) {
+        for (TaskDay key : new LinkedHashSet<>(keys)) {
+            refresh(key);
+        }
+    }
+
+    /**
+     * Recomputes one rollup row from the raw worklogs of the task on that day, the other days of the task are not read.
+     *
+     * @param key the task and day
+     */
+    @Transactional
+    public void refresh(TaskDay key) {
+        OffsetDateTime   from     = DateUtil.localDateTimeToOffsetDateTime(key.day().atStartOfDay());
+        OffsetDateTime   to       = DateUtil.localDateTimeToOffsetDateTime(key.day().plusDays(1).atStartOfDay());
+        List<WorklogDAO> worklogs = worklogRepository.findByTaskIdAndStartGreaterThanEqualAndStartLessThan(key.taskId(), from, to);
+        Optional<WorklogDayDAO> existing = worklogDayRepository.findByTaskIdAndDay(key.taskId(), key.day());
+        if (worklogs.isEmpty()) {
+            existing.ifPresent(worklogDayRepository::delete);
+            return;
+        }
+        WorklogDayDAO rollup = existing.orElseGet(key::createRollup);
+        rollup.setTimeSpent(Duration.ZERO);
+        rollup.setWorklogCount(0);
+        rollup.setLastStart(null);
+        worklogs.forEach(worklog -> add(rollup, worklog));
+        worklogDayRepository.save(rollup);
+    }
+
+    /**
+     * Recreates the rollup rows of a sprint from its raw worklogs.
+     *
+     * @param sprintId the sprint
+     * @return number of rollup rows
+     */
+    @Transactional
+    public int rebuild(UUID sprintId) {
+        worklogDayRepository.deleteBySprintId(sprintId);
+        // deletes must hit the database before the new rows with the same task and day are inserted
+        entityManager.flush();
+        List<WorklogDayDAO> rollups = aggregate(worklogRepository.findBySprintId(sprintId));
+        worklogDayRepository.saveAll(rollups);
+        return rollups.size();
+    }
+
+    /**
+     * Recreates all rollup rows from the raw worklogs, one sprint at a time.
+     *
+     * @return number of rollup rows
+     */
+    @Transactional
+    public int rebuildAll() {
+        long time = System.currentTimeMillis();
+        worklogDayRepository.deleteAll();
+        entityManager.flush();
+        int rows = 0;
+        for (UUID sprintId : worklogRepository.findDistinctSprintIds()) {
+            List<WorklogDayDAO> rollups = aggregate(worklogRepository.findBySprintId(sprintId));
+            worklogDayRepository.saveAll(rollups);
+            rows += rollups.size();
+            entityManager.flush();
+            entityManager.clear();
+        }
+        log.info("Rebuilt {} worklog rollup rows in {} ms", rows, System.currentTimeMillis() - time);
+        return rows;
+    }
+
+    /**
+     * Key of a rollup row.
+     */
+    public record TaskDay(UUID sprintId, UUID taskId, LocalDate day) {
+        public static TaskDay of(WorklogDAO worklog) {
+            return new TaskDay(worklog.getSprintId(), worklog.getTaskId(), dayOf(worklog.getStart()));
+        }
+
+        WorklogDayDAO createRollup() {
+            WorklogDayDAO rollup = new WorklogDayDAO();
+            rollup.setSprintId(sprintId);
+            rollup.setTaskId(taskId);
+            rollup.setDay(day);
+            rollup.setTimeSpent(Duration.ZERO);
+            return rollup;
+        }
+    }
+}
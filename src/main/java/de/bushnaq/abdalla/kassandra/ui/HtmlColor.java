@@ -17,27 +17,13 @@
 
 package de.bushnaq.abdalla.kassandra.ui;
 
+import de.bushnaq.abdalla.kassandra.dto.SprintStatus;
+
 
 public class HtmlColor {
 
     public static String calculateStatusColor(Double delayFraction) {
-        if (delayFraction == null) {
-            return SprintStatus.NORMAL.name();
-        }
-        String status = null;
-        if (delayFraction <= 0.0) {
-            status = SprintStatus.GOOD.name();
-        }
-        if (delayFraction > 0.0) {
-            status = SprintStatus.NORMAL.name();
-        }
-        if (delayFraction > 0.1) {
-            status = SprintStatus.WARNING.name();
-        }
-        if (delayFraction > 0.2) {
-            status = SprintStatus.CRITICAL.name();
-        }
-        return status;
+        return SprintStatus.of(delayFraction).name();
     }
 
 //    public static String calculateStatusColor(String status) {
@@ -29,13 +29,13 @@ import com.vaadin.flow.component.orderedlayout.FlexComponent;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.theme.lumo.LumoUtility;
-import de.bushnaq.abdalla.kassandra.ParameterOptions;
 import de.bushnaq.abdalla.kassandra.dto.Availability;
 import de.bushnaq.abdalla.kassandra.dto.User;
+import de.bushnaq.abdalla.kassandra.report.calendar.CalendarDayType;
+import de.bushnaq.abdalla.kassandra.report.calendar.DayClassification;
 import lombok.Getter;
 
 import java.time.LocalDate;
-import java.time.Month;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -44,27 +44,28 @@ import java.util.function.Consumer;
 /**
  * A component that displays a year calendar with user's availability
  * visualized as colored backgrounds filling each day according to the availability percentage.
+ * <p>
+ * The days are rendered by a {@link YearCalendar} in the browser, the server only sends one code per day.
  */
 public class AvailabilityCalendarComponent extends VerticalLayout {
 
-    public static final  String                CALENDAR_NEXT_YEAR_BTN     = "availability-calendar-next-year-btn";
-    public static final  String                CALENDAR_PREV_YEAR_BTN     = "availability-calendar-prev-year-btn";
-    private static final String                DAY_SIZE_PX                = "36px"; // Increased from 24px (50% larger)
-    public static final  String                LEGEND_ITEM_ID_0_PERCENT   = "availability-calendar-legend-item-0";
-    public static final  String                LEGEND_ITEM_ID_100_PERCENT = "availability-calendar-legend-item-100";
-    public static final  String                LEGEND_ITEM_ID_20_PERCENT  = "availability-calendar-legend-item-20";
-    public static final  String                LEGEND_ITEM_ID_40_PERCENT  = "availability-calendar-legend-item-40";
-    public static final  String                LEGEND_ITEM_ID_60_PERCENT  = "availability-calendar-legend-item-60";
-    public static final  String                LEGEND_ITEM_ID_80_PERCENT  = "availability-calendar-legend-item-80";
-    public static final  String                LEGEND_ITEM_ID_PREFIX      = "availability-calendar-legend-item-";
-    private final        Map<LocalDate, Float> availabilityMap            = new HashMap<>();
-    private final        Map<Float, String>    colorMap                   = new HashMap<>();
+    public static final String             CALENDAR_NEXT_YEAR_BTN     = "availability-calendar-next-year-btn";
+    public static final String             CALENDAR_PREV_YEAR_BTN     = "availability-calendar-prev-year-btn";
+    public static final String             LEGEND_ITEM_ID_0_PERCENT   = "availability-calendar-legend-item-0";
+    public static final String             LEGEND_ITEM_ID_100_PERCENT = "availability-calendar-legend-item-100";
+    public static final String             LEGEND_ITEM_ID_20_PERCENT  = "availability-calendar-legend-item-20";
+    public static final String             LEGEND_ITEM_ID_40_PERCENT  = "availability-calendar-legend-item-40";
+    public static final String             LEGEND_ITEM_ID_60_PERCENT  = "availability-calendar-legend-item-60";
+    public static final String             LEGEND_ITEM_ID_80_PERCENT  = "availability-calendar-legend-item-80";
+    public static final String             LEGEND_ITEM_ID_PREFIX      = "availability-calendar-legend-item-";
+    private final       YearCalendar       calendar;
+    private final       Map<Float, String> colorMap                   = new HashMap<>();
     @Getter
-    private              int                   currentYear;
-    private final        Consumer<LocalDate>   dayClickHandler;
-    private              List<Availability>    sortedAvailabilities;
-    private              User                  user;
-    private              Consumer<Integer>     yearChangeHandler;
+    private             int                currentYear;
+    private             List<Availability> sortedAvailabilities;
+    private             User               user;
+    private             Consumer<Integer>  yearChangeHandler;
+    private final       H4                 yearLabel                  = new H4();
 
     /**
      * Creates a new year calendar component for the given user and year.
@@ -74,9 +75,9 @@ public class AvailabilityCalendarComponent extends VerticalLayout {
      * @param dayClickHandler Consumer that handles clicks on calendar days
      */
     public AvailabilityCalendarComponent(User user, int year, Consumer<LocalDate> dayClickHandler) {
-        this.user            = user;
-        this.currentYear     = year;
-        this.dayClickHandler = dayClickHandler;
+        this.user        = user;
+        this.currentYear = year;
+        this.calendar    = new YearCalendar(dayClickHandler);
 
         // Set fixed width that won't resize
         setWidth("1230px");
@@ -91,112 +92,30 @@ public class AvailabilityCalendarComponent extends VerticalLayout {
 
         // Initialize color map with distinct colors for different availability levels
         initializeColorMap();
+        calendar.setPalette(colorMap);
     }
 
     /**
-     * Builds a map of dates to availability values for quick lookup.
-     * Uses the sorted availabilities list to determine availability for each day.
+     * Encodes every day of the current year for the {@link YearCalendar}.
+     * The availabilities are sorted by start date descending, so walking them backwards while walking the days
+     * forward finds the availability of each day in one pass.
      */
-    private void buildAvailabilityMap() {
-        availabilityMap.clear();
-
-        if (sortedAvailabilities == null || sortedAvailabilities.isEmpty()) {
-            return;
-        }
-
-        // Process each day in the current year
-        LocalDate yearStart = LocalDate.of(currentYear, 1, 1);
-        LocalDate yearEnd   = LocalDate.of(currentYear, 12, 31);
-
-        for (LocalDate date = yearStart; !date.isAfter(yearEnd); date = date.plusDays(1)) {
-            // Find the applicable availability for this date
-            Float availability = getAvailabilityForDate(date);
-            if (availability != null) {
-                availabilityMap.put(date, availability);
+    private int[] createDayCodes() {
+        DayClassification days         = user.getDayClassification(currentYear);
+        LocalDate         yearStart    = LocalDate.of(currentYear, 1, 1);
+        int[]             codes        = new int[yearStart.lengthOfYear()];
+        int               next         = sortedAvailabilities == null ? -1 : sortedAvailabilities.size() - 1;
+        Float             availability = null;
+        for (int i = 0; i < codes.length; i++) {
+            LocalDate date = yearStart.plusDays(i);
+            while (next >= 0 && !sortedAvailabilities.get(next).getStart().isAfter(date)) {
+                availability = sortedAvailabilities.get(next--).getAvailability();
             }
-        }
-    }
-
-    /**
-     * Creates a component representing a single day in the calendar.
-     * The day is filled with a colored background from the bottom up to the availability percentage.
-     */
-    private Component createDayComponent(int day, LocalDate date, boolean isWeekend, boolean isFillingDay) {
-        return createDayComponent(day, date, isWeekend, isFillingDay, false);
-    }
-
-    /**
-     * Creates a component representing a single day in the calendar.
-     */
-    private Component createDayComponent(int day, LocalDate date, boolean isWeekend, boolean isFillingDay, boolean isToday) {
-        Div dayComponent = new Div();
-
-        // Create a container for the day number and the availability fill
-        Div dayContent = new Div();
-        dayContent.setText(String.valueOf(day));
-        dayContent.getStyle()
-                .set("position", "relative")
-                .set("z-index", "1")
-                .set("font-weight", "bold")
-                .set("font-size", "0.85rem");
-
-        // Set common styles for all day components
-        dayComponent.getStyle()
-                .set("width", DAY_SIZE_PX)
-                .set("height", DAY_SIZE_PX)
-                .set("display", "flex")
-                .set("align-items", "center")
-                .set("justify-content", "center")
-                .set("cursor", "default")
-                .set("position", "relative")
-                .set("box-sizing", "border-box")
-                .set("border", "1px solid #e0e0e0");
-
-        if (isFillingDay) {
-            dayComponent.addClassName("calendar-filling-day");
-        } else if (isWeekend) {
-            dayComponent.addClassName("calendar-weekend-day");
-        } else {
-            dayComponent.addClassName("calendar-normal-day");
-        }
-
-        // Add availability fill if applicable and not a filling day
-        if (!isFillingDay && availabilityMap.containsKey(date)) {
-            float  availability      = availabilityMap.get(date);
-            String color             = getColorForAvailability(availability);
-            int    fillHeightPercent = Math.round(availability * 100);
-
-            // Create a div for the colored background
-            Div fillDiv = new Div();
-            fillDiv.getStyle()
-                    .set("position", "absolute")
-                    .set("bottom", "0")
-                    .set("left", "0")
-                    .set("right", "0")
-                    .set("height", fillHeightPercent + "%")
-                    .set("background-color", color)
-                    .set("z-index", "0");
-
-            dayComponent.add(fillDiv);
-
+            CalendarDayType type = days.isWeekend(date) ? CalendarDayType.WEEKEND : CalendarDayType.WORKING;
             // Make days with availability clickable
-            dayComponent.getStyle().set("cursor", "pointer");
-            dayComponent.getElement().addEventListener("click", event -> {
-                if (dayClickHandler != null) {
-                    dayClickHandler.accept(date);
-                }
-            });
-        }
-
-        // Add the day number on top
-        dayComponent.add(dayContent);
-
-        // Mark today with a special highlight
-        if (isToday) {
-            dayComponent.addClassName("calendar-today");
+            codes[i] = YearCalendar.code(type, availability != null, availability);
         }
-
-        return dayComponent;
+        return codes;
     }
 
     /**
@@ -245,101 +164,6 @@ public class AvailabilityCalendarComponent extends VerticalLayout {
         return item;
     }
 
-    /**
-     * Creates a component representing a single month.
-     */
-    private Component createMonthComponent(Month month) {
-        Div monthComponent = new Div();
-        monthComponent.addClassNames(
-                LumoUtility.Padding.SMALL,
-                LumoUtility.Margin.SMALL);
-
-        // Use fixed width for consistent sizing across all containers
-        monthComponent.getStyle().set("width", "272px");
-        monthComponent.getStyle().set("box-sizing", "border-box");
-
-        // Month name header
-        Span monthName = new Span(month.toString());
-        monthName.addClassNames(
-                "calendar-month-name",
-                LumoUtility.Display.BLOCK,
-                LumoUtility.FontWeight.BOLD,
-                LumoUtility.Padding.XSMALL);
-        monthComponent.add(monthName);
-
-        // Days of week header (Mon-Sun)
-        HorizontalLayout weekdaysHeader = new HorizontalLayout();
-        weekdaysHeader.setSpacing(false);
-        weekdaysHeader.setPadding(false);
-        weekdaysHeader.setWidthFull();
-        weekdaysHeader.getStyle().set("justify-content", "space-between");
-
-        String[] weekdays = {"M", "T", "W", "T", "F", "S", "S"};
-        for (String day : weekdays) {
-            Span dayLabel = new Span(day);
-            dayLabel.getStyle()
-                    .set("width", DAY_SIZE_PX)
-                    .set("height", DAY_SIZE_PX)
-                    .set("line-height", DAY_SIZE_PX)
-                    .set("text-align", "center")
-                    .set("font-weight", "bold")
-                    .set("font-size", "0.8rem");
-            weekdaysHeader.add(dayLabel);
-        }
-        monthComponent.add(weekdaysHeader);
-
-        // Calendar days grid
-        Div calendarGrid = new Div();
-        calendarGrid.getStyle()
-                .set("display", "grid")
-                .set("grid-template-columns", "repeat(7, 1fr)")
-                .set("gap", "1px")
-                .set("width", "100%");
-
-        calendarGrid.getStyle().set("margin-top", "4px");
-        LocalDate today = ParameterOptions.getLocalNow().toLocalDate();
-
-        // First day of month
-        LocalDate firstOfMonth = LocalDate.of(currentYear, month, 1);
-        // Determine first day of week for this month (0 = Monday, 6 = Sunday in our display)
-        int firstDayOfWeek = firstOfMonth.getDayOfWeek().getValue() - 1;
-        // Last day of month
-        int lastDay = firstOfMonth.lengthOfMonth();
-
-        // Add filling days from previous month
-        if (firstDayOfWeek > 0) {
-            LocalDate prevMonthDate    = firstOfMonth.minusMonths(1);
-            int       prevMonthLastDay = prevMonthDate.lengthOfMonth();
-            for (int i = 0; i < firstDayOfWeek; i++) {
-                int day = prevMonthLastDay - firstDayOfWeek + i + 1;
-                LocalDate date = LocalDate.of(month.getValue() == 1 ? currentYear - 1 : currentYear,
-                        month.getValue() == 1 ? 12 : month.getValue() - 1, day);
-                calendarGrid.add(createDayComponent(day, date, true, true));
-            }
-        }
-
-        // Add days for current month
-        for (int day = 1; day <= lastDay; day++) {
-            LocalDate date      = LocalDate.of(currentYear, month, day);
-            boolean   isWeekend = isWeekend(date);
-            boolean   isToday   = date.equals(today);
-            calendarGrid.add(createDayComponent(day, date, isWeekend, false, isToday));
-        }
-
-        // Add filling days from next month
-        int fillingDaysNeeded = 7 - ((firstDayOfWeek + lastDay) % 7);
-        if (fillingDaysNeeded < 7) {
-            for (int i = 1; i <= fillingDaysNeeded; i++) {
-                LocalDate date = LocalDate.of(month.getValue() == 12 ? currentYear + 1 : currentYear,
-                        month.getValue() == 12 ? 1 : month.getValue() + 1, i);
-                calendarGrid.add(createDayComponent(i, date, false, true));
-            }
-        }
-
-        monthComponent.add(calendarGrid);
-        return monthComponent;
-    }
-
     /**
      * Creates the year header with navigation buttons.
      */
@@ -354,7 +178,6 @@ public class AvailabilityCalendarComponent extends VerticalLayout {
         prevYearBtn.addThemeVariants(ButtonVariant.LUMO_TERTIARY, ButtonVariant.LUMO_SMALL);
         prevYearBtn.addClickListener(e -> setYear(currentYear - 1));
 
-        H4 yearLabel = new H4(String.valueOf(currentYear));
         yearLabel.addClassNames(LumoUtility.Margin.NONE);
 
         Button nextYearBtn = new Button(new Icon(VaadinIcon.ANGLE_RIGHT));
@@ -366,24 +189,6 @@ public class AvailabilityCalendarComponent extends VerticalLayout {
         return header;
     }
 
-    /**
-     * Gets the availability value for a specific date.
-     * Uses the sorted availabilities list (sorted by start date descending).
-     *
-     * @param date The date to get availability for
-     * @return The availability value (0.0 to 1.0) or null if not found
-     */
-    private Float getAvailabilityForDate(LocalDate date) {
-        // Iterate through sorted availabilities (latest first)
-        // and find the first one that starts on or before the given date
-        for (Availability availability : sortedAvailabilities) {
-            if (!availability.getStart().isAfter(date)) {
-                return availability.getAvailability();
-            }
-        }
-        return null;
-    }
-
     /**
      * Gets the color for a specific availability value.
      *
@@ -421,14 +226,6 @@ public class AvailabilityCalendarComponent extends VerticalLayout {
         colorMap.put(0.0f, "#E2E3E5"); // Light Gray (0%)
     }
 
-    /**
-     * Checks if a date falls on a weekend (Saturday or Sunday).
-     */
-    private boolean isWeekend(LocalDate date) {
-        int dayOfWeek = date.getDayOfWeek().getValue();
-        return dayOfWeek == 6 || dayOfWeek == 7; // Saturday or Sunday
-    }
-
     /**
      * Updates the calendar to display the specified year.
      *
@@ -454,6 +251,7 @@ public class AvailabilityCalendarComponent extends VerticalLayout {
 
     /**
      * Updates the calendar display based on given user and availability data.
+     * The header and legend are created once, the days are sent to the browser as a delta.
      *
      * @param updatedUser          The latest user data to use for rendering the calendar
      * @param sortedAvailabilities The list of availabilities sorted by start date descending
@@ -467,28 +265,10 @@ public class AvailabilityCalendarComponent extends VerticalLayout {
         // Update sorted availabilities
         this.sortedAvailabilities = sortedAvailabilities;
 
-        // Clear previous content
-        removeAll();
-
-        // Build the availability map for quick lookup
-        buildAvailabilityMap();
-
-        // Create year navigation header
-        add(createYearHeader());
-
-        // Create the calendar grid (3 rows x 4 months each)
-        Div calendarGrid = new Div();
-        calendarGrid.addClassNames(LumoUtility.Display.FLEX, LumoUtility.FlexWrap.WRAP, LumoUtility.Width.FULL);
-
-        // Add each month
-        for (int monthIndex = 0; monthIndex < 12; monthIndex++) {
-            calendarGrid.add(createMonthComponent(Month.of(monthIndex + 1)));
+        if (getComponentCount() == 0) {
+            add(createYearHeader(), calendar, createLegend());
         }
-
-        add(calendarGrid);
-
-        // Add legend
-        add(createLegend());
+        yearLabel.setText(String.valueOf(currentYear));
+        calendar.setDays(currentYear, createDayCodes());
     }
 }
-
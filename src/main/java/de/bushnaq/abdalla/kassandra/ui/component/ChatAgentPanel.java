@@ -46,6 +46,8 @@ import reactor.core.Disposable;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * Reusable chat agent panel component.
@@ -56,12 +58,20 @@ import java.util.UUID;
 @Slf4j
 public class ChatAgentPanel extends VerticalLayout {
 
-    public static final String                                        AI_CLEAR_BUTTON   = "ai-clear-button";
-    public static final String                                        AI_LAST_RESPONSE  = "ai-last-response";
-    public static final String                                        AI_QUERY_INPUT    = "ai-query-input";
-    public static final String                                        AI_RESPONSE_AREA  = "ai-response-area";
-    public static final String                                        AI_SUBMIT_BUTTON  = "ai-submit-button";
-    private volatile    boolean                                       activityStreaming = false;
+    public static final String                                        AI_CLEAR_BUTTON        = "ai-clear-button";
+    public static final String                                        AI_LAST_RESPONSE       = "ai-last-response";
+    public static final String                                        AI_QUERY_INPUT         = "ai-query-input";
+    public static final String                                        AI_RESPONSE_AREA       = "ai-response-area";
+    public static final String                                        AI_SUBMIT_BUTTON       = "ai-submit-button";
+    /**
+     * Streamed tokens are coalesced and pushed to the client at most once per frame.
+     */
+    static final        long                                          STREAM_FRAME_MS        = 75;
+    /**
+     * Pushes the tail of a frame if no further token arrives to trigger it.
+     */
+    static final        ScheduledExecutorService                      STREAM_FLUSH_SCHEDULER = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("token-stream-flush").daemon().factory());
+    private volatile    boolean                                       activityStreaming      = false;
     private final       AiAssistantService                            aiAssistantService;
     private final       Div                                           conversationHistory;
     private             String                                        conversationId;
@@ -104,7 +114,7 @@ public class ChatAgentPanel extends VerticalLayout {
      * Call this from the parent view's afterNavigation.
      */
     @Setter
-    private             String                                        viewContext       = null;
+    private             String                                        viewContext            = null;
 
     /**
      * Constructs a {@code ChatAgentPanel} without a session state (standalone use).
@@ -424,22 +434,26 @@ public class ChatAgentPanel extends VerticalLayout {
             Span contentSpan = startAiStreamingBubble();
             ui.push();
 
-            StringBuilder accumulator = new StringBuilder();
+            // Only the text appended since the last frame is sent, the client appends it to the bubble
+            TokenStreamRenderer renderer = new TokenStreamRenderer(STREAM_FRAME_MS, System::nanoTime, STREAM_FLUSH_SCHEDULER,
+                    () -> ui.isAttached() && !ui.isClosing(),
+                    delta -> ui.access(() -> {
+                        contentSpan.getElement().executeJs("this.textContent += $0;", delta);
+                        scrollToBottom();
+                        ui.push();
+                    }));
 
             Disposable subscription = aiAssistantService.streamQuery(username, effectiveQuery, conversationId, capturedSecurityContext)
-                    .doOnNext(token -> {
-                        accumulator.append(token);
-                        ui.access(() -> {
-                            contentSpan.setText(accumulator.toString());
-                            scrollToBottom();
-                            ui.push();
-                        });
-                    })
+                    .takeWhile(token -> !renderer.isClosed())// stop streaming as soon as the UI is gone
+                    .doOnNext(renderer::append)
                     .doOnError(err -> {
                         log.error("Streaming error during AI query", err);
+                        if (renderer.isClosed()) {
+                            return;
+                        }
                         ui.access(() -> {
                             // Replace the streaming bubble's content with an error indicator
-                            contentSpan.setText("⚠️ Error: " + err.getMessage());
+                            setStreamedText(contentSpan, "⚠️ Error: " + err.getMessage());
                             activityStreaming = false;
                             activityContext.setActivityListener(null);
                             submitButton.setEnabled(true);
@@ -447,14 +461,21 @@ public class ChatAgentPanel extends VerticalLayout {
                         });
                     })
                     .doFinally(signal -> {
-                        String finalText = aiAssistantService.removeThinkingFromResponse(accumulator.toString());
-                        log.info("AI streaming complete: {} characters, signal={}", finalText != null ? finalText.length() : 0, signal);
+                        String streamedText = renderer.getText();
+                        String finalText    = aiAssistantService.removeThinkingFromResponse(streamedText);
+                        log.info("AI streaming complete: {} characters in {} pushes ({} bytes), signal={}", finalText != null ? finalText.length() : 0, renderer.getPushCount(), renderer.getPushedBytes(), signal);
+                        if (renderer.isClosed()) {
+                            // UI is gone, nothing to render
+                            activityStreaming = false;
+                            activityContext.setActivityListener(null);
+                            snapshotMessage("ai", finalText != null ? finalText : streamedText);
+                            return;
+                        }
+                        renderer.flush();
                         ui.access(() -> {
-                            // Apply cleaned text (removes any <think>…</think> remnants)
-                            if (finalText != null && !finalText.isEmpty()) {
-                                contentSpan.setText(finalText);
-                            }
-                            snapshotMessage("ai", finalText != null ? finalText : accumulator.toString());
+                            // Apply cleaned text (removes any <think>…</think> remnants) and keep it on the server side
+                            setStreamedText(contentSpan, finalText != null && !finalText.isEmpty() ? finalText : streamedText);
+                            snapshotMessage("ai", finalText != null ? finalText : streamedText);
                             if (onAiReply != null) {
                                 onAiReply.run();
                             }
@@ -557,6 +578,16 @@ public class ChatAgentPanel extends VerticalLayout {
         }
     }
 
+    /**
+     * Sets the final text of a streamed bubble on the server and on the client.
+     * The deltas were appended on the client only, without the server side text the bubble would be empty after a re-attach.
+     */
+    private void setStreamedText(Span contentSpan, String text) {
+        contentSpan.setText(text);
+        // the client text was changed behind the back of the state tree, replace it explicitly after the tree update
+        contentSpan.getElement().executeJs("this.textContent = $0;", text);
+    }
+
     /**
      * Creates an empty AI message bubble and returns the inner content Span so tokens
      * can be appended to it in-place as they arrive from the streaming response.
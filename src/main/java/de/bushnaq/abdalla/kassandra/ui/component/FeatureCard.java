@@ -31,10 +31,7 @@ import de.bushnaq.abdalla.kassandra.dto.User;
 import de.bushnaq.abdalla.kassandra.ui.util.VaadinUtil;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.UUID;
+import java.util.*;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -54,20 +51,23 @@ import java.util.stream.Collectors;
 @Slf4j
 public class FeatureCard extends Div {
 
-    private final List<Task>                   allTasks;
-    private       VerticalLayout               doneLane;
-    private       boolean                      expanded = true; // Default to expanded
-    private final Feature                      feature;
-    private final String                       filterText;
-    private       VerticalLayout               inProgressLane;
-    private       HorizontalLayout             lanesContainer;
-    private final Consumer<Task>               onTaskClick;
-    private final BiConsumer<Task, TaskStatus> onTaskStatusChange;
-    private final Consumer<Task>               onTaskTitleClick;
-    private final Set<User>                    selectedUsers;
-    private final List<Task>                   stories;
-    private       VerticalLayout               todoLane;
-    private final Map<UUID, User>              userMap;
+    private final List<Task>                                allTasks;
+    private       VerticalLayout                            doneLane;
+    private       boolean                                   expanded       = true; // Default to expanded
+    private final Feature                                   feature;
+    private final String                                    filterText;
+    private       VerticalLayout                            inProgressLane;
+    private       HorizontalLayout                          lanesContainer;
+    private final Consumer<Task>                            onTaskClick;
+    private final BiConsumer<Task, TaskStatus>              onTaskStatusChange;
+    private final Consumer<Task>                            onTaskTitleClick;
+    private final Set<User>                                 selectedUsers;
+    private       List<Task>                                stories;
+    private       Span                                      storyCount;
+    private final Map<TaskStatus, Map<UUID, StoryTaskCard>> storyTaskCards = new EnumMap<>(TaskStatus.class);// per lane by story id
+    private final Map<UUID, TaskCard>                       taskCards      = new HashMap<>();// by task id, shared by all lanes
+    private       VerticalLayout                            todoLane;
+    private final Map<UUID, User>                           userMap;
 
     /**
      * Constructs a FeatureCard without click handlers.
@@ -144,19 +144,6 @@ public class FeatureCard extends Div {
         setWidthFull();
     }
 
-    private void clearLaneStories(VerticalLayout lane) {
-        lane.getChildren()
-                .filter(component -> component instanceof StoryTaskCard)
-                .collect(Collectors.toList())
-                .forEach(lane::remove);
-    }
-
-    private long countStoryCards(VerticalLayout lane) {
-        return lane.getChildren()
-                .filter(component -> component instanceof StoryTaskCard)
-                .count();
-    }
-
     private void createFeatureHeader() {
         HorizontalLayout header = new HorizontalLayout();
         header.setWidthFull();
@@ -192,7 +179,7 @@ public class FeatureCard extends Div {
                 .set("color", "#000000"); // Plain black
 
         // Story count
-        Span storyCount = new Span("(" + stories.size() + " stories)");
+        storyCount = new Span("(" + stories.size() + " stories)");
         storyCount.getStyle()
                 .set("font-weight", "normal")
                 .set("font-size", "var(--lumo-font-size-m)")
@@ -268,6 +255,15 @@ public class FeatureCard extends Div {
         add(lanesContainer);
     }
 
+    private TaskCard createTaskCard(Task task) {
+        return new TaskCard(
+                task,
+                userMap,
+                onTaskClick != null ? () -> onTaskClick.accept(task) : null,
+                onTaskTitleClick != null ? () -> onTaskTitleClick.accept(task) : null
+        );
+    }
+
     private String formatFeatureKey(Feature feature) {
         if (feature.getId() != null) {
             return "F-" + feature.getKey();
@@ -313,11 +309,39 @@ public class FeatureCard extends Div {
         return expanded;
     }
 
+    private VerticalLayout getLane(TaskStatus status) {
+        return switch (status) {
+            case TODO -> todoLane;
+            case IN_PROGRESS -> inProgressLane;
+            case DONE -> doneLane;
+        };
+    }
+
+    /**
+     * Returns the card of a task, reusing the existing card unless the displayed values of the task changed.
+     */
+    private TaskCard getTaskCard(Task task) {
+        TaskCard card = taskCards.get(task.getId());
+        if (card == null || card.getTask() != task || card.isStale()) {
+            if (card != null) {
+                card.removeFromParent();
+            }
+            card = createTaskCard(task);
+            taskCards.put(task.getId(), card);
+        }
+        return card;
+    }
+
+    /**
+     * Brings the lanes in sync with the stories.
+     * <p>
+     * Story cards are kept per lane by story id and task cards by task id. A status change moves the existing task card
+     * into the story card of the other lane, only story cards that appear in a lane for the first time are created.
+     * </p>
+     */
     private void populateLanes() {
-        // Clear existing story cards
-        clearLaneStories(todoLane);
-        clearLaneStories(inProgressLane);
-        clearLaneStories(doneLane);
+        Map<TaskStatus, Set<UUID>> visibleStories = new EnumMap<>(TaskStatus.class);
+        Set<UUID>                  visibleTasks   = new HashSet<>();
 
         // For each story, we need to show it in each lane where it has tasks
         // This allows tasks to be in different lanes than their story
@@ -335,41 +359,64 @@ public class FeatureCard extends Div {
             Map<TaskStatus, List<Task>> tasksByStatus = allChildTasks.stream()
                     .collect(Collectors.groupingBy(Task::getTaskStatus));
 
-            // Create StoryTaskCard in each lane where this story has tasks
-            List<Task> todoTasks = tasksByStatus.getOrDefault(TaskStatus.TODO, List.of());
-            if (!todoTasks.isEmpty()) {
-                // Use simplified header if story's effective status is not TODO (tasks are in different lane than story)
-                boolean       useSimplifiedHeader = (storyStatus != TaskStatus.TODO);
-                StoryTaskCard card                = new StoryTaskCard(story, todoTasks, userMap, onTaskStatusChange, useSimplifiedHeader, onTaskClick, onTaskTitleClick);
-                todoLane.add(card);
+            // Create or update the StoryTaskCard in each lane where this story has tasks
+            for (TaskStatus status : TaskStatus.values()) {
+                List<Task> laneTasks = tasksByStatus.getOrDefault(status, List.of());
+                if (laneTasks.isEmpty()) {
+                    continue;
+                }
+                // Use simplified header if story's effective status is not the status of the lane (tasks are in different lane than story)
+                boolean                  useSimplifiedHeader = (storyStatus != status);
+                Map<UUID, StoryTaskCard> laneCards           = storyTaskCards.computeIfAbsent(status, s -> new HashMap<>());
+                StoryTaskCard            card                = laneCards.get(story.getId());
+                if (card != null && card.getStory() == story) {
+                    card.update(laneTasks, useSimplifiedHeader);
+                } else {
+                    if (card != null) {
+                        card.removeFromParent();
+                    }
+                    card = new StoryTaskCard(story, laneTasks, userMap, onTaskStatusChange, useSimplifiedHeader, onTaskClick, onTaskTitleClick, this::getTaskCard);
+                    laneCards.put(story.getId(), card);
+                }
+                Set<UUID> laneStories = visibleStories.computeIfAbsent(status, s -> new HashSet<>());
+                laneStories.add(story.getId());
+                // the lane header is the first child of a lane
+                VaadinUtil.placeComponent(getLane(status), laneStories.size(), card);
+                laneTasks.forEach(task -> visibleTasks.add(task.getId()));
             }
+        }
 
-            List<Task> inProgressTasks = tasksByStatus.getOrDefault(TaskStatus.IN_PROGRESS, List.of());
-            if (!inProgressTasks.isEmpty()) {
-                // Use simplified header if story's effective status is not IN_PROGRESS
-                boolean       useSimplifiedHeader = (storyStatus != TaskStatus.IN_PROGRESS);
-                StoryTaskCard card                = new StoryTaskCard(story, inProgressTasks, userMap, onTaskStatusChange, useSimplifiedHeader, onTaskClick, onTaskTitleClick);
-                inProgressLane.add(card);
+        // Remove story cards that no longer have tasks in their lane and cards of tasks that are no longer shown
+        storyTaskCards.forEach((status, laneCards) -> laneCards.entrySet().removeIf(entry -> {
+            if (visibleStories.getOrDefault(status, Set.of()).contains(entry.getKey())) {
+                return false;
             }
-
-            List<Task> doneTasks = tasksByStatus.getOrDefault(TaskStatus.DONE, List.of());
-            if (!doneTasks.isEmpty()) {
-                // Use simplified header if story's effective status is not DONE
-                boolean       useSimplifiedHeader = (storyStatus != TaskStatus.DONE);
-                StoryTaskCard card                = new StoryTaskCard(story, doneTasks, userMap, onTaskStatusChange, useSimplifiedHeader, onTaskClick, onTaskTitleClick);
-                doneLane.add(card);
+            entry.getValue().removeFromParent();
+            return true;
+        }));
+        taskCards.entrySet().removeIf(entry -> {
+            if (visibleTasks.contains(entry.getKey())) {
+                return false;
             }
-        }
+            entry.getValue().removeFromParent();
+            return true;
+        });
 
-        // Count story cards (stories can appear in multiple lanes now)
-        long todoCount       = countStoryCards(todoLane);
-        long inProgressCount = countStoryCards(inProgressLane);
-        long doneCount       = countStoryCards(doneLane);
+        // Update story counts (stories can appear in multiple lanes now)
+        for (TaskStatus status : TaskStatus.values()) {
+            updateStoryCount(getLane(status), visibleStories.getOrDefault(status, Set.of()).size(), status);
+        }
+        VaadinUtil.setTextIfChanged(storyCount, "(" + stories.size() + " stories)");
+    }
 
-        // Update story counts
-        updateStoryCount(todoLane, (int) todoCount, TaskStatus.TODO);
-        updateStoryCount(inProgressLane, (int) inProgressCount, TaskStatus.IN_PROGRESS);
-        updateStoryCount(doneLane, (int) doneCount, TaskStatus.DONE);
+    /**
+     * Updates the card for a new list of stories, only the changed story and task cards are touched.
+     *
+     * @param stories the stories belonging to this feature
+     */
+    public void refresh(List<Task> stories) {
+        this.stories = stories;
+        populateLanes();
     }
 
     public void setExpanded(boolean expanded) {
@@ -472,7 +519,7 @@ public class FeatureCard extends Div {
                             .findFirst()
                             .ifPresent(component -> {
                                 if (component instanceof Span) {
-                                    ((Span) component).setText(" (" + count + ")");
+                                    VaadinUtil.setTextIfChanged((Span) component, " (" + count + ")");
                                 }
                             });
                 });
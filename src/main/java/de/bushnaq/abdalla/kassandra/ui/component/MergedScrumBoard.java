@@ -29,6 +29,7 @@ import de.bushnaq.abdalla.kassandra.rest.api.WorklogApi;
 import de.bushnaq.abdalla.kassandra.security.SecurityUtils;
 import de.bushnaq.abdalla.kassandra.ui.dialog.TaskDialog;
 import de.bushnaq.abdalla.kassandra.ui.dialog.WorklogDialog;
+import de.bushnaq.abdalla.kassandra.ui.util.VaadinUtil;
 import de.bushnaq.abdalla.kassandra.ui.view.GroupingMode;
 import lombok.extern.slf4j.Slf4j;
 
@@ -49,19 +50,21 @@ import java.util.stream.Collectors;
 @Slf4j
 public class MergedScrumBoard extends VerticalLayout {
 
-    private final List<Task>         allTasks;
-    private final VerticalLayout     contentLayout;
-    private final Map<UUID, Boolean> expandedFeatures = new HashMap<>();
-    private final Map<UUID, Boolean> expandedStories  = new HashMap<>();
-    private final Map<UUID, Feature> featureMap;
-    private       String             filterText       = "";
-    private final GroupingMode       groupingMode;
-    private final Set<User>          selectedUsers;
-    private final List<Sprint>       sprints;
-    private final List<StoryCard>    storyCards       = new ArrayList<>();
-    private final TaskApi            taskApi;
-    private final Map<UUID, User>    userMap;
-    private final WorklogApi         worklogApi;
+    private final List<Task>             allTasks;
+    private final VerticalLayout         contentLayout;
+    private       Div                    emptyState;
+    private final Map<UUID, Boolean>     expandedFeatures = new HashMap<>();
+    private final Map<UUID, Boolean>     expandedStories  = new HashMap<>();
+    private final Map<UUID, FeatureCard> featureCards     = new HashMap<>();// by feature id, kept across refreshes
+    private final Map<UUID, Feature>     featureMap;
+    private       String                 filterText       = "";
+    private final GroupingMode           groupingMode;
+    private final Set<User>              selectedUsers;
+    private final List<Sprint>           sprints;
+    private final Map<UUID, StoryCard>   storyCards       = new HashMap<>();// by story id, kept across refreshes
+    private final TaskApi                taskApi;
+    private final Map<UUID, User>        userMap;
+    private final WorklogApi             worklogApi;
 
     public MergedScrumBoard(List<Sprint> sprints, List<Task> allTasks, TaskApi taskApi,
                             Map<UUID, User> userMap, String filterText, GroupingMode groupingMode,
@@ -257,27 +260,22 @@ public class MergedScrumBoard extends VerticalLayout {
 
     /**
      * Refresh in Features mode - group stories by features across all sprints
+     * <p>
+     * Existing feature cards are updated in place, see {@link FeatureCard#refresh(List)}.
+     * </p>
      */
     private void refreshFeaturesMode() {
-        contentLayout.removeAll();
-        storyCards.clear();
-
-        if (allTasks.isEmpty()) {
-            showEmptyState();
-            return;
-        }
-
         // Group sprints by feature
         Map<UUID, List<Sprint>> sprintsByFeature = sprints.stream()
                 .filter(s -> s.getFeatureId() != null)
-                .collect(Collectors.groupingBy(Sprint::getFeatureId));
+                .collect(Collectors.groupingBy(Sprint::getFeatureId, LinkedHashMap::new, Collectors.toList()));
 
         // For each feature, get all stories from all sprints belonging to that feature
-        Map<Feature, List<Task>> storiesByFeature = new HashMap<>();
+        Map<Feature, List<Task>> storiesByFeature = new LinkedHashMap<>();
 
         for (Map.Entry<UUID, List<Sprint>> entry : sprintsByFeature.entrySet()) {
-            UUID         featureId      = entry.getKey();
-            List<Sprint> featureSprints = entry.getValue();
+            UUID      featureId = entry.getKey();
+            Set<UUID> sprintIds = entry.getValue().stream().map(Sprint::getId).collect(Collectors.toSet());
 
             Feature feature = featureMap.get(featureId);
             if (feature == null) {
@@ -288,8 +286,7 @@ public class MergedScrumBoard extends VerticalLayout {
             // Get all stories from tasks that belong to any of these sprints
             List<Task> stories = allTasks.stream()
                     .filter(Task::isStory)
-                    .filter(task -> featureSprints.stream()
-                            .anyMatch(sprint -> sprint.getId().equals(task.getSprintId())))
+                    .filter(task -> sprintIds.contains(task.getSprintId()))
                     .collect(Collectors.toList());
 
             // Filter stories based on search text if active
@@ -304,74 +301,71 @@ public class MergedScrumBoard extends VerticalLayout {
             }
         }
 
-        // Create FeatureCard for each feature
+        // Update or create the FeatureCard of each feature
+        Set<UUID> visibleFeatures = new HashSet<>();
         storiesByFeature.forEach((feature, stories) -> {
-            FeatureCard featureCard = new FeatureCard(
-                    feature,
-                    stories,
-                    allTasks,
-                    userMap,
-                    this::handleTaskStatusChange,
-                    filterText,
-                    selectedUsers,
-                    this::handleTaskClick,
-                    this::handleTaskTitleClick
-            );
-
-            // Only add feature if it has visible stories after filtering
-            if (featureCard.hasVisibleStories()) {
+            FeatureCard featureCard = featureCards.get(feature.getId());
+            if (featureCard != null && featureCard.getFeature() == feature) {
+                featureCard.refresh(stories);
+            } else {
+                if (featureCard != null) {
+                    featureCard.removeFromParent();
+                }
+                featureCard = new FeatureCard(
+                        feature,
+                        stories,
+                        allTasks,
+                        userMap,
+                        this::handleTaskStatusChange,
+                        filterText,
+                        selectedUsers,
+                        this::handleTaskClick,
+                        this::handleTaskTitleClick
+                );
                 // Restore expanded state (default to true if not found)
-                boolean shouldExpand = expandedFeatures.getOrDefault(feature.getId(), true);
-                featureCard.setExpanded(shouldExpand);
+                featureCard.setExpanded(expandedFeatures.getOrDefault(feature.getId(), true));
+                featureCards.put(feature.getId(), featureCard);
+            }
 
-                contentLayout.add(featureCard);
+            // Only show feature if it has visible stories after filtering
+            if (featureCard.hasVisibleStories()) {
+                VaadinUtil.placeComponent(contentLayout, visibleFeatures.size(), featureCard);
+                visibleFeatures.add(feature.getId());
             }
         });
 
-        if (contentLayout.getComponentCount() == 0) {
-            showEmptyState();
-        }
+        featureCards.entrySet().removeIf(entry -> {
+            if (visibleFeatures.contains(entry.getKey())) {
+                return false;
+            }
+            expandedFeatures.put(entry.getKey(), entry.getValue().isExpanded());
+            entry.getValue().removeFromParent();
+            return true;
+        });
+        updateEmptyState(visibleFeatures.isEmpty());
     }
 
     /**
      * Refresh in Stories mode - group all tasks by their parent stories
+     * <p>
+     * Existing story cards are updated in place, see {@link StoryCard#refresh(List)}.
+     * </p>
      */
     private void refreshStoriesMode() {
-        // Save current expanded states before clearing
-        storyCards.forEach(card ->
-                expandedStories.put(card.getStory().getId(), card.isExpanded())
-        );
-
-        contentLayout.removeAll();
-        storyCards.clear();
-
-        if (allTasks.isEmpty()) {
-            showEmptyState();
-            return;
-        }
-
         // Group tasks by story
-        Map<Task, List<Task>> storiesWithTasks = new HashMap<>();
+        Map<UUID, List<Task>> tasksByStory = allTasks.stream()
+                .filter(t -> t.getParentTaskId() != null)
+                .collect(Collectors.groupingBy(Task::getParentTaskId));
+        Map<Task, List<Task>> storiesWithTasks = new LinkedHashMap<>();
 
         // Find all stories and their child tasks
         for (Task task : allTasks) {
             if (task.isStory()) {
-                List<Task> childTasks = allTasks.stream()
-                        .filter(t -> t.getParentTaskId() != null && t.getParentTaskId().equals(task.getId()))
+                // Apply filters to child tasks, even if no text filter, still apply user filter
+                List<Task> childTasks = tasksByStory.getOrDefault(task.getId(), List.of()).stream()
+                        .filter(this::matchesFilter)
                         .collect(Collectors.toList());
 
-                // Apply filters to child tasks
-                if (filterText != null && !filterText.isEmpty()) {
-                    childTasks = childTasks.stream()
-                            .filter(this::matchesFilter)
-                            .collect(Collectors.toList());
-                } else {
-                    // Even if no text filter, still apply user filter
-                    childTasks = childTasks.stream()
-                            .filter(this::matchesUserFilter)
-                            .collect(Collectors.toList());
-                }
-
                 // Only add story if it has child tasks after filtering
                 if (!childTasks.isEmpty()) {
                     storiesWithTasks.put(task, childTasks);
@@ -379,25 +373,59 @@ public class MergedScrumBoard extends VerticalLayout {
             }
         }
 
-        // Create StoryCard for each story
+        // Update or create the StoryCard of each story
+        Set<UUID> visibleStories = new HashSet<>();
         storiesWithTasks.forEach((story, childTasks) -> {
-            StoryCard storyCard = new StoryCard(story, childTasks, userMap, this::handleTaskStatusChange, this::handleTaskClick, this::handleTaskTitleClick);
-
-            // Restore expanded state (default to true if not found)
-            boolean shouldExpand = expandedStories.getOrDefault(story.getId(), true);
-            storyCard.setExpanded(shouldExpand);
+            StoryCard storyCard = storyCards.get(story.getId());
+            if (storyCard != null && storyCard.getStory() == story) {
+                storyCard.refresh(childTasks);
+            } else {
+                if (storyCard != null) {
+                    storyCard.removeFromParent();
+                }
+                storyCard = new StoryCard(story, childTasks, userMap, this::handleTaskStatusChange, this::handleTaskClick, this::handleTaskTitleClick);
+                // Restore expanded state (default to true if not found)
+                storyCard.setExpanded(expandedStories.getOrDefault(story.getId(), true));
+                storyCards.put(story.getId(), storyCard);
+            }
+            VaadinUtil.placeComponent(contentLayout, visibleStories.size(), storyCard);
+            visibleStories.add(story.getId());
+        });
 
-            storyCards.add(storyCard);
-            contentLayout.add(storyCard);
+        storyCards.entrySet().removeIf(entry -> {
+            if (visibleStories.contains(entry.getKey())) {
+                return false;
+            }
+            // Save expanded state of cards that are removed
+            expandedStories.put(entry.getKey(), entry.getValue().isExpanded());
+            entry.getValue().removeFromParent();
+            return true;
         });
+        updateEmptyState(visibleStories.isEmpty());
+    }
 
-        if (storyCards.isEmpty()) {
-            showEmptyState();
-        }
+    private void showError(String message) {
+        Notification notification = Notification.show(message, 5000, Notification.Position.BOTTOM_END);
+        notification.addThemeVariants(NotificationVariant.LUMO_ERROR);
     }
 
-    private void showEmptyState() {
-        Div emptyState = new Div();
+    private void showSuccess(String message) {
+        Notification notification = Notification.show(message, 3000, Notification.Position.BOTTOM_END);
+        notification.addThemeVariants(NotificationVariant.LUMO_SUCCESS);
+    }
+
+    private void updateEmptyState(boolean empty) {
+        if (!empty) {
+            if (emptyState != null) {
+                contentLayout.remove(emptyState);
+                emptyState = null;
+            }
+            return;
+        }
+        if (emptyState != null) {
+            return;
+        }
+        emptyState = new Div();
         emptyState.addClassName("empty-state");
 
         Span message = new Span("No stories found in selected sprints");
@@ -417,16 +445,6 @@ public class MergedScrumBoard extends VerticalLayout {
         contentLayout.add(emptyState);
     }
 
-    private void showError(String message) {
-        Notification notification = Notification.show(message, 5000, Notification.Position.BOTTOM_END);
-        notification.addThemeVariants(NotificationVariant.LUMO_ERROR);
-    }
-
-    private void showSuccess(String message) {
-        Notification notification = Notification.show(message, 3000, Notification.Position.BOTTOM_END);
-        notification.addThemeVariants(NotificationVariant.LUMO_SUCCESS);
-    }
-
     /**
      * Validates that the task can have work logged on it.
      * Returns null if valid, or an error message if invalid.
@@ -29,9 +29,7 @@ import de.bushnaq.abdalla.kassandra.dto.TaskStatus;
 import de.bushnaq.abdalla.kassandra.dto.User;
 import de.bushnaq.abdalla.kassandra.ui.util.VaadinUtil;
 
-import java.util.List;
-import java.util.Map;
-import java.util.UUID;
+import java.util.*;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -58,7 +56,11 @@ public class StoryCard extends Div {
     private final Consumer<Task>               onTaskClick;
     private final BiConsumer<Task, TaskStatus> onTaskStatusChange;
     private final Consumer<Task>               onTaskTitleClick;
+    private       Span                         statusBadge;
     private final Task                         story;
+    private       Span                         storyTitle;
+    private       Span                         subtaskCount;
+    private final Map<UUID, TaskCard>          taskCards = new HashMap<>();// cards by task id, kept across refreshes
     private       VerticalLayout               todoLane;
     private final Map<UUID, User>              userMap;
 
@@ -124,13 +126,6 @@ public class StoryCard extends Div {
         setWidthFull();
     }
 
-    private void clearLaneTasks(VerticalLayout lane) {
-        lane.getChildren()
-                .filter(component -> component instanceof TaskCard)
-                .collect(Collectors.toList())
-                .forEach(lane::remove);
-    }
-
     private VerticalLayout createLane(String title, TaskStatus status) {
         VerticalLayout lane = new VerticalLayout();
         // Add unique ID for Selenium testing: story-name-status
@@ -225,45 +220,61 @@ public class StoryCard extends Div {
                 .set("color", "#9E9E9E"); // Gray color
 
         // Story title (plain black)
-        Span storyTitle = new Span(story.getName());
+        storyTitle = new Span(story.getName());
         storyTitle.getStyle()
                 .set("font-weight", "normal")
                 .set("font-size", "var(--lumo-font-size-m)")
                 .set("color", "#000000"); // Plain black
 
         // Subtask count
-        Span subtaskCount = new Span("(" + childTasks.size() + " subtasks)");
+        subtaskCount = new Span("(" + childTasks.size() + " subtasks)");
         subtaskCount.getStyle()
                 .set("font-weight", "normal")
                 .set("font-size", "var(--lumo-font-size-m)")
                 .set("color", "var(--lumo-secondary-text-color)");
 
         // Story status badge with color based on status
-        Span statusBadge = new Span(story.getEffectiveStatus().name());
-
-        // Determine background color based on status
-        String backgroundColor = switch (story.getEffectiveStatus()) {
-            case TODO -> "var(--lumo-contrast-60pct)"; // Gray for open/todo tasks
-            case IN_PROGRESS -> "var(--lumo-primary-color)"; // Blue for in-progress tasks
-            case DONE -> "var(--lumo-success-color)"; // Green for completed tasks
-        };
-
+        statusBadge = new Span(story.getEffectiveStatus().name());
         statusBadge.getStyle()
                 .set("padding", "1px 4px") // Minimal padding
                 .set("border-radius", "3px")
                 .set("font-size", "var(--lumo-font-size-xs)") // Extra small text size
                 .set("font-weight", "normal")
-                .set("background", backgroundColor)
+                .set("background", getStatusColor(story.getEffectiveStatus()))
                 .set("color", "white");
 
         header.add(expandIcon, storyKey, storyTitle, subtaskCount, statusBadge);
         add(header);
     }
 
+    private TaskCard createTaskCard(Task task) {
+        TaskCard card = new TaskCard(task, userMap,
+                onTaskClick != null ? () -> onTaskClick.accept(task) : null,
+                onTaskTitleClick != null ? () -> onTaskTitleClick.accept(task) : null);
+        setupTaskCardDragHandlers(card, task);
+        return card;
+    }
+
     private String formatStoryKey(Task story) {
         return story.getKey();
     }
 
+    private VerticalLayout getLane(TaskStatus status) {
+        return switch (status) {
+            case TODO -> todoLane;
+            case IN_PROGRESS -> inProgressLane;
+            case DONE -> doneLane;
+        };
+    }
+
+    private String getStatusColor(TaskStatus status) {
+        return switch (status) {
+            case TODO -> "var(--lumo-contrast-60pct)"; // Gray for open/todo tasks
+            case IN_PROGRESS -> "var(--lumo-primary-color)"; // Blue for in-progress tasks
+            case DONE -> "var(--lumo-success-color)"; // Green for completed tasks
+        };
+    }
+
     public Task getStory() {
         return story;
     }
@@ -272,45 +283,43 @@ public class StoryCard extends Div {
         return expanded;
     }
 
+    /**
+     * Brings the lanes in sync with the child tasks.
+     * <p>
+     * Cards are kept by task id, a card is only created for a new task or if the displayed values of its task changed.
+     * A status change moves the existing card to the other lane.
+     * </p>
+     */
     private void populateLanes() {
-        // Clear existing tasks
-        clearLaneTasks(todoLane);
-        clearLaneTasks(inProgressLane);
-        clearLaneTasks(doneLane);
-
-        // Group tasks by status
-        Map<TaskStatus, List<Task>> tasksByStatus = childTasks.stream()
-                .collect(Collectors.groupingBy(Task::getTaskStatus));
-
-        // Populate each lane
-        tasksByStatus.getOrDefault(TaskStatus.TODO, List.of()).forEach(task -> {
-            TaskCard card = new TaskCard(task, userMap,
-                    onTaskClick != null ? () -> onTaskClick.accept(task) : null,
-                    onTaskTitleClick != null ? () -> onTaskTitleClick.accept(task) : null);
-            setupTaskCardDragHandlers(card, task);
-            todoLane.add(card);
+        Set<UUID> visibleTaskIds = childTasks.stream().map(Task::getId).collect(Collectors.toSet());
+        taskCards.entrySet().removeIf(entry -> {
+            if (visibleTaskIds.contains(entry.getKey())) {
+                return false;
+            }
+            entry.getValue().removeFromParent();
+            return true;
         });
 
-        tasksByStatus.getOrDefault(TaskStatus.IN_PROGRESS, List.of()).forEach(task -> {
-            TaskCard card = new TaskCard(task, userMap,
-                    onTaskClick != null ? () -> onTaskClick.accept(task) : null,
-                    onTaskTitleClick != null ? () -> onTaskTitleClick.accept(task) : null);
-            setupTaskCardDragHandlers(card, task);
-            inProgressLane.add(card);
-        });
-
-        tasksByStatus.getOrDefault(TaskStatus.DONE, List.of()).forEach(task -> {
-            TaskCard card = new TaskCard(task, userMap,
-                    onTaskClick != null ? () -> onTaskClick.accept(task) : null,
-                    onTaskTitleClick != null ? () -> onTaskTitleClick.accept(task) : null);
-            setupTaskCardDragHandlers(card, task);
-            doneLane.add(card);
-        });
+        Map<TaskStatus, Integer> laneSizes = new EnumMap<>(TaskStatus.class);
+        for (Task task : childTasks) {
+            TaskCard card = taskCards.get(task.getId());
+            if (card == null || card.getTask() != task || card.isStale()) {
+                if (card != null) {
+                    card.removeFromParent();
+                }
+                card = createTaskCard(task);
+                taskCards.put(task.getId(), card);
+            }
+            // the lane header is the first child of a lane
+            int index = laneSizes.merge(task.getTaskStatus(), 1, Integer::sum);
+            VaadinUtil.placeComponent(getLane(task.getTaskStatus()), index, card);
+        }
 
         // Update task counts
-        updateTaskCount(todoLane, tasksByStatus.getOrDefault(TaskStatus.TODO, List.of()).size(), TaskStatus.TODO);
-        updateTaskCount(inProgressLane, tasksByStatus.getOrDefault(TaskStatus.IN_PROGRESS, List.of()).size(), TaskStatus.IN_PROGRESS);
-        updateTaskCount(doneLane, tasksByStatus.getOrDefault(TaskStatus.DONE, List.of()).size(), TaskStatus.DONE);
+        updateTaskCount(todoLane, laneSizes.getOrDefault(TaskStatus.TODO, 0), TaskStatus.TODO);
+        updateTaskCount(inProgressLane, laneSizes.getOrDefault(TaskStatus.IN_PROGRESS, 0), TaskStatus.IN_PROGRESS);
+        updateTaskCount(doneLane, laneSizes.getOrDefault(TaskStatus.DONE, 0), TaskStatus.DONE);
+        updateStoryHeader();
     }
 
     public void refresh(List<Task> updatedChildTasks) {
@@ -385,6 +394,16 @@ public class StoryCard extends Div {
                 });
     }
 
+    private void updateStoryHeader() {
+        VaadinUtil.setTextIfChanged(storyTitle, story.getName());
+        VaadinUtil.setTextIfChanged(subtaskCount, "(" + childTasks.size() + " subtasks)");
+        TaskStatus status = story.getEffectiveStatus();
+        if (!status.name().equals(statusBadge.getText())) {
+            statusBadge.setText(status.name());
+            statusBadge.getStyle().set("background", getStatusColor(status));
+        }
+    }
+
     private void updateTaskCount(VerticalLayout lane, int count, TaskStatus status) {
         String className = "task-count-" + status.name().toLowerCase().replace("_", "-");
         // The Span is inside the lane header Div, so we need to search recursively
@@ -397,7 +416,7 @@ public class StoryCard extends Div {
                             .findFirst()
                             .ifPresent(component -> {
                                 if (component instanceof Span) {
-                                    ((Span) component).setText(" (" + count + ")");
+                                    VaadinUtil.setTextIfChanged((Span) component, " (" + count + ")");
                                 }
                             });
                 });
@@ -17,6 +17,7 @@
 
 package de.bushnaq.abdalla.kassandra.ui.component;
 
+import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
@@ -24,6 +25,7 @@ import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import de.bushnaq.abdalla.kassandra.dto.Task;
 import de.bushnaq.abdalla.kassandra.dto.TaskStatus;
 import de.bushnaq.abdalla.kassandra.dto.User;
+import de.bushnaq.abdalla.kassandra.ui.util.VaadinUtil;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.List;
@@ -31,6 +33,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * A component representing a story with its child tasks in Features mode.
@@ -46,12 +49,19 @@ import java.util.function.Consumer;
 @Slf4j
 public class StoryTaskCard extends VerticalLayout {
 
-    private final List<Task>                   childTasks;
+    private       List<Task>                   childTasks;
+    private       VerticalLayout               contentLayout;
+    private       Component                    header;
     private final Consumer<Task>               onTaskClick;
     private final BiConsumer<Task, TaskStatus> onTaskStatusChange;
     private final Consumer<Task>               onTaskTitleClick;
-    private final boolean                      showSimplifiedHeader;
+    private       boolean                      showSimplifiedHeader;
+    private       Span                         statusBadge;
     private final Task                         story;
+    private       VerticalLayout               taskContainer;
+    private final Function<Task, TaskCard>     taskCardProvider;
+    private       Span                         taskCount;
+    private       Span                         title;
     private final Map<UUID, User>              userMap;
 
     /**
@@ -98,6 +108,24 @@ public class StoryTaskCard extends VerticalLayout {
     public StoryTaskCard(Task story, List<Task> childTasks, Map<UUID, User> userMap,
                          BiConsumer<Task, TaskStatus> onTaskStatusChange, boolean showSimplifiedHeader,
                          Consumer<Task> onTaskClick, Consumer<Task> onTaskTitleClick) {
+        this(story, childTasks, userMap, onTaskStatusChange, showSimplifiedHeader, onTaskClick, onTaskTitleClick, null);
+    }
+
+    /**
+     * Constructs a StoryTaskCard that takes its task cards from the caller, so that a card can move between story cards.
+     *
+     * @param story                the parent story task
+     * @param childTasks           the child tasks to display
+     * @param userMap              user map for avatar display
+     * @param onTaskStatusChange   callback invoked when a task is dropped into a new status lane
+     * @param showSimplifiedHeader {@code true} to show a compact story header
+     * @param onTaskClick          handler invoked when a task card body is clicked; may be {@code null}
+     * @param onTaskTitleClick     handler invoked when the task title is clicked; may be {@code null}
+     * @param taskCardProvider     returns the card of a task; {@code null} to create a new card for every task
+     */
+    StoryTaskCard(Task story, List<Task> childTasks, Map<UUID, User> userMap,
+                  BiConsumer<Task, TaskStatus> onTaskStatusChange, boolean showSimplifiedHeader,
+                  Consumer<Task> onTaskClick, Consumer<Task> onTaskTitleClick, Function<Task, TaskCard> taskCardProvider) {
         this.story                = story;
         this.childTasks           = childTasks;
         this.userMap              = userMap;
@@ -105,6 +133,7 @@ public class StoryTaskCard extends VerticalLayout {
         this.showSimplifiedHeader = showSimplifiedHeader;
         this.onTaskClick          = onTaskClick;
         this.onTaskTitleClick     = onTaskTitleClick;
+        this.taskCardProvider     = taskCardProvider != null ? taskCardProvider : this::createTaskCard;
 
         setPadding(false);
         setSpacing(false);
@@ -128,51 +157,40 @@ public class StoryTaskCard extends VerticalLayout {
                 .set("box-sizing", "border-box")
                 .set("width", "100%"); // Explicitly set width
 
-        VerticalLayout contentLayout = new VerticalLayout();
+        contentLayout = new VerticalLayout();
         contentLayout.setPadding(false);
         contentLayout.setSpacing(false);
         contentLayout.setWidthFull();
 
         // Choose header style based on mode
-        if (showSimplifiedHeader) {
-            // Simplified header: just key and name on one line (for tasks in different lane than story)
-            HorizontalLayout storyHeader = createSimplifiedStoryHeader();
-            contentLayout.add(storyHeader);
-        } else {
-            // Full story card (for when all tasks are in same lane as story)
-            Div storyCard = createStoryCard();
-            contentLayout.add(storyCard);
-        }
+        header = createHeader();
+        contentLayout.add(header);
 
         // Create container for child tasks with 6px left indentation
-        if (!childTasks.isEmpty()) {
-            VerticalLayout taskContainer = new VerticalLayout();
-            taskContainer.setPadding(false);
-            taskContainer.setSpacing(false);
-            taskContainer.setWidthFull();
-            taskContainer.getStyle()
-                    .set("margin-left", "6px")
-                    .set("margin-top", "2px") // Add small top margin
-                    .set("gap", "2px"); // 2px vertical space between tasks
-
-            // Add each child task - TaskCard handles its own drag behavior
-            for (Task task : childTasks) {
-                TaskCard taskCard = new TaskCard(
-                        task,
-                        userMap,
-                        onTaskClick != null ? () -> onTaskClick.accept(task) : null,
-                        onTaskTitleClick != null ? () -> onTaskTitleClick.accept(task) : null
-                );
-                taskContainer.add(taskCard);
-            }
-
-            contentLayout.add(taskContainer);
-        }
+        taskContainer = new VerticalLayout();
+        taskContainer.setPadding(false);
+        taskContainer.setSpacing(false);
+        taskContainer.setWidthFull();
+        taskContainer.getStyle()
+                .set("margin-left", "6px")
+                .set("margin-top", "2px") // Add small top margin
+                .set("gap", "2px"); // 2px vertical space between tasks
+        contentLayout.add(taskContainer);
+        populateTasks();
 
         containerBox.add(contentLayout);
         add(containerBox);
     }
 
+    private Component createHeader() {
+        if (showSimplifiedHeader) {
+            // Simplified header: just key and name on one line (for tasks in different lane than story)
+            return createSimplifiedStoryHeader();
+        }
+        // Full story card (for when all tasks are in same lane as story)
+        return createStoryCard();
+    }
+
     /**
      * Creates a simplified story header with just key and name on one line
      * Similar to how stories are displayed in "group by Story" mode
@@ -194,13 +212,13 @@ public class StoryTaskCard extends VerticalLayout {
                 .set("color", "var(--lumo-secondary-text-color)"); // Gray color
 
         // Story title (plain black)
-        Span storyTitle = new Span(story.getName());
-        storyTitle.getStyle()
+        title = new Span(story.getName());
+        title.getStyle()
                 .set("font-weight", "normal")
                 .set("font-size", "var(--lumo-font-size-m)")
                 .set("color", "var(--lumo-body-text-color)"); // Plain black
 
-        header.add(storyKey, storyTitle);
+        header.add(storyKey, title);
         return header;
     }
 
@@ -236,7 +254,7 @@ public class StoryTaskCard extends VerticalLayout {
         topRow.setPadding(false);
         topRow.setSpacing(true);
 
-        Span title = new Span(story.getName());
+        title = new Span(story.getName());
         title.addClassName("story-card-title");
         title.getStyle()
                 .set("font-size", "var(--lumo-font-size-m)")
@@ -247,21 +265,13 @@ public class StoryTaskCard extends VerticalLayout {
                 .set("flex", "1");
 
         // Story status badge with color based on status
-        Span statusBadge = new Span(story.getEffectiveStatus().name());
-
-        // Determine background color based on status
-        String backgroundColor = switch (story.getEffectiveStatus()) {
-            case TODO -> "#757575"; // Gray for open/todo tasks
-            case IN_PROGRESS -> "#1976D2"; // Blue for in-progress tasks
-            case DONE -> "#388E3C"; // Green for completed tasks
-        };
-
+        statusBadge = new Span(story.getEffectiveStatus().name());
         statusBadge.getStyle()
                 .set("padding", "1px 4px")
                 .set("border-radius", "3px")
                 .set("font-size", "var(--lumo-font-size-xs)")
                 .set("font-weight", "normal")
-                .set("background", backgroundColor)
+                .set("background", getStatusColor(story.getEffectiveStatus()))
                 .set("color", "white")
                 .set("white-space", "nowrap");
 
@@ -282,7 +292,7 @@ public class StoryTaskCard extends VerticalLayout {
                 .set("color", "var(--lumo-secondary-text-color)") // Gray color
                 .set("font-size", "var(--lumo-font-size-xs)");
 
-        Span taskCount = new Span(childTasks.size() + " tasks");
+        taskCount = new Span(childTasks.size() + " tasks");
         taskCount.addClassName("story-card-task-count");
         taskCount.getStyle()
                 .set("font-size", "var(--lumo-font-size-xs)")
@@ -299,11 +309,74 @@ public class StoryTaskCard extends VerticalLayout {
         return storyCard;
     }
 
+    private TaskCard createTaskCard(Task task) {
+        return new TaskCard(
+                task,
+                userMap,
+                onTaskClick != null ? () -> onTaskClick.accept(task) : null,
+                onTaskTitleClick != null ? () -> onTaskTitleClick.accept(task) : null
+        );
+    }
+
     private String formatStoryKey(Task story) {
         return story.getKey();
     }
 
+    private String getStatusColor(TaskStatus status) {
+        return switch (status) {
+            case TODO -> "#757575"; // Gray for open/todo tasks
+            case IN_PROGRESS -> "#1976D2"; // Blue for in-progress tasks
+            case DONE -> "#388E3C"; // Green for completed tasks
+        };
+    }
+
     public Task getStory() {
         return story;
     }
+
+    /**
+     * Puts the task cards into the task container in the order of the child tasks.
+     * Cards that are already in place are not touched, cards of other tasks are removed.
+     */
+    private void populateTasks() {
+        List<TaskCard> cards = childTasks.stream().map(taskCardProvider).toList();
+        taskContainer.getChildren()
+                .filter(component -> !cards.contains(component))
+                .toList()
+                .forEach(taskContainer::remove);
+        for (int i = 0; i < cards.size(); i++) {
+            VaadinUtil.placeComponent(taskContainer, i, cards.get(i));
+        }
+        boolean visible = !childTasks.isEmpty();
+        if (taskContainer.isVisible() != visible) {
+            taskContainer.setVisible(visible);
+        }
+    }
+
+    /**
+     * Updates the card in place, only changed parts are sent to the browser.
+     *
+     * @param childTasks           the child tasks to display
+     * @param showSimplifiedHeader {@code true} to show a compact story header
+     */
+    void update(List<Task> childTasks, boolean showSimplifiedHeader) {
+        this.childTasks = childTasks;
+        if (this.showSimplifiedHeader != showSimplifiedHeader) {
+            this.showSimplifiedHeader = showSimplifiedHeader;
+            Component newHeader = createHeader();
+            contentLayout.replace(header, newHeader);
+            header = newHeader;
+        } else {
+            VaadinUtil.setTextIfChanged(title, story.getName());
+            if (!showSimplifiedHeader) {
+                TaskStatus status = story.getEffectiveStatus();
+                if (!status.name().equals(statusBadge.getText())) {
+                    statusBadge.setText(status.name());
+                    statusBadge.getStyle().set("background", getStatusColor(status));
+                }
+                VaadinUtil.setTextIfChanged(taskCount, childTasks.size() + " tasks");
+            }
+        }
+        populateTasks();
+    }
 }
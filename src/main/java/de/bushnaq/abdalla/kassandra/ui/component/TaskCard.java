@@ -29,6 +29,8 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -52,6 +54,7 @@ public class TaskCard extends Div {
     public static final String          TASK_CARD_TITLE_ID_PREFIX = "task-card-title-";
     private final       Runnable        onClickHandler;
     private final       Runnable        onTitleClickHandler;
+    private final       List<Object>    renderedState;// the displayed task fields
     @Getter
     private final       Task            task;
     private final       Map<UUID, User> userMap;
@@ -90,6 +93,7 @@ public class TaskCard extends Div {
         this.userMap             = userMap;
         this.onClickHandler      = onClickHandler;
         this.onTitleClickHandler = onTitleClickHandler;
+        this.renderedState       = renderedStateOf(task);
 
         addClassName("task-card");
         setId("task-card-" + task.getId());
@@ -291,5 +295,18 @@ public class TaskCard extends Div {
         // Default gray color for unassigned tasks
         return "var(--lumo-contrast-30pct)";
     }
-}
 
+    /**
+     * Checks if the card still shows the current values of its task.
+     * The status is not part of the card, it is shown by the lane the card is in.
+     *
+     * @return {@code true} if the name, key, assignee or remaining estimate of the task changed since the card was created
+     */
+    public boolean isStale() {
+        return !renderedState.equals(renderedStateOf(task));
+    }
+
+    private static List<Object> renderedStateOf(Task task) {
+        return Arrays.asList(task.getName(), task.getKey(), task.getResourceId(), task.getRemainingEstimate());
+    }
+}
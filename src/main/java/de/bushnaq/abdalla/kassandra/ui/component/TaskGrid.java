@@ -18,27 +18,13 @@
 package de.bushnaq.abdalla.kassandra.ui.component;
 
 import com.vaadin.flow.component.ClientCallable;
-import com.vaadin.flow.component.button.Button;
-import com.vaadin.flow.component.button.ButtonVariant;
-import com.vaadin.flow.component.checkbox.Checkbox;
-import com.vaadin.flow.component.combobox.ComboBox;
-import com.vaadin.flow.component.combobox.ComboBoxVariant;
-import com.vaadin.flow.component.datetimepicker.DateTimePicker;
-import com.vaadin.flow.component.datetimepicker.DateTimePickerVariant;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.grid.GridVariant;
 import com.vaadin.flow.component.grid.dnd.GridDropLocation;
 import com.vaadin.flow.component.grid.dnd.GridDropMode;
-import com.vaadin.flow.component.html.Div;
-import com.vaadin.flow.component.html.Span;
-import com.vaadin.flow.component.icon.VaadinIcon;
-import com.vaadin.flow.component.orderedlayout.FlexComponent;
-import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
-import com.vaadin.flow.component.textfield.TextField;
-import com.vaadin.flow.component.textfield.TextFieldVariant;
 import com.vaadin.flow.component.treegrid.TreeGrid;
 import com.vaadin.flow.data.provider.hierarchy.TreeData;
-import com.vaadin.flow.data.renderer.ComponentRenderer;
+import com.vaadin.flow.data.renderer.LitRenderer;
 import de.bushnaq.abdalla.kassandra.dto.*;
 import de.bushnaq.abdalla.kassandra.ui.dialog.DependencyDialog;
 import de.bushnaq.abdalla.util.ColorUtil;
@@ -52,8 +38,11 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.time.format.FormatStyle;
 import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Log4j2
@@ -76,6 +65,7 @@ public class TaskGrid extends TreeGrid<Task> {
     private             CrossGridDragDropCoordinator      dragDropCoordinator; // Coordinator for cross-grid drag & drop
     private             String                            dragMode;
     private             Task                              draggedTask;          // Track the currently dragged task
+    private final       DateTimeFormatter                 dtfIsoLocal                         = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");// value format of vaadin-date-time-picker
     private final       DateTimeFormatter                 dtfymdhm                            = DateTimeFormatter.ofPattern("yyyy.MMM.dd HH:mm");
     /**
      * -- SETTER --
@@ -98,7 +88,9 @@ public class TaskGrid extends TreeGrid<Task> {
     private final       JsonMapper                        jsonMapper;
     private final       Locale                            locale;
     @Getter
-    private final       Set<Task>                         modifiedTasks                       = new HashSet<>();
+    private final       Set<Task>                         modifiedTasks                       = new HashSet<>();// content changed or never saved
+    @Getter
+    private final       Set<Task>                         movedTasks                          = new HashSet<>();// order, parent or sprint changed
     @Setter
     private             java.util.function.Consumer<Task> onDeleteTask;
     @Setter
@@ -147,10 +139,9 @@ public class TaskGrid extends TreeGrid<Task> {
         task.setSprintId(sprint.getId());
         sprint.addTask(task);
         taskOrder.add(task);
+        markTaskAsModified(task);
         if (!task.isStory()) {
             indentTask(task);
-        } else {
-            markTaskAsModified(task);
         }
         onSaveAllChangesAndRefresh.run();
     }
@@ -280,6 +271,29 @@ public class TaskGrid extends TreeGrid<Task> {
         dialog.open();
     }
 
+    /**
+     * Renderer of an estimate column, editable only for Task tasks.
+     */
+    private LitRenderer<Task> createEstimateRenderer(String idPrefix, Function<Task, Duration> getter, BiConsumer<Task, Duration> setter) {
+        return LitRenderer.<Task>of("""
+                        ${item.editable
+                        ? html`<vaadin-text-field id="%1$s${item.idName}" theme="small" style="width:100%%" placeholder="e.g., 1d 2h 30m" .value=${item.estimate}
+                                   @change=${e => { e.target.invalid = false; item.estimate = e.target.value; onEstimateChange(e.target.value, e.target.id); }}></vaadin-text-field>`
+                        : html`<div id="%1$s${item.idName}">${item.estimate}</div>`}""".formatted(idPrefix))
+                .withProperty("editable", task -> isEditMode && task.isTask())
+                .withProperty("estimate", task -> task.isTask() && !getter.apply(task).equals(Duration.ZERO) ? DateUtil.createWorkDayDurationString(getter.apply(task)) : "")
+                .withProperty("idName", Task::getName)
+                .withFunction("onEstimateChange", (task, args) -> {
+                    try {
+                        Duration duration = DateUtil.parseWorkDayDurationString(args.get(0).asText().strip());
+                        setter.accept(task, duration);
+                        markTaskAsModified(task);
+                    } catch (IllegalArgumentException ex) {
+                        markFieldInvalid(args.get(1).asText(), "Invalid format");
+                    }
+                });
+    }
+
     private void createGridColumns() {
         DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofLocalizedDateTime(FormatStyle.LONG).withZone(clock.getZone()).withLocale(getLocale());
 
@@ -319,63 +333,17 @@ public class TaskGrid extends TreeGrid<Task> {
 
         // User Color Indicator Column - shows colored bar for assigned user
         {
-            Grid.Column<Task> colorColumn = addComponentColumn((Task task) -> {
-                HorizontalLayout wrapper = new HorizontalLayout();
-                if (task.isTask()) {
-                    wrapper.getElement().getStyle()
-                            .set("background-color", "transparent")
-                            .set("width", "14px")
-                            .set("height", "32px")
-                            .set("flex-shrink", "0")
-                            .set("row-gap", "0px")
-                            .set("--_lumo-grid-border-width", "0px")
-                            .set("gap", "0px");
-                    Div spacer = new Div();
-                    spacer.getElement().getStyle()
-                            .set("width", "10px")
-                            .set("height", "32px")
-                            .set("background-color", "transparent")
-                            .set("flex-shrink", "0");
-                    wrapper.add(spacer);
-                } else {
-                    wrapper.getElement().getStyle()
-                            .set("background-color", "var(--lumo-base-color)")
-                            .set("width", "14px")
-                            .set("height", "32px")
-                            .set("flex-shrink", "0")
-                            .set("row-gap", "0px")
-                            .set("--_lumo-grid-border-width", "0px")
-                            .set("gap", "0px");
-                }
-
-                // Create a colored vertical bar
-                Div    colorBar  = new Div();
-                String userColor = getUserColor(task);
-
-                colorBar.getStyle()
-                        .set("background", "var(--lumo-base-color)")
-                        .set("border-left", "4px solid " + userColor) // 4px colored left border
-                        .set("border-radius", "4px")
-                        .set("cursor", "grab")
-                        .set("transition", "all 0.2s ease")
-                        .set("min-height", "32px")
-                        .set("flex-shrink", "0")
-                        .set("box-sizing", "border-box");
-
-                // Add tooltip with user name if assigned
-                if (task.getResourceId() != null && sprint != null) {
-                    try {
-                        User user = sprint.getUser(task.getResourceId());
-                        if (user != null) {
-                            colorBar.getElement().setProperty("title", "Assigned to: " + user.getName());
-                        }
-                    } catch (Exception e) {
-                        // User not found
-                    }
-                }
-                wrapper.add(colorBar);
-                return wrapper;
-            }).setHeader("").setWidth("14px").setFlexGrow(0);
+            Grid.Column<Task> colorColumn = addColumn(LitRenderer.<Task>of("""
+                            <div style="display:flex;width:14px;height:32px;flex-shrink:0;background-color:${item.task ? 'transparent' : 'var(--lumo-base-color)'}">
+                              ${item.task ? html`<div style="width:10px;height:32px;flex-shrink:0"></div>` : ''}
+                              <div title="${item.title}" style="background:var(--lumo-base-color);border-left:4px solid ${item.color};border-radius:4px;cursor:grab;transition:all 0.2s ease;min-height:32px;flex-shrink:0;box-sizing:border-box"></div>
+                            </div>""")
+                    .withProperty("color", this::getUserColor)
+                    .withProperty("task", Task::isTask)
+                    .withProperty("title", task -> {
+                        User user = getAssignedUser(task);
+                        return user != null ? "Assigned to: " + user.getName() : "";
+                    })).setHeader("").setWidth("14px").setFlexGrow(0);
             colorColumn.setKey("user-color");
             colorColumn.setId("task-grid-user-color-column");
             colorColumn.setFrozen(true); // Keep this column fixed on the left
@@ -383,95 +351,37 @@ public class TaskGrid extends TreeGrid<Task> {
 
         //name - Editable for all task types, with icon on the left and key integrated
         {
-            Grid.Column<Task> nameColumn = addComponentHierarchyColumn((Task task) -> {
-                // Create container for icon + key + name (TreeGrid handles indentation automatically)
-                HorizontalLayout container = new HorizontalLayout();
-                container.setSpacing(false);
-                container.setPadding(false);
-                container.setAlignItems(com.vaadin.flow.component.orderedlayout.FlexComponent.Alignment.CENTER);
-                container.setWidthFull(); // Ensure full width for proper border display
-                container.setWidth("450px");
-                // Store task ID as element property for JavaScript access
-                container.getElement().setProperty("taskId", task.getId().toString());
-
-
-                // Add icon based on task type
-                if (task.isMilestone()) {
-                    // Diamond shape for milestone
-                    Div diamond = new Div();
-                    diamond.getElement().getStyle()
-                            .set("width", "12px")
-                            .set("height", "12px")
-                            .set("background-color", "#1976d2")
-                            .set("transform", "rotate(45deg)")
-                            .set("margin-right", "8px")
-                            .set("flex-shrink", "0");
-                    container.add(diamond);
-                } else if (task.isStory()) {
-                    // Downward triangle for story
-                    Div triangle = new Div();
-                    triangle.getElement().getStyle()
-                            .set("width", "0")
-                            .set("height", "0")
-                            .set("border-left", "6px solid transparent")
-                            .set("border-right", "6px solid transparent")
-                            .set("border-top", "10px solid #43a047")
-                            .set("margin-right", "8px")
-                            .set("flex-shrink", "0");
-                    container.add(triangle);
-                } else if (task.isTask()) {
-                    // Task gets no visible icon, but add spacing to match icon width
-                    // Triangle width is 12px (6px + 6px) + 8px margin = 20px total
-                    Div spacer = new Div();
-                    spacer.getElement().getStyle()
-                            .set("width", "20px")
-                            .set("height", "1px")
-                            .set("flex-shrink", "0");
-                    container.add(spacer);
-                }
-
-                // Add task key (bold, small, gray) - similar to Backlog style
-                Span keySpan = new Span(task.getKey());
-                keySpan.setId(TASK_GRID_KEY_PREFIX + task.getName());
-                keySpan.getStyle()
-                        .set("font-weight", "bold")
-                        .set("font-size", "var(--lumo-font-size-xs)")
-                        .set("color", "#9E9E9E") // Match Backlog gray color
-                        .set("white-space", "nowrap")
-                        .set("margin-right", "var(--lumo-space-s)")
-                        .set("flex-shrink", "0");
-                container.add(keySpan);
-
-                // Add name field or text
-                if (isEditMode) {
-                    TextField nameField = new TextField();
-                    nameField.addThemeVariants(TextFieldVariant.LUMO_SMALL);
-                    nameField.setId(TASK_GRID_NAME_PREFIX + task.getName());
-                    nameField.setValue(task.getName() != null ? task.getName() : "");
-                    nameField.setWidthFull();
-
-                    nameField.addValueChangeListener(e -> {
-                        if (e.isFromClient()) {
-                            task.setName(e.getValue());
-                            markTaskAsModified(task);
+            Grid.Column<Task> nameColumn = addColumn(LitRenderer.<Task>of("""
+                            <vaadin-grid-tree-toggle .leaf=${item.leaf} .expanded=${model.expanded} .level=${model.level}
+                                @click=${e => { if (!item.leaf && !e.target.closest('vaadin-text-field')) onToggle(); }}>
+                              <div style="display:flex;align-items:center;width:450px">
+                                ${item.type === 'milestone' ? html`<div style="width:12px;height:12px;background-color:#1976d2;transform:rotate(45deg);margin-right:8px;flex-shrink:0"></div>`
+                                : item.type === 'story' ? html`<div style="width:0;height:0;border-left:6px solid transparent;border-right:6px solid transparent;border-top:10px solid #43a047;margin-right:8px;flex-shrink:0"></div>`
+                                : html`<div style="width:20px;height:1px;flex-shrink:0"></div>`}
+                                <span id="%1$s${item.idName}" style="font-weight:bold;font-size:var(--lumo-font-size-xs);color:#9E9E9E;white-space:nowrap;margin-right:var(--lumo-space-s);flex-shrink:0">${item.key}</span>
+                                ${item.editable
+                                ? html`<vaadin-text-field id="%2$s${item.idName}" theme="small" style="flex-grow:1" .value=${item.name}
+                                           @change=${e => { item.name = e.target.value; onNameChange(e.target.value); }}></vaadin-text-field>`
+                                : html`<div id="%2$s${item.idName}" style="flex-grow:1;overflow:hidden;text-overflow:ellipsis;white-space:nowrap">${item.name}</div>`}
+                              </div>
+                            </vaadin-grid-tree-toggle>""".formatted(TASK_GRID_KEY_PREFIX, TASK_GRID_NAME_PREFIX))
+                    .withProperty("editable", task -> isEditMode)
+                    .withProperty("idName", Task::getName)
+                    .withProperty("key", Task::getKey)
+                    .withProperty("leaf", task -> !getDataProvider().hasChildren(task))
+                    .withProperty("name", task -> task.getName() != null ? task.getName() : "")
+                    .withProperty("type", task -> task.isMilestone() ? "milestone" : task.isStory() ? "story" : "task")
+                    .withFunction("onNameChange", (task, args) -> {
+                        task.setName(args.get(0).asText());
+                        markTaskAsModified(task);
+                    })
+                    .withFunction("onToggle", task -> {
+                        if (isExpanded(task)) {
+                            collapse(task);
+                        } else {
+                            expand(task);
                         }
-                    });
-                    container.add(nameField);
-                    container.setFlexGrow(1, nameField);
-                } else {
-                    Div div = new Div();
-                    div.setText(task.getName() != null ? task.getName() : "");
-                    div.setId(TASK_GRID_NAME_PREFIX + task.getName());
-                    div.getStyle()
-                            .set("overflow", "hidden")
-                            .set("text-overflow", "ellipsis")
-                            .set("white-space", "nowrap");
-                    container.add(div);
-                    container.setFlexGrow(1, div);
-                }
-
-                return container;
-            }).setHeader("Name")/*.setAutoWidth(true)*/.setFlexGrow(1);
+                    })).setHeader("Name")/*.setAutoWidth(true)*/.setFlexGrow(1);
             nameColumn.setId("task-grid-name-column");
             nameColumn.setWidth("400px");
         }
@@ -487,347 +397,117 @@ public class TaskGrid extends TreeGrid<Task> {
 //        }
         //Dependency
         {
-            addColumn(new ComponentRenderer<>((Task task) -> {
-                if (isEditMode) {
-                    // Editable - show current dependencies as text with an edit button
-                    HorizontalLayout container = new HorizontalLayout();
-                    container.setId(TASK_GRID_DEPENDENCY_PREFIX + task.getName());
-                    container.setSpacing(false);
-                    container.setPadding(false);
-                    container.setAlignItems(com.vaadin.flow.component.orderedlayout.FlexComponent.Alignment.CENTER);
-                    container.setWidthFull();
-
-                    // Style the container to look like an editable field
-                    container.getStyle()
-                            .set("background-color", "var(--lumo-contrast-10pct)")
-                            .set("border", "1px solid var(--lumo-contrast-20pct)")
-                            .set("border-radius", "var(--lumo-border-radius-m)")
-                            .set("padding", "0")
-                            .set("min-height", "var(--lumo-size-m)")
-                            .set("cursor", "pointer");
-
-                    // Display current dependencies as text
-                    String dependencyText = getDependencyText(task);
-                    Div    textDiv        = new Div();
-                    textDiv.setText(dependencyText.isEmpty() ? "Click to edit..." : dependencyText);
-                    textDiv.getStyle()
-                            .set("flex-grow", "1")
-                            .set("padding", "var(--lumo-space-xs)")
-                            .set("min-width", "0")
-                            .set("overflow", "hidden")
-                            .set("text-overflow", "ellipsis")
-                            .set("white-space", "nowrap");
-
-                    // Add placeholder style if empty
-                    if (dependencyText.isEmpty()) {
-                        textDiv.getStyle()
-                                .set("color", "var(--lumo-secondary-text-color)")
-                                .set("font-style", "italic");
-                    }
-
-                    // Edit button
-                    Button editButton = new Button(VaadinIcon.EDIT.create());
-                    editButton.addThemeVariants(ButtonVariant.LUMO_SMALL, ButtonVariant.LUMO_TERTIARY_INLINE);
-                    editButton.getStyle()
-                            .set("margin", "0")
-                            .set("min-width", "var(--lumo-size-m)");
-
-                    // Stop event propagation before adding click listener
-                    editButton.getElement().addEventListener("click", e -> {
-                        // This will be executed first and stops propagation
-                    }).addEventData("event.stopPropagation()");
-
-                    editButton.addClickListener(e -> {
-                        openDependencyEditor(task);
-                    });
-
-                    // Make the whole container clickable
-                    container.addClickListener(e -> {
-                        if (e.getButton() == 0) { // Left mouse button
-                            openDependencyEditor(task);
-                        }
-                    });
-
-                    container.add(textDiv, editButton);
-                    return container;
-                } else {
-                    // Read-only - show dependencies as text
-                    Div div = new Div();
-                    div.getStyle()
-                            .set("font-weight", "bold")
-                            .set("font-size", "var(--lumo-font-size-xs)")
-                            .set("color", "#9E9E9E") // Match Backlog gray color
-                            .set("white-space", "nowrap")
-                            .set("margin-right", "var(--lumo-space-s)")
-                            .set("flex-shrink", "0");
-                    div.setId(TASK_GRID_DEPENDENCY_PREFIX + task.getName());
-                    div.setText(getDependencyText(task));
-                    return div;
-                }
-            })).setHeader("Dependency").setAutoWidth(true);
+            addColumn(LitRenderer.<Task>of("""
+                    ${item.editable
+                    ? html`<div id="%1$s${item.idName}" @click=${e => { if (e.button === 0) onEditDependency(); }}
+                               style="display:flex;align-items:center;width:100%%;box-sizing:border-box;background-color:var(--lumo-contrast-10pct);border:1px solid var(--lumo-contrast-20pct);border-radius:var(--lumo-border-radius-m);padding:0;min-height:var(--lumo-size-m);cursor:pointer">
+                             <div style="flex-grow:1;padding:var(--lumo-space-xs);min-width:0;overflow:hidden;text-overflow:ellipsis;white-space:nowrap;${item.dependencies ? '' : 'color:var(--lumo-secondary-text-color);font-style:italic'}">${item.dependencies || 'Click to edit...'}</div>
+                             <vaadin-button theme="icon small tertiary-inline" style="margin:0;min-width:var(--lumo-size-m)" @click=${e => { e.stopPropagation(); onEditDependency(); }}><vaadin-icon icon="vaadin:edit"></vaadin-icon></vaadin-button>
+                           </div>`
+                    : html`<div id="%1$s${item.idName}" style="font-weight:bold;font-size:var(--lumo-font-size-xs);color:#9E9E9E;white-space:nowrap;margin-right:var(--lumo-space-s);flex-shrink:0">${item.dependencies}</div>`}""".formatted(TASK_GRID_DEPENDENCY_PREFIX))
+                    .withProperty("dependencies", this::getDependencyText)
+                    .withProperty("editable", task -> isEditMode)
+                    .withProperty("idName", Task::getName)
+                    .withFunction("onEditDependency", this::openDependencyEditor)).setHeader("Dependency").setAutoWidth(true);
         }
         //Parent
         {
-            addColumn(new ComponentRenderer<>((Task task) -> {
-                Div div = new Div();
-                div.getStyle()
-                        .set("font-weight", "bold")
-                        .set("font-size", "var(--lumo-font-size-xs)")
-                        .set("color", "#9E9E9E") // Match Backlog gray color
-                        .set("white-space", "nowrap")
-                        .set("margin-right", "var(--lumo-space-s)")
-                        .set("flex-shrink", "0");
-                div.setText(task.getParentTask() != null ? "T-" + task.getParentTask().getOrderId() : "");
-                div.setId(TASK_GRID_PARENT_PREFIX + task.getName());
-                return div;
-            })).setHeader("Parent").setWidth("50px");
+            addColumn(LitRenderer.<Task>of("""
+                    <div id="%s${item.idName}" style="font-weight:bold;font-size:var(--lumo-font-size-xs);color:#9E9E9E;white-space:nowrap;margin-right:var(--lumo-space-s);flex-shrink:0">${item.parent}</div>""".formatted(TASK_GRID_PARENT_PREFIX))
+                    .withProperty("idName", Task::getName)
+                    .withProperty("parent", task -> task.getParentTask() != null ? "T-" + task.getParentTask().getOrderId() : "")).setHeader("Parent").setWidth("50px");
         }
         //Start - Editable only for Milestone tasks; date/time only active when manually scheduled
         {
-            Grid.Column<Task> startColumn = addColumn(new ComponentRenderer<>((Task task) -> {
-                if (isEditMode && task.isMilestone()) {
-                    boolean manuallyScheduled = task.getTaskMode() == TaskMode.MANUALLY_SCHEDULED;
-
-                    // Checkbox controls whether date/time is editable (i.e. MANUALLY_SCHEDULED mode)
-                    Checkbox manualCheckbox = new Checkbox();
-                    manualCheckbox.setValue(manuallyScheduled);
-                    manualCheckbox.setId(TASK_GRID_MANUALLY_SCHEDULED_PREFIX + task.getName());
-                    manualCheckbox.setTooltipText("Manually scheduled – uncheck to let the scheduler compute the date");
-
-                    DateTimePicker startField = new DateTimePicker();
-                    startField.addThemeVariants(DateTimePickerVariant.LUMO_SMALL);
-                    startField.setValue(task.getStart() != null ? task.getStart() : LocalDateTime.now());
-                    startField.setEnabled(manuallyScheduled);
-                    startField.setWidth("150px");
-                    startField.setId(TASK_GRID_START_PREFIX + task.getName());
-
-                    manualCheckbox.addValueChangeListener(e -> {
-                        if (e.isFromClient()) {
-                            boolean isManual = e.getValue();
-                            task.setTaskMode(isManual ? TaskMode.MANUALLY_SCHEDULED : TaskMode.AUTO_SCHEDULED);
-                            startField.setEnabled(isManual);
-                            markTaskAsModified(task);
+            Grid.Column<Task> startColumn = addColumn(LitRenderer.<Task>of("""
+                    ${item.editable
+                    ? html`<div style="display:flex;align-items:center;gap:var(--lumo-space-m)">
+                             <vaadin-checkbox id="%1$s${item.idName}" title="Manually scheduled – uncheck to let the scheduler compute the date" .checked=${item.manual}
+                                 @change=${e => { item.manual = e.target.checked; e.target.nextElementSibling.disabled = !item.manual; onManualChange(item.manual); }}></vaadin-checkbox>
+                             <vaadin-date-time-picker id="%2$s${item.idName}" theme="small" style="width:150px;flex-grow:1" .value=${item.start} ?disabled=${!item.manual}
+                                 @change=${e => { e.target.invalid = false; item.start = e.target.value; onStartChange(e.target.value, e.target.id); }}></vaadin-date-time-picker>
+                           </div>`
+                    : html`<div id="%2$s${item.idName}">${item.start}</div>`}""".formatted(TASK_GRID_MANUALLY_SCHEDULED_PREFIX, TASK_GRID_START_PREFIX))
+                    .withProperty("editable", task -> isEditMode && task.isMilestone())
+                    .withProperty("idName", Task::getName)
+                    .withProperty("manual", task -> task.getTaskMode() == TaskMode.MANUALLY_SCHEDULED)
+                    .withProperty("start", task -> {
+                        if (!task.isMilestone()) {
+                            return "";
+                        } else if (isEditMode) {
+                            return (task.getStart() != null ? task.getStart() : LocalDateTime.now()).format(dtfIsoLocal);
+                        } else {
+                            return task.getStart() != null ? DateUtil.createDateString(task.getStart(), dtfymdhm) : "";
                         }
-                    });
-
-                    startField.addValueChangeListener(e -> {
-                        if (e.isFromClient()) {
-                            try {
-                                LocalDateTime dateTime = e.getValue();
-                                if (dateTime != null) {
-                                    task.setStart(dateTime);
-                                    markTaskAsModified(task);
-                                    startField.setInvalid(false);
-                                } else {
-                                    task.setStart(null);
-                                    markTaskAsModified(task);
-                                    startField.setInvalid(false);
-                                }
-                            } catch (Exception ex) {
-                                startField.setInvalid(true);
-                                startField.setErrorMessage("Invalid date/time format");
-                            }
+                    })
+                    .withFunction("onManualChange", (task, args) -> {
+                        boolean isManual = args.get(0).asBoolean();
+                        task.setTaskMode(isManual ? TaskMode.MANUALLY_SCHEDULED : TaskMode.AUTO_SCHEDULED);
+                        markTaskAsModified(task);
+                    })
+                    .withFunction("onStartChange", (task, args) -> {
+                        String value = args.get(0).asText();
+                        try {
+                            task.setStart(value.isEmpty() ? null : LocalDateTime.parse(value));
+                            markTaskAsModified(task);
+                        } catch (DateTimeParseException ex) {
+                            log.warn("Invalid start date/time '{}' for task {}", value, task.getKey());
+                            markFieldInvalid(args.get(1).asText(), "Invalid date/time format");
                         }
-                    });
-
-                    HorizontalLayout container = new HorizontalLayout(manualCheckbox, startField);
-                    container.setDefaultVerticalComponentAlignment(FlexComponent.Alignment.CENTER);
-                    container.setPadding(false);
-                    container.setFlexGrow(1, startField);
-                    return container;
-                } else {
-                    // Read-only for Story and Task tasks
-                    Div div = new Div();
-                    div.setId(TASK_GRID_START_PREFIX + task.getName());
-                    if (task.isMilestone())
-                        div.setText(task.getStart() != null ? DateUtil.createDateString(task.getStart(), dtfymdhm) : "");
-                    else
-                        div.setText("");
-                    return div;
-                }
-            })).setHeader("Start").setWidth("200px")/*.setAutoWidth(true)*/;
+                    })).setHeader("Start").setWidth("200px")/*.setAutoWidth(true)*/;
         }
 
         //Min Estimate - Editable only for Task tasks
         {
-            addColumn(new ComponentRenderer<>((Task task) -> {
-                if (isEditMode && task.isTask()) {
-                    // Editable for Task tasks
-                    TextField estimateField = new TextField();
-                    estimateField.addThemeVariants(TextFieldVariant.LUMO_SMALL);
-                    estimateField.setId(TASK_GRID_MIN_EST_PREFIX + task.getName());
-                    estimateField.setValue(!task.getMinEstimate().equals(Duration.ZERO) ?
-                            DateUtil.createWorkDayDurationString(task.getMinEstimate()) : "");
-                    estimateField.setWidthFull();
-                    estimateField.setPlaceholder("e.g., 1d 2h 30m");
-
-                    estimateField.addValueChangeListener(e -> {
-                        if (e.isFromClient()) {
-                            try {
-                                Duration duration = DateUtil.parseWorkDayDurationString(e.getValue().strip());
-                                task.setMinEstimate(duration);
-                                markTaskAsModified(task);
-                                estimateField.setInvalid(false);
-                            } catch (IllegalArgumentException ex) {
-                                estimateField.setInvalid(true);
-                                estimateField.setErrorMessage("Invalid format");
-                            }
-                        }
-                    });
-
-                    return estimateField;
-                } else {
-                    // Read-only for Milestone and Story tasks
-                    Div div = new Div();
-                    div.setId(TASK_GRID_MIN_EST_PREFIX + task.getName());
-                    if (task.isTask())
-                        div.setText(!task.getMinEstimate().equals(Duration.ZERO) ? DateUtil.createWorkDayDurationString(task.getMinEstimate()) : "");
-                    else
-                        div.setText("");
-                    return div;
-                }
-            })).setHeader("Min Estimate").setAutoWidth(true);
+            addColumn(createEstimateRenderer(TASK_GRID_MIN_EST_PREFIX, Task::getMinEstimate, Task::setMinEstimate)).setHeader("Min Estimate").setAutoWidth(true);
         }
         //Max Estimate - Editable only for Task tasks
         {
-            addColumn(new ComponentRenderer<>((Task task) -> {
-                if (isEditMode && task.isTask()) {
-                    // Editable for Task tasks
-                    TextField estimateField = new TextField();
-                    estimateField.addThemeVariants(TextFieldVariant.LUMO_SMALL);
-                    estimateField.setId(TASK_GRID_MAX_EST_PREFIX + task.getName());
-                    estimateField.setValue(!task.getMaxEstimate().equals(Duration.ZERO) ?
-                            DateUtil.createWorkDayDurationString(task.getMaxEstimate()) : "");
-                    estimateField.setWidthFull();
-                    estimateField.setPlaceholder("e.g., 1d 2h 30m");
-
-                    estimateField.addValueChangeListener(e -> {
-                        if (e.isFromClient()) {
-                            try {
-                                Duration duration = DateUtil.parseWorkDayDurationString(e.getValue().strip());
-                                task.setMaxEstimate(duration);
-                                markTaskAsModified(task);
-                                estimateField.setInvalid(false);
-                            } catch (IllegalArgumentException ex) {
-                                estimateField.setInvalid(true);
-                                estimateField.setErrorMessage("Invalid format");
-                            }
-                        }
-                    });
-
-                    return estimateField;
-                } else {
-                    // Read-only for Milestone and Story tasks
-                    Div div = new Div();
-                    div.setId(TASK_GRID_MAX_EST_PREFIX + task.getName());
-                    if (task.isTask())
-                        div.setText(!task.getMaxEstimate().equals(Duration.ZERO) ? DateUtil.createWorkDayDurationString(task.getMaxEstimate()) : "");
-                    else
-                        div.setText("");
-                    return div;
-                }
-            })).setHeader("Max Estimate").setAutoWidth(true);
+            addColumn(createEstimateRenderer(TASK_GRID_MAX_EST_PREFIX, Task::getMaxEstimate, Task::setMaxEstimate)).setHeader("Max Estimate").setAutoWidth(true);
         }
 
         //Assigned - Editable only for Task tasks - with avatar image on the left
         {
-            addColumn(new ComponentRenderer<>((Task task) -> {
-                if (isEditMode && task.isTask()) {
-                    // Editable for Task tasks
-                    ComboBox<User> userComboBox = new ComboBox<>();
-                    userComboBox.addThemeVariants(ComboBoxVariant.LUMO_SMALL);
-                    userComboBox.setId(TASK_GRID_ASSIGNED_PREFIX + task.getName());
-                    userComboBox.setAllowCustomValue(false);
-                    userComboBox.setClearButtonVisible(true);
-                    userComboBox.setWidthFull();
-                    userComboBox.setItemLabelGenerator(User::getName);
-
-                    // Load ALL users from the system (not just sprint users) so we can assign new users
-//                    List<User> allUsers = userApi.getAll();
-                    userComboBox.setItems(allUsers);
-
-                    // Set current value only if task has an assigned user
-                    if (task.getResourceId() != null) {
-                        try {
-                            User currentUser = sprint.getUser(task.getResourceId());
-                            if (currentUser != null && allUsers.contains(currentUser)) {
-                                userComboBox.setValue(currentUser);
-                            }
-                        } catch (Exception ex) {
-                            log.warn("Could not set user for task {}: {}", task.getKey(), ex.getMessage());
-                        }
-                    }
-
-                    userComboBox.addValueChangeListener(e -> {
-                        if (e.isFromClient()) {
-                            User selectedUser = e.getValue();
-                            task.setResourceId(selectedUser != null ? selectedUser.getId() : null);
-                            markTaskAsModified(task);
-                        }
-                    });
-
-                    return userComboBox;
-                } else {
-                    // Read-only for all tasks - show avatar + name
-                    HorizontalLayout container = new HorizontalLayout();
-                    container.setId(TASK_GRID_ASSIGNED_PREFIX + task.getName());
-                    container.setSpacing(true);
-                    container.setPadding(false);
-                    container.setAlignItems(com.vaadin.flow.component.orderedlayout.FlexComponent.Alignment.CENTER);
-
-                    if (task.isTask() && task.getResourceId() != null) {
-                        try {
-                            User user = sprint.getUser(task.getResourceId());
-                            if (user != null) {
-                                // Add avatar image
-                                com.vaadin.flow.component.html.Image avatar = new com.vaadin.flow.component.html.Image();
-                                avatar.setWidth("24px");
-                                avatar.setHeight("24px");
-                                avatar.getStyle()
-                                        .set("border-radius", "4px")
-                                        .set("object-fit", "cover")
-                                        .set("display", "inline-block")
-                                        .set("vertical-align", "middle")
-                                        .set("flex-shrink", "0");
-                                avatar.setSrc(user.getAvatarUrl());
-                                avatar.setAlt(user.getName());
-                                avatar.getElement().setProperty("title", user.getName());
-
-                                // Add user name
-                                Span userName = new Span(user.getName());
-                                userName.getStyle()
-                                        .set("overflow", "hidden")
-                                        .set("text-overflow", "ellipsis")
-                                        .set("white-space", "nowrap");
-
-                                container.add(avatar, userName);
-                            }
-                        } catch (Exception ex) {
-                            log.warn("Could not get user for task {}: {}", task.getKey(), ex.getMessage());
-                        }
-                    }
-
-                    return container;
-                }
-            })).setHeader("Assigned").setAutoWidth(true);
+            addColumn(LitRenderer.<Task>of("""
+                    ${item.editable
+                    ? html`<vaadin-combo-box id="%1$s${item.idName}" theme="small" clear-button-visible style="width:100%%"
+                               .items=${root.closest('vaadin-grid').assignableUsers || []} item-label-path="name" item-value-path="id" .value=${item.resourceId}
+                               @change=${e => { item.resourceId = e.target.value; onAssign(e.target.value); }}></vaadin-combo-box>`
+                    : html`<div id="%1$s${item.idName}" style="display:flex;align-items:center;gap:var(--lumo-space-m)">
+                             ${item.userName ? html`<img src="${item.avatarUrl}" alt="${item.userName}" title="${item.userName}" style="width:24px;height:24px;border-radius:4px;object-fit:cover;display:inline-block;vertical-align:middle;flex-shrink:0">
+                             <span style="overflow:hidden;text-overflow:ellipsis;white-space:nowrap">${item.userName}</span>` : ''}
+                           </div>`}""".formatted(TASK_GRID_ASSIGNED_PREFIX))
+                    .withProperty("avatarUrl", task -> {
+                        User user = isEditMode || !task.isTask() ? null : getAssignedUser(task);
+                        return user != null && user.getAvatarUrl() != null ? user.getAvatarUrl() : "";
+                    })
+                    .withProperty("editable", task -> isEditMode && task.isTask())
+                    .withProperty("idName", Task::getName)
+                    .withProperty("resourceId", task -> {
+                        User user = isEditMode && task.isTask() ? getAssignedUser(task) : null;
+                        return user != null && allUsers.contains(user) ? user.getId().toString() : "";
+                    })
+                    .withProperty("userName", task -> {
+                        User user = isEditMode || !task.isTask() ? null : getAssignedUser(task);
+                        return user != null ? user.getName() : "";
+                    })
+                    .withFunction("onAssign", (task, args) -> {
+                        String value = args.get(0).asText();
+                        task.setResourceId(value.isEmpty() ? null : UUID.fromString(value));
+                        markTaskAsModified(task);
+                    })).setHeader("Assigned").setAutoWidth(true);
         }
 
         // Delete action column — only visible when NOT in edit mode and task is persisted
         {
-            addComponentColumn((Task task) -> {
-                if (isEditMode || task.getId() == null || onDeleteTask == null) {
-                    return new Div(); // Hidden placeholder
-                }
-                Button deleteButton = new Button(VaadinIcon.TRASH.create());
-                deleteButton.setId(TASK_GRID_DELETE_BUTTON_PREFIX + task.getName());
-                deleteButton.addThemeVariants(ButtonVariant.LUMO_SMALL, ButtonVariant.LUMO_TERTIARY, ButtonVariant.LUMO_ERROR);
-                deleteButton.getElement().setAttribute("title", "Delete task");
-                // Stop row-selection propagation so only the button click fires
-                deleteButton.getElement().addEventListener("click", e -> {
-                }).addEventData("event.stopPropagation()");
-                deleteButton.addClickListener(e -> confirmDeleteTask(task));
-                return deleteButton;
-            }).setHeader("").setWidth("52px").setFlexGrow(0).setFrozen(false);
+            addColumn(LitRenderer.<Task>of("""
+                    ${item.deletable
+                    ? html`<vaadin-button id="%s${item.idName}" theme="icon small tertiary error" title="Delete task"
+                               @click=${e => { e.stopPropagation(); onDelete(); }}><vaadin-icon icon="vaadin:trash"></vaadin-icon></vaadin-button>`
+                    : ''}""".formatted(TASK_GRID_DELETE_BUTTON_PREFIX))
+                    .withProperty("deletable", task -> !isEditMode && task.getId() != null && onDeleteTask != null)
+                    .withProperty("idName", Task::getName)
+                    .withFunction("onDelete", this::confirmDeleteTask)).setHeader("").setWidth("52px").setFlexGrow(0).setFrozen(false);
         }
 
     }
@@ -905,6 +585,20 @@ public class TaskGrid extends TreeGrid<Task> {
         }
     }
 
+    /**
+     * Get the user assigned to a task, null if the task is unassigned or the user is unknown
+     */
+    private User getAssignedUser(Task task) {
+        if (task.getResourceId() != null && sprint != null) {
+            try {
+                return sprint.getUser(task.getResourceId());
+            } catch (Exception e) {
+                // User not found
+            }
+        }
+        return null;
+    }
+
     /**
      * Get the dependency text for display (comma-separated orderIds of visible predecessors)
      */
@@ -996,8 +690,8 @@ public class TaskGrid extends TreeGrid<Task> {
 
         // Add to new parent
         previousStory.addChildTask(task);
-        markTaskAsModified(task);
-        markTaskAsModified(previousStory);
+        markTaskAsMoved(task);
+        markTaskAsMoved(previousStory);
 
         // Refresh tree to show updated hierarchy
         refreshTreeData();
@@ -1084,6 +778,20 @@ public class TaskGrid extends TreeGrid<Task> {
         return isEligible;
     }
 
+    /**
+     * Mark an inline editor as invalid, the editors are rendered on the client and have no server side component
+     */
+    private void markFieldInvalid(String id, String errorMessage) {
+        getElement().executeJs("""
+                const field = Array.from(this.querySelectorAll('vaadin-text-field, vaadin-date-time-picker')).find(f => f.id === $0);
+                if (field) {
+                    field.manualValidation = true;
+                    field.invalid = true;
+                    field.errorMessage = $1;
+                }
+                """, id, errorMessage);
+    }
+
     /**
      * Mark a task as modified
      */
@@ -1092,6 +800,13 @@ public class TaskGrid extends TreeGrid<Task> {
 //        log.debug("Task {} marked as modified. Total modified: {}", task.getKey(), modifiedTasks.size());
     }
 
+    /**
+     * Mark a task as moved, only its order, parent or sprint changed
+     */
+    private void markTaskAsMoved(Task task) {
+        movedTasks.add(task);
+    }
+
     /// /        getDataProvider().refreshAll();
     /// /        onSaveAllChangesAndRefresh.run();
 //        log.info("Task order updated. {} tasks marked as modified.", modifiedTasks.size());
@@ -1131,10 +846,10 @@ public class TaskGrid extends TreeGrid<Task> {
         for (int i = 0; i < taskOrder.size(); i++) {
             Task t = taskOrder.get(i);
             t.setOrderId(i);
-            markTaskAsModified(t);
+            markTaskAsMoved(t);
         }
 
-        log.info("Task order updated. {} tasks marked as modified.", modifiedTasks.size());
+        log.info("Task order updated. {} tasks marked as moved.", movedTasks.size());
     }
 
     private void moveTaskBefore(Task task, Task before) {
@@ -1170,10 +885,10 @@ public class TaskGrid extends TreeGrid<Task> {
         for (int i = 0; i < taskOrder.size(); i++) {
             Task t = taskOrder.get(i);
             t.setOrderId(i);
-            markTaskAsModified(t);
+            markTaskAsMoved(t);
         }
 
-        log.info("Task order updated. {} tasks marked as modified.", modifiedTasks.size());
+        log.info("Task order updated. {} tasks marked as moved.", movedTasks.size());
     }
 
 //    private void moveToNewParent(Task task, Task newStory) {
@@ -1270,8 +985,8 @@ public class TaskGrid extends TreeGrid<Task> {
         oldParent.removeChildTask(task);
         if (oldParent.getParentTask() != null)
             oldParent.getParentTask().addChildTask(task);
-        markTaskAsModified(task);
-        markTaskAsModified(oldParent);
+        markTaskAsMoved(task);
+        markTaskAsMoved(oldParent);
 
         // Refresh tree to show updated hierarchy
         refreshTreeData();
@@ -1539,7 +1254,7 @@ public class TaskGrid extends TreeGrid<Task> {
                             if (draggedTask.getParentTask() != null) {
                                 Task oldParent = draggedTask.getParentTask();
                                 oldParent.removeChildTask(draggedTask);
-                                markTaskAsModified(oldParent);//TODO not needed?
+                                markTaskAsMoved(oldParent);//TODO not needed?
                             }
                             //move the task
                             if (dropLocation == GridDropLocation.BELOW) {
@@ -1740,6 +1455,10 @@ public class TaskGrid extends TreeGrid<Task> {
         this.taskOrder = taskOrder;
         this.allUsers.clear();
         this.allUsers.addAll(allUsers);
+        // combo box items of the assigned column, sent once as an array that all rows share
+        getElement().setPropertyList("assignableUsers", allUsers.stream()
+                .map(user -> Map.of("id", user.getId().toString(), "name", user.getName()))
+                .toList());
 
         if (sprintChanged) {
             // Clear expansion state and reset first load flag for new sprint
@@ -0,0 +1,178 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+
+package de.bushnaq.abdalla.kassandra.ui.component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Coalesces streamed AI tokens into time based frames and forwards only the text appended since the last frame.
+ * <p>
+ * Pushing every token with the complete text so far costs O(n²) bytes and one server push per token.
+ * This renderer buffers tokens and hands the buffered delta to the sink at most once per frame, the first token immediately.
+ * Tokens that arrive inside a frame are pushed by a trailing flush at the end of that frame, so a pause of the stream does not hold
+ * them back.
+ * Once the sink is no longer alive (UI detached, session gone) or throws, the renderer closes and drops all further tokens.
+ * <p>
+ * Thread safe, tokens may arrive on any thread.
+ */
+public class TokenStreamRenderer {
+    private final BooleanSupplier          alive;
+    private       boolean                  closed;
+    private       boolean                  flushScheduled;
+    private final long                     frameNanos;
+    private       long                     lastFlush;
+    private final LongSupplier             nanoClock;
+    private final StringBuilder            pending = new StringBuilder();
+    private       int                      pushCount;
+    private       long                     pushedBytes;
+    private final ScheduledExecutorService scheduler;
+    private final Consumer<String>         sink;
+    private final StringBuilder            text    = new StringBuilder();
+
+    /**
+     * Renderer without trailing flush, buffered text is pushed by the next token or an explicit {@link #flush()}.
+     *
+     * @param frameMillis minimum time between two pushes
+     * @param nanoClock   time source, usually {@code System::nanoTime}
+     * @param alive       tells if the receiver still exists, checked before every push
+     * @param sink        receives the text appended since the previous push
+     */
+    public TokenStreamRenderer(long frameMillis, LongSupplier nanoClock, BooleanSupplier alive, Consumer<String> sink) {
+        this(frameMillis, nanoClock, null, alive, sink);
+    }
+
+    /**
+     * @param frameMillis minimum time between two pushes
+     * @param nanoClock   time source, usually {@code System::nanoTime}
+     * @param scheduler   runs the trailing flush at the end of a frame, may be null
+     * @param alive       tells if the receiver still exists, checked before every push
+     * @param sink        receives the text appended since the previous push
+     */
+    public TokenStreamRenderer(long frameMillis, LongSupplier nanoClock, ScheduledExecutorService scheduler, BooleanSupplier alive, Consumer<String> sink) {
+        this.frameNanos = TimeUnit.MILLISECONDS.toNanos(frameMillis);
+        this.nanoClock  = nanoClock;
+        this.scheduler  = scheduler;
+        this.alive      = alive;
+        this.sink       = sink;
+        this.lastFlush  = nanoClock.getAsLong() - frameNanos;
+    }
+
+    /**
+     * Buffers the token and pushes the buffered text if the current frame is over, otherwise schedules a trailing flush for the end
+     * of the frame.
+     *
+     * @param token the next token
+     */
+    public synchronized void append(String token) {
+        text.append(token);
+        if (closed) {
+            return;
+        }
+        pending.append(token);
+        long elapsed = nanoClock.getAsLong() - lastFlush;
+        if (elapsed >= frameNanos) {
+            flush();
+        } else {
+            scheduleTrailingFlush(frameNanos - elapsed);
+        }
+    }
+
+    /**
+     * Closes the renderer, pending text is dropped.
+     */
+    public synchronized void close() {
+        closed = true;
+        pending.setLength(0);
+    }
+
+    /**
+     * Pushes all buffered text now, e.g. when the stream completes.
+     */
+    public synchronized void flush() {
+        if (closed || pending.isEmpty()) {
+            return;
+        }
+        if (!alive.getAsBoolean()) {
+            close();
+            return;
+        }
+        String delta = pending.toString();
+        pending.setLength(0);
+        lastFlush = nanoClock.getAsLong();
+        try {
+            sink.accept(delta);
+        } catch (RuntimeException e) {
+            close();
+            return;
+        }
+        pushCount++;
+        pushedBytes += delta.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * @return number of pushes handed to the sink so far
+     */
+    public synchronized int getPushCount() {
+        return pushCount;
+    }
+
+    /**
+     * @return number of UTF-8 bytes handed to the sink so far
+     */
+    public synchronized long getPushedBytes() {
+        return pushedBytes;
+    }
+
+    /**
+     * @return the complete text received so far, including tokens not yet pushed
+     */
+    public synchronized String getText() {
+        return text.toString();
+    }
+
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    private void scheduleTrailingFlush(long delayNanos) {
+        if (scheduler == null || flushScheduled) {
+            return;
+        }
+        flushScheduled = true;
+        scheduler.schedule(this::trailingFlush, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Pushes what arrived during the frame, unless a token already did so and started a new frame.
+     */
+    private synchronized void trailingFlush() {
+        flushScheduled = false;
+        long elapsed = nanoClock.getAsLong() - lastFlush;
+        if (elapsed >= frameNanos) {
+            flush();
+        } else if (!closed && !pending.isEmpty()) {
+            scheduleTrailingFlush(frameNanos - elapsed);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.ui.component;
+
+import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.Tag;
+import de.bushnaq.abdalla.kassandra.ParameterOptions;
+import de.bushnaq.abdalla.kassandra.report.calendar.CalendarDayType;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * A year calendar that is rendered by the {@code <kassandra-year-calendar>} element in the browser.
+ * <p>
+ * The server only keeps this one element, the days are sent as one int code per day of the year
+ * (see {@link #code(CalendarDayType, boolean, Float)}). A new year is sent as a whole, later updates of the same year only
+ * send the days that changed.
+ */
+@Tag(YearCalendar.TAG)
+public class YearCalendar extends Component {
+    private static final int    CLICKABLE  = 8;
+    private static final int    FILL_SHIFT = 4;
+    private static final String SCRIPT     = "/js/year-calendar.js";
+    public static final  String TAG        = "kassandra-year-calendar";
+    private static final int    TYPE_MASK  = 7;
+    private              int[]  days;//codes last sent to the client
+    @Getter(AccessLevel.PACKAGE)
+    private              int    lastPayloadSize;//characters of the last update, for tests
+    private              String palette    = "[]";
+    private              int    today      = -1;
+    @Getter
+    private              int    year;
+
+    /**
+     * @param dayClickHandler Consumer that handles clicks on days marked as clickable
+     */
+    public YearCalendar(Consumer<LocalDate> dayClickHandler) {
+        getElement().addEventListener("day-click", event -> {
+            if (dayClickHandler != null && days != null) {
+                dayClickHandler.accept(LocalDate.ofYearDay(year, event.getEventData().get("event.detail").asInt() + 1));
+            }
+        }).addEventData("event.detail");
+    }
+
+    /**
+     * Encodes one day.
+     *
+     * @param type         the type of the day, drawn with the css class the browser element keeps for its ordinal
+     * @param clickable    true if a click on the day is sent to the server
+     * @param availability availability fraction (0.0 to 1.0) drawn as a fill from the bottom, null for no fill
+     * @return the day code
+     */
+    public static int code(CalendarDayType type, boolean clickable, Float availability) {
+        int fill = availability == null ? 0 : Math.round(availability * 100) + 1;
+        return type.ordinal() | (clickable ? CLICKABLE : 0) | fill << FILL_SHIFT;
+    }
+
+    /**
+     * @param code a day code
+     * @return the type of the day encoded by {@link #code(CalendarDayType, boolean, Float)}
+     */
+    public static CalendarDayType typeOf(int code) {
+        return CalendarDayType.values()[code & TYPE_MASK];
+    }
+
+    @Override
+    protected void onAttach(AttachEvent attachEvent) {
+        super.onAttach(attachEvent);
+        attachEvent.getUI().getPage().addJavaScript(SCRIPT);
+        if (days != null && !attachEvent.isInitialAttach()) {
+            sendYear();// the browser element was recreated
+        }
+    }
+
+    /**
+     * Shows the given days, only the difference is sent if the year is already shown.
+     *
+     * @param year  The year to display
+     * @param codes one code per day of the year
+     */
+    public void setDays(int year, int[] codes) {
+        LocalDate now        = ParameterOptions.getLocalNow().toLocalDate();
+        int       todayIndex = now.getYear() == year ? now.getDayOfYear() - 1 : -1;
+        if (days == null || this.year != year || days.length != codes.length || today != todayIndex) {
+            this.year  = year;
+            this.days  = codes.clone();
+            this.today = todayIndex;
+            sendYear();
+            return;
+        }
+        StringJoiner changes = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < codes.length; i++) {
+            if (days[i] != codes[i]) {
+                changes.add(Integer.toString(i)).add(Integer.toString(codes[i]));
+                days[i] = codes[i];
+            }
+        }
+        if (changes.length() == 2) {
+            lastPayloadSize = 0;
+            return;
+        }
+        String json = changes.toString();
+        lastPayloadSize = json.length();
+        getElement().executeJs("customElements.whenDefined($0).then(() => this.patch(JSON.parse($1)))", TAG, json);
+    }
+
+    /**
+     * Sets the colors of the availability fill, the color of the closest level is used.
+     *
+     * @param colors colors by availability level (0.0 to 1.0)
+     */
+    public void setPalette(Map<Float, String> colors) {
+        StringJoiner json = new StringJoiner(",", "[", "]");
+        new TreeMap<>(colors).forEach((level, color) -> json.add("[" + level + ",\"" + color + "\"]"));
+        palette = json.toString();
+    }
+
+    private void sendYear() {
+        StringJoiner json = new StringJoiner(",", "[", "]");
+        for (int code : days) {
+            json.add(Integer.toString(code));
+        }
+        lastPayloadSize = json.length() + palette.length();
+        getElement().executeJs("customElements.whenDefined($0).then(() => this.setYear($1, JSON.parse($2), $3, JSON.parse($4)))",
+                TAG, year, json.toString(), today, palette);
+    }
+}
@@ -33,10 +33,9 @@ import com.vaadin.flow.data.binder.ValidationException;
 import de.bushnaq.abdalla.kassandra.dto.OffDay;
 import de.bushnaq.abdalla.kassandra.dto.OffDayType;
 import de.bushnaq.abdalla.kassandra.dto.User;
+import de.bushnaq.abdalla.kassandra.report.calendar.CalendarDayType;
 import de.bushnaq.abdalla.kassandra.rest.api.OffDayApi;
 import de.bushnaq.abdalla.kassandra.ui.util.VaadinUtil;
-import net.sf.mpxj.ProjectCalendar;
-import net.sf.mpxj.ProjectCalendarException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -188,18 +187,7 @@ public class OffDayDialog extends Dialog {
      * @return true if the date is a holiday, false otherwise
      */
     private boolean isHoliday(LocalDate date) {
-        ProjectCalendar          calendar  = user.getCalendar();
-        ProjectCalendarException exception = calendar.getException(date);
-        if (exception == null) {
-            return false;
-        }
-
-        String name = exception.getName();
-        // Check if it's NOT a user off-day type (vacation, sick, or trip)
-        // If it's an exception but not one of these types, it's a holiday
-        return !name.equals(OffDayType.VACATION.name())
-                && !name.equals(OffDayType.SICK.name())
-                && !name.equals(OffDayType.TRIP.name());
+        return user.getDayClassification(date.getYear()).getType(date) == CalendarDayType.HOLIDAY;
     }
 
 //    private H3 createHeader() {
@@ -217,7 +205,7 @@ public class OffDayDialog extends Dialog {
      * @return true if the date is a non-working day in the applicable work week, false otherwise
      */
     private boolean isWeekend(LocalDate date) {
-        return !user.isWorkingDay(date);
+        return user.getDayClassification(date.getYear()).isWeekend(date);
     }
 
     private void save() {
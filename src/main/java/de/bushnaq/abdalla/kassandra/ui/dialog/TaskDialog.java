@@ -109,6 +109,11 @@ public class TaskDialog extends Dialog {
         this.userMap       = userMap;
         this.currentUserId = currentUserId;
         this.onRefresh     = onRefresh;
+        if (!task.isWorklogsLoaded()) {
+            //the board was initialized from the daily worklog rollup, load the individual worklogs on demand
+            task.getWorklogs().addAll(worklogApi.getAllByTask(task.getId()));
+            task.setWorklogsLoaded(true);
+        }
 
         setId(TASK_DIALOG);
         setWidth("620px");
@@ -18,6 +18,8 @@
 package de.bushnaq.abdalla.kassandra.ui.util;
 
 import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.HasOrderedComponents;
+import com.vaadin.flow.component.HasText;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.dialog.Dialog;
@@ -712,6 +714,32 @@ public final class VaadinUtil {
         errorMessageComponent.removeAll();
     }
 
+    /**
+     * Moves a component to the given position of a layout.
+     * Nothing changes, and nothing is sent to the browser, if the component is already there.
+     *
+     * @param layout    The layout that should contain the component
+     * @param index     The position of the component in the layout
+     * @param component The component, it is removed from its current parent if that is a different one
+     */
+    public static void placeComponent(HasOrderedComponents layout, int index, Component component) {
+        if (index >= layout.getComponentCount() || layout.getComponentAt(index) != component) {
+            layout.addComponentAtIndex(index, component);
+        }
+    }
+
+    /**
+     * Sets the text of a component only if it differs, setting the same text again would still be sent to the browser.
+     *
+     * @param component The component
+     * @param text      The new text
+     */
+    public static void setTextIfChanged(HasText component, String text) {
+        if (!text.equals(component.getText())) {
+            component.setText(text);
+        }
+    }
+
     /**
      * Shows an error message in a dialog error message component.
      * Automatically adds an error icon and makes the component visible.
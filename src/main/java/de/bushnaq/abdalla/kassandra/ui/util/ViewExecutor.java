@@ -0,0 +1,376 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+
+package de.bushnaq.abdalla.kassandra.ui.util;
+
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.UI;
+import de.bushnaq.abdalla.kassandra.config.KassandraProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded executor for the asynchronous work of the views (loading sprint data, rendering charts, asking the AI).
+ * <p>
+ * Replaces {@code CompletableFuture.supplyAsync} on the common fork join pool, where heavy chart renders of several users
+ * starved each other and competed with parallel streams.
+ * <ul>
+ *     <li>A fixed number of threads ({@code kassandra.view-executor.threads}) serves a priority queue, loading data the user waits for
+ *     runs before rendering and before background work.</li>
+ *     <li>At most {@code kassandra.view-executor.queue-capacity} tasks may wait, the queue itself refuses more work and the rejection
+ *     handler completes the returned future exceptionally with a {@link RejectedExecutionException}.</li>
+ *     <li>The {@link SecurityContext} and the MDC of the submitting thread are propagated to the worker and cleared afterwards.</li>
+ *     <li>Every {@link UI} gets a {@link Scope}, all its pending and running work is cancelled when the UI is detached.</li>
+ * </ul>
+ * Queue depth, active tasks, wait time and rejections are available through {@link #getStats()}, administrators can poll them
+ * at {@code GET /api/view-executor/stats}.
+ */
+@Component
+@Slf4j
+public class ViewExecutor {
+    private static final long               SLOW_WAIT_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private final        AtomicLong         completed       = new AtomicLong();
+    private final        ThreadPoolExecutor executor;
+    private final        AtomicLong         maxWaitNanos    = new AtomicLong();
+    private final        AtomicLong         rejected        = new AtomicLong();
+    private final        AtomicLong         sequence        = new AtomicLong();
+    private final        AtomicLong         totalWaitNanos  = new AtomicLong();
+
+    public ViewExecutor(KassandraProperties kassandraProperties) {
+        KassandraProperties.ViewExecutor config  = kassandraProperties.getViewExecutor();
+        int                              threads = config.getThreads() > 0 ? config.getThreads() : Math.max(2, Runtime.getRuntime().availableProcessors() - 1);
+        AtomicInteger                    index   = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new BoundedPriorityBlockingQueue<>(config.getQueueCapacity()),
+                runnable -> Thread.ofPlatform().name("view-executor-" + index.incrementAndGet()).daemon().unstarted(runnable),
+                (runnable, pool) -> ((ViewTask<?>) runnable).reject());
+        log.info("View executor started with {} threads and a queue capacity of {}", threads, config.getQueueCapacity());
+    }
+
+    /**
+     * @param ui the UI
+     * @return the cancellation scope of the UI, created on first use and cancelled when the UI detaches
+     */
+    public Scope scope(UI ui) {
+        Scope scope = ComponentUtil.getData(ui, Scope.class);
+        if (scope == null) {
+            scope = new Scope();
+            ComponentUtil.setData(ui, Scope.class, scope);
+            Scope finalScope = scope;
+            ui.addDetachListener(event -> finalScope.cancelAll());
+        }
+        return scope;
+    }
+
+    /**
+     * @param throwable the failure of a future returned by this executor, e.g. the exception thrown by {@link CompletableFuture#get()}
+     * @return true if the work was refused because the executor was overloaded
+     */
+    public static boolean isRejected(Throwable throwable) {
+        for (Throwable t = throwable; t != null; t = t.getCause()) {
+            if (t instanceof RejectedExecutionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Snapshot of the executor metrics.
+     *
+     * @return the current statistics
+     */
+    public Stats getStats() {
+        long done = completed.get();
+        return new Stats(executor.getQueue().size(), executor.getActiveCount(), done, rejected.get(),
+                done == 0 ? 0 : totalWaitNanos.get() / done / 1_000_000, maxWaitNanos.get() / 1_000_000);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Runs the supplier asynchronously in the scope of the current {@link UI} (if any).
+     *
+     * @param priority the priority
+     * @param supplier the work
+     * @param <T>      result type
+     * @return future of the result, cancelling it cancels the work
+     */
+    public <T> CompletableFuture<T> supply(Priority priority, Supplier<T> supplier) {
+        UI ui = UI.getCurrent();
+        return supply(ui != null ? scope(ui) : null, priority, supplier);
+    }
+
+    /**
+     * Runs the supplier asynchronously in the given scope.
+     *
+     * @param scope    the cancellation scope, may be null
+     * @param priority the priority
+     * @param supplier the work
+     * @param <T>      result type
+     * @return future of the result, cancelling it cancels the work
+     */
+    public <T> CompletableFuture<T> supply(Scope scope, Priority priority, Supplier<T> supplier) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        ViewTask<T>          task   = new ViewTask<>(priority, sequence.incrementAndGet(), supplier, future);
+        future.whenComplete((result, throwable) -> {
+            if (future.isCancelled()) {
+                task.cancel();
+            }
+        });
+        if (scope != null) {
+            scope.add(future);
+        }
+        executor.execute(task);// a full queue or a shut down executor completes the future through reject()
+        return future;
+    }
+
+    /**
+     * Runs the runnable asynchronously in the scope of the current {@link UI} (if any).
+     *
+     * @param priority the priority
+     * @param runnable the work
+     * @return future that completes when the work is done
+     */
+    public CompletableFuture<Void> run(Priority priority, Runnable runnable) {
+        return supply(priority, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    /**
+     * Priority of view work, lower ordinal runs first.
+     */
+    public enum Priority {
+        /**
+         * Data the user is waiting for, e.g. loading a sprint.
+         */
+        INTERACTIVE,
+        /**
+         * Rendering of charts.
+         */
+        RENDER,
+        /**
+         * Long-running work like AI generation.
+         */
+        BACKGROUND
+    }
+
+    /**
+     * Priority queue that accepts at most {@code capacity} elements.
+     * {@link #offer} refuses further elements atomically, {@link ThreadPoolExecutor} then hands the task to its rejection handler.
+     */
+    static class BoundedPriorityBlockingQueue<E> extends PriorityBlockingQueue<E> {
+        private final Semaphore permits;
+
+        BoundedPriorityBlockingQueue(int capacity) {
+            permits = new Semaphore(Math.max(0, capacity));
+        }
+
+        @Override
+        public int drainTo(Collection<? super E> c) {
+            return drainTo(c, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public int drainTo(Collection<? super E> c, int maxElements) {
+            int n = super.drainTo(c, maxElements);
+            permits.release(n);
+            return n;
+        }
+
+        @Override
+        public boolean offer(E e) {
+            if (!permits.tryAcquire()) {
+                return false;
+            }
+            return super.offer(e);
+        }
+
+        @Override
+        public E poll() {
+            return released(super.poll());
+        }
+
+        @Override
+        public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+            return released(super.poll(timeout, unit));
+        }
+
+        private E released(E e) {
+            if (e != null) {
+                permits.release();
+            }
+            return e;
+        }
+
+        @Override
+        public int remainingCapacity() {
+            return permits.availablePermits();
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (super.remove(o)) {
+                permits.release();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public E take() throws InterruptedException {
+            return released(super.take());
+        }
+    }
+
+    /**
+     * Set of futures that are cancelled together, usually everything started by one {@link UI}.
+     */
+    public static class Scope {
+        private final Set<CompletableFuture<?>> futures = ConcurrentHashMap.newKeySet();
+
+        void add(CompletableFuture<?> future) {
+            futures.add(future);
+            future.whenComplete((result, throwable) -> futures.remove(future));
+        }
+
+        /**
+         * Cancels all pending and running work of this scope.
+         */
+        public void cancelAll() {
+            for (CompletableFuture<?> future : futures) {
+                future.cancel(true);
+            }
+            futures.clear();
+        }
+    }
+
+    /**
+     * @param queued            number of tasks waiting for a thread
+     * @param active            number of tasks currently running
+     * @param completed         number of tasks completed since startup
+     * @param rejected          number of tasks refused because of overload
+     * @param averageWaitMillis average time a task waited in the queue
+     * @param maxWaitMillis     longest time a task waited in the queue
+     */
+    public record Stats(int queued, int active, long completed, long rejected, long averageWaitMillis, long maxWaitMillis) {
+    }
+
+    private class ViewTask<T> implements Runnable, Comparable<ViewTask<?>> {
+        private final CompletableFuture<T> future;
+        private final Map<String, String>  mdc;
+        private final Priority             priority;
+        private       Thread               runner;// guarded by this, set only while the supplier runs
+        private final SecurityContext      securityContext;
+        private final long                 sequenceNumber;
+        private final long                 submitted = System.nanoTime();
+        private final Supplier<T>          supplier;
+
+        ViewTask(Priority priority, long sequenceNumber, Supplier<T> supplier, CompletableFuture<T> future) {
+            this.priority        = priority;
+            this.sequenceNumber  = sequenceNumber;
+            this.supplier        = supplier;
+            this.future          = future;
+            this.securityContext = SecurityContextHolder.getContext();
+            this.mdc             = MDC.getCopyOfContextMap();
+        }
+
+        /**
+         * Removes the task from the queue or interrupts it if it is running.
+         * The check and the interrupt happen under the lock that {@link #run()} holds to clear the runner, so a late cancel never
+         * interrupts the next task on the same worker thread.
+         */
+        void cancel() {
+            executor.remove(this);
+            synchronized (this) {
+                if (runner != null) {
+                    runner.interrupt();
+                }
+            }
+        }
+
+        @Override
+        public int compareTo(ViewTask<?> other) {
+            int result = priority.compareTo(other.priority);
+            return result != 0 ? result : Long.compare(sequenceNumber, other.sequenceNumber);
+        }
+
+        /**
+         * Called by the rejection handler if the queue is full or the executor is shut down.
+         */
+        void reject() {
+            rejected.incrementAndGet();
+            log.warn("View executor overloaded, {} tasks waiting, refusing {} work", executor.getQueue().size(), priority);
+            future.completeExceptionally(new RejectedExecutionException("Server is busy, please try again later."));
+        }
+
+        @Override
+        public void run() {
+            long waited = System.nanoTime() - submitted;
+            totalWaitNanos.addAndGet(waited);
+            maxWaitNanos.accumulateAndGet(waited, Math::max);
+            if (waited > SLOW_WAIT_NANOS) {
+                log.warn("{} work waited {} ms for a view executor thread, {}", priority, waited / 1_000_000, getStats());
+            }
+            if (future.isDone()) {
+                completed.incrementAndGet();
+                return;
+            }
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(securityContext.getAuthentication());
+            SecurityContextHolder.setContext(context);
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+            synchronized (this) {
+                runner = Thread.currentThread();
+            }
+            try {
+                if (!future.isDone()) {// cancelled before the runner was set
+                    future.complete(supplier.get());
+                }
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            } finally {
+                synchronized (this) {
+                    runner = null;
+                }
+                Thread.interrupted();// no cancel can interrupt this thread anymore, clear what arrived while the task ran
+                SecurityContextHolder.clearContext();
+                MDC.clear();
+                completed.incrementAndGet();
+            }
+        }
+    }
+}
@@ -483,15 +483,15 @@ public class ActiveSprints extends Main implements AfterNavigationObserver {
                     .filter(sprint -> sprint.getStatus() == Status.STARTED)
                     .collect(Collectors.toList());
 
-            // Load tasks and worklogs for each sprint and initialize
+            // Load tasks and the daily worklog rollup for each sprint and initialize, the board only needs progress
             for (Sprint sprint : allSprints) {
-                List<Task>    tasks    = taskApi.getAll(sprint.getId());
-                List<Worklog> worklogs = worklogApi.getAll(sprint.getId());
+                List<Task>       tasks       = taskApi.getAll(sprint.getId());
+                List<WorklogDay> worklogDays = worklogApi.getRollup(sprint.getId());
 
                 // Initialize sprint with all transient fields
                 sprint.initialize();
                 sprint.initUserMap(users);
-                sprint.initTaskMap(tasks, worklogs);
+                sprint.initTaskMapFromWorklogDays(tasks, worklogDays);
                 sprint.recalculate(ParameterOptions.getLocalNow());
             }
 
@@ -589,7 +589,7 @@ public class ActiveSprints extends Main implements AfterNavigationObserver {
             pageTitle.setText(single.getName());
             if (single.getLightAvatarHash() != null && !single.getLightAvatarHash().isEmpty()) {
                 boolean isDark = UI.getCurrent().getElement().getThemeList().contains(Lumo.DARK);
-                headerAvatar.setSrc(single.getAvatarUrl(isDark));
+                headerAvatar.setSrc(single.getAvatarUrl(isDark, AvatarVariant.HEADER));
                 headerAvatar.setVisible(true);
             } else {
                 headerAvatar.setVisible(false);
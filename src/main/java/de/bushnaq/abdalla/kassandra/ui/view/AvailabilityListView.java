@@ -36,6 +36,7 @@ import com.vaadin.flow.theme.lumo.Lumo;
 import de.bushnaq.abdalla.kassandra.ParameterOptions;
 import de.bushnaq.abdalla.kassandra.ai.filter.AiFilterService;
 import de.bushnaq.abdalla.kassandra.dto.Availability;
+import de.bushnaq.abdalla.kassandra.dto.AvatarVariant;
 import de.bushnaq.abdalla.kassandra.dto.Location;
 import de.bushnaq.abdalla.kassandra.dto.User;
 import de.bushnaq.abdalla.kassandra.rest.api.AvailabilityApi;
@@ -193,7 +194,7 @@ public class AvailabilityListView extends AbstractMainGrid<Availability> impleme
             return;
         }
         boolean isDark = UI.getCurrent() != null && UI.getCurrent().getElement().getThemeList().contains(Lumo.DARK);
-        headerAvatarImage.setSrc(currentUser.getAvatarUrl(isDark));
+        headerAvatarImage.setSrc(currentUser.getAvatarUrl(isDark, AvatarVariant.HEADER));
     }
 
     private AvailabilityCalendarComponent createCalendar() {
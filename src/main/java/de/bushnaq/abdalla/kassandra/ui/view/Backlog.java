@@ -50,13 +50,13 @@ import de.bushnaq.abdalla.kassandra.ui.MainLayout;
 import de.bushnaq.abdalla.kassandra.ui.component.CrossGridDragDropCoordinator;
 import de.bushnaq.abdalla.kassandra.ui.component.TaskGrid;
 import de.bushnaq.abdalla.kassandra.ui.component.ThemeChangedEvent;
+import de.bushnaq.abdalla.kassandra.ui.util.ViewExecutor;
 import de.bushnaq.abdalla.util.GanttErrorHandler;
 import jakarta.annotation.security.PermitAll;
 import jakarta.annotation.security.RolesAllowed;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.server.ResponseStatusException;
 import tools.jackson.databind.json.JsonMapper;
@@ -141,23 +141,26 @@ public class Backlog extends Main implements AfterNavigationObserver, BeforeEnte
     private             ComboBox<Status>             sprintStatusComboBox;               // Allows changing the status of the selected sprint
     private final       TaskApi                      taskApi;
     private             Registration                 themeChangedRegistration;
+    private final       Set<String>                  themesSentToClient         = new HashSet<>();// gantt bundle caches themes by key, send each only once
     private final       UserApi                      userApi;
     private             MultiSelectComboBox<User>    userSelector;
     private             List<User>                   users                      = new ArrayList<>();
     private final       VersionApi                   versionApi;
     private             UUID                         versionId;
+    private final       ViewExecutor                 viewExecutor;
     private final       WorklogApi                   worklogApi;
 
-    public Backlog(WorklogApi worklogApi, TaskApi taskApi, SprintApi sprintApi, ProductApi productApi, VersionApi versionApi, FeatureApi featureApi, UserApi userApi, Clock clock, JsonMapper jsonMapper) {
-        this.worklogApi = worklogApi;
-        this.taskApi    = taskApi;
-        this.sprintApi  = sprintApi;
-        this.productApi = productApi;
-        this.versionApi = versionApi;
-        this.featureApi = featureApi;
-        this.userApi    = userApi;
-        this.clock      = clock;
-        this.jsonMapper = jsonMapper;
+    public Backlog(WorklogApi worklogApi, TaskApi taskApi, SprintApi sprintApi, ProductApi productApi, VersionApi versionApi, FeatureApi featureApi, UserApi userApi, Clock clock, JsonMapper jsonMapper, ViewExecutor viewExecutor) {
+        this.worklogApi   = worklogApi;
+        this.taskApi      = taskApi;
+        this.sprintApi    = sprintApi;
+        this.productApi   = productApi;
+        this.versionApi   = versionApi;
+        this.featureApi   = featureApi;
+        this.userApi      = userApi;
+        this.clock        = clock;
+        this.jsonMapper   = jsonMapper;
+        this.viewExecutor = viewExecutor;
 
         try {
             // Set width full but not height - let content determine height for scrolling
@@ -418,6 +421,7 @@ public class Backlog extends Main implements AfterNavigationObserver, BeforeEnte
      */
     private void cancelEditMode() {
         grid.getModifiedTasks().clear();
+        grid.getMovedTasks().clear();
 
         // Reload data to discard changes
         loadData();
@@ -746,6 +750,7 @@ public class Backlog extends Main implements AfterNavigationObserver, BeforeEnte
     private void enterEditMode() {
         grid.setEditMode(true);
         grid.getModifiedTasks().clear();
+        grid.getMovedTasks().clear();
 
         // Update button visibility
         editButton.setVisible(false);
@@ -903,14 +908,15 @@ public class Backlog extends Main implements AfterNavigationObserver, BeforeEnte
         log.info("Cross-grid transfer: {} from sprint '{}' to sprint '{}'",
                 task.getKey(), sourceSprint.getName(), targetSprint.getName());
 
-        // Collect all modified tasks for batch saving
-        java.util.Set<Task> modifiedTasks = new java.util.HashSet<>();
+        // Collect all moved and edited tasks for batch saving
+        java.util.Set<Task> movedTasks  = new java.util.HashSet<>();
+        java.util.Set<Task> editedTasks = new java.util.HashSet<>();// lost relations, the other changes are positions
 
         // 1. Handle parent-child relationships - remove from current parent
         Task oldParent = task.getParentTask();
         if (oldParent != null) {
             oldParent.removeChildTask(task);
-            modifiedTasks.add(oldParent);
+            movedTasks.add(oldParent);
             log.debug("Removed task {} from parent {}", task.getKey(), oldParent.getKey());
         }
 
@@ -934,7 +940,7 @@ public class Backlog extends Main implements AfterNavigationObserver, BeforeEnte
         if (task.isStory() && !childTasks.isEmpty()) {
             allMovedTasks.addAll(childTasks);
         }
-        removeBrokenRelations(allMovedTasks, sourceSprint, targetSprint, modifiedTasks);
+        removeBrokenRelations(allMovedTasks, sourceSprint, targetSprint, editedTasks);
 
         // 5. Update task's sprint reference
         task.setSprintId(targetSprint.getId());
@@ -978,7 +984,7 @@ public class Backlog extends Main implements AfterNavigationObserver, BeforeEnte
             Task newParent = findParentStoryForPosition(targetTaskOrder, targetTaskOrder.indexOf(task));
             if (newParent != null) {
                 newParent.addChildTask(task);
-                modifiedTasks.add(newParent);
+                movedTasks.add(newParent);
                 log.debug("Added task {} to new parent {}", task.getKey(), newParent.getKey());
             }
         }
@@ -999,16 +1005,16 @@ public class Backlog extends Main implements AfterNavigationObserver, BeforeEnte
                 }
                 insertIndex++;
 
-                // Mark child as modified
+                // Mark child as moved
                 child.setStart(null); // Reset start date to force recalculation
-                modifiedTasks.add(child);
+                movedTasks.add(child);
                 log.debug("Moved child task {} to target sprint", child.getKey());
             }
         }
 
         // 11. Recalculate order IDs for both grids and mark affected tasks as modified
-        recalculateOrderIdsAndMarkModified(targetTaskOrder, modifiedTasks);
-        recalculateOrderIdsAndMarkModified(sourceGrid.getTaskOrder(), modifiedTasks);
+        recalculateOrderIdsAndMarkModified(targetTaskOrder, movedTasks);
+        recalculateOrderIdsAndMarkModified(sourceGrid.getTaskOrder(), movedTasks);
 
         // 12. Transfer expansion state for Stories from source to target grid
         if (task.isStory()) {
@@ -1018,18 +1024,25 @@ public class Backlog extends Main implements AfterNavigationObserver, BeforeEnte
             }
         }
 
-        // 13. Mark the main task as modified
+        // 13. Mark the main task as moved
         task.setStart(null); // Reset start date to force recalculation
-        modifiedTasks.add(task);
+        movedTasks.add(task);
 
-        // 14. Add all modified tasks to the appropriate grid's modifiedTasks collection
-        log.info("Marking {} tasks as modified from cross-grid transfer", modifiedTasks.size());
-        for (Task modifiedTask : modifiedTasks) {
+        // 14. Add all moved and edited tasks to the appropriate grid's collections
+        log.info("Marking {} tasks as moved and {} as edited from cross-grid transfer", movedTasks.size(), editedTasks.size());
+        for (Task movedTask : movedTasks) {
             // Add to the grid that owns this task (based on sprint)
-            if (modifiedTask.getSprintId() != null && modifiedTask.getSprintId().equals(targetSprint.getId())) {
-                targetGrid.getModifiedTasks().add(modifiedTask);
+            if (movedTask.getSprintId() != null && movedTask.getSprintId().equals(targetSprint.getId())) {
+                targetGrid.getMovedTasks().add(movedTask);
             } else {
-                sourceGrid.getModifiedTasks().add(modifiedTask);
+                sourceGrid.getMovedTasks().add(movedTask);
+            }
+        }
+        for (Task editedTask : editedTasks) {
+            if (editedTask.getSprintId() != null && editedTask.getSprintId().equals(targetSprint.getId())) {
+                targetGrid.getModifiedTasks().add(editedTask);
+            } else {
+                sourceGrid.getModifiedTasks().add(editedTask);
             }
         }
 
@@ -1041,107 +1054,51 @@ public class Backlog extends Main implements AfterNavigationObserver, BeforeEnte
         //- populate grid with tasks of the sprint
         long time = System.currentTimeMillis();
 
-        // Capture the security context from the current thread
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-        // Load in parallel with security context propagation
-        CompletableFuture<Sprint> sprintFuture = CompletableFuture.supplyAsync(() -> {
-            // Set security context in this thread
-            SecurityContext context = SecurityContextHolder.createEmptyContext();
-            context.setAuthentication(authentication);
-            SecurityContextHolder.setContext(context);
-            try {
-                Sprint s = sprintApi.getById(sprintId);
-                s.initialize();
-                return s;
-            } finally {
-                SecurityContextHolder.clearContext();// Clear the security context after execution
-            }
+        // Load in parallel, the view executor propagates the security context
+        CompletableFuture<Sprint> sprintFuture = viewExecutor.supply(ViewExecutor.Priority.INTERACTIVE, () -> {
+            Sprint s = sprintApi.getById(sprintId);
+            s.initialize();
+            return s;
         });
 
-        CompletableFuture<List<User>> usersFuture = CompletableFuture.supplyAsync(() -> {
-            // Set security context in this thread
-            SecurityContext context = SecurityContextHolder.createEmptyContext();
-            context.setAuthentication(authentication);
-            SecurityContextHolder.setContext(context);
-            try {
-                return userApi.getAll(sprintId);
-            } finally {
-                SecurityContextHolder.clearContext();// Clear the security context after execution
+        CompletableFuture<List<User>> usersFuture = viewExecutor.supply(ViewExecutor.Priority.INTERACTIVE, () -> userApi.getAll(sprintId));
 
-            }
-        });
+        CompletableFuture<List<Task>> tasksFuture = viewExecutor.supply(ViewExecutor.Priority.INTERACTIVE, () -> taskApi.getAll(sprintId));
 
-        CompletableFuture<List<Task>> tasksFuture = CompletableFuture.supplyAsync(() -> {
-            // Set security context in this thread
-            SecurityContext context = SecurityContextHolder.createEmptyContext();
-            context.setAuthentication(authentication);
-            SecurityContextHolder.setContext(context);
-            try {
-                return taskApi.getAll(sprintId);
-            } finally {
-                SecurityContextHolder.clearContext();// Clear the security context after execution
-            }
-        });
-
-        CompletableFuture<List<Worklog>> worklogsFuture = CompletableFuture.supplyAsync(() -> {
-            // Set security context in this thread
-            SecurityContext context = SecurityContextHolder.createEmptyContext();
-            context.setAuthentication(authentication);
-            SecurityContextHolder.setContext(context);
-            try {
-                return worklogApi.getAll(sprintId);
-            } finally {
-                SecurityContextHolder.clearContext();// Clear the security context after execution
-            }
-        });
-        CompletableFuture<List<User>> userFuture = CompletableFuture.supplyAsync(() -> {
-            // Set security context in this thread
-            SecurityContext context = SecurityContextHolder.createEmptyContext();
-            context.setAuthentication(authentication);
-            SecurityContextHolder.setContext(context);
-            try {
-                return userApi.getAll();
-            } finally {
-                SecurityContextHolder.clearContext();// Clear the security context after execution
-            }
-        });
+        CompletableFuture<List<Worklog>> worklogsFuture = viewExecutor.supply(ViewExecutor.Priority.INTERACTIVE, () -> worklogApi.getAll(sprintId));
+        CompletableFuture<List<User>> userFuture = viewExecutor.supply(ViewExecutor.Priority.INTERACTIVE, () -> userApi.getAll());
 
         // Also load Backlog sprint (always shown at bottom)
-        CompletableFuture<Sprint> backlogSprintFuture = CompletableFuture.supplyAsync(() -> {
-            SecurityContext context = SecurityContextHolder.createEmptyContext();
-            context.setAuthentication(authentication);
-            SecurityContextHolder.setContext(context);
-            try {
-                Sprint backlog = sprintApi.getBacklogSprint();
-                if (backlog != null) {
-                    backlog.initialize();
-                    // Load tasks and worklogs for backlog
-                    List<Task>    backlogTasks    = taskApi.getAll(backlog.getId());
-                    List<Worklog> backlogWorklogs = worklogApi.getAll(backlog.getId());
-                    List<User>    backlogUsers    = userApi.getAll(backlog.getId());
-                    backlog.initUserMap(backlogUsers);
-                    backlog.initTaskMap(backlogTasks, backlogWorklogs);
-                    backlog.recalculate(ParameterOptions.getLocalNow());
-                }
-                return backlog;
-            } finally {
-                SecurityContextHolder.clearContext();
+        CompletableFuture<Sprint> backlogSprintFuture = viewExecutor.supply(ViewExecutor.Priority.INTERACTIVE, () -> {
+            Sprint backlog = sprintApi.getBacklogSprint();
+            if (backlog != null) {
+                backlog.initialize();
+                // Load tasks and worklogs for backlog
+                List<Task>    backlogTasks    = taskApi.getAll(backlog.getId());
+                List<Worklog> backlogWorklogs = worklogApi.getAll(backlog.getId());
+                List<User>    backlogUsers    = userApi.getAll(backlog.getId());
+                backlog.initUserMap(backlogUsers);
+                backlog.initTaskMap(backlogTasks, backlogWorklogs);
+                backlog.recalculate(ParameterOptions.getLocalNow());
             }
+            return backlog;
         });
 
-        // Wait for all futures and combine results
+        // Wait for all futures and combine results, the fields are only replaced if everything was loaded
         try {
-            sprint = sprintFuture.get();
-            time   = System.currentTimeMillis();
-            sprint.initUserMap(usersFuture.get());
-            sprint.initTaskMap(tasksFuture.get(), worklogsFuture.get());
-            users = userFuture.get();
+            Sprint loadedSprint = sprintFuture.get();
+            time = System.currentTimeMillis();
+            loadedSprint.initUserMap(usersFuture.get());
+            loadedSprint.initTaskMap(tasksFuture.get(), worklogsFuture.get());
+            List<User> loadedUsers = userFuture.get();
             log.trace("sprint, user, task and worklog maps initialized in {} ms", System.currentTimeMillis() - time);
-            sprint.recalculate(ParameterOptions.getLocalNow());
+            loadedSprint.recalculate(ParameterOptions.getLocalNow());
 
             // Get backlog sprint (may be null if it doesn't exist yet)
-            backlogSprint = backlogSprintFuture.get();
+            Sprint loadedBacklogSprint = backlogSprintFuture.get();
+            sprint        = loadedSprint;
+            users         = loadedUsers;
+            backlogSprint = loadedBacklogSprint;
             if (backlogSprint != null && backlogSprint.getId().equals(sprint.getId())) {
                 // If selected sprint IS the backlog, don't duplicate it
                 backlogSprint = null;
@@ -1184,7 +1141,8 @@ public class Backlog extends Main implements AfterNavigationObserver, BeforeEnte
             }
         } catch (InterruptedException | ExecutionException e) {
             log.error("Error loading sprint data", e);
-            // Handle exception appropriately
+            showLoadError(e);
+            return;// keep showing the previous data, leveling needs a completely loaded sprint
         }
         ganttUtil.levelResources(eh, sprint, "", ParameterOptions.getLocalNow());
     }
@@ -1215,6 +1173,7 @@ public class Backlog extends Main implements AfterNavigationObserver, BeforeEnte
     @Override
     protected void onAttach(AttachEvent attachEvent) {
         super.onAttach(attachEvent);
+        themesSentToClient.clear();// a new page has an empty gantt theme cache
         themeChangedRegistration = ComponentUtil.addListener(
                 attachEvent.getUI(), ThemeChangedEvent.class, e -> {
                     if (sprint != null && !"Backlog".equals(sprint.getName())) {
@@ -1320,14 +1279,23 @@ public class Backlog extends Main implements AfterNavigationObserver, BeforeEnte
             boolean isDark = ui.getElement().getThemeList().contains(com.vaadin.flow.theme.lumo.Lumo.DARK);
             try {
                 GanttChartDto dto  = ganttChartService.build(sprint, ParameterOptions.getLocalNow(), isDark);
+                if (!themesSentToClient.add(dto.meta.themeKey)) {
+                    dto.meta.theme = null;// client resolves it from its theme cache
+                }
                 String        json = jsonMapper.writeValueAsString(dto);
                 // Dev:  individual ES module files (npm run build:static)
                 // Prod: single minified bundle (npm run build:static:prod, built by Maven)
                 ui.getPage().executeJs(
-                        "import('/js/generated/gantt/gantt-bundle.js')" +
+                        "return import('/js/generated/gantt/gantt-bundle.js')" +
                                 ".then(() => window.mountGanttChart($0, JSON.parse($1)));",
                         GANTT_CHART_CONTAINER_ID, json
-                );
+                ).then(Boolean.class, mounted -> {
+                    if (!mounted) {
+                        // the client lost its theme cache, send the chart again including the theme
+                        themesSentToClient.remove(dto.meta.themeKey);
+                        refreshGanttChart();
+                    }
+                });
                 log.debug("Gantt chart DTO pushed to client for sprint '{}'", sprint.getName());
             } catch (Exception e) {
                 log.error("Failed to build Gantt chart data for sprint '{}'", sprint.getName(), e);
@@ -1460,36 +1428,61 @@ public class Backlog extends Main implements AfterNavigationObserver, BeforeEnte
     }
 
     /**
-     * Save all modified tasks to backend from both sprint grid and backlog grid
+     * Save all moved and modified tasks to backend from both sprint grid and backlog grid.
+     * The new positions are version checked, if someone else changed one of the moved tasks nothing is saved, the user is told
+     * so and the current state is reloaded.
      */
     private void saveAllChangesAndRefresh() {
-        // Collect modified tasks from both grids
+        // Collect moved and modified tasks from both grids
+        java.util.Set<Task> allMovedTasks = new java.util.HashSet<>();
+        allMovedTasks.addAll(grid.getMovedTasks());
+        allMovedTasks.addAll(backlogGrid.getMovedTasks());
         java.util.Set<Task> allModifiedTasks = new java.util.HashSet<>();
         allModifiedTasks.addAll(grid.getModifiedTasks());
         allModifiedTasks.addAll(backlogGrid.getModifiedTasks());
 
-        if (allModifiedTasks.isEmpty()) {
+        if (allMovedTasks.isEmpty() && allModifiedTasks.isEmpty()) {
             exitEditMode();
             return;
         }
 
-        log.info("Saving {} modified tasks ({} from sprint grid, {} from backlog grid)", allModifiedTasks.size(), grid.getModifiedTasks().size(), backlogGrid.getModifiedTasks().size());
+        log.info("Saving {} moved and {} modified tasks", allMovedTasks.size(), allModifiedTasks.size());
 
-        // Persist all modified tasks
         for (Task task : allModifiedTasks) {
             if (task.getTaskMode() == de.bushnaq.abdalla.kassandra.dto.TaskMode.AUTO_SCHEDULED)
                 task.setStart(null); // Reset start date to force recalculation
-            taskApi.persist(task);
+        }
+        TaskReorderResult result = taskApi.saveChanges(allMovedTasks, allModifiedTasks, sprintId);
+        if (!result.isApplied()) {
+            log.warn("Saving rejected, {} tasks were modified concurrently: {}", result.getConflicts().size(), result.getConflicts());
+            com.vaadin.flow.component.notification.Notification notification = new com.vaadin.flow.component.notification.Notification(
+                    "Tasks were changed by someone else in the meantime, your changes were not saved and the backlog was reloaded.", 5000,
+                    com.vaadin.flow.component.notification.Notification.Position.BOTTOM_START);
+            notification.addThemeVariants(com.vaadin.flow.component.notification.NotificationVariant.LUMO_WARNING);
+            notification.open();
         }
 
-        // Clear modified tasks from both grids and reload data
+        // Clear moved and modified tasks from both grids and reload data
         grid.getModifiedTasks().clear();
+        grid.getMovedTasks().clear();
         backlogGrid.getModifiedTasks().clear();
+        backlogGrid.getMovedTasks().clear();
         loadData();
         refreshGrid();
         exitEditMode();
     }
 
+    /**
+     * Tells the user that the sprint could not be loaded, either because the server is overloaded or because loading failed.
+     */
+    private void showLoadError(Exception e) {
+        String message = ViewExecutor.isRejected(e) ? "The server is busy, the sprint could not be loaded. Please try again later." : "Error loading sprint data: " + e.getMessage();
+        com.vaadin.flow.component.notification.Notification notification = new com.vaadin.flow.component.notification.Notification(message, 5000,
+                com.vaadin.flow.component.notification.Notification.Position.BOTTOM_START);
+        notification.addThemeVariants(com.vaadin.flow.component.notification.NotificationVariant.LUMO_ERROR);
+        notification.open();
+    }
+
     /**
      * Toggle expansion/collapse of all stories in both grids.
      * Updates the expandInitially setting and forces immediate expansion/collapse.
@@ -1519,7 +1512,7 @@ public class Backlog extends Main implements AfterNavigationObserver, BeforeEnte
             pageTitle.setText(sprint.getName());
             if (sprint.getLightAvatarHash() != null && !sprint.getLightAvatarHash().isEmpty()) {
                 boolean isDark = com.vaadin.flow.component.UI.getCurrent().getElement().getThemeList().contains(Lumo.DARK);
-                headerAvatar.setSrc(sprint.getAvatarUrl(isDark));
+                headerAvatar.setSrc(sprint.getAvatarUrl(isDark, AvatarVariant.HEADER));
                 headerAvatar.setVisible(true);
             } else {
                 headerAvatar.setVisible(false);
@@ -30,29 +30,22 @@ import com.vaadin.flow.component.textfield.TextFieldVariant;
 import com.vaadin.flow.router.*;
 import com.vaadin.flow.theme.lumo.LumoUtility;
 import de.bushnaq.abdalla.kassandra.Context;
-import de.bushnaq.abdalla.kassandra.ParameterOptions;
 import de.bushnaq.abdalla.kassandra.ai.insights.SprintInsightsGenerator;
-import de.bushnaq.abdalla.kassandra.config.DefaultEntitiesInitializer;
-import de.bushnaq.abdalla.kassandra.dto.Sprint;
-import de.bushnaq.abdalla.kassandra.dto.Task;
-import de.bushnaq.abdalla.kassandra.dto.User;
-import de.bushnaq.abdalla.kassandra.dto.Worklog;
+import de.bushnaq.abdalla.kassandra.dto.SprintStatisticsSnapshot;
 import de.bushnaq.abdalla.kassandra.rest.api.*;
 import de.bushnaq.abdalla.kassandra.ui.MainLayout;
+import de.bushnaq.abdalla.kassandra.ui.util.ViewExecutor;
 import jakarta.annotation.security.PermitAll;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContext;
-import org.springframework.security.core.context.SecurityContextHolder;
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.json.JsonMapper;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
@@ -71,28 +64,22 @@ public class InsightsView extends Main implements AfterNavigationObserver {
     private       ProgressBar             loadingIndicator;
     final         Logger                  logger = LoggerFactory.getLogger(this.getClass());
     private       VerticalLayout          mainLayout;
-    private final LocalDateTime           now;
     private final H2                      pageTitle;
     private       TextField               questionField;
     private final SprintApi               sprintApi;
     // AI Insights Components
     @Autowired
     private       SprintInsightsGenerator sprintInsightsGenerator;
-    List<SprintStatistics> sprintStatistics = new ArrayList<>();
-    private final TaskApi    taskApi;
-    private final UserApi    userApi;
-    private final VersionApi versionApi;
-    private final WorklogApi worklogApi;
-
-    public InsightsView(WorklogApi worklogApi, TaskApi taskApi, SprintApi sprintApi, ProductApi productApi, VersionApi versionApi, FeatureApi featureApi, UserApi userApi, Clock clock) {
-        this.worklogApi = worklogApi;
-        this.taskApi    = taskApi;
-        this.sprintApi  = sprintApi;
+    List<JsonNode> sprintStatistics = new ArrayList<>();// SprintStatistics as materialized by the server
+    private final VersionApi   versionApi;
+    private final ViewExecutor viewExecutor;
+
+    public InsightsView(SprintApi sprintApi, ProductApi productApi, VersionApi versionApi, FeatureApi featureApi, Clock clock, ViewExecutor viewExecutor) {
+        this.sprintApi    = sprintApi;
 //        this.productApi = productApi;
-        this.versionApi = versionApi;
+        this.versionApi   = versionApi;
 //        this.featureApi = featureApi;
-        this.userApi = userApi;
-        this.now     = ParameterOptions.getLocalNow();
+        this.viewExecutor = viewExecutor;
 
         pageTitle = new H2("Sprint Insights");
         pageTitle.addClassNames(
@@ -257,7 +244,7 @@ public class InsightsView extends Main implements AfterNavigationObserver {
 
         setLoadingState(true);
 
-        CompletableFuture<String> insightsFuture = CompletableFuture.supplyAsync(() -> {
+        CompletableFuture<String> insightsFuture = viewExecutor.supply(ViewExecutor.Priority.BACKGROUND, () -> {
             try {
                 logger.info("Starting comprehensive insights generation...");
                 String question = questionField.getValue();
@@ -292,7 +279,7 @@ public class InsightsView extends Main implements AfterNavigationObserver {
         } catch (InterruptedException | ExecutionException e) {
             logger.error("Error waiting for insights completion", e);
             setLoadingState(false);
-            Notification.show("Error generating insights: " + e.getMessage(), 5000, Notification.Position.MIDDLE);
+            Notification.show(ViewExecutor.isRejected(e) ? "The server is busy, please try again later." : "Error generating insights: " + e.getMessage(), 5000, Notification.Position.MIDDLE);
         }
     }
 
@@ -314,7 +301,7 @@ public class InsightsView extends Main implements AfterNavigationObserver {
 
         setLoadingState(true);
 
-        CompletableFuture<String> summaryFuture = CompletableFuture.supplyAsync(() -> {
+        CompletableFuture<String> summaryFuture = viewExecutor.supply(ViewExecutor.Priority.BACKGROUND, () -> {
             try {
                 logger.info("Starting quick summary generation...");
                 String result = sprintInsightsGenerator.generateQuickSummary(jsonString);
@@ -339,7 +326,7 @@ public class InsightsView extends Main implements AfterNavigationObserver {
         } catch (InterruptedException | ExecutionException e) {
             logger.error("Error waiting for quick summary completion", e);
             setLoadingState(false);
-            Notification.show("Error generating quick summary: " + e.getMessage(), 5000, Notification.Position.MIDDLE);
+            Notification.show(ViewExecutor.isRejected(e) ? "The server is busy, please try again later." : "Error generating quick summary: " + e.getMessage(), 5000, Notification.Position.MIDDLE);
         }
     }
 
@@ -356,86 +343,26 @@ public class InsightsView extends Main implements AfterNavigationObserver {
         createInsightsSection();
     }
 
+    /**
+     * The statistics are materialized on the server, one call returns all sprints.
+     * Sprints whose statistics cannot be calculated are left out of the insights and reported to the user.
+     */
     private void loadData() {
-        // Capture the security context from the current thread
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-        List<Sprint> sprintIds = sprintApi.getAll();
-
-        for (Sprint sprint : sprintIds) {
-            if (!sprint.getName().equals(DefaultEntitiesInitializer.BACKLOG_SPRINT_NAME)) {
-                sprintStatistics.add(new SprintStatistics(loadSprintData(authentication, sprint.getId()), now));
+        long         time   = System.currentTimeMillis();
+        List<String> errors = new ArrayList<>();
+        sprintStatistics.clear();
+        for (SprintStatisticsSnapshot snapshot : sprintApi.getStatistics()) {
+            if (snapshot.getStatistics() != null) {
+                sprintStatistics.add(snapshot.getStatistics());
+            } else {
+                errors.add(snapshot.getError());
             }
         }
-    }
-
-    private Sprint loadSprintData(Authentication authentication, UUID sprintId) {
-        Sprint sprint = null;
-        long   time   = System.currentTimeMillis();
-        // Load in parallel with security context propagation
-        CompletableFuture<Sprint> sprintFuture = CompletableFuture.supplyAsync(() -> {
-            // Set security context in this thread
-            SecurityContext context = SecurityContextHolder.createEmptyContext();
-            context.setAuthentication(authentication);
-            SecurityContextHolder.setContext(context);
-            try {
-                Sprint s = sprintApi.getById(sprintId);
-                s.initialize();
-                return s;
-            } finally {
-                SecurityContextHolder.clearContext();// Clear the security context after execution
-            }
-        });
-
-        CompletableFuture<List<User>> usersFuture = CompletableFuture.supplyAsync(() -> {
-            // Set security context in this thread
-            SecurityContext context = SecurityContextHolder.createEmptyContext();
-            context.setAuthentication(authentication);
-            SecurityContextHolder.setContext(context);
-            try {
-                return userApi.getAll(sprintId);
-            } finally {
-                SecurityContextHolder.clearContext();// Clear the security context after execution
-            }
-        });
-
-        CompletableFuture<List<Task>> tasksFuture = CompletableFuture.supplyAsync(() -> {
-            // Set security context in this thread
-            SecurityContext context = SecurityContextHolder.createEmptyContext();
-            context.setAuthentication(authentication);
-            SecurityContextHolder.setContext(context);
-            try {
-                return taskApi.getAll(sprintId);
-            } finally {
-                SecurityContextHolder.clearContext();// Clear the security context after execution
-            }
-        });
-
-        CompletableFuture<List<Worklog>> worklogsFuture = CompletableFuture.supplyAsync(() -> {
-            // Set security context in this thread
-            SecurityContext context = SecurityContextHolder.createEmptyContext();
-            context.setAuthentication(authentication);
-            SecurityContextHolder.setContext(context);
-            try {
-                return worklogApi.getAll(sprintId);
-            } finally {
-                SecurityContextHolder.clearContext();// Clear the security context after execution
-            }
-        });
-
-        // Wait for all futures and combine results
-        try {
-            sprint = sprintFuture.get();
-            logger.info("sprint loaded and initialized in {} ms", System.currentTimeMillis() - time);
-            time = System.currentTimeMillis();
-            sprint.initUserMap(usersFuture.get());
-            sprint.initTaskMap(tasksFuture.get(), worklogsFuture.get());
-            logger.info("sprint user, task and worklog maps initialized in {} ms", System.currentTimeMillis() - time);
-            sprint.recalculate(ParameterOptions.getLocalNow());
-        } catch (InterruptedException | ExecutionException e) {
-            logger.error("Error loading sprint data", e);
+        logger.info("statistics of {} sprints loaded in {} ms", sprintStatistics.size(), System.currentTimeMillis() - time);
+        if (!errors.isEmpty()) {
+            errors.forEach(logger::warn);
+            Notification.show(String.format("%d sprints are left out of the insights. %s", errors.size(), String.join(" ", errors)), 5000, Notification.Position.MIDDLE);
         }
-        return sprint;
     }
 
     private void setLoadingState(boolean loading) {
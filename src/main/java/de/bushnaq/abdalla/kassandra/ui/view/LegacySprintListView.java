@@ -58,13 +58,11 @@ import de.bushnaq.abdalla.kassandra.ui.dialog.ConfirmDialog;
 import de.bushnaq.abdalla.kassandra.ui.dialog.SprintDialog;
 import de.bushnaq.abdalla.kassandra.ui.util.RenderUtil;
 import de.bushnaq.abdalla.kassandra.ui.util.VaadinUtil;
+import de.bushnaq.abdalla.kassandra.ui.util.ViewExecutor;
 import de.bushnaq.abdalla.util.date.DateUtil;
 import jakarta.annotation.security.PermitAll;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContext;
-import org.springframework.security.core.context.SecurityContextHolder;
 import tools.jackson.databind.json.JsonMapper;
 
 import java.time.Clock;
@@ -141,6 +139,7 @@ public class LegacySprintListView extends AbstractMainGrid<Sprint> implements Af
     private final        VersionApi                   versionApi;
     private              UUID                         versionId;
     private final        Map<UUID, Version>           versionMap                       = new HashMap<>();
+    private final        ViewExecutor                 viewExecutor;
 
     public LegacySprintListView(SprintApi sprintApi, ProductApi productApi, VersionApi versionApi, FeatureApi featureApi,
                                 UserApi userApi, Clock clock, AiFilterService aiFilterService, JsonMapper mapper,
@@ -149,7 +148,8 @@ public class LegacySprintListView extends AbstractMainGrid<Sprint> implements Af
                                 AiAssistantService aiAssistantService,
                                 ChatPanelSessionState chatPanelSessionState,
                                 KassandraProperties kassandraProperties,
-                                LmStudioService lmStudioService) {
+                                LmStudioService lmStudioService,
+                                ViewExecutor viewExecutor) {
         super(clock);
         this.sprintApi              = sprintApi;
         this.productApi             = productApi;
@@ -160,6 +160,7 @@ public class LegacySprintListView extends AbstractMainGrid<Sprint> implements Af
         this.avatarService          = avatarService;
         this.stableDiffusionService = stableDiffusionService;
         this.sessionState           = chatPanelSessionState;
+        this.viewExecutor           = viewExecutor;
 
         headerAvatar = new Image();
         headerAvatar.setWidth("32px");
@@ -434,22 +435,16 @@ public class LegacySprintListView extends AbstractMainGrid<Sprint> implements Af
                 .set("padding", "var(--lumo-space-m)");
         overviewChartContainer.add(loadingContainer);
 
-        UI             ui              = UI.getCurrent();
-        Authentication authentication  = SecurityContextHolder.getContext().getAuthentication();
-        List<Sprint>   sprintsSnapshot = new ArrayList<>(chartSprints);
+        UI           ui              = UI.getCurrent();
+        List<Sprint> sprintsSnapshot = new ArrayList<>(chartSprints);
 
-        overviewChartGenerationFuture = CompletableFuture.supplyAsync(() -> {
-            SecurityContext ctx = SecurityContextHolder.createEmptyContext();
-            ctx.setAuthentication(authentication);
-            SecurityContextHolder.setContext(ctx);
+        overviewChartGenerationFuture = viewExecutor.supply(ViewExecutor.Priority.RENDER, () -> {
             try {
                 Svg svg = new Svg();
                 RenderUtil.generateSprintsOverviewChartSvg(context, sprintsSnapshot, svg);
                 return svg;
             } catch (Exception e) {
                 throw new RuntimeException("Error generating sprints overview chart", e);
-            } finally {
-                SecurityContextHolder.clearContext();
             }
         }).thenAccept(svg -> {
             ui.access(() -> {
@@ -806,7 +801,7 @@ public class LegacySprintListView extends AbstractMainGrid<Sprint> implements Af
             getHeaderPageTitle().setText(single.getName());
             if (single.getLightAvatarHash() != null && !single.getLightAvatarHash().isEmpty()) {
                 boolean isDark = UI.getCurrent().getElement().getThemeList().contains(Lumo.DARK);
-                headerAvatar.setSrc(single.getAvatarUrl(isDark));
+                headerAvatar.setSrc(single.getAvatarUrl(isDark, AvatarVariant.HEADER));
                 headerAvatar.setVisible(true);
             } else {
                 headerAvatar.setVisible(false);
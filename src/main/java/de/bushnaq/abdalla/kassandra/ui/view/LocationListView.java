@@ -35,6 +35,7 @@ import com.vaadin.flow.theme.lumo.Lumo;
 import de.bushnaq.abdalla.kassandra.ParameterOptions;
 import de.bushnaq.abdalla.kassandra.ai.filter.AiFilterService;
 import de.bushnaq.abdalla.kassandra.dto.Availability;
+import de.bushnaq.abdalla.kassandra.dto.AvatarVariant;
 import de.bushnaq.abdalla.kassandra.dto.Location;
 import de.bushnaq.abdalla.kassandra.dto.User;
 import de.bushnaq.abdalla.kassandra.rest.api.LocationApi;
@@ -199,7 +200,7 @@ public class LocationListView extends AbstractMainGrid<Location> implements Befo
             return;
         }
         boolean isDark = UI.getCurrent() != null && UI.getCurrent().getElement().getThemeList().contains(Lumo.DARK);
-        headerAvatarImage.setSrc(currentUser.getAvatarUrl(isDark));
+        headerAvatarImage.setSrc(currentUser.getAvatarUrl(isDark, AvatarVariant.HEADER));
     }
 
     private OffDaysCalendarComponent createCalendar() {
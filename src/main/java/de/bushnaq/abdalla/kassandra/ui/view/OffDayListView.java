@@ -191,7 +191,7 @@ public class OffDayListView extends AbstractMainGrid<OffDay> implements BeforeEn
             return;
         }
         boolean isDark = UI.getCurrent() != null && UI.getCurrent().getElement().getThemeList().contains(Lumo.DARK);
-        headerAvatarImage.setSrc(currentUser.getAvatarUrl(isDark));
+        headerAvatarImage.setSrc(currentUser.getAvatarUrl(isDark, AvatarVariant.HEADER));
     }
 
     private OffDaysCalendarComponent createCalendar() {
@@ -30,7 +30,7 @@ import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.data.renderer.ComponentRenderer;
 import com.vaadin.flow.router.*;
 import com.vaadin.flow.router.Location;
-import com.vaadin.flow.server.StreamResource;
+import com.vaadin.flow.server.streams.DownloadHandler;
 import com.vaadin.flow.shared.Registration;
 import com.vaadin.flow.theme.lumo.Lumo;
 import com.vaadin.flow.theme.lumo.LumoUtility;
@@ -50,6 +50,7 @@ import de.bushnaq.abdalla.kassandra.ui.HtmlColor;
 import de.bushnaq.abdalla.kassandra.ui.MainLayout;
 import de.bushnaq.abdalla.kassandra.ui.component.ThemeChangedEvent;
 import de.bushnaq.abdalla.kassandra.ui.util.RenderUtil;
+import de.bushnaq.abdalla.kassandra.ui.util.ViewExecutor;
 import de.bushnaq.abdalla.util.GanttErrorHandler;
 import de.bushnaq.abdalla.util.Util;
 import de.bushnaq.abdalla.util.date.DateUtil;
@@ -59,12 +60,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContext;
-import org.springframework.security.core.context.SecurityContextHolder;
 
 
-import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -151,19 +149,21 @@ public class QualityBoard extends Main implements AfterNavigationObserver {
     private final       UserApi                 userApi;
     private final       VersionApi              versionApi;
     private             UUID                    versionId;
+    private final       ViewExecutor            viewExecutor;
     private final       WorklogApi              worklogApi;
 
-    public QualityBoard(WorklogApi worklogApi, TaskApi taskApi, SprintApi sprintApi, ProductApi productApi, VersionApi versionApi, FeatureApi featureApi, UserApi userApi, Clock clock) {
-        created         = LocalDateTime.now(clock);
-        this.worklogApi = worklogApi;
-        this.taskApi    = taskApi;
-        this.sprintApi  = sprintApi;
-        this.productApi = productApi;
-        this.versionApi = versionApi;
-        this.featureApi = featureApi;
-        this.userApi    = userApi;
-        this.clock      = clock;
-        this.now        = ParameterOptions.getLocalNow();
+    public QualityBoard(WorklogApi worklogApi, TaskApi taskApi, SprintApi sprintApi, ProductApi productApi, VersionApi versionApi, FeatureApi featureApi, UserApi userApi, Clock clock, ViewExecutor viewExecutor) {
+        created           = LocalDateTime.now(clock);
+        this.worklogApi   = worklogApi;
+        this.taskApi      = taskApi;
+        this.sprintApi    = sprintApi;
+        this.productApi   = productApi;
+        this.versionApi   = versionApi;
+        this.featureApi   = featureApi;
+        this.userApi      = userApi;
+        this.clock        = clock;
+        this.now          = ParameterOptions.getLocalNow();
+        this.viewExecutor = viewExecutor;
 
         pageTitle = new H2("Sprint Quality Board");
         pageTitle.addClassNames(LumoUtility.Margin.NONE);
@@ -272,7 +272,7 @@ public class QualityBoard extends Main implements AfterNavigationObserver {
     /**
      * Builds the download toolbar placed below the Gantt/burndown chart.
      * Contains a "Download JSON" and a "Download XML" anchor button, each backed by a
-     * {@link StreamResource} that generates the export bytes on demand.
+     * {@link DownloadHandler} that streams the export directly into the response.
      *
      * @return a {@link HorizontalLayout} containing the two download anchors
      */
@@ -280,18 +280,16 @@ public class QualityBoard extends Main implements AfterNavigationObserver {
         Sprint sprintSnapshot = sprint; // capture before async use
 
         // JSON anchor
-        StreamResource jsonResource = new StreamResource(
-                sprintSnapshot.getName() + ".json",
-                () -> {
-                    try {
-                        return new ByteArrayInputStream(sprintExportService.exportToJson(sprintSnapshot));
-                    } catch (Exception e) {
-                        log.error("Error generating JSON export for sprint {}", sprintSnapshot.getName(), e);
-                        return new ByteArrayInputStream(new byte[0]);
-                    }
-                });
-        jsonResource.setContentType("application/json");
-        Anchor jsonAnchor = new Anchor(jsonResource, "");
+        DownloadHandler jsonHandler = event -> {
+            event.setFileName(sprintSnapshot.getName() + ".json");
+            event.setContentType("application/json");
+            try (OutputStream out = event.getOutputStream()) {
+                sprintExportService.writeJson(sprintSnapshot, out);
+            } catch (Exception e) {
+                log.error("Error generating JSON export for sprint {}", sprintSnapshot.getName(), e);
+            }
+        };
+        Anchor jsonAnchor = new Anchor(jsonHandler, "");
         jsonAnchor.getElement().setAttribute("download", true);
         Button jsonButton = new Button("JSON", new Icon(VaadinIcon.DOWNLOAD));
         jsonButton.addThemeVariants(ButtonVariant.LUMO_SMALL, ButtonVariant.LUMO_TERTIARY);
@@ -299,18 +297,16 @@ public class QualityBoard extends Main implements AfterNavigationObserver {
         jsonAnchor.add(jsonButton);
 
         // MSPDI XML anchor
-        StreamResource xmlResource = new StreamResource(
-                sprintSnapshot.getName() + ".xml",
-                () -> {
-                    try {
-                        return new ByteArrayInputStream(sprintExportService.exportToMspdiXml(sprintSnapshot));
-                    } catch (Exception e) {
-                        log.error("Error generating XML export for sprint {}", sprintSnapshot.getName(), e);
-                        return new ByteArrayInputStream(new byte[0]);
-                    }
-                });
-        xmlResource.setContentType("application/xml");
-        Anchor xmlAnchor = new Anchor(xmlResource, "");
+        DownloadHandler xmlHandler = event -> {
+            event.setFileName(sprintSnapshot.getName() + ".xml");
+            event.setContentType("application/xml");
+            try (OutputStream out = event.getOutputStream()) {
+                sprintExportService.writeMspdiXml(sprintSnapshot, out);
+            } catch (Exception e) {
+                log.error("Error generating XML export for sprint {}", sprintSnapshot.getName(), e);
+            }
+        };
+        Anchor xmlAnchor = new Anchor(xmlHandler, "");
         xmlAnchor.getElement().setAttribute("download", true);
         Button xmlButton = new Button("XML", new Icon(VaadinIcon.DOWNLOAD));
         xmlButton.addThemeVariants(ButtonVariant.LUMO_SMALL, ButtonVariant.LUMO_TERTIARY);
@@ -371,7 +367,7 @@ public class QualityBoard extends Main implements AfterNavigationObserver {
     /**
      * Creates the Gantt/burndown chart container and the download toolbar that appears below it.
      * The toolbar contains a JSON export anchor and an MSPDI XML export anchor; both use
-     * {@link StreamResource} so the file is generated lazily on the first browser download
+     * a {@link DownloadHandler} so the file is generated lazily on the first browser download
      * request rather than up front.
      */
     private void createGanttBurndownChart() {
@@ -479,23 +475,17 @@ public class QualityBoard extends Main implements AfterNavigationObserver {
         }
         ganttBurndownChartContainer.removeAll();
 
-        UI             ui             = UI.getCurrent();
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        Sprint         sprintSnapshot = sprint;
+        UI     ui             = UI.getCurrent();
+        Sprint sprintSnapshot = sprint;
         log.info("created sprint snapshot for chart generation");
 
-        ganttGenerationFuture = CompletableFuture.supplyAsync(() -> {
-            SecurityContext ctx = SecurityContextHolder.createEmptyContext();
-            ctx.setAuthentication(authentication);
-            SecurityContextHolder.setContext(ctx);
+        ganttGenerationFuture = viewExecutor.supply(ViewExecutor.Priority.RENDER, () -> {
             try {
                 Svg                svg   = new Svg();
                 GanttBurndownChart chart = RenderUtil.generateGanttBurnChartSvg(context, sprintSnapshot, svg);
                 return new Object[]{svg, chart};
             } catch (Exception e) {
                 throw new RuntimeException("Error generating Gantt chart", e);
-            } finally {
-                SecurityContextHolder.clearContext();
             }
         }).thenAccept(result -> {
             Svg                svg   = (Svg) result[0];
@@ -527,60 +517,18 @@ public class QualityBoard extends Main implements AfterNavigationObserver {
         //- populate grid with tasks of the sprint
         long time = System.currentTimeMillis();
 
-        // Capture the security context from the current thread
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-        // Load in parallel with security context propagation
-        CompletableFuture<Sprint> sprintFuture = CompletableFuture.supplyAsync(() -> {
-            // Set security context in this thread
-            SecurityContext context = SecurityContextHolder.createEmptyContext();
-            context.setAuthentication(authentication);
-            SecurityContextHolder.setContext(context);
-            try {
-                Sprint s = sprintApi.getById(sprintId);
-                s.initialize();
-                return s;
-            } finally {
-                SecurityContextHolder.clearContext();// Clear the security context after execution
-            }
+        // Load in parallel, the view executor propagates the security context
+        CompletableFuture<Sprint> sprintFuture = viewExecutor.supply(ViewExecutor.Priority.INTERACTIVE, () -> {
+            Sprint s = sprintApi.getById(sprintId);
+            s.initialize();
+            return s;
         });
 
-        CompletableFuture<List<User>> usersFuture = CompletableFuture.supplyAsync(() -> {
-            // Set security context in this thread
-            SecurityContext context = SecurityContextHolder.createEmptyContext();
-            context.setAuthentication(authentication);
-            SecurityContextHolder.setContext(context);
-            try {
-                return userApi.getAll(sprintId);
-            } finally {
-                SecurityContextHolder.clearContext();// Clear the security context after execution
+        CompletableFuture<List<User>> usersFuture = viewExecutor.supply(ViewExecutor.Priority.INTERACTIVE, () -> userApi.getAll(sprintId));
 
-            }
-        });
+        CompletableFuture<List<Task>> tasksFuture = viewExecutor.supply(ViewExecutor.Priority.INTERACTIVE, () -> taskApi.getAll(sprintId));
 
-        CompletableFuture<List<Task>> tasksFuture = CompletableFuture.supplyAsync(() -> {
-            // Set security context in this thread
-            SecurityContext context = SecurityContextHolder.createEmptyContext();
-            context.setAuthentication(authentication);
-            SecurityContextHolder.setContext(context);
-            try {
-                return taskApi.getAll(sprintId);
-            } finally {
-                SecurityContextHolder.clearContext();// Clear the security context after execution
-            }
-        });
-
-        CompletableFuture<List<Worklog>> worklogsFuture = CompletableFuture.supplyAsync(() -> {
-            // Set security context in this thread
-            SecurityContext context = SecurityContextHolder.createEmptyContext();
-            context.setAuthentication(authentication);
-            SecurityContextHolder.setContext(context);
-            try {
-                return worklogApi.getAll(sprintId);
-            } finally {
-                SecurityContextHolder.clearContext();// Clear the security context after execution
-            }
-        });
+        CompletableFuture<List<Worklog>> worklogsFuture = viewExecutor.supply(ViewExecutor.Priority.INTERACTIVE, () -> worklogApi.getAll(sprintId));
 
         // Wait for all futures and combine results
         try {
@@ -599,7 +547,13 @@ public class QualityBoard extends Main implements AfterNavigationObserver {
             }
         } catch (InterruptedException | ExecutionException e) {
             logger.error("Error loading sprint data", e);
-            // Handle exception appropriately
+            sprint = null;// the page is only built for a completely loaded sprint
+            com.vaadin.flow.component.notification.Notification notification = new com.vaadin.flow.component.notification.Notification(
+                    ViewExecutor.isRejected(e) ? "The server is busy, the sprint could not be loaded. Please try again later." : "Error loading sprint data: " + e.getMessage(), 5000,
+                    com.vaadin.flow.component.notification.Notification.Position.BOTTOM_START);
+            notification.addThemeVariants(com.vaadin.flow.component.notification.NotificationVariant.LUMO_ERROR);
+            notification.open();
+            return;
         }
         ganttUtil.levelResources(eh, sprint, "", ParameterOptions.getLocalNow());
         {
@@ -792,7 +746,7 @@ public class QualityBoard extends Main implements AfterNavigationObserver {
             pageTitle.setText(sprint.getName());
             if (sprint.getLightAvatarHash() != null && !sprint.getLightAvatarHash().isEmpty()) {
                 boolean isDark = UI.getCurrent().getElement().getThemeList().contains(Lumo.DARK);
-                headerAvatar.setSrc(sprint.getAvatarUrl(isDark));
+                headerAvatar.setSrc(sprint.getAvatarUrl(isDark, AvatarVariant.HEADER));
                 headerAvatar.setVisible(true);
             } else {
                 headerAvatar.setVisible(false);
@@ -761,7 +761,7 @@ public class SprintListView extends AbstractMainGrid<Sprint> implements AfterNav
             getHeaderPageTitle().setText(single.getName());
             if (single.getLightAvatarHash() != null && !single.getLightAvatarHash().isEmpty()) {
                 boolean isDark = UI.getCurrent().getElement().getThemeList().contains(Lumo.DARK);
-                headerAvatar.setSrc(single.getAvatarUrl(isDark));
+                headerAvatar.setSrc(single.getAvatarUrl(isDark, AvatarVariant.HEADER));
                 headerAvatar.setVisible(true);
             } else {
                 headerAvatar.setVisible(false);
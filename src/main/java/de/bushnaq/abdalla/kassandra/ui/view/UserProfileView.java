@@ -43,6 +43,7 @@ import de.bushnaq.abdalla.kassandra.ai.stablediffusion.GeneratedImageResult;
 import de.bushnaq.abdalla.kassandra.ai.stablediffusion.StableDiffusionService;
 import de.bushnaq.abdalla.kassandra.dto.Availability;
 import de.bushnaq.abdalla.kassandra.dto.AvatarUpdateRequest;
+import de.bushnaq.abdalla.kassandra.dto.AvatarVariant;
 import de.bushnaq.abdalla.kassandra.dto.Location;
 import de.bushnaq.abdalla.kassandra.dto.User;
 import de.bushnaq.abdalla.kassandra.dto.util.AvatarUtil;
@@ -250,7 +251,7 @@ public class UserProfileView extends Main implements BeforeEnterObserver {
                     .set("border-radius", "4px")
                     .set("object-fit", "cover")
                     .set("margin-right", "var(--lumo-space-s)");
-            headerAvatarImage.setSrc(currentUser.getAvatarUrl(UI.getCurrent().getElement().getThemeList().contains(Lumo.DARK)));
+            headerAvatarImage.setSrc(currentUser.getAvatarUrl(UI.getCurrent().getElement().getThemeList().contains(Lumo.DARK), AvatarVariant.HEADER));
             titleIcon = headerAvatarImage;
         }
 //        else {
@@ -425,7 +426,7 @@ public class UserProfileView extends Main implements BeforeEnterObserver {
         }
         boolean isDark = UI.getCurrent().getElement().getThemeList().contains(Lumo.DARK);
         if (headerAvatarImage != null) {
-            headerAvatarImage.setSrc(currentUser.getAvatarUrl(isDark));
+            headerAvatarImage.setSrc(currentUser.getAvatarUrl(isDark, AvatarVariant.HEADER));
         }
         if (nameFieldAvatarImage != null) {
             nameFieldAvatarImage.setSrc(currentUser.getAvatarUrl(isDark));
@@ -34,6 +34,7 @@ import com.vaadin.flow.shared.Registration;
 import com.vaadin.flow.theme.lumo.Lumo;
 import de.bushnaq.abdalla.kassandra.ParameterOptions;
 import de.bushnaq.abdalla.kassandra.ai.filter.AiFilterService;
+import de.bushnaq.abdalla.kassandra.dto.AvatarVariant;
 import de.bushnaq.abdalla.kassandra.dto.User;
 import de.bushnaq.abdalla.kassandra.dto.UserWorkWeek;
 import de.bushnaq.abdalla.kassandra.rest.api.UserApi;
@@ -205,7 +206,7 @@ public class UserWorkWeekListView extends AbstractMainGrid<UserWorkWeek>
             return;
         }
         boolean isDark = UI.getCurrent() != null && UI.getCurrent().getElement().getThemeList().contains(Lumo.DARK);
-        headerAvatarImage.setSrc(currentUser.getAvatarUrl(isDark));
+        headerAvatarImage.setSrc(currentUser.getAvatarUrl(isDark, AvatarVariant.HEADER));
     }
 
     private OffDaysCalendarComponent createCalendar() {
@@ -36,6 +36,7 @@ import de.bushnaq.abdalla.kassandra.ai.lmstudio.LmStudioService;
 import de.bushnaq.abdalla.kassandra.ai.mcp.AiAssistantService;
 import de.bushnaq.abdalla.kassandra.config.DefaultEntitiesInitializer;
 import de.bushnaq.abdalla.kassandra.config.KassandraProperties;
+import de.bushnaq.abdalla.kassandra.dto.AvatarVariant;
 import de.bushnaq.abdalla.kassandra.dto.Product;
 import de.bushnaq.abdalla.kassandra.dto.User;
 import de.bushnaq.abdalla.kassandra.dto.Version;
@@ -199,7 +200,7 @@ public class VersionListView extends AbstractMainGrid<Version> implements AfterN
                                 .set("margin-right", "12px");
                         if (product.getLightAvatarHash() != null && !product.getLightAvatarHash().isEmpty()) {
                             boolean isDark = UI.getCurrent().getElement().getThemeList().contains(Lumo.DARK);
-                            avatar.setSrc(product.getAvatarUrl(isDark));
+                            avatar.setSrc(product.getAvatarUrl(isDark, AvatarVariant.HEADER));
                         }
                         headerComponent = createSmartHeader(
                                 product.getName(), VERSION_LIST_PAGE_TITLE, avatar,
@@ -499,7 +500,7 @@ public class VersionListView extends AbstractMainGrid<Version> implements AfterN
             getHeaderPageTitle().setText(single.getName());
             if (single.getLightAvatarHash() != null && !single.getLightAvatarHash().isEmpty()) {
                 boolean isDark = UI.getCurrent().getElement().getThemeList().contains(Lumo.DARK);
-                headerAvatar.setSrc(single.getAvatarUrl(isDark));
+                headerAvatar.setSrc(single.getAvatarUrl(isDark, AvatarVariant.HEADER));
                 headerAvatar.setVisible(true);
             } else {
                 headerAvatar.setVisible(false);
@@ -40,6 +40,7 @@ public class DateUtil {
     private static final int               MILLI_SECONDS_INDEX = 0;
     private static final int               MINUTE_INDEX        = 2;
     private static final int               SECONDS_INDEX       = 1;
+    private static final WorkingDayIndex   WEEKDAYS            = WorkingDayIndex.ofWeekdays(LocalDate.of(2000, 1, 1), LocalDate.of(2099, 12, 31));
     private static final int               WEEK_INDEX          = 5;
     public final         DateTimeFormatter dtfymd              = DateTimeFormatter.ofPattern("yyyy.MM.dd");
     public final         DateTimeFormatter dtfymdhm            = DateTimeFormatter.ofPattern("yyyy.MMM.dd HH:mm");
@@ -91,20 +92,9 @@ public class DateUtil {
         if (workingDays > 300) {
             return null;
         } else if (workingDays > 2) {
-            //---Do not include startDate
-            int workingDaysIndex = 1;
-            while (workingDaysIndex < workingDays) {
-                if (isWorkDay(startDate)) {
-                    workingDaysIndex++;
-                } else {
-                }
-                startDate = startDate.plusDays(1);
-            }
-            //---ensure the last day is not a weekend day
-            while (!isWorkDay(startDate)) {
-                startDate = startDate.plusDays(1);
-            }
-            return startDate;
+            //---the workingDays-th work day on or after startDate, keeping the time of day
+            LocalDate day = WEEKDAYS.addWorkingDays(startDate.toLocalDate(), (int) workingDays);
+            return startDate.plusDays(ChronoUnit.DAYS.between(startDate.toLocalDate(), day));
         } else {
             return startDate;
         }
@@ -143,25 +133,7 @@ public class DateUtil {
      * @return
      */
     public static int calculateWorkingDaysIncluding(LocalDate start, LocalDate end) {
-
-        //        logger.trace(String.format("start=%s, end=%s", Util.createDateString(startCal.getTimeInMillis(), sdtf), Util.createDateString(endCal.getTimeInMillis(), sdtf)));
-        int workDays = 0;
-
-        //make sure we start with the smaller date
-        if (start.isAfter(end)) {
-            return 0;
-        }
-        end = end.plusDays(1);
-
-        do {
-            //excluding start date
-            if (start.getDayOfWeek() != DayOfWeek.SATURDAY && start.getDayOfWeek() != DayOfWeek.SUNDAY) {
-                ++workDays;
-            }
-            start = start.plusDays(1);
-        } while (start.isBefore(end)); //excluding end date
-
-        return workDays;
+        return WEEKDAYS.countWorkingDaysIncluding(start, end);
     }
 
     public static int calculateWorkingDaysIncluding(LocalDateTime start, LocalDateTime end) {
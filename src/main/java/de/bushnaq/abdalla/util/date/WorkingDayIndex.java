@@ -0,0 +1,184 @@
+/*
+ *
+ * Copyright (C) 2025-2025 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.util.date;
+
+import net.sf.mpxj.ProjectCalendar;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+/**
+ * Precomputed working-day lookup table for one calendar over a fixed horizon.
+ * <p>
+ * The index stores one bit per day telling if the day is a working day and a prefix sum of working days,
+ * so that "is working date" and "working days between" are answered in O(1) and "add N working days" in O(log n).
+ * Dates outside the horizon are delegated to the original predicate, so results never differ from asking the calendar directly.
+ * <p>
+ * The index is a snapshot, it must be rebuilt if the underlying calendar changes.
+ */
+public class WorkingDayIndex {
+    private final LocalDate            first;
+    private final LocalDate            last;
+    private final int[]                prefix;//prefix[i] = number of working days in [first, first+i)
+    private final Predicate<LocalDate> source;
+    private final BitSet               working;
+
+    /**
+     * @param source predicate that decides if a day is a working day
+     * @param first  first day of the horizon (inclusive)
+     * @param last   last day of the horizon (inclusive)
+     */
+    public WorkingDayIndex(Predicate<LocalDate> source, LocalDate first, LocalDate last) {
+        if (last.isBefore(first)) {
+            last = first;
+        }
+        this.source = source;
+        this.first  = first;
+        this.last   = last;
+        int size = (int) ChronoUnit.DAYS.between(first, last) + 1;
+        working = new BitSet(size);
+        prefix  = new int[size + 1];
+        LocalDate day = first;
+        for (int i = 0; i < size; i++) {
+            boolean isWorking = source.test(day);
+            if (isWorking) {
+                working.set(i);
+            }
+            prefix[i + 1] = prefix[i] + (isWorking ? 1 : 0);
+            day           = day.plusDays(1);
+        }
+    }
+
+    /**
+     * Index of a mpxj calendar.
+     *
+     * @param calendar the calendar
+     * @param first    first day of the horizon (inclusive)
+     * @param last     last day of the horizon (inclusive)
+     * @return the index
+     */
+    public static WorkingDayIndex of(ProjectCalendar calendar, LocalDate first, LocalDate last) {
+        return new WorkingDayIndex(calendar::isWorkingDate, first, last);
+    }
+
+    /**
+     * Index that treats every day except saturday and sunday as working day.
+     *
+     * @param first first day of the horizon (inclusive)
+     * @param last  last day of the horizon (inclusive)
+     * @return the index
+     */
+    public static WorkingDayIndex ofWeekdays(LocalDate first, LocalDate last) {
+        return new WorkingDayIndex(day -> day.getDayOfWeek() != DayOfWeek.SATURDAY && day.getDayOfWeek() != DayOfWeek.SUNDAY, first, last);
+    }
+
+    /**
+     * Finds the n-th working day on or after start, counting start itself if it is a working day.
+     *
+     * @param start the day to start counting from
+     * @param n     number of working days, must be at least 1
+     * @return the n-th working day
+     */
+    public LocalDate addWorkingDays(LocalDate start, int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException(String.format("n must be at least 1 but was %d", n));
+        }
+        if (contains(start)) {
+            int startIndex = indexOf(start);
+            int target     = prefix[startIndex] + n;//prefix value we need to reach
+            if (target <= prefix[prefix.length - 1]) {
+                //binary search for the smallest i with prefix[i + 1] >= target
+                int low  = startIndex;
+                int high = prefix.length - 2;
+                while (low < high) {
+                    int mid = (low + high) >>> 1;
+                    if (prefix[mid + 1] >= target) {
+                        high = mid;
+                    } else {
+                        low = mid + 1;
+                    }
+                }
+                return first.plusDays(low);
+            }
+            //continue outside the horizon
+            n -= prefix[prefix.length - 1] - prefix[startIndex];
+            start = last.plusDays(1);
+        }
+        LocalDate day = start;
+        while (true) {
+            if (source.test(day) && --n == 0) {
+                return day;
+            }
+            day = day.plusDays(1);
+        }
+    }
+
+    private boolean contains(LocalDate day) {
+        return !day.isBefore(first) && !day.isAfter(last);
+    }
+
+    /**
+     * Counts the working days between start and end, both days included.
+     *
+     * @param start first day (inclusive)
+     * @param end   last day (inclusive)
+     * @return number of working days, 0 if start is after end
+     */
+    public int countWorkingDaysIncluding(LocalDate start, LocalDate end) {
+        if (start.isAfter(end)) {
+            return 0;
+        }
+        if (contains(start) && contains(end)) {
+            return prefix[indexOf(end) + 1] - prefix[indexOf(start)];
+        }
+        int       count = 0;
+        LocalDate day   = start;
+        while (!day.isAfter(end)) {
+            if (contains(day)) {
+                //jump over the part covered by the index
+                LocalDate stop = end.isAfter(last) ? last : end;
+                count += prefix[indexOf(stop) + 1] - prefix[indexOf(day)];
+                day = stop.plusDays(1);
+            } else {
+                if (source.test(day)) {
+                    count++;
+                }
+                day = day.plusDays(1);
+            }
+        }
+        return count;
+    }
+
+    private int indexOf(LocalDate day) {
+        return (int) ChronoUnit.DAYS.between(first, day);
+    }
+
+    /**
+     * @param day the day
+     * @return true if the day is a working day
+     */
+    public boolean isWorkingDate(LocalDate day) {
+        if (contains(day)) {
+            return working.get(indexOf(day));
+        }
+        return source.test(day);
+    }
+}
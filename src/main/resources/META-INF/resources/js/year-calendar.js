@@ -0,0 +1,179 @@
+// year-calendar.js
+// <kassandra-year-calendar> custom element rendering a whole year client-side.
+// Mirrors Java: de.bushnaq.abdalla.kassandra.ui.component.YearCalendar
+//
+// Copyright (C) 2025-2026 Abdalla Bushnaq – Apache License 2.0
+(function () {
+    'use strict';
+
+    if (customElements.get('kassandra-year-calendar')) return;
+
+    const MONTH_NAMES = ['JANUARY', 'FEBRUARY', 'MARCH', 'APRIL', 'MAY', 'JUNE', 'JULY', 'AUGUST', 'SEPTEMBER', 'OCTOBER', 'NOVEMBER', 'DECEMBER'];
+    const WEEKDAYS    = ['M', 'T', 'W', 'T', 'F', 'S', 'S'];
+    // indexed by the ordinal of CalendarDayType, see YearCalendar.code
+    const TYPE_CLASS  = ['calendar-normal-day', 'calendar-weekend-day', 'calendar-holiday-day', 'calendar-vacation-day', 'calendar-sick-day', 'calendar-trip-day'];
+    const CLICKABLE   = 8;
+    const FILL_SHIFT  = 4;
+
+    /**
+     * Adds the layout rules once per document, colors come from css/vaadin-calendar.css.
+     */
+    function installStyle() {
+        if (document.getElementById('kassandra-year-calendar-style')) return;
+        const style       = document.createElement('style');
+        style.id          = 'kassandra-year-calendar-style';
+        style.textContent = `
+kassandra-year-calendar { display: flex; flex-wrap: wrap; width: 100%; }
+kassandra-year-calendar .ycal-month { width: 272px; box-sizing: border-box; padding: var(--lumo-space-s); margin: var(--lumo-space-s); }
+kassandra-year-calendar .ycal-month-name { display: block; font-weight: bold; padding: var(--lumo-space-xs); }
+kassandra-year-calendar .ycal-weekdays { display: flex; justify-content: space-between; width: 100%; }
+kassandra-year-calendar .ycal-weekdays span { width: 36px; height: 36px; line-height: 36px; text-align: center; font-weight: bold; font-size: 0.8rem; }
+kassandra-year-calendar .ycal-grid { display: grid; grid-template-columns: repeat(7, 1fr); gap: 1px; width: 100%; margin-top: 4px; }
+kassandra-year-calendar .ycal-day { width: 36px; height: 36px; display: flex; align-items: center; justify-content: center; position: relative; box-sizing: border-box; cursor: default; font-weight: bold; font-size: 0.85rem; }
+kassandra-year-calendar .ycal-day.ycal-clickable { cursor: pointer; }
+kassandra-year-calendar .ycal-bordered .ycal-day { border: 1px solid #e0e0e0; }
+kassandra-year-calendar .ycal-fill { position: absolute; bottom: 0; left: 0; right: 0; z-index: 0; }
+kassandra-year-calendar .ycal-number { position: relative; z-index: 1; }
+`;
+        document.head.appendChild(style);
+    }
+
+    class YearCalendarElement extends HTMLElement {
+        constructor() {
+            super();
+            this.cells   = [];   // one cell per day of the year
+            this.codes   = [];
+            this.palette = [];   // [[level, color], ...]
+            this.year    = 0;
+        }
+
+        connectedCallback() {
+            installStyle();
+            if (!this.clickListener) {
+                this.clickListener = (event) => {
+                    const cell = event.target.closest('.ycal-clickable');
+                    if (cell && this.contains(cell)) {
+                        this.dispatchEvent(new CustomEvent('day-click', {detail: Number(cell.dataset.index)}));
+                    }
+                };
+                this.addEventListener('click', this.clickListener);
+            }
+        }
+
+        /**
+         * Applies a delta from the server.
+         *
+         * @param {number[]} changes flat list of day index and code pairs
+         */
+        patch(changes) {
+            for (let i = 0; i + 1 < changes.length; i += 2) {
+                this.codes[changes[i]] = changes[i + 1];
+                this.paintDay(changes[i]);
+            }
+        }
+
+        paintDay(index) {
+            const cell = this.cells[index];
+            const code = this.codes[index] || 0;
+            cell.className = 'ycal-day ' + TYPE_CLASS[code & 7] + (code & CLICKABLE ? ' ycal-clickable' : '') + (index === this.today ? ' calendar-today' : '');
+            const fill = code >> FILL_SHIFT;
+            let fillDiv    = cell.firstChild.classList.contains('ycal-fill') ? cell.firstChild : null;
+            if (fill === 0) {
+                if (fillDiv) fillDiv.remove();
+                return;
+            }
+            if (!fillDiv) {
+                fillDiv           = document.createElement('div');
+                fillDiv.className = 'ycal-fill';
+                cell.insertBefore(fillDiv, cell.firstChild);
+            }
+            const level                  = (fill - 1) / 100;
+            fillDiv.style.height         = (fill - 1) + '%';
+            fillDiv.style.backgroundColor = this.paletteColor(level);
+        }
+
+        paletteColor(level) {
+            let color   = '';
+            let minDiff = Number.MAX_VALUE;
+            for (const [key, value] of this.palette) {
+                const diff = Math.abs(level - key);
+                if (diff < minDiff) {
+                    minDiff = diff;
+                    color   = value;
+                }
+            }
+            return color;
+        }
+
+        /**
+         * Renders a complete year.
+         *
+         * @param {number}   year    the year
+         * @param {number[]} codes   one code per day of the year
+         * @param {number}   today   day index of today or -1
+         * @param {Array}    palette [[level, color], ...] for the availability fill
+         */
+        setYear(year, codes, today, palette) {
+            this.year    = year;
+            this.codes   = codes;
+            this.today   = today;
+            this.palette = palette || [];
+            this.cells   = [];
+            const fragment = document.createDocumentFragment();
+            let index      = 0;
+            for (let month = 0; month < 12; month++) {
+                const monthDiv     = document.createElement('div');
+                monthDiv.className = 'ycal-month' + (this.palette.length ? ' ycal-bordered' : '');
+                const name         = document.createElement('span');
+                name.className     = 'ycal-month-name calendar-month-name';
+                name.textContent   = MONTH_NAMES[month];
+                const weekdays     = document.createElement('div');
+                weekdays.className = 'ycal-weekdays';
+                for (const day of WEEKDAYS) {
+                    const label       = document.createElement('span');
+                    label.textContent = day;
+                    weekdays.appendChild(label);
+                }
+                const grid     = document.createElement('div');
+                grid.className = 'ycal-grid';
+                const first    = (new Date(year, month, 1).getDay() + 6) % 7;// Monday = 0
+                const length   = new Date(year, month + 1, 0).getDate();
+                const previous = new Date(year, month, 0).getDate();
+                for (let i = 0; i < first; i++) {
+                    grid.appendChild(this.createFillingDay(previous - first + i + 1));
+                }
+                for (let day = 1; day <= length; day++, index++) {
+                    const cell         = this.createDay(day);
+                    cell.dataset.index = index;
+                    this.cells.push(cell);
+                    grid.appendChild(cell);
+                    this.paintDay(index);
+                }
+                const filling = (7 - (first + length) % 7) % 7;
+                for (let day = 1; day <= filling; day++) {
+                    grid.appendChild(this.createFillingDay(day));
+                }
+                monthDiv.append(name, weekdays, grid);
+                fragment.appendChild(monthDiv);
+            }
+            this.replaceChildren(fragment);
+        }
+
+        createDay(day) {
+            const cell         = document.createElement('div');
+            const number       = document.createElement('span');
+            number.className   = 'ycal-number';
+            number.textContent = day;
+            cell.appendChild(number);
+            return cell;
+        }
+
+        createFillingDay(day) {
+            const cell     = this.createDay(day);
+            cell.className = 'ycal-day calendar-filling-day';
+            return cell;
+        }
+    }
+
+    customElements.define('kassandra-year-calendar', YearCalendarElement);
+})();
@@ -0,0 +1,61 @@
+// gantt/gantt-layout.test.ts
+// Day runs and cache key of GanttLayout.
+//
+// Copyright (C) 2025-2026 Abdalla Bushnaq – Apache License 2.0
+
+import { describe, expect, it }         from 'vitest';
+import { GanttLayout }                  from '../../../main/frontend/js/gantt/gantt-layout.js';
+import type { TaskDto }                 from '../../../main/frontend/js/gantt/abstract-gantt-renderer.js';
+import { createChartData, localDateTime } from './gantt-test-data.js';
+
+function createTask(firstDay: number, lastDay: number, calendarExceptions?: TaskDto['calendarExceptions']): TaskDto {
+    return { id: `${firstDay}-${lastDay}`, rowIndex: 0, start: localDateTime(firstDay, 8), finish: localDateTime(lastDay, 17), calendarExceptions };
+}
+
+describe('GanttLayout', () => {
+    const chartStart = new Date(2026, 0, 5);// a Monday
+
+    it('splits a task into runs of working and non-working days', () => {
+        const layout = new GanttLayout('', chartStart);
+        // Wednesday to Wednesday of the following week
+        expect(layout.runs(createTask(2, 9))).toEqual([
+            { first: 2, last: 4, working: true },
+            { first: 5, last: 6, working: false },
+            { first: 7, last: 9, working: true },
+        ]);
+    });
+
+    it('joins an off-day with the weekend before it', () => {
+        const layout   = new GanttLayout('', chartStart);
+        const vacation = [{ from: '2026-01-12', to: '2026-01-12', type: 'VACATION', letter: 'V' }];
+        expect(layout.runs(createTask(2, 9, vacation))).toEqual([
+            { first: 2, last: 4, working: true },
+            { first: 5, last: 7, working: false },
+            { first: 8, last: 9, working: true },
+        ]);
+        expect(layout.exception(7, vacation)).toBe(vacation[0]);
+        expect(layout.exception(8, vacation)).toBeNull();
+    });
+
+    it('does not split a task whose days are all working or all non-working', () => {
+        const layout = new GanttLayout('', chartStart);
+        expect(layout.runs(createTask(0, 0))).toEqual([{ first: 0, last: 0, working: true }]);
+        expect(layout.runs(createTask(5, 6))).toEqual([{ first: 5, last: 6, working: false }]);
+    });
+
+    it('computes the runs of a task once', () => {
+        const layout = new GanttLayout('', chartStart);
+        const task   = createTask(2, 9);
+        expect(layout.runs(task)).toBe(layout.runs(task));
+    });
+
+    it('key ignores the theme but not the schedule', () => {
+        const data  = createChartData(10);
+        const key   = GanttLayout.keyOf(data);
+        const dark  = { ...data, meta: { ...data.meta, theme: { themeVariance: 'dark' }, themeKey: 'dark' } };
+        expect(GanttLayout.keyOf(dark)).toBe(key);
+
+        const moved = { ...data, tasks: data.tasks.map((task, i) => i === 3 ? { ...task, finish: localDateTime(40, 17) } : task) };
+        expect(GanttLayout.keyOf(moved)).not.toBe(key);
+    });
+});
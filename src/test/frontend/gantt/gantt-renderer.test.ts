@@ -0,0 +1,95 @@
+// @vitest-environment jsdom
+// gantt/gantt-renderer.test.ts
+// Row windowing of the Gantt renderer and the size and speed of a headless render of a large chart.
+//
+// Copyright (C) 2025-2026 Abdalla Bushnaq – Apache License 2.0
+
+import { beforeAll, describe, expect, it } from 'vitest';
+import { Theme }                           from '../../../main/frontend/js/theme/theme.js';
+import { GanttChart }                      from '../../../main/frontend/js/gantt/gantt-chart-class.js';
+import { GanttRenderer }                   from '../../../main/frontend/js/gantt/gantt-renderer.js';
+import { LINE_HEIGHT }                     from '../../../main/frontend/js/gantt/abstract-gantt-renderer.js';
+import { createChartData, stubCanvas }     from './gantt-test-data.js';
+
+const PITCH             = LINE_HEIGHT + 1;
+const OVERSCAN          = 20;
+const VIEWPORT_ROWS     = 30;
+const LARGE_CHART       = 5000;
+const MAX_RENDER_MILLIS = 1000;
+
+beforeAll(stubCanvas);
+
+describe('GanttRenderer row windowing', () => {
+    function createRenderer(taskCount: number): GanttRenderer {
+        const renderer      = new GanttRenderer(createChartData(taskCount), new Theme());
+        renderer._calendarH = 100;
+        return renderer;
+    }
+
+    it('renders the rows of the viewport and the overscan', () => {
+        const renderer          = createRenderer(1000);
+        renderer.viewportTop    = renderer._calendarH + 500 * PITCH;
+        renderer.viewportHeight = 10 * PITCH;
+        renderer.updateRenderedRows();
+
+        expect(renderer.firstRow).toBe(500 - OVERSCAN);
+        expect(renderer.lastRow).toBe(510 + OVERSCAN);
+        expect(renderer.isRowRendered(499)).toBe(true);
+        expect(renderer.isRowRendered(500 - OVERSCAN - 1)).toBe(false);
+    });
+
+    it('clamps the rows to the chart', () => {
+        const renderer          = createRenderer(100);
+        renderer.viewportTop    = 0;
+        renderer.viewportHeight = 10 * PITCH;
+        renderer.updateRenderedRows();
+        expect(renderer.firstRow).toBe(0);
+
+        renderer.viewportTop = renderer._calendarH + 95 * PITCH;
+        renderer.updateRenderedRows();
+        expect(renderer.lastRow).toBe(99);
+    });
+
+    it('renders all rows without a viewport', () => {
+        const renderer = createRenderer(100);
+        renderer.updateRenderedRows();
+        expect(renderer.firstRow).toBe(0);
+        expect(renderer.lastRow).toBe(99);
+    });
+
+    it('covers a viewport that scrolled less than the overscan', () => {
+        const renderer          = createRenderer(1000);
+        renderer.viewportTop    = renderer._calendarH + 500 * PITCH;
+        renderer.viewportHeight = 10 * PITCH;
+        renderer.updateRenderedRows();
+
+        expect(renderer.coversViewport(renderer.viewportTop + (OVERSCAN / 2) * PITCH, renderer.viewportHeight)).toBe(true);
+        expect(renderer.coversViewport(renderer.viewportTop - (OVERSCAN / 2) * PITCH, renderer.viewportHeight)).toBe(true);
+        expect(renderer.coversViewport(renderer.viewportTop + (OVERSCAN + 1) * PITCH, renderer.viewportHeight)).toBe(false);
+    });
+});
+
+describe('GanttChart headless render', () => {
+    function render(taskCount: number): { container: HTMLElement; millis: number } {
+        const container = document.createElement('div');
+        document.body.appendChild(container);
+        const chart = new GanttChart(createChartData(taskCount), new Theme());
+        const start = performance.now();
+        chart.updateViewState(20, 0, 1200, 0, VIEWPORT_ROWS * PITCH);
+        chart.render(container);
+        return { container, millis: performance.now() - start };
+    }
+
+    it('renders a large chart with as many nodes as a small one', () => {
+        const small = render(VIEWPORT_ROWS + 2 * OVERSCAN + 50);
+        const large = render(LARGE_CHART);
+
+        const nodes = large.container.querySelectorAll('*').length;
+        expect(nodes).toBe(small.container.querySelectorAll('*').length);
+        // the day grid is one pattern tiled over the rendered rows, not a rect per day and row
+        expect(large.container.querySelectorAll('pattern')).toHaveLength(1);
+        expect(large.container.querySelectorAll('g.tasks title').length).toBeLessThan(LARGE_CHART / 10);
+        console.log(`${LARGE_CHART} tasks rendered as ${nodes} nodes in ${large.millis.toFixed(1)} ms`);
+        expect(large.millis).toBeLessThan(MAX_RENDER_MILLIS);
+    });
+});
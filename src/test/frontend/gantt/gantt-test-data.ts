@@ -0,0 +1,56 @@
+// gantt/gantt-test-data.ts
+// Chart data and browser stubs shared by the Gantt chart tests.
+//
+// Copyright (C) 2025-2026 Abdalla Bushnaq – Apache License 2.0
+
+import type { GanttChartDto } from '../../../main/frontend/js/gantt/gantt-renderer.js';
+import type { TaskDto }       from '../../../main/frontend/js/gantt/abstract-gantt-renderer.js';
+
+export const CHART_START = '2026-01-05T00:00:00';// a Monday
+
+/** jsdom has no canvas, the calendar fonts only need an ascent. */
+export function stubCanvas(): void {
+    HTMLCanvasElement.prototype.getContext = (() => ({
+        font:        '',
+        measureText: (text: string) => ({ width: text.length * 7, fontBoundingBoxAscent: 10 }),
+    })) as unknown as typeof HTMLCanvasElement.prototype.getContext;
+}
+
+/** Local date time string as sent by the server for the given day after {@link CHART_START}. */
+export function localDateTime(dayIndex: number, hour: number): string {
+    const date = new Date(2026, 0, 5 + dayIndex, hour);
+    const pad  = (n: number) => String(n).padStart(2, '0');
+    return `${date.getFullYear()}-${pad(date.getMonth() + 1)}-${pad(date.getDate())}T${pad(hour)}:00:00`;
+}
+
+/**
+ * One task per row, each task takes two weeks and starts one day after the task in the row above,
+ * every third user is on vacation for a week.
+ */
+export function createChartData(taskCount: number): GanttChartDto {
+    const tasks: TaskDto[] = [];
+    for (let row = 0; row < taskCount; row++) {
+        const startDay = row % 300;
+        tasks.push({
+            id:            row + 1,
+            key:           `T-${row + 1}`,
+            name:          `Task ${row + 1}`,
+            start:         localDateTime(startDay, 8),
+            finish:        localDateTime(startDay + 13, 17),
+            rowIndex:      row,
+            fillColor:     '#1f8fff50',
+            calendarIndex: row % 3 === 0 ? 0 : null,
+        });
+    }
+    return {
+        tasks,
+        meta: {
+            chartStart:              CHART_START,
+            chartEnd:                localDateTime(320, 0),
+            now:                     localDateTime(10, 0),
+            sprintEarliestStartDate: localDateTime(0, 8),
+            sprintLatestFinishDate:  localDateTime(313, 17),
+        },
+        calendars: [[{ from: localDateTime(14, 0).split('T')[0], to: localDateTime(18, 0).split('T')[0], type: 'VACATION', letter: 'V' }]],
+    };
+}
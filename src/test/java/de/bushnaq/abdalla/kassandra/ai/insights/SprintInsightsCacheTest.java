@@ -0,0 +1,121 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.ai.insights;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import de.bushnaq.abdalla.kassandra.config.KassandraProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks caching and prompt compaction of {@link SprintInsightsGenerator} with a fake {@link ChatModel}.
+ */
+@Tag("UnitTest")
+@Slf4j
+public class SprintInsightsCacheTest {
+    private static final int          CHARS_PER_TOKEN = 4;
+    private final        ObjectMapper mapper          = new ObjectMapper();
+
+    @Test
+    void compactionKeepsValuesAndSavesTokens() throws Exception {
+        String json    = sprintJson(20, 0);
+        String compact = SprintDataCompactor.compact(json);
+        for (int i = 0; i < 20; i++) {
+            assertTrue(compact.contains("sprint-" + i + "|"), "every sprint has a row");
+            assertTrue(compact.contains("|" + (50 + i) + "%|"), "progress of every sprint is kept");
+        }
+        assertTrue(compact.contains("releaseDateLabel=Extrapolated Sprint Release Date"), "constant values are listed once");
+        log.info("sprint data: JSON ~{} tokens, compacted ~{} tokens", json.length() / CHARS_PER_TOKEN, compact.length() / CHARS_PER_TOKEN);
+        assertTrue(compact.length() * 3 < json.length(), "compacted data uses less than a third of the tokens");
+    }
+
+    @Test
+    void unchangedDataIsAnsweredFromCache() throws Exception {
+        FakeChatModel           chatModel = new FakeChatModel();
+        SprintInsightsGenerator generator = new SprintInsightsGenerator(chatModel, new KassandraProperties());
+        String                  data      = sprintJson(10, 0);
+
+        String first = generator.generateFocusedInsights(data, "Which sprint is late?");
+        assertEquals(first, generator.generateFocusedInsights(data, "Which sprint is late?"));
+        assertEquals(1, chatModel.prompts.size(), "second identical request is a cache hit");
+
+        generator.generateFocusedInsights(data, "Who is overloaded?");
+        assertEquals(2, chatModel.prompts.size(), "another question is not a hit");
+        assertTrue(chatModel.prompts.getLast().contains("Who is overloaded?"), "the focus question is part of the prompt");
+
+        generator.generateFocusedInsights(sprintJson(10, 1), "Which sprint is late?");
+        assertEquals(3, chatModel.prompts.size(), "changed sprint data is not a hit");
+
+        generator.generateQuickSummary(data);
+        generator.generateQuickSummary(data);
+        assertEquals(4, chatModel.prompts.size());
+        assertFalse(chatModel.prompts.getFirst().contains("\"sprintName\""), "the prompt carries the compacted data, not the JSON");
+    }
+
+    /**
+     * JSON of sprint statistics shaped like the one produced by the insights view.
+     */
+    private String sprintJson(int sprints, int shift) throws Exception {
+        ArrayNode array = mapper.createArrayNode();
+        for (int i = 0; i < sprints; i++) {
+            ObjectNode sprint = array.addObject();
+            sprint.put("currentEfficiency", (80 + i) + "% Person");
+            sprint.put("currentEffortDelay", i + "h 15m");
+            sprint.put("delayFraction", (i - shift) / 100.0);
+            sprint.put("effortEstimateDisplay", (4 + i) + "d 3h 0m");
+            sprint.put("effortRemainingDisplay", "4h 48m");
+            sprint.put("effortSpentDisplay", (3 + i) + "d 22h 12m");
+            sprint.put("extrapolatedReleaseDate", "2025.01." + (10 + i));
+            sprint.put("optimalEfficiency", (100 + i) + "% Person");
+            sprint.put("remainingWorkDays", i);
+            sprint.put("sprintEndDate", "2024-12-27T11:30:00");
+            sprint.put("sprintName", "sprint-" + i);
+            sprint.put("sprintStartDate", "2024-12-06T08:00:00");
+            sprint.put("status", i % 3 == 0 ? "WARNING" : "GOOD");
+            sprint.put("totalWorkDays", 15);
+            sprint.put("isActualReleaseDate", false);
+            sprint.put("releaseDateLabel", "Extrapolated Sprint Release Date");
+            sprint.put("actualProgressDisplay", (50 + i) + "%");
+            sprint.put("expectedProgressDisplay", (55 + i) + "%");
+        }
+        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(array);
+    }
+
+    private static class FakeChatModel implements ChatModel {
+        private final List<String> prompts = new ArrayList<>();
+
+        @Override
+        public ChatResponse call(Prompt prompt) {
+            prompts.add(prompt.getContents());
+            return new ChatResponse(List.of(new Generation(new AssistantMessage("insights " + prompts.size()))));
+        }
+    }
+}
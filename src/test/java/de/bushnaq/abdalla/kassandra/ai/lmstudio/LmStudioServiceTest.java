@@ -0,0 +1,209 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.ai.lmstudio;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import de.bushnaq.abdalla.kassandra.config.KassandraProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives the model residency of {@link LmStudioService} against a local stub of the LM Studio {@code /api/v1/models},
+ * {@code /api/v1/models/load} and {@code /api/v1/models/unload} endpoints.
+ */
+@Tag("UnitTest")
+public class LmStudioServiceTest {
+    private static final long                GB            = 1024L * 1024 * 1024;
+    private final        Map<String, Long>   catalogue     = new LinkedHashMap<>();// model key and size
+    private final        AtomicInteger       concurrent    = new AtomicInteger();
+    private final        AtomicInteger       listRequests  = new AtomicInteger();
+    private final        List<String>        loads         = new CopyOnWriteArrayList<>();
+    private final        Set<String>         loaded        = ConcurrentHashMap.newKeySet();
+    private final        ObjectMapper        mapper        = new ObjectMapper();
+    private final        AtomicInteger       maxConcurrent = new AtomicInteger();
+    private              KassandraProperties properties;
+    private              HttpServer          server;
+    private final        List<String>        unloads       = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void afterEach() {
+        server.stop(0);
+    }
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        catalogue.put("model-a", 4 * GB);
+        catalogue.put("model-b", 4 * GB);
+        catalogue.put("model-c", 4 * GB);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/api/v1/models/load", exchange -> change(exchange, "model", loads, loaded::add,
+                "{\"type\":\"llm\",\"instance_id\":\"%s\",\"load_time_seconds\":0.1,\"status\":\"loaded\"}"));
+        server.createContext("/api/v1/models/unload", exchange -> change(exchange, "instance_id", unloads, loaded::remove,
+                "{\"instance_id\":\"%s\"}"));
+        server.createContext("/api/v1/models", this::list);
+        server.start();
+        properties = new KassandraProperties();
+        properties.getLmStudio().setApiUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        properties.getLmStudio().setTimeoutSeconds(10);
+        properties.getAi().setMcpModel("model-a");
+    }
+
+    private void change(HttpExchange exchange, String field, List<String> requests, Consumer<String> change, String response) throws IOException {
+        maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+        try {
+            JsonNode request = mapper.readTree(exchange.getRequestBody());
+            String   id      = request.path(field).asText();
+            Thread.sleep(50);// a real load takes seconds, overlapping requests would be noticed
+            requests.add(id);
+            change.accept(id);
+            respond(exchange, String.format(response, id));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            concurrent.decrementAndGet();
+        }
+    }
+
+    @Test
+    void concurrentRequestsAreSerialized() throws Exception {
+        properties.getLmStudio().setMaxLoadedModels(1);
+        LmStudioService       service  = new LmStudioService(properties);
+        ExecutorService       executor = Executors.newFixedThreadPool(6);
+        List<Future<Boolean>> results  = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            String model = "model-" + (char) ('a' + i % 3);
+            results.add(executor.submit(() -> service.ensureModelLoaded(model)));
+        }
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        assertEquals(1, maxConcurrent.get(), "load and unload requests never overlap");
+        assertEquals(1, loaded.size(), "only one model fits");
+    }
+
+    @Test
+    void leastRecentlyUsedModelIsUnloaded() {
+        properties.getLmStudio().setMaxLoadedModels(2);
+        properties.getLmStudio().setVramBudgetMb(10 * 1024);
+        LmStudioService service = new LmStudioService(properties);
+        assertTrue(service.ensureModelLoaded("model-a"));
+        assertTrue(service.ensureModelLoaded("model-b"));
+        assertTrue(service.ensureModelLoaded("model-a"));
+        assertTrue(service.ensureModelLoaded("model-c"));
+        assertEquals(List.of("model-a", "model-b", "model-c"), loads);
+        assertEquals(List.of("model-b"), unloads);
+        assertEquals(Set.of("model-a", "model-c"), loaded);
+    }
+
+    private void list(HttpExchange exchange) throws IOException {
+        listRequests.incrementAndGet();
+        List<String> models = new ArrayList<>();
+        for (Map.Entry<String, Long> entry : catalogue.entrySet()) {
+            String instances = loaded.contains(entry.getKey()) ? String.format("{\"id\":\"%s\"}", entry.getKey()) : "";
+            models.add(String.format("{\"key\":\"%s\",\"type\":\"llm\",\"size_bytes\":%d,\"loaded_instances\":[%s]}", entry.getKey(), entry.getValue(), instances));
+        }
+        models.add("{\"key\":\"embedding\",\"type\":\"embedding\",\"size_bytes\":1000,\"loaded_instances\":[{\"id\":\"embedding\"}]}");
+        respond(exchange, "{\"models\":[" + String.join(",", models) + "]}");
+    }
+
+    @Test
+    void loadedModelIsConfirmedFromCache() {
+        LmStudioService service = new LmStudioService(properties);
+        assertTrue(service.ensureModelLoaded("model-a"));
+        int requests = listRequests.get();
+        for (int i = 0; i < 10; i++) {
+            assertTrue(service.ensureModelLoaded("model-a"));
+        }
+        assertTrue(service.isModelLoaded("model-a"));
+        assertEquals(requests + 1, listRequests.get(), "one listing after the load, then the cached state is used");
+        assertEquals(List.of("model-a"), loads);
+        assertTrue(unloads.isEmpty());
+    }
+
+    @Test
+    void modelListIsRequestedAgainAfterUnload() {
+        LmStudioService service = new LmStudioService(properties);
+        assertTrue(service.ensureModelLoaded("model-a"));
+        assertTrue(service.isModelLoaded("model-a"));
+        int requests = listRequests.get();
+
+        assertTrue(service.unloadModel("model-a"));
+        assertFalse(service.isModelLoaded("model-a"), "the cached list must not report the unloaded model");
+        assertEquals(requests + 1, listRequests.get());
+    }
+
+    @Test
+    void multipleModelsRequireVramBudget() {
+        properties.getLmStudio().setMaxLoadedModels(2);
+        assertThrows(IllegalStateException.class, () -> new LmStudioService(properties));
+        properties.getLmStudio().setVramBudgetMb(8 * 1024);
+        assertDoesNotThrow(() -> new LmStudioService(properties));
+    }
+
+    private static void respond(HttpExchange exchange, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Test
+    void unknownModelIsRejected() {
+        LmStudioService service = new LmStudioService(properties);
+        assertFalse(service.ensureModelLoaded("model-x"));
+        assertTrue(loads.isEmpty());
+    }
+
+    @Test
+    void vramBudgetLimitsResidentModels() {
+        properties.getLmStudio().setMaxLoadedModels(3);
+        properties.getLmStudio().setVramBudgetMb(10 * 1024);
+        loaded.add("model-c");// loaded by someone else, unloaded first
+        LmStudioService service = new LmStudioService(properties);
+        assertTrue(service.ensureModelLoaded("model-a"));
+        assertTrue(service.ensureModelLoaded("model-b"));
+        assertEquals(List.of("model-c"), unloads, "model-a and model-b fit into the budget of 10 GB, model-c does not");
+        assertEquals(Set.of("model-a", "model-b"), loaded);
+    }
+
+    @Test
+    void warmUpLoadsDefaultModel() {
+        new LmStudioService(properties).warmUp();
+        assertEquals(List.of("model-a"), loads);
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.ai.mcp;
+
+import de.bushnaq.abdalla.kassandra.ParameterOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.model.tool.ToolCallingChatOptions;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Micro-benchmark of the per-query setup cost of {@link AiAssistantService}.
+ * <p>
+ * A fake {@link ChatModel} answers immediately, so the measured time is the work done by the service around the model
+ * call: creating the tool callbacks and building the ChatClient with system prompt and tools versus reusing the cached one.
+ * The timings are only logged, the assertions check that the work is not repeated per query.
+ */
+@Tag("UnitTest")
+@SpringBootTest
+@ActiveProfiles("test")
+@Slf4j
+public class AiAssistantServiceSetupBenchmarkTest {
+    private static final int                ITERATIONS    = 200;
+    @Autowired
+    private              AiAssistantService aiAssistantService;
+    @Autowired
+    private              ChatModel          chatModel;
+    private final        FakeChatModel      fakeChatModel = new FakeChatModel();
+
+    @AfterEach
+    void afterEach() {
+        aiAssistantService.setChatModel(chatModel);
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        aiAssistantService.setChatModel(fakeChatModel);
+    }
+
+    @Test
+    void chatClientIsBuiltOnceAndReused() {
+        ChatClient first = aiAssistantService.getChatClient();
+        for (int i = 0; i < 3; i++) {
+            aiAssistantService.processQueryWithThinking("benchmark-user", "hello " + i, "benchmark-conversation");
+        }
+        assertSame(first, aiAssistantService.getChatClient(), "queries reuse the base client");
+        assertEquals(3, fakeChatModel.calls.get());
+
+        aiAssistantService.setChatModel(new FakeChatModel());
+        assertNotSame(first, aiAssistantService.getChatClient(), "a new chat model rebuilds the client");
+    }
+
+    @Test
+    void setupCost() {
+        LocalDate today = ParameterOptions.getNow().toLocalDate();
+        // warm up
+        for (int i = 0; i < ITERATIONS; i++) {
+            aiAssistantService.createToolCallbacks();
+            aiAssistantService.buildChatClient(today);
+            aiAssistantService.getChatClient();
+        }
+
+        // what every query did before, reflective creation of the tool callbacks and a new client
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertNotEquals(0, aiAssistantService.createToolCallbacks().length);
+            assertNotNull(aiAssistantService.buildChatClient(today));
+        }
+        long rebuildNanos = (System.nanoTime() - start) / ITERATIONS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertNotNull(aiAssistantService.getChatClient());
+        }
+        long cachedNanos = (System.nanoTime() - start) / ITERATIONS;
+
+        fakeChatModel.toolCallbacks.clear();
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            aiAssistantService.processQueryWithThinking("benchmark-user", "hello", "benchmark-conversation-" + i);
+        }
+        long queryNanos = (System.nanoTime() - start) / ITERATIONS;
+
+        log.info("ChatClient setup per query: rebuilt {}µs, cached {}µs, full query with fake model {}µs", rebuildNanos / 1000, cachedNanos / 1000, queryNanos / 1000);
+        assertEquals(ITERATIONS, fakeChatModel.toolCallbacks.size());
+        List<ToolCallback> first = fakeChatModel.toolCallbacks.getFirst();
+        assertFalse(first.isEmpty(), "the tools are passed to the model");
+        for (List<ToolCallback> callbacks : fakeChatModel.toolCallbacks) {
+            assertEquals(first.size(), callbacks.size());
+            for (int i = 0; i < first.size(); i++) {
+                assertSame(first.get(i), callbacks.get(i), "every query uses the tool callbacks created at startup");
+            }
+        }
+    }
+
+    /**
+     * The tool callbacks are shared by all queries, the thinking steps of a tool call go to the list of the query that
+     * made it, also if the previous request on the same thread failed or had no list.
+     */
+    @Test
+    void thinkingStepsDoNotLeakBetweenRequests() {
+        ToolCallback[] callbacks = AiAssistantService.createToolCallbacks(new EchoTools());
+        ToolCallback   echo      = find(callbacks, "echo");
+        ToolCallback   fail      = find(callbacks, "fail");
+
+        List<ThinkingStep> first = new ArrayList<>();
+        assertEquals("a", echo.call(input("a", "first"), toolContext(first)));
+        assertEquals(List.of("first"), innerThoughts(first));
+
+        List<ThinkingStep> failed = new ArrayList<>();
+        assertThrows(RuntimeException.class, () -> fail.call(input("b", "failed"), toolContext(failed)));
+        assertEquals(List.of("failed"), innerThoughts(failed));
+
+        // next request on the same thread without a list
+        echo.call(input("c", "without list"), toolContext(null));
+        ToolContextHelper.addThinkingStep(ThinkingStep.create("outside", new AgentThinking("outside", null)));
+
+        List<ThinkingStep> last = new ArrayList<>();
+        echo.call(input("d", "last"), toolContext(last));
+        assertEquals(List.of("first"), innerThoughts(first));
+        assertEquals(List.of("failed"), innerThoughts(failed));
+        assertEquals(List.of("last"), innerThoughts(last));
+    }
+
+    private static ToolCallback find(ToolCallback[] callbacks, String name) {
+        for (ToolCallback callback : callbacks) {
+            if (callback.getToolDefinition().name().equals(name)) {
+                return callback;
+            }
+        }
+        throw new AssertionError("no tool " + name);
+    }
+
+    private static List<String> innerThoughts(List<ThinkingStep> steps) {
+        return steps.stream().map(step -> step.agentThinking().innerThought()).toList();
+    }
+
+    private static String input(String text, String innerThought) {
+        return String.format("{\"text\":\"%s\",\"innerThought\":\"%s\"}", text, innerThought);
+    }
+
+    private static ToolContext toolContext(List<ThinkingStep> thinkingSteps) {
+        return new ToolContext(ToolContextHelper.buildContextMap(null, null, thinkingSteps));
+    }
+
+    /**
+     * Minimal tool bean, wired like the real tools.
+     */
+    public static class EchoTools {
+        @Tool(description = "Returns the text")
+        public String echo(@ToolParam(description = "the text") String text) {
+            return text;
+        }
+
+        @Tool(description = "Always fails")
+        public String fail(@ToolParam(description = "the text") String text) {
+            throw new IllegalStateException("failed " + text);
+        }
+    }
+
+    /**
+     * Answers every prompt immediately without tool calls.
+     */
+    private static class FakeChatModel implements ChatModel {
+        private final AtomicInteger            calls         = new AtomicInteger();
+        private final List<List<ToolCallback>> toolCallbacks = new CopyOnWriteArrayList<>();
+
+        @Override
+        public ChatResponse call(Prompt prompt) {
+            calls.incrementAndGet();
+            if (prompt.getOptions() instanceof ToolCallingChatOptions options) {
+                toolCallbacks.add(List.copyOf(options.getToolCallbacks()));
+            }
+            return new ChatResponse(List.of(new Generation(new AssistantMessage("ok"))));
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.ai.mcp;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.bushnaq.abdalla.kassandra.ai.mcp.api.sprint.SprintDto;
+import de.bushnaq.abdalla.kassandra.config.KassandraProperties;
+import de.bushnaq.abdalla.kassandra.dto.Sprint;
+import de.bushnaq.abdalla.kassandra.ui.util.AbstractUiTestUtil;
+import de.bushnaq.abdalla.kassandra.util.PersistingEntityGenerator;
+import de.bushnaq.abdalla.kassandra.util.RandomCase;
+import de.bushnaq.abdalla.kassandra.util.TestInfoUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.ToolResponseMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.model.tool.ToolCallingManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.resttestclient.autoconfigure.AutoConfigureTestRestTemplate;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the size of list tool results handed to the LLM for a large generated dataset.
+ * <p>
+ * A fake {@link ChatModel} answers every prompt with one tool call and executes it with the same
+ * {@link ToolCallingManager} a real model uses, so the tool result is the exact text the LLM would see.
+ */
+@Tag("UnitTest")
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureTestRestTemplate
+@AutoConfigureMockMvc
+@Slf4j
+public class ToolResultPagerTest extends AbstractUiTestUtil {
+    private static final String              CONVERSATION_ID = "tool-result-pager-test";
+    @Autowired
+    private              AiAssistantService  aiAssistantService;
+    @Autowired
+    private              ChatModel           chatModel;
+    private final        ToolCallingModel    fakeChatModel   = new ToolCallingModel();
+    @Autowired
+    private              KassandraProperties kassandraProperties;
+    private final        ObjectMapper        mapper          = new ObjectMapper();
+
+    @AfterEach
+    void afterEach() {
+        aiAssistantService.setChatModel(chatModel);
+        aiAssistantService.clearConversation(CONVERSATION_ID);
+    }
+
+    private ToolResultPage callTool(String toolName, String arguments) throws Exception {
+        fakeChatModel.toolName  = toolName;
+        fakeChatModel.arguments = arguments;
+        fakeChatModel.toolResults.clear();
+        aiAssistantService.processQueryWithThinking("admin-user", "list " + toolName, CONVERSATION_ID);
+        assertEquals(1, fakeChatModel.toolResults.size(), "one tool result");
+        String json   = fakeChatModel.toolResults.getFirst();
+        int    budget = kassandraProperties.getAi().getToolResultTokenBudget();
+        assertTrue(ToolResultPager.estimateTokens(json) <= budget, "result of ~" + ToolResultPager.estimateTokens(json) + " tokens exceeds budget of " + budget);
+        return mapper.readValue(json, ToolResultPage.class);
+    }
+
+    private void init(RandomCase randomCase, TestInfo testInfo) throws Exception {
+        PersistingEntityGenerator.setUser("admin-user", "ROLE_ADMIN");
+        TestInfoUtil.setTestMethod(testInfo, testInfo.getTestMethod().get().getName() + "-" + randomCase.getTestCaseIndex());
+        TestInfoUtil.setTestCaseIndex(testInfo, randomCase.getTestCaseIndex());
+        setTestCaseName(this.getClass().getName(), testInfo.getTestMethod().get().getName() + "-" + randomCase.getTestCaseIndex());
+        generateProductsIfNeeded(testInfo, randomCase);
+        aiAssistantService.setChatModel(fakeChatModel);
+    }
+
+    private static List<RandomCase> listRandomCases() {
+        RandomCase[] randomCases = new RandomCase[]{//
+                new RandomCase(1, OffsetDateTime.parse("2025-08-11T08:00:00+01:00"), LocalDate.parse("2025-08-04"), Duration.ofDays(10), 6, 6, 2, 2, 3, 3, 4, 4, 5, 1, 8, 1, 7)//
+        };
+        return Arrays.stream(randomCases).toList();
+    }
+
+    @ParameterizedTest
+    @MethodSource("listRandomCases")
+    @WithMockUser(username = "admin-user", roles = "ADMIN")
+    public void pagesStayWithinBudget(RandomCase randomCase, TestInfo testInfo) throws Exception {
+        init(randomCase, testInfo);
+        List<Sprint> sprints  = peg.sprintApi.getAll();
+        String       fullList = KassandraToolCallResultConverter.getMapper().writeValueAsString(sprints.stream().map(SprintDto::from).toList());
+
+        Set<Object> seen   = new HashSet<>();
+        String      cursor = null;
+        int         pages  = 0;
+        do {
+            ToolResultPage page = callTool("getAllSprints", cursor == null ? "{}" : "{\"cursor\":\"" + cursor + "\"}");
+            assertEquals(sprints.size(), page.getTotal());
+            assertEquals(page.getItems().size(), page.getReturned());
+            page.getItems().forEach(item -> assertTrue(seen.add(item.get("sprintId")), "no sprint is returned twice"));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+        assertEquals(sprints.size(), seen.size(), "all sprints reachable through the cursor");
+        log.info("{} sprints: unpaged result ~{} tokens, {} pages within a budget of {} tokens", sprints.size(), ToolResultPager.estimateTokens(fullList), pages,
+                kassandraProperties.getAi().getToolResultTokenBudget());
+        assertTrue(pages > 1, "the dataset is large enough to need more than one page");
+    }
+
+    @ParameterizedTest
+    @MethodSource("listRandomCases")
+    @WithMockUser(username = "admin-user", roles = "ADMIN")
+    public void projectionAndFilterShrinkResult(RandomCase randomCase, TestInfo testInfo) throws Exception {
+        init(randomCase, testInfo);
+        List<Sprint> sprints = peg.sprintApi.getAll();
+
+        ToolResultPage full      = callTool("getAllSprints", "{\"limit\":500}");
+        ToolResultPage projected = callTool("getAllSprints", "{\"fields\":\"name\",\"limit\":500}");
+        assertTrue(projected.getReturned() > full.getReturned(), "projected items are smaller, more of them fit into the budget");
+        for (Map<String, Object> item : projected.getItems()) {
+            assertEquals(Set.of("sprintId", "name"), item.keySet());
+        }
+
+        Sprint         sprint   = sprints.getFirst();
+        ToolResultPage filtered = callTool("getAllSprintsByFeatureId", "{\"featureId\":\"" + sprint.getFeatureId() + "\",\"nameContains\":\"" + sprint.getName() + "\"}");
+        assertTrue(filtered.getTotal() >= 1);
+        assertTrue(filtered.getItems().stream().allMatch(item -> item.get("name").toString().contains(sprint.getName())));
+    }
+
+    /**
+     * Answers every prompt with one call of {@link #toolName} and collects the tool results.
+     */
+    private static class ToolCallingModel implements ChatModel {
+        private final ToolCallingManager toolCallingManager = ToolCallingManager.builder().build();
+        private final List<String>       toolResults        = new ArrayList<>();
+        private       String             arguments;
+        private       String             toolName;
+
+        @Override
+        public ChatResponse call(Prompt prompt) {
+            AssistantMessage toolCall = AssistantMessage.builder()
+                    .content("")
+                    .toolCalls(List.of(new AssistantMessage.ToolCall("call-1", "function", toolName, arguments)))
+                    .build();
+            List<Message> history = toolCallingManager.executeToolCalls(prompt, new ChatResponse(List.of(new Generation(toolCall)))).conversationHistory();
+            ((ToolResponseMessage) history.getLast()).getResponses().forEach(response -> toolResults.add(response.responseData()));
+            return new ChatResponse(List.of(new Generation(new AssistantMessage("done"))));
+        }
+    }
+}
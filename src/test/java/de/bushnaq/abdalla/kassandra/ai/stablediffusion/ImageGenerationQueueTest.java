@@ -0,0 +1,248 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.ai.stablediffusion;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import de.bushnaq.abdalla.kassandra.dao.ImageGenerationJobDAO;
+import de.bushnaq.abdalla.kassandra.repository.ImageGenerationJobRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives the {@link ImageGenerationQueue} against a local stub server that imitates the txt2img, progress, options and ping
+ * endpoints of the Stable Diffusion WebUI API.
+ * <p>
+ * Only requests with a prompt starting with {@link #PROMPT} are counted, other services of the application context may also
+ * talk to the stub.
+ */
+@Tag("UnitTest")
+@SpringBootTest
+@ActiveProfiles("test")
+public class ImageGenerationQueueTest {
+    private static final    String                       MODEL         = "stub-model.safetensors";
+    private static final    String                       PROMPT        = "queue test ";
+    private static final    List<Integer>                batchSizes    = new CopyOnWriteArrayList<>();
+    private static final    AtomicInteger                concurrent    = new AtomicInteger();
+    private static volatile CountDownLatch               entered       = new CountDownLatch(0);
+    private static volatile CountDownLatch               gate          = new CountDownLatch(0);
+    private static final    ObjectMapper                 mapper        = new ObjectMapper();
+    private static final    AtomicInteger                maxConcurrent = new AtomicInteger();
+    @Autowired
+    private                 ImageGenerationQueue         queue;
+    @Autowired
+    private                 ImageGenerationJobRepository repository;
+    private static final    HttpServer                   server        = startServer();
+
+    @AfterAll
+    static void afterAll() {
+        server.stop(0);
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        StableDiffusionService.setEnabled(true);
+        batchSizes.clear();
+        gate    = new CountDownLatch(0);
+        entered = new CountDownLatch(0);
+    }
+
+    @Test
+    void consecutiveSeedsAreBatched() throws Exception {
+        gate    = new CountDownLatch(1);
+        entered = new CountDownLatch(1);
+        ImageGenerationJob blocker = queue.submit(PROMPT + "blocker", null, 1, 64, 7.0);
+        assertTrue(entered.await(10, TimeUnit.SECONDS), "blocker reached the stub");
+
+        // queued while the worker is busy
+        List<ImageGenerationJob> jobs = new ArrayList<>();
+        for (long seed = 100; seed < 103; seed++) {
+            jobs.add(queue.submit(PROMPT + "batch", null, seed, 64, 7.0));
+        }
+        ImageGenerationJob other = queue.submit(PROMPT + "other", null, 101, 64, 7.0);
+        gate.countDown();
+
+        blocker.await();
+        for (int i = 0; i < jobs.size(); i++) {
+            assertEquals(100 + i, jobs.get(i).await().getSeed());
+            assertNotNull(jobs.get(i).await().getResizedImage());
+        }
+        other.await();
+        assertEquals(List.of(1, 3, 1), batchSizes, "three compatible jobs share one request, a different prompt does not");
+        assertEquals(1, maxConcurrent.get(), "only one request at a time");
+    }
+
+    @Test
+    void fixedSeedResultIsReusedFromDatabase() throws Exception {
+        GeneratedImageResult first = queue.submit(PROMPT + "persisted", null, 42, 64, 7.0).await();
+        assertEquals(1, batchSizes.size());
+
+        ImageGenerationJob again = queue.submit(PROMPT + "persisted", null, 42, 64, 7.0);
+        assertTrue(again.getFuture().isDone(), "answered from the database");
+        assertArrayEquals(first.getOriginalImage(), again.await().getOriginalImage());
+        assertEquals(1, batchSizes.size(), "no second request");
+    }
+
+    @Test
+    void finishedJobsArePurged() throws Exception {
+        ImageGenerationJob job = queue.submit(PROMPT + "purged", null, 7, 64, 7.0);
+        job.await();
+        assertTrue(repository.findById(job.getId()).isPresent());
+
+        assertEquals(0, queue.purgeJobsUpdatedBefore(OffsetDateTime.now().minusDays(1)), "recent jobs are kept");
+        assertTrue(queue.purgeJobsUpdatedBefore(OffsetDateTime.now().plusMinutes(1)) > 0);
+        assertTrue(repository.findById(job.getId()).isEmpty(), "finished job was deleted");
+    }
+
+    @Test
+    void identicalJobsAreDeduplicated() throws Exception {
+        gate = new CountDownLatch(1);
+        ImageGenerationJob a = queue.submit(PROMPT + "same", null, -1, 64, 7.0);
+        ImageGenerationJob b = queue.submit(PROMPT + "same", "", -1, 64, 7.0);
+        assertSame(a, b);
+        gate.countDown();
+        assertSame(a.await(), b.await());
+        assertEquals(1, batchSizes.size());
+    }
+
+    @Test
+    void progressIsDeliveredToSubscribers() throws Exception {
+        gate = new CountDownLatch(1);
+        AtomicInteger      updates = new AtomicInteger();
+        ImageGenerationJob job     = queue.submit(PROMPT + "progress", null, -1, 64, 7.0).subscribe((progress, step, totalSteps) -> updates.incrementAndGet());
+        Thread.sleep(1500);
+        gate.countDown();
+        job.await();
+        assertTrue(updates.get() > 0, "progress updates received");
+    }
+
+    @Test
+    void randomSeedResultIsNotPersisted() throws Exception {
+        ImageGenerationJob job = queue.submit(PROMPT + "random", null, -1, 64, 7.0);
+        assertNotNull(job.await().getOriginalImage());
+
+        ImageGenerationJobDAO dao = repository.findById(job.getId()).orElseThrow();
+        assertEquals(ImageGenerationJobStatus.DONE, dao.getStatus());
+        assertNull(dao.getOriginalImage(), "a random seed image can never be requested again");
+    }
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("stable-diffusion.api-url", () -> "http://127.0.0.1:" + server.getAddress().getPort());
+        registry.add("stable-diffusion.model-name", () -> MODEL);
+    }
+
+    private static void respond(HttpExchange exchange, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static HttpServer startServer() {
+        try {
+            HttpServer httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            httpServer.setExecutor(Executors.newCachedThreadPool());
+            httpServer.createContext("/internal/ping", exchange -> respond(exchange, "{}"));
+            httpServer.createContext("/sdapi/v1/options", exchange -> {
+                exchange.getRequestBody().readAllBytes();
+                respond(exchange, "{\"sd_model_checkpoint\":\"" + MODEL + "\"}");
+            });
+            httpServer.createContext("/sdapi/v1/progress", exchange -> respond(exchange,
+                    "{\"progress\":0.5,\"eta_relative\":1.0,\"state\":{\"sampling_step\":10,\"sampling_steps\":20}}"));
+            httpServer.createContext("/sdapi/v1/txt2img", ImageGenerationQueueTest::txt2img);
+            httpServer.start();
+            return httpServer;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void txt2img(HttpExchange exchange) throws IOException {
+        JsonNode request   = mapper.readTree(exchange.getRequestBody());
+        boolean  counted   = request.path("prompt").asText().startsWith(PROMPT);
+        int      batchSize = request.path("batch_size").asInt(1);
+        long     seed      = request.path("seed").asLong(-1);
+        if (seed < 0) {
+            seed = 1000;
+        }
+        if (counted) {
+            batchSizes.add(batchSize);
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            entered.countDown();
+        }
+        try {
+            gate.await(30, TimeUnit.SECONDS);
+            List<String> images = new ArrayList<>();
+            List<String> seeds  = new ArrayList<>();
+            if (batchSize > 1) {
+                images.add(png(0));// grid
+            }
+            for (int i = 0; i < batchSize; i++) {
+                images.add(png(i + 1));
+                seeds.add(Long.toString(seed + i));
+            }
+            String info = String.format("{\\\"seed\\\": %d, \\\"all_seeds\\\": [%s]}", seed, String.join(", ", seeds));
+            respond(exchange, "{\"images\":[\"" + String.join("\",\"", images) + "\"],\"info\":\"" + info + "\"}");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (counted) {
+                concurrent.decrementAndGet();
+            }
+        }
+    }
+
+    private static String png(int color) throws IOException {
+        BufferedImage image = new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(0, 0, color * 0x202020);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return Base64.getEncoder().encodeToString(out.toByteArray());
+    }
+}
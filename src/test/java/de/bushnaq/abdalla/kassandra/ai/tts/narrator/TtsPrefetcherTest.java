@@ -0,0 +1,202 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.ai.tts.narrator;
+
+import de.bushnaq.abdalla.kassandra.ai.tts.SyncResult;
+import de.bushnaq.abdalla.kassandra.ai.tts.TtsEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the real {@link Narrator} with a fake TTS engine and an audio player that does not need a sound device.
+ * Overlap of synthesis and playback is checked with latches, not with the wall clock.
+ */
+@Tag("AiUnitTest")
+class TtsPrefetcherTest {
+    private static final NarratorAttribute ATTRIBUTES      = new NarratorAttribute().withExaggeration(0.5f).withCfgWeight(1.0f).withTemperature(0.5f);
+    private static final List<String>      SENTENCES       = List.of("One.", "Two.", "Three.", "Four.", "Five.", "Six.");
+    private static final long              TIMEOUT_SECONDS = 10;
+
+    @AfterEach
+    void afterEach() {
+        // do not leave the temporary cache manager to narrators of other tests
+        Narrator.resetCache();
+    }
+
+    private static Narrator createNarrator(Path audioDir, TtsEngine engine, AudioPlayer audioPlayer) {
+        return new Narrator(new TtsCacheManager(audioDir), engine, null, audioPlayer);
+    }
+
+    @Test
+    void insertedSentenceOnlySynthesizesTheNewSentence(@TempDir Path tmp) throws Exception {
+        FakeTtsEngine   engine      = new FakeTtsEngine();
+        FakeAudioPlayer audioPlayer = new FakeAudioPlayer();
+        createNarrator(tmp, engine, audioPlayer).narrateAll(ATTRIBUTES, List.of("One.", "Two.", "Three."));
+        assertEquals(3, engine.calls.get());
+
+        // a new run with a sentence inserted at the beginning shifts all chronological ids
+        engine.calls.set(0);
+        createNarrator(tmp, engine, audioPlayer).narrateAll(ATTRIBUTES, List.of("Zero.", "One.", "Two.", "Three."));
+        assertEquals(1, engine.calls.get(), "only the inserted sentence must be synthesized");
+        assertEquals(List.of("One.", "Two.", "Three.", "Zero.", "One.", "Two.", "Three."), audioPlayer.played);
+
+        Path third;
+        try (var s = Files.newDirectoryStream(tmp, "003-*.wav")) {
+            third = s.iterator().next();
+        }
+        assertEquals("Two.", Files.readString(third), "chronological file must point to the audio of its text");
+    }
+
+    @Test
+    void lookAheadOverlapsSynthesisWithPlayback(@TempDir Path tmp) throws Exception {
+        FakeTtsEngine   engine      = new FakeTtsEngine();
+        List<String>    overlapping = Collections.synchronizedList(new ArrayList<>());
+        FakeAudioPlayer audioPlayer = new FakeAudioPlayer() {
+            @Override
+            void playing(String text) {
+                // the next sentence must be synthesized while this one is still playing
+                int next = SENTENCES.indexOf(text) + 1;
+                if (next < SENTENCES.size() && engine.awaitStarted(SENTENCES.get(next))) {
+                    overlapping.add(text);
+                }
+            }
+        };
+        createNarrator(tmp, engine, audioPlayer).narrateAll(ATTRIBUTES, SENTENCES);
+
+        assertEquals(SENTENCES, audioPlayer.played);
+        assertEquals(SENTENCES.subList(0, SENTENCES.size() - 1), overlapping);
+        assertEquals(SENTENCES.size(), engine.calls.get(), "every sentence is synthesized exactly once");
+    }
+
+    @Test
+    void prefetchIsBoundedByLookAhead(@TempDir Path tmp) throws Exception {
+        TtsCacheManager mgr        = new TtsCacheManager(tmp);
+        FakeTtsEngine   engine     = new FakeTtsEngine();
+        TtsPrefetcher   prefetcher = new TtsPrefetcher(mgr, engine, 2);
+        engine.gate = new CountDownLatch(1);// keep the prefetched sentences in flight
+        int accepted = 0;
+        for (String text : SENTENCES) {
+            if (prefetcher.prefetch(mgr.buildFileName(text, ATTRIBUTES), text, ATTRIBUTES)) {
+                accepted++;
+            }
+        }
+        assertEquals(2, accepted);
+        engine.gate.countDown();
+        // the first sentence is awaited, not synthesized a second time
+        prefetcher.await(mgr.buildFileName("One.", ATTRIBUTES), "One.", ATTRIBUTES);
+        assertTrue(mgr.isStored(mgr.buildFileName("One.", ATTRIBUTES)));
+        assertEquals(1, engine.calls.get());
+    }
+
+    @Test
+    void removedSentenceIsPrunedFromStore(@TempDir Path tmp) throws Exception {
+        FakeTtsEngine engine = new FakeTtsEngine();
+        createNarrator(tmp, engine, new FakeAudioPlayer()).narrateAll(ATTRIBUTES, List.of("One.", "Two.", "Three."));
+        createNarrator(tmp, engine, new FakeAudioPlayer()).narrateAll(ATTRIBUTES, List.of("One.", "Three."));
+
+        TtsCacheManager mgr = new TtsCacheManager(tmp);
+        assertTrue(mgr.isStored(mgr.buildFileName("One.", ATTRIBUTES)));
+        assertFalse(mgr.isStored(mgr.buildFileName("Two.", ATTRIBUTES)), "no chronological file refers to the removed sentence");
+        assertTrue(mgr.isStored(mgr.buildFileName("Three.", ATTRIBUTES)));
+    }
+
+    /**
+     * Records what is played instead of opening a sound device, the playback is finished when {@link #play(File)} returns.
+     */
+    private static class FakeAudioPlayer extends AudioPlayer {
+        final List<String> played = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public Playback play(File file) {
+            String text;
+            try {
+                text = Files.readString(file.toPath());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            played.add(text);
+            playing(text);
+            Playback playback = new Playback();
+            playback.countDown();
+            return playback;
+        }
+
+        void playing(String text) {
+        }
+    }
+
+    private static class FakeTtsEngine implements TtsEngine {
+        final    AtomicInteger               calls   = new AtomicInteger();
+        volatile CountDownLatch              gate    = new CountDownLatch(0);
+        final    Map<String, CountDownLatch> started = new ConcurrentHashMap<>();
+
+        boolean awaitStarted(String text) {
+            try {
+                return started(text).await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        @Override
+        public void logSyncResult(String audioDirectory, SyncResult result) {
+        }
+
+        private CountDownLatch started(String text) {
+            return started.computeIfAbsent(text, t -> new CountDownLatch(1));
+        }
+
+        @Override
+        public byte[] synthesize(String text, NarratorAttribute attributes) throws Exception {
+            calls.incrementAndGet();
+            started(text).countDown();
+            assertTrue(gate.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            return text.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public SyncResult syncVoiceReferences(String localVoicesDir) {
+            return null;
+        }
+
+        @Override
+        public String voiceToPath(String voice) {
+            return voice;
+        }
+    }
+}
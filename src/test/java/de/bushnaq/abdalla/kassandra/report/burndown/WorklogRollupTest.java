@@ -0,0 +1,160 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.report.burndown;
+
+import de.bushnaq.abdalla.kassandra.ParameterOptions;
+import de.bushnaq.abdalla.kassandra.dto.Sprint;
+import de.bushnaq.abdalla.kassandra.dto.Task;
+import de.bushnaq.abdalla.kassandra.dto.Worklog;
+import de.bushnaq.abdalla.kassandra.dto.WorklogDay;
+import de.bushnaq.abdalla.kassandra.service.WorklogRollupService;
+import de.bushnaq.abdalla.kassandra.util.AbstractGanttTestUtil;
+import de.bushnaq.abdalla.kassandra.util.RandomCase;
+import de.bushnaq.abdalla.kassandra.util.TestInfoUtil;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.boot.resttestclient.autoconfigure.AutoConfigureTestRestTemplate;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Duration;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the daily worklog rollup always matches the calculation from the raw worklogs,
+ * after a snapshot import, after a rebuild, after worklogs have been updated, deleted and created and after a task was deleted.
+ */
+@Tag("UnitTest")
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureTestRestTemplate
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class WorklogRollupTest extends AbstractGanttTestUtil {
+
+    private void assertRollup(UUID sprintId) {
+        List<Worklog>    worklogs    = peg.worklogApi.getAll(sprintId);
+        List<WorklogDay> worklogDays = peg.worklogApi.getRollup(sprintId);
+
+        //one row per task and day with the summed time spent
+        Map<String, Duration> expectedTimeSpent = new HashMap<>();
+        Map<String, Integer>  expectedCount     = new HashMap<>();
+        for (Worklog worklog : worklogs) {
+            String key = worklog.getTaskId() + "/" + WorklogRollupService.dayOf(worklog.getStart());
+            expectedTimeSpent.merge(key, worklog.getTimeSpent(), Duration::plus);
+            expectedCount.merge(key, 1, Integer::sum);
+        }
+        assertEquals(expectedTimeSpent.size(), worklogDays.size(), "number of rollup rows");
+        for (WorklogDay worklogDay : worklogDays) {
+            String key = worklogDay.getTaskId() + "/" + worklogDay.getDay();
+            assertEquals(expectedTimeSpent.get(key), worklogDay.getTimeSpent(), key);
+            assertEquals(expectedCount.get(key), worklogDay.getWorklogCount(), key);
+        }
+
+        //task and sprint time tracking must not depend on the source
+        Sprint raw = loadSprint(sprintId);
+        raw.initTaskMap(peg.taskApi.getAll(sprintId), worklogs);
+        raw.recalculate(ParameterOptions.getLocalNow());
+        Sprint rollup = loadSprint(sprintId);
+        rollup.initTaskMapFromWorklogDays(peg.taskApi.getAll(sprintId), worklogDays);
+        rollup.recalculate(ParameterOptions.getLocalNow());
+        for (Task task : raw.getTasks()) {
+            Task other = rollup.getTaskById(task.getId());
+            assertEquals(task.getTimeSpent(), other.getTimeSpent(), task.getKey());
+            assertEquals(task.getRemainingEstimate(), other.getRemainingEstimate(), task.getKey());
+            assertFalse(other.isWorklogsLoaded());
+        }
+        assertEquals(raw.getWorked(), rollup.getWorked());
+        assertEquals(raw.getRemaining(), rollup.getRemaining());
+    }
+
+    private static List<RandomCase> listRandomCases() {
+        RandomCase[] randomCases = new RandomCase[]{//
+                new RandomCase(1, 10, 2, 1, 2, 1),//
+                new RandomCase(2, 10, 3, 2, 3, 1)//
+        };
+        return Arrays.stream(randomCases).toList();
+    }
+
+    private Sprint loadSprint(UUID sprintId) {
+        Sprint sprint = peg.sprintApi.getById(sprintId);
+        sprint.initialize();
+        sprint.initUserMap(peg.userApi.getAll(sprintId));
+        return sprint;
+    }
+
+    @ParameterizedTest
+    @MethodSource("listRandomCases")
+    @WithMockUser(username = "admin-user", roles = "ADMIN")
+    public void rollupMatchesWorklogs(RandomCase randomCase, TestInfo testInfo) throws Exception {
+        TestInfoUtil.setTestMethod(testInfo, testInfo.getTestMethod().get().getName() + "-" + randomCase.getTestCaseIndex());
+        TestInfoUtil.setTestCaseIndex(testInfo, randomCase.getTestCaseIndex());
+        setTestCaseName(this.getClass().getName(), testInfo.getTestMethod().get().getName() + "-" + randomCase.getTestCaseIndex());
+        generateProductsIfNeeded(testInfo, randomCase);
+        //no explicit rebuild, importing a snapshot rebuilds the rollup and generating the data maintains it
+        List<Sprint> sprints = peg.sprintApi.getAll();
+        for (Sprint sprint : sprints) {
+            assertRollup(sprint.getId());
+        }
+
+        UUID          sprintId = sprints.stream().filter(s -> peg.worklogApi.getAll(s.getId()).size() >= 3).findFirst().orElseThrow().getId();
+        List<Worklog> worklogs = peg.worklogApi.getAll(sprintId);
+        {
+            //move a worklog to the next day and change its time spent
+            Worklog worklog = worklogs.get(0);
+            worklog.setStart(worklog.getStart().plusDays(1));
+            worklog.setTimeSpent(worklog.getTimeSpent().plusHours(1));
+            peg.worklogApi.update(worklog);
+        }
+        {
+            peg.worklogApi.deleteById(worklogs.get(1).getId());
+        }
+        {
+            Worklog template = worklogs.get(2);
+            Worklog worklog  = new Worklog();
+            worklog.setAuthorId(template.getAuthorId());
+            worklog.setComment("rollup test");
+            worklog.setSprintId(template.getSprintId());
+            worklog.setStart(template.getStart().plusHours(1));
+            worklog.setTaskId(template.getTaskId());
+            worklog.setTimeRemainingEstimate(template.getTimeRemainingEstimate());
+            worklog.setTimeSpent(Duration.ofMinutes(30));
+            peg.worklogApi.persist(worklog);
+        }
+        assertRollup(sprintId);
+
+        //rebuilding must not change anything
+        peg.worklogApi.rebuildRollup(sprintId);
+        assertRollup(sprintId);
+
+        //deleting a task removes its rollup rows
+        UUID taskId = worklogs.get(2).getTaskId();
+        peg.taskApi.deleteById(taskId);
+        assertTrue(peg.worklogApi.getRollup(sprintId).stream().noneMatch(worklogDay -> worklogDay.getTaskId().equals(taskId)));
+    }
+}
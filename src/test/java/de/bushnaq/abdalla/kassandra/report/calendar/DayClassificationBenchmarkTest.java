@@ -0,0 +1,190 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.report.calendar;
+
+import de.bushnaq.abdalla.kassandra.ParameterOptions;
+import de.bushnaq.abdalla.kassandra.ai.stablediffusion.StableDiffusionConfig;
+import de.bushnaq.abdalla.kassandra.dto.*;
+import de.bushnaq.abdalla.kassandra.report.dao.theme.LightTheme;
+import lombok.extern.slf4j.Slf4j;
+import net.sf.mpxj.ProjectCalendar;
+import net.sf.mpxj.ProjectCalendarException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Micro-benchmark of classifying the days of a year calendar for 100 users.
+ * <p>
+ * Before: every day is looked up in the MPXJ calendar and the exception name is compared, as the renderers did.
+ * After: the {@link DayClassification} of each user is built once and then served from the cache of the user.
+ * The timings are only logged, the assertions count the calendar lookups.
+ */
+@Tag("UnitTest")
+@Slf4j
+public class DayClassificationBenchmarkTest {
+    private static final int        USERS = 100;
+    private static final int        YEAR  = 2025;
+    private              List<User> users;
+
+    @BeforeEach
+    void beforeEach() {
+        ParameterOptions.setNow(OffsetDateTime.parse("2025-05-05T08:00:00+01:00"));
+        WorkDaySchedule day      = new WorkDaySchedule(LocalTime.of(8, 0), LocalTime.of(17, 0), LocalTime.of(12, 0), LocalTime.of(13, 0));
+        WorkWeek        workWeek = new WorkWeek();// Friday to Sunday are non-working
+        workWeek.setMonday(day);
+        workWeek.setTuesday(day);
+        workWeek.setWednesday(day);
+        workWeek.setThursday(day);
+        users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            User user = new User();
+            user.setName("user-" + i);
+            user.addLocation(new Location("de", "nw", LocalDate.of(2024, 1, 1)));
+            user.addUserWorkWeek(new UserWorkWeek(workWeek, LocalDate.of(2024, 1, 1)));
+            user.addOffday(new OffDay(LocalDate.of(YEAR, 1, 1).plusDays(i), LocalDate.of(YEAR, 1, 10).plusDays(i), OffDayType.VACATION));
+            user.addOffday(new OffDay(LocalDate.of(YEAR, 6, 2), LocalDate.of(YEAR, 6, 3), OffDayType.SICK));
+            user.addOffday(new OffDay(LocalDate.of(YEAR, 9, 8), LocalDate.of(YEAR, 9, 9), OffDayType.TRIP));
+            user.initialize();
+            users.add(user);
+        }
+    }
+
+    @Test
+    void classificationMatchesCalendar() {
+        for (User user : users) {
+            DayClassification days = user.getDayClassification(YEAR);
+            assertSame(days, user.getDayClassification(YEAR), "cached");
+            for (LocalDate date = LocalDate.of(YEAR, 1, 1); date.getYear() == YEAR; date = date.plusDays(1)) {
+                assertEquals(legacyType(user, date), days.getType(date), date.toString());
+                assertEquals(!user.isWorkingDay(date), days.isWeekend(date), date.toString());
+            }
+        }
+        User      user = users.getFirst();
+        LocalDate sick = LocalDate.of(YEAR, 12, 1);
+        user.getDayClassification(YEAR);
+        user.getCalendar().addCalendarException(sick).setName(OffDayType.SICK.name());// what initialize adds for the off day
+        user.addOffday(new OffDay(sick, sick, OffDayType.SICK));
+        assertEquals(CalendarDayType.SICK, user.getDayClassification(YEAR).getType(sick), "cache is dropped when off days change");
+
+        DayClassification cached = user.getDayClassification(YEAR);
+        user.setOffDays(new ArrayList<>(user.getOffDays()));
+        assertNotSame(cached, user.getDayClassification(YEAR), "cache is dropped when the off days are replaced");
+        cached = user.getDayClassification(YEAR);
+        user.setLocations(new ArrayList<>(user.getLocations()));
+        assertNotSame(cached, user.getDayClassification(YEAR), "cache is dropped when the locations are replaced");
+        cached = user.getDayClassification(YEAR);
+        user.setUserWorkWeeks(new ArrayList<>(user.getUserWorkWeeks()));
+        assertNotSame(cached, user.getDayClassification(YEAR), "cache is dropped when the work weeks are replaced");
+    }
+
+    /**
+     * @return number of exception lookups on the spied calendar of the user
+     */
+    private static long calendarLookups(User user) {
+        return Mockito.mockingDetails(user.getCalendar()).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("getException"))
+                .count();
+    }
+
+    /**
+     * The classification as the renderers computed it for every single day.
+     */
+    private static CalendarDayType legacyType(User user, LocalDate date) {
+        ProjectCalendar          pc        = user.getCalendar();
+        ProjectCalendarException exception = pc.getException(date);
+        if (exception != null) {
+            String name = exception.getName();
+            if (name.equals(OffDayType.VACATION.name())) {
+                return CalendarDayType.VACATION;
+            } else if (name.equals(OffDayType.SICK.name())) {
+                return CalendarDayType.SICK;
+            } else if (name.equals(OffDayType.TRIP.name())) {
+                return CalendarDayType.TRIP;
+            }
+            return CalendarDayType.HOLIDAY;
+        }
+        return user.isWorkingDay(date) ? CalendarDayType.WORKING : CalendarDayType.WEEKEND;
+    }
+
+    @Test
+    void renderYearCalendars() throws Exception {
+        BufferedImage image      = new BufferedImage(900, 800, BufferedImage.TYPE_INT_RGB);
+        Graphics2D    graphics2D = image.createGraphics();
+        LightTheme    theme      = new LightTheme(new StableDiffusionConfig());
+        LocalDate     today      = ParameterOptions.getLocalNow().toLocalDate();
+
+        // before: one calendar lookup and name comparison per user and day
+        long start = System.nanoTime();
+        int  count = 0;
+        for (User user : users) {
+            for (LocalDate date = LocalDate.of(YEAR, 1, 1); date.getYear() == YEAR; date = date.plusDays(1)) {
+                count += legacyType(user, date).isException() ? 1 : 0;
+            }
+        }
+        long legacyNanos = System.nanoTime() - start;
+
+        for (User user : users) {
+            user.setCalendar(Mockito.spy(user.getCalendar()));
+        }
+
+        // after: the first render builds the classification, later renders use the cache
+        start = System.nanoTime();
+        for (User user : users) {
+            new CalendarRenderer(null, user, ParameterOptions.getLocalNow(), "", theme).drawCalendar(graphics2D, YEAR, today, 0, 0);
+        }
+        long firstRenderNanos = System.nanoTime() - start;
+        long firstRenderLookups = users.stream().mapToLong(DayClassificationBenchmarkTest::calendarLookups).sum();
+
+        start = System.nanoTime();
+        for (User user : users) {
+            new CalendarRenderer(null, user, ParameterOptions.getLocalNow(), "", theme).drawCalendar(graphics2D, YEAR, today, 0, 0);
+        }
+        long cachedRenderNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        int cachedCount = 0;
+        for (User user : users) {
+            DayClassification days = user.getDayClassification(YEAR);
+            for (LocalDate date = LocalDate.of(YEAR, 1, 1); date.getYear() == YEAR; date = date.plusDays(1)) {
+                cachedCount += days.getType(date).isException() ? 1 : 0;
+            }
+        }
+        long cachedNanos = System.nanoTime() - start;
+        graphics2D.dispose();
+
+        log.info("Year calendar for {} users: legacy classification {}ms, cached classification {}ms, first render {}ms, cached render {}ms",
+                USERS, legacyNanos / 1000000, cachedNanos / 1000000, firstRenderNanos / 1000000, cachedRenderNanos / 1000000);
+        assertEquals(count, cachedCount);
+        assertTrue(firstRenderLookups > 0, "the first render builds the classification from the calendar");
+        assertTrue(firstRenderLookups <= (long) USERS * LocalDate.of(YEAR, 1, 1).lengthOfYear(), "at most one lookup per user and day");
+        assertEquals(firstRenderLookups, users.stream().mapToLong(DayClassificationBenchmarkTest::calendarLookups).sum(),
+                "later renders and classifications do not look up the calendar");
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs every derived and {@code @Query} repository method against the H2 test database, captures the generated sql
+ * and checks the H2 {@code EXPLAIN} plan of every select. Fails if a table or index is read completely instead of
+ * looked up by a condition, e.g. because an index is missing or a query was written in a way no index can serve.
+ * <p>
+ * Methods that have to read everything by design are listed in {@link #ALLOWED_SCANS} together with the reason.
+ */
+@Tag("UnitTest")
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=de.bushnaq.abdalla.kassandra.repository.RepositoryQueryPlanTest$SqlCapture"
+)
+@ActiveProfiles("test")
+@Slf4j
+public class RepositoryQueryPlanTest {
+    private static final Map<String, String>        ALLOWED_SCANS = Map.of(
+            "ProductRepository.findByNameContainingIgnoreCase", "substring search cannot use a b-tree index",
+            "TaskRepository.findAllByOrderByOrderIdAsc", "reads all tasks",
+            "UserRepository.existsByRolesContaining", "roles are a comma separated list, stops at the first match and runs once per startup",
+            "UserRepository.findAllIds", "reads all user ids, only used to create the 'All' group",
+            "UserRepository.findByNameContainingIgnoreCase", "substring search cannot use a b-tree index",
+            "WorklogRepository.findDistinctSprintIds", "reads all worklogs, only used to rebuild the worklog rollup"
+    );
+    // table or index access in a H2 plan, the condition is missing if the whole table or index is read
+    private static final Pattern                    ACCESS        = Pattern.compile("/\\* PUBLIC\\.([\\w.]+?)(: [^*]*)? \\*/( /\\* direct lookup \\*/)?");
+    @Autowired
+    private              ApplicationContext         applicationContext;
+    @Autowired
+    private              DataSource                 dataSource;
+    @PersistenceContext
+    private              EntityManager              entityManager;
+    @Autowired
+    private              PlatformTransactionManager transactionManager;
+
+    private Object createArgument(Class<?> type) {
+        if (type == UUID.class) {
+            return UUID.randomUUID();
+        } else if (type == String.class) {
+            return "name";
+        } else if (Collection.class.isAssignableFrom(type)) {
+            return List.of(UUID.randomUUID(), UUID.randomUUID());
+        } else if (type == Pageable.class) {
+            return PageRequest.of(1, 10);
+        } else if (type == LocalDate.class) {
+            return LocalDate.now();
+        } else if (type == OffsetDateTime.class) {
+            return OffsetDateTime.now();
+        } else if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        } else if (entityManager.getMetamodel().getEntities().stream().anyMatch(entity -> entity.getJavaType() == type)) {
+            //only the id is bound, the entity does not need to exist
+            return entityManager.getReference(type, UUID.randomUUID());
+        }
+        throw new IllegalArgumentException("No test argument for parameter type " + type.getName());
+    }
+
+    private String explain(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            int parameterCount = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameterCount; i++) {
+                statement.setObject(i, null);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                StringBuilder plan = new StringBuilder();
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1));
+                }
+                return plan.toString();
+            }
+        }
+    }
+
+    /**
+     * @param plan H2 plan
+     * @return tables and indexes that are read completely
+     */
+    static List<String> findScans(String plan) {
+        List<String> scans   = new ArrayList<>();
+        Matcher      matcher = ACCESS.matcher(plan);
+        while (matcher.find()) {
+            boolean hasCondition = matcher.group(2) != null;
+            boolean directLookup = matcher.group(3) != null;
+            if (!hasCondition && !directLookup) {
+                scans.add(matcher.group(1));
+            }
+        }
+        return scans;
+    }
+
+    private List<String> invoke(Object repository, Method method) {
+        List<String> statements;
+        SqlCapture.start();
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                status.setRollbackOnly();
+                Object[] arguments = Arrays.stream(method.getParameterTypes()).map(this::createArgument).toArray();
+                try {
+                    method.invoke(repository, arguments);
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        } finally {
+            statements = SqlCapture.stop();
+        }
+        return statements;
+    }
+
+    @Test
+    public void noTableScans() throws Exception {
+        Repositories repositories = new Repositories(applicationContext);
+        List<String> failures     = new ArrayList<>();
+        int          checked      = 0;
+        for (Class<?> domainType : repositories) {
+            RepositoryInformation information = repositories.getRepositoryInformationFor(domainType).orElseThrow();
+            Object                repository  = repositories.getRepositoryFor(domainType).orElseThrow();
+            for (Method method : information.getQueryMethods()) {
+                String name = information.getRepositoryInterface().getSimpleName() + "." + method.getName();
+                for (String sql : invoke(repository, method)) {
+                    if (!sql.trim().toLowerCase(Locale.ROOT).startsWith("select")) {
+                        continue;
+                    }
+                    String       plan  = explain(sql);
+                    List<String> scans = findScans(plan);
+                    log.trace("{}\n{}", name, plan);
+                    checked++;
+                    if (!scans.isEmpty() && !ALLOWED_SCANS.containsKey(name)) {
+                        failures.add(String.format("%s reads %s completely%n  %s", name, scans, plan));
+                    }
+                }
+            }
+        }
+        log.info("checked {} query plans", checked);
+        assertTrue(checked > 0, "no repository queries were captured");
+        assertTrue(failures.isEmpty(), String.join(System.lineSeparator(), failures));
+    }
+
+    /**
+     * Collects the sql hibernate sends to the database while {@link #start()} is active on the current thread.
+     */
+    public static class SqlCapture implements StatementInspector {
+        private static final ThreadLocal<List<String>> statements = new ThreadLocal<>();
+
+        @Override
+        public String inspect(String sql) {
+            List<String> list = statements.get();
+            if (list != null) {
+                list.add(sql);
+            }
+            return sql;
+        }
+
+        static void start() {
+            statements.set(new ArrayList<>());
+        }
+
+        static List<String> stop() {
+            List<String> list = statements.get();
+            statements.remove();
+            return list;
+        }
+    }
+}
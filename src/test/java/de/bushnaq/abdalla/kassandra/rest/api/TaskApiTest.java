@@ -40,6 +40,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.server.ServerErrorException;
 
 import java.time.Duration;
 import java.time.LocalDate;
@@ -353,6 +354,97 @@ public class TaskApiTest extends AbstractUiTestUtil {
 //        testAllAndPrintTables();
     }
 
+    /**
+     * Verifies that a reorder batch only changes the order and that a batch based on a stale version is rejected as a whole.
+     */
+    @Test
+    @WithMockUser(username = "admin-user", roles = "ADMIN")
+    public void reorder() throws Exception {
+        Product product = peg.addProduct("Product");
+        Version version = peg.addVersion(product, "1.0.0");
+        Feature feature = peg.addRandomFeature(version);
+        Sprint  sprint  = peg.addRandomSprint(feature);
+        Task    task1   = peg.addTask(sprint, null, "Design", LocalDateTime.now(), Duration.ofDays(4), null, null, null);
+        Task    task2   = peg.addTask(sprint, null, "Implementation", LocalDateTime.now().plusDays(4), Duration.ofDays(6), null, null, null);
+
+        //swap the two tasks
+        {
+            int orderId1 = task1.getOrderId();
+            task1.setOrderId(task2.getOrderId());
+            task2.setOrderId(orderId1);
+            TaskReorderResult result = peg.taskApi.reorder(List.of(task1, task2), sprint.getId());
+            Assertions.assertThat(result.isApplied()).isTrue();
+            Assertions.assertThat(result.getUpdated()).isEqualTo(2);
+            Assertions.assertThat(peg.taskApi.getById(task1.getId()).getOrderId()).isEqualTo(task1.getOrderId());
+            Assertions.assertThat(peg.taskApi.getById(task2.getId()).getOrderId()).isEqualTo(task2.getOrderId());
+            Assertions.assertThat(peg.taskApi.getById(task1.getId()).getName()).isEqualTo("Design");
+        }
+
+        //a second client still holding the old version must not overwrite the new order
+        {
+            Task stale1 = peg.taskApi.getById(task1.getId());
+            Task stale2 = peg.taskApi.getById(task2.getId());
+            stale1.setVersion(stale1.getVersion() - 1);
+            stale1.setOrderId(stale2.getOrderId());
+            stale2.setOrderId(task1.getOrderId());
+            TaskReorderResult result = peg.taskApi.reorder(List.of(stale1, stale2), sprint.getId());
+            Assertions.assertThat(result.isApplied()).isFalse();
+            Assertions.assertThat(result.getConflicts()).containsExactly(task1.getId());
+            Assertions.assertThat(peg.taskApi.getById(task1.getId()).getOrderId()).isEqualTo(task1.getOrderId());
+            Assertions.assertThat(peg.taskApi.getById(task2.getId()).getOrderId()).isEqualTo(task2.getOrderId());
+        }
+
+        //a change without orderId is rejected as a bad request and nothing is written
+        {
+            Task current = peg.taskApi.getById(task1.getId());
+            current.setOrderId(null);
+            ServerErrorException e = assertThrows(ServerErrorException.class, () -> peg.taskApi.reorder(List.of(current), sprint.getId()));
+            Assertions.assertThat(e.getMessage()).contains("400");
+            Assertions.assertThat(peg.taskApi.getById(task1.getId()).getOrderId()).isEqualTo(task1.getOrderId());
+        }
+    }
+
+    /**
+     * Verifies that moved tasks are reordered, edited tasks are updated and nothing is written if the reordering is rejected.
+     */
+    @Test
+    @WithMockUser(username = "admin-user", roles = "ADMIN")
+    public void saveChanges() throws Exception {
+        Product product = peg.addProduct("Product");
+        Version version = peg.addVersion(product, "1.0.0");
+        Feature feature = peg.addRandomFeature(version);
+        Sprint  sprint  = peg.addRandomSprint(feature);
+        Task    task1   = peg.addTask(sprint, null, "Design", LocalDateTime.now(), Duration.ofDays(4), null, null, null);
+        Task    task2   = peg.addTask(sprint, null, "Implementation", LocalDateTime.now().plusDays(4), Duration.ofDays(6), null, null, null);
+
+        //swap the two tasks and rename one of them
+        {
+            int orderId1 = task1.getOrderId();
+            task1.setOrderId(task2.getOrderId());
+            task2.setOrderId(orderId1);
+            task2.setName("Implementation and Test");
+            TaskReorderResult result = peg.taskApi.saveChanges(List.of(task1, task2), List.of(task2), sprint.getId());
+            Assertions.assertThat(result.isApplied()).isTrue();
+            Assertions.assertThat(peg.taskApi.getById(task1.getId()).getOrderId()).isEqualTo(task1.getOrderId());
+            Assertions.assertThat(peg.taskApi.getById(task2.getId()).getOrderId()).isEqualTo(task2.getOrderId());
+            Assertions.assertThat(peg.taskApi.getById(task2.getId()).getName()).isEqualTo("Implementation and Test");
+        }
+
+        //a move based on an old version is rejected and the edits of the same save are not written either
+        {
+            Task stale1 = peg.taskApi.getById(task1.getId());
+            Task edited = peg.taskApi.getById(task2.getId());
+            stale1.setVersion(stale1.getVersion() - 1);
+            stale1.setOrderId(task2.getOrderId());
+            edited.setName("Overwritten");
+            TaskReorderResult result = peg.taskApi.saveChanges(List.of(stale1), List.of(edited), sprint.getId());
+            Assertions.assertThat(result.isApplied()).isFalse();
+            Assertions.assertThat(result.getConflicts()).containsExactly(task1.getId());
+            Assertions.assertThat(peg.taskApi.getById(task1.getId()).getOrderId()).isEqualTo(task1.getOrderId());
+            Assertions.assertThat(peg.taskApi.getById(task2.getId()).getName()).isEqualTo("Implementation and Test");
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("listRandomCases")
     public void userSecurity(RandomCase randomCase, TestInfo testInfo) throws Exception {
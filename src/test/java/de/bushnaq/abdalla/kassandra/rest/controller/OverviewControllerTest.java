@@ -0,0 +1,94 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.rest.controller;
+
+import de.bushnaq.abdalla.kassandra.rest.dto.SprintOverviewDto;
+import de.bushnaq.abdalla.kassandra.service.SprintsOverviewService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/*
+ * Dashboards poll the sprints overview, as long as the ETag matches they must get a 304 without the overview being built.
+ */
+@Tag("UnitTest")
+@ExtendWith(MockitoExtension.class)
+public class OverviewControllerTest {
+    private static final String                 ETAG = "W/\"0000002a\"";
+    @InjectMocks
+    private              OverviewController     overviewController;
+    @Mock
+    private              SprintsOverviewService sprintsOverviewService;
+
+    private static ServletWebRequest createRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/overview/sprints");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
+    @Test
+    void matchingETagAnswersNotModified() {
+        when(sprintsOverviewService.getOverviewETag(any(), any(), anyBoolean())).thenReturn(ETAG);
+
+        ResponseEntity<SprintOverviewDto> response = overviewController.getSprintsOverview(null, "dark", createRequest(ETAG));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals(ETAG, response.getHeaders().getETag());
+        verify(sprintsOverviewService, never()).getOverview(any(), any(), anyBoolean());
+    }
+
+    @Test
+    void missingETagAnswersOverview() {
+        SprintOverviewDto overview = new SprintOverviewDto();
+        when(sprintsOverviewService.getOverviewETag(any(), any(), anyBoolean())).thenReturn(ETAG);
+        when(sprintsOverviewService.getOverview(any(), any(), anyBoolean())).thenReturn(overview);
+
+        ResponseEntity<SprintOverviewDto> response = overviewController.getSprintsOverview(null, "dark", createRequest(null));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(overview, response.getBody());
+        assertEquals(ETAG, response.getHeaders().getETag());
+    }
+
+    @Test
+    void staleETagAnswersOverview() {
+        SprintOverviewDto overview = new SprintOverviewDto();
+        when(sprintsOverviewService.getOverviewETag(any(), any(), anyBoolean())).thenReturn(ETAG);
+        when(sprintsOverviewService.getOverview(any(), any(), anyBoolean())).thenReturn(overview);
+
+        ResponseEntity<SprintOverviewDto> response = overviewController.getSprintsOverview(3, "light", createRequest("W/\"00000001\""));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(overview, response.getBody());
+        verify(sprintsOverviewService).getOverview(any(), eq(3), eq(false));
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.rest.debug;
+
+import de.bushnaq.abdalla.kassandra.config.KassandraProperties;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/*
+ * Captured bodies must be exactly what the application read and wrote, cut after max-bytes,
+ * and asynchronous requests must only be recorded once their response is complete.
+ */
+@Tag("UnitTest")
+public class RequestLoggingFilterTest {
+    private static final int                  MAX_BYTES = 16;
+    private              RequestCaptureBuffer captureBuffer;
+    private              RequestLoggingFilter filter;
+
+    @BeforeEach
+    void beforeEach() {
+        KassandraProperties properties = new KassandraProperties();
+        properties.getRequestCapture().setEnabled(true);
+        properties.getRequestCapture().setMaxBytes(MAX_BYTES);
+        captureBuffer = mock(RequestCaptureBuffer.class);
+        filter        = new RequestLoggingFilter(properties, captureBuffer);
+    }
+
+    private CapturedExchange captured() {
+        ArgumentCaptor<CapturedExchange> exchange = ArgumentCaptor.forClass(CapturedExchange.class);
+        verify(captureBuffer).offer(exchange.capture());
+        return exchange.getValue();
+    }
+
+    private static MockHttpServletRequest createRequest(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/task");
+        request.setQueryString("x=1");
+        request.addHeader("X-Kassandra-Capture", "true");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    @Test
+    void asyncResponseIsCapturedOnCompletion() throws Exception {
+        MockHttpServletRequest request = createRequest("{}");
+        request.setAsyncSupported(true);
+        AtomicReference<AsyncContext> asyncContext = new AtomicReference<>();
+        FilterChain chain = (req, res) -> {
+            asyncContext.set(req.startAsync(req, res));
+            res.getOutputStream().write("part1".getBytes(StandardCharsets.UTF_8));
+        };
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        verify(captureBuffer, never()).offer(any());
+
+        // written by another thread after the filter returned
+        ServletResponse asyncResponse = asyncContext.get().getResponse();
+        asyncResponse.getOutputStream().write("part2".getBytes(StandardCharsets.UTF_8));
+        asyncContext.get().complete();
+
+        assertEquals("part1part2", captured().getResponseBodyAsString());
+    }
+
+    @Test
+    void bodiesAreCaptured() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            assertEquals("{\"a\":1}", req.getReader().readLine());
+            res.getWriter().write("ok");
+        };
+
+        filter.doFilter(createRequest("{\"a\":1}"), response, chain);
+
+        CapturedExchange exchange = captured();
+        assertEquals("POST", exchange.method());
+        assertEquals("/api/task?x=1", exchange.uri());
+        assertEquals("{\"a\":1}", exchange.getRequestBodyAsString());
+        assertFalse(exchange.requestTruncated());
+        assertEquals("ok", exchange.getResponseBodyAsString());
+        assertFalse(exchange.responseTruncated());
+        assertEquals("ok", response.getContentAsString());
+    }
+
+    @Test
+    void bodiesAreTruncated() throws Exception {
+        String                  large    = "0123456789".repeat(10);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            assertArrayEquals(large.getBytes(StandardCharsets.UTF_8), req.getInputStream().readAllBytes());
+            res.getOutputStream().write(large.getBytes(StandardCharsets.UTF_8));
+        };
+
+        filter.doFilter(createRequest(large), response, chain);
+
+        CapturedExchange exchange = captured();
+        assertEquals(large.substring(0, MAX_BYTES), exchange.getRequestBodyAsString());
+        assertTrue(exchange.requestTruncated());
+        assertEquals(large.substring(0, MAX_BYTES), exchange.getResponseBodyAsString());
+        assertTrue(exchange.responseTruncated());
+        // the client still gets everything
+        assertEquals(large, response.getContentAsString());
+    }
+
+    @Test
+    void nullEncodingFallsBackToUtf8() throws Exception {
+        MockHttpServletRequest request = createRequest("ä");
+        request.setCharacterEncoding(null);
+        MockHttpServletResponse response = new MockHttpServletResponse() {
+            @Override
+            public String getCharacterEncoding() {
+                return null;
+            }
+        };
+        FilterChain chain = (req, res) -> {
+            assertEquals("ä", req.getReader().readLine());
+            res.getWriter().write("ü");
+        };
+
+        filter.doFilter(request, response, chain);
+
+        CapturedExchange exchange = captured();
+        assertEquals("ä", exchange.getRequestBodyAsString());
+        assertEquals("ü", exchange.getResponseBodyAsString());
+    }
+
+    @Test
+    void unselectedRequestIsNotCaptured() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/task");
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> assertSame(request, req));
+        verify(captureBuffer, never()).offer(any());
+    }
+}
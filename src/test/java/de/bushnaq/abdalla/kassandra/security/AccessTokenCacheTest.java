@@ -0,0 +1,201 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.security;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authentication.event.LogoutSuccessEvent;
+import org.springframework.security.oauth2.client.*;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.registration.InMemoryClientRegistrationRepository;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Resolves tokens through a real {@link OAuth2AuthorizedClientManager} against a local stub token endpoint and checks
+ * that the cache authorizes only once per token lifetime.
+ */
+@Tag("UnitTest")
+public class AccessTokenCacheTest {
+    private static final String                        PRINCIPAL          = "christopher.paul@kassandra.org";
+    private static final String                        REGISTRATION_ID    = "stub";
+    private static final int                           TOKEN_LIFETIME_SEC = 300;
+    private final        AtomicInteger                 authorizeCalls     = new AtomicInteger();
+    private              AccessTokenCache              cache;
+    private              MutableClock                  clock;
+    private              OAuth2AuthorizedClientManager manager;
+    private              HttpServer                    server;
+    private final        AtomicInteger                 tokenRequests      = new AtomicInteger();
+
+    private OAuth2AuthorizedClient authorize() {
+        authorizeCalls.incrementAndGet();
+        return manager.authorize(OAuth2AuthorizeRequest.withClientRegistrationId(REGISTRATION_ID).principal(PRINCIPAL).build());
+    }
+
+    private OAuth2AccessToken get() {
+        return cache.get(REGISTRATION_ID, PRINCIPAL, this::authorize);
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/token", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            //the client computes the expiry from the system time, issue tokens that live TOKEN_LIFETIME_SEC on the test clock
+            long   expiresIn = TOKEN_LIFETIME_SEC + Duration.between(Instant.now(), clock.instant()).toSeconds();
+            String json      = String.format("{\"access_token\":\"token-%d\",\"token_type\":\"Bearer\",\"expires_in\":%d}", tokenRequests.incrementAndGet(), expiresIn);
+            byte[] bytes     = json.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+
+        ClientRegistration registration = ClientRegistration.withRegistrationId(REGISTRATION_ID)
+                .clientId("kassandra")
+                .clientSecret("secret")
+                .authorizationGrantType(AuthorizationGrantType.CLIENT_CREDENTIALS)
+                .tokenUri("http://127.0.0.1:" + server.getAddress().getPort() + "/token")
+                .build();
+        InMemoryClientRegistrationRepository registrations = new InMemoryClientRegistrationRepository(registration);
+        clock = new MutableClock(Instant.now());
+        AuthorizedClientServiceOAuth2AuthorizedClientManager clientManager = new AuthorizedClientServiceOAuth2AuthorizedClientManager(registrations, new InMemoryOAuth2AuthorizedClientService(registrations));
+        clientManager.setAuthorizedClientProvider(OAuth2AuthorizedClientProviderBuilder.builder().clientCredentials(c -> c.clock(clock)).build());
+        manager = clientManager;
+        cache   = new AccessTokenCache(clock, AccessTokenCache.DEFAULT_REFRESH_MARGIN);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testConcurrentCallersAuthorizeOnce() throws Exception {
+        int             threads = 16;
+        int             calls   = 200;
+        ExecutorService pool    = Executors.newFixedThreadPool(threads);
+        CountDownLatch  start   = new CountDownLatch(1);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    List<String> values = new ArrayList<>();
+                    for (int i = 0; i < calls; i++) {
+                        values.add(get().getTokenValue());
+                    }
+                    return values;
+                }));
+            }
+            start.countDown();
+            for (Future<List<String>> future : futures) {
+                future.get(30, TimeUnit.SECONDS).forEach(value -> assertEquals("token-1", value));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(1, authorizeCalls.get(), "one authorize call for all concurrent callers");
+        assertEquals(1, tokenRequests.get());
+        assertEquals(threads * calls - 1, cache.getHits());
+    }
+
+    @Test
+    void testLogoutEvictsToken() {
+        assertEquals("token-1", get().getTokenValue());
+        get();
+        assertEquals(1, authorizeCalls.get());
+
+        cache.onLogoutSuccess(new LogoutSuccessEvent(new TestingAuthenticationToken(PRINCIPAL, null)));
+        get();
+        assertEquals(2, authorizeCalls.get(), "token must be resolved again after logout");
+
+        cache.onLogoutSuccess(new LogoutSuccessEvent(new TestingAuthenticationToken("somebody.else@kassandra.org", null)));
+        get();
+        assertEquals(2, authorizeCalls.get(), "logout of another user must not evict our token");
+    }
+
+    @Test
+    void testRefreshesOncePerTokenLifetime() {
+        for (int i = 0; i < 100; i++) {
+            assertEquals("token-1", get().getTokenValue());
+        }
+        assertEquals(1, authorizeCalls.get());
+
+        //still inside the lifetime minus the refresh margin
+        clock.advance(Duration.ofSeconds(TOKEN_LIFETIME_SEC).minus(AccessTokenCache.DEFAULT_REFRESH_MARGIN).minusSeconds(10));
+        get();
+        assertEquals(1, authorizeCalls.get());
+
+        //inside the refresh margin, the manager fetches a new token from the endpoint
+        clock.advance(Duration.ofSeconds(20));
+        for (int i = 0; i < 100; i++) {
+            assertEquals("token-2", get().getTokenValue());
+        }
+        assertEquals(2, authorizeCalls.get());
+        assertEquals(2, tokenRequests.get());
+    }
+
+    private static class MutableClock extends Clock {
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.service;
+
+import de.bushnaq.abdalla.kassandra.dao.UserAvatarDAO;
+import de.bushnaq.abdalla.kassandra.dto.AvatarTheme;
+import de.bushnaq.abdalla.kassandra.dto.AvatarVariant;
+import de.bushnaq.abdalla.kassandra.repository.UserAvatarRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("UnitTest")
+@SpringBootTest
+@ActiveProfiles("test")
+@Slf4j
+public class AvatarImageServiceTest {
+    private static final int                    GRID_ROWS   = 20;
+    private static final int                    UPLOAD_SIZE = 256;
+    @Autowired
+    private              AvatarImageService     avatarImageService;
+    @Autowired
+    private              AvatarMigrationService avatarMigrationService;
+    private final        Random                 random      = new Random(42);
+    @Autowired
+    private              UserAvatarRepository   userAvatarRepository;
+
+    private byte[] createImage(int size) throws IOException {
+        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                image.setRGB(x, y, 0xff000000 | (x << 16) | (y << 8) | random.nextInt(64));
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "PNG", out);
+        return out.toByteArray();
+    }
+
+    @Test
+    void darkFallsBackToLight() throws IOException {
+        UUID   ownerId = UUID.randomUUID();
+        byte[] light   = createImage(UPLOAD_SIZE);
+        avatarImageService.store(ownerId, AvatarTheme.LIGHT, light);
+        assertArrayEquals(light, avatarImageService.findDark(ownerId, AvatarVariant.FULL).orElseThrow());
+
+        byte[] dark = createImage(UPLOAD_SIZE);
+        avatarImageService.store(ownerId, AvatarTheme.DARK, dark);
+        assertArrayEquals(dark, avatarImageService.findDark(ownerId, AvatarVariant.FULL).orElseThrow());
+    }
+
+    /**
+     * A grid shows one 24px avatar per row. Before, every row loaded the entity with the uploaded light and dark image,
+     * now it reads the light grid variant only.
+     */
+    @Test
+    void gridRenderReadsOnlyGridVariant() throws IOException {
+        List<UUID> userIds = new ArrayList<>();
+        for (int i = 0; i < GRID_ROWS; i++) {
+            UserAvatarDAO legacy = new UserAvatarDAO();
+            legacy.setUserId(UUID.randomUUID());
+            legacy.setLightAvatarImage(createImage(UPLOAD_SIZE));
+            legacy.setDarkAvatarImage(createImage(UPLOAD_SIZE));
+            userAvatarRepository.save(legacy);
+            userIds.add(legacy.getUserId());
+        }
+
+        long before = 0;
+        for (UserAvatarDAO legacy : userAvatarRepository.findAll()) {
+            before += legacy.getLightAvatarImage().length + legacy.getDarkAvatarImage().length;
+        }
+
+        assertEquals(GRID_ROWS, avatarMigrationService.migrateAll(8), "migrated in three batches");
+        assertEquals(0, userAvatarRepository.count(), "legacy rows are removed after migration");
+
+        long after = 0;
+        for (UUID userId : userIds) {
+            after += avatarImageService.find(userId, AvatarTheme.LIGHT, AvatarVariant.GRID).orElseThrow().length;
+        }
+        log.info("bytes read per grid render of {} rows: before {}, after {}", GRID_ROWS, before, after);
+        assertTrue(after * 20 < before, String.format("grid render reads %d bytes, expected far less than %d", after, before));
+    }
+
+    @Test
+    void storeComputesAllVariants() throws IOException {
+        UUID   ownerId = UUID.randomUUID();
+        byte[] upload  = createImage(UPLOAD_SIZE);
+        avatarImageService.store(ownerId, AvatarTheme.LIGHT, upload);
+
+        for (AvatarVariant variant : AvatarVariant.values()) {
+            byte[]        bytes = avatarImageService.find(ownerId, AvatarTheme.LIGHT, variant).orElseThrow();
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(bytes));
+            int           size  = variant == AvatarVariant.FULL ? UPLOAD_SIZE : variant.getSize();
+            assertEquals(size, image.getWidth(), variant.name());
+            assertEquals(size, image.getHeight(), variant.name());
+        }
+        assertArrayEquals(upload, avatarImageService.find(ownerId, AvatarTheme.LIGHT, AvatarVariant.FULL).orElseThrow());
+        assertTrue(avatarImageService.find(ownerId, AvatarTheme.DARK, AvatarVariant.GRID).isEmpty());
+
+        // replacing an upload must not collide with the previous variants
+        byte[] replacement = createImage(UPLOAD_SIZE);
+        avatarImageService.store(ownerId, AvatarTheme.LIGHT, replacement);
+        assertArrayEquals(replacement, avatarImageService.find(ownerId, AvatarTheme.LIGHT, AvatarVariant.FULL).orElseThrow());
+
+        avatarImageService.delete(ownerId);
+        assertTrue(avatarImageService.find(ownerId, AvatarTheme.LIGHT, AvatarVariant.THUMBNAIL).isEmpty());
+    }
+}
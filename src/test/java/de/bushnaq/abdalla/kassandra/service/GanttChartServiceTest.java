@@ -0,0 +1,136 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.service;
+
+import de.bushnaq.abdalla.kassandra.ai.stablediffusion.StableDiffusionConfig;
+import de.bushnaq.abdalla.kassandra.dto.OffDay;
+import de.bushnaq.abdalla.kassandra.dto.OffDayType;
+import de.bushnaq.abdalla.kassandra.dto.Sprint;
+import de.bushnaq.abdalla.kassandra.dto.Task;
+import de.bushnaq.abdalla.kassandra.dto.User;
+import de.bushnaq.abdalla.kassandra.report.dao.theme.DarkTheme;
+import de.bushnaq.abdalla.kassandra.report.dao.theme.LightTheme;
+import de.bushnaq.abdalla.kassandra.rest.dto.GanttChartDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.awt.Color;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * Calendar exceptions are sent once per user and the theme only when the client does not have it,
+ * the payload must shrink accordingly.
+ */
+@Tag("UnitTest")
+public class GanttChartServiceTest {
+    private static final int               OFF_DAYS = 12;
+    private static final int               TASKS    = 200;
+    private static final int               USERS    = 5;
+    private              GanttChartService ganttChartService;
+    private final        JsonMapper        jsonMapper = JsonMapper.builder().build();
+    private              Sprint            sprint;
+
+    @BeforeEach
+    void beforeEach() {
+        StableDiffusionConfig config = new StableDiffusionConfig();
+        ganttChartService = new GanttChartService(new LightTheme(config), new DarkTheme(config));
+
+        List<User> users = new ArrayList<>();
+        for (int u = 0; u < USERS; u++) {
+            User user = new User();
+            user.setId(UUID.randomUUID());
+            user.setName("user " + u);
+            user.setColor(Color.getHSBColor(u / (float) USERS, 0.8f, 0.8f));
+            for (int o = 0; o < OFF_DAYS; o++) {
+                LocalDate day = LocalDate.of(2026, 1, 5).plusWeeks(o * 4L).plusDays(u);
+                user.getOffDays().add(new OffDay(day, day.plusDays(1), OffDayType.VACATION));
+            }
+            users.add(user);
+        }
+        sprint = new Sprint();
+        sprint.setId(UUID.randomUUID());
+        sprint.setName("sprint");
+        sprint.initUserMap(users);
+        LocalDateTime start = LocalDateTime.of(2026, 3, 2, 8, 0);
+        for (int t = 0; t < TASKS; t++) {
+            Task task = new Task();
+            task.setId(UUID.randomUUID());
+            task.setName("task " + t);
+            task.setOrderId(t);
+            task.setSprint(sprint);
+            task.setSprintId(sprint.getId());
+            task.setResourceId(users.get(t % USERS).getId());
+            task.setStart(start.plusDays(t / USERS));
+            task.setFinish(start.plusDays(t / USERS).plusHours(8));
+            sprint.addTask(task);
+        }
+    }
+
+    @Test
+    void calendarsAreSharedByAllTasksOfAUser() {
+        GanttChartDto dto = ganttChartService.build(sprint, LocalDateTime.of(2026, 3, 10, 12, 0), false);
+
+        assertEquals(USERS, dto.calendars.size());
+        for (List<GanttChartDto.CalendarExceptionDto> calendar : dto.calendars) {
+            assertEquals(OFF_DAYS, calendar.size());
+        }
+        for (int t = 0; t < TASKS; t++) {
+            GanttChartDto.TaskDto task = dto.tasks.get(t);
+            assertEquals(t % USERS, task.calendarIndex, task.name);
+            assertNotNull(task.calendarExceptions, task.name);
+            assertTrue(task.calendarExceptions.isEmpty(), task.name);
+        }
+    }
+
+    @Test
+    void omittedThemeReducesPayload() throws Exception {
+        GanttChartDto dto  = ganttChartService.build(sprint, LocalDateTime.of(2026, 3, 10, 12, 0), true);
+        String        full = jsonMapper.writeValueAsString(dto);
+        dto.meta.theme = null;
+        String withoutTheme = jsonMapper.writeValueAsString(dto);
+
+        assertTrue(withoutTheme.length() < full.length(), String.format("without theme %d bytes, with theme %d bytes", withoutTheme.length(), full.length()));
+        assertTrue(withoutTheme.contains("\"themeKey\":\"dark\""));
+        assertFalse(withoutTheme.contains("\"theme\":"));
+    }
+
+    @Test
+    void sharedCalendarsReducePayload() throws Exception {
+        GanttChartDto dto     = ganttChartService.build(sprint, LocalDateTime.of(2026, 3, 10, 12, 0), false);
+        String        compact = jsonMapper.writeValueAsString(dto);
+        assertFalse(compact.contains("calendarExceptions"));
+
+        // same chart with every task carrying its own copy of the calendar exceptions
+        for (GanttChartDto.TaskDto task : dto.tasks) {
+            task.calendarExceptions = dto.calendars.get(task.calendarIndex);
+            task.calendarIndex      = null;
+        }
+        dto.calendars = new ArrayList<>();
+        String inlined = jsonMapper.writeValueAsString(dto);
+
+        assertTrue(compact.length() * 3 < inlined.length() * 2, String.format("compact %d bytes, inlined %d bytes", compact.length(), inlined.length()));
+    }
+}
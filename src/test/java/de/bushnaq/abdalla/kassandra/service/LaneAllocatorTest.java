@@ -0,0 +1,78 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.service;
+
+import de.bushnaq.abdalla.util.date.DateUtil;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("UnitTest")
+public class LaneAllocatorTest {
+
+    /**
+     * Reference implementation, checks the interval against every interval already placed in every lane.
+     */
+    private static int bruteForceFirstFit(Map<Integer, List<LocalDateTime[]>> lanes, LocalDateTime os, LocalDateTime of) {
+        for (int laneId : new TreeSet<>(lanes.keySet())) {
+            boolean overlapping = false;
+            for (LocalDateTime[] p : lanes.get(laneId)) {
+                overlapping = DateUtil.isOverlapping(os, of, overlapping, p[0], p[1]);
+            }
+            if (!overlapping) return laneId;
+        }
+        return lanes.size();
+    }
+
+    @Test
+    void testSameLanesAsBruteForce() {
+        Random        random = new Random(42);
+        LocalDateTime base   = LocalDateTime.of(2025, 1, 1, 8, 0);
+        for (int run = 0; run < 50; run++) {
+            List<LocalDateTime[]> intervals = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                LocalDateTime start = base.plusDays(random.nextInt(365)).plusHours(random.nextInt(2) * 8);
+                intervals.add(new LocalDateTime[]{start, start.plusDays(random.nextInt(40))});
+            }
+            intervals.sort(Comparator.comparing(interval -> interval[0]));
+
+            LaneAllocator                       allocator = new LaneAllocator();
+            Map<Integer, List<LocalDateTime[]>> lanes     = new TreeMap<>();
+            for (LocalDateTime[] interval : intervals) {
+                int expected = bruteForceFirstFit(lanes, interval[0], interval[1]);
+                lanes.computeIfAbsent(expected, k -> new ArrayList<>()).add(interval);
+                assertEquals(expected, allocator.allocate(interval[0], interval[1]));
+            }
+            assertEquals(lanes.size(), allocator.getLaneCount());
+        }
+    }
+
+    @Test
+    void testTouchingIntervalsUseDifferentLanes() {
+        LaneAllocator allocator = new LaneAllocator();
+        LocalDateTime t0        = LocalDateTime.of(2026, 5, 1, 9, 0);
+        LocalDateTime t1        = LocalDateTime.of(2026, 5, 10, 17, 0);
+        assertEquals(0, allocator.allocate(t0, t1));
+        assertEquals(1, allocator.allocate(t1, t1.plusDays(3)));
+        assertEquals(0, allocator.allocate(t1.plusMinutes(1), t1.plusDays(5)));
+    }
+}
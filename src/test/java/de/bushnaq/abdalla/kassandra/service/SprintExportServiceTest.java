@@ -0,0 +1,203 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.service;
+
+import de.bushnaq.abdalla.kassandra.dto.Sprint;
+import de.bushnaq.abdalla.kassandra.dto.Task;
+import de.bushnaq.abdalla.kassandra.dto.User;
+import de.bushnaq.abdalla.kassandra.rest.JacksonConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the streaming export with the byte array export and checks that the paged export does not keep tasks alive.
+ */
+@Tag("UnitTest")
+public class SprintExportServiceTest {
+    private static final long                MB = 1024 * 1024;
+    private              JsonMapper          jsonMapper;
+    private              SprintExportService service;
+
+    private static Sprint createSprint(int taskCount) {
+        Sprint sprint = new Sprint();
+        sprint.setName("Sprint-1");
+        sprint.setStart(LocalDateTime.of(2026, 3, 2, 8, 0));
+        sprint.setEnd(LocalDateTime.of(2026, 4, 30, 17, 0));
+        List<User> users = new ArrayList<>();
+        for (String name : List.of("Grace Hopper", "Alan Turing", "Ada Lovelace")) {
+            User user = new User();
+            user.setId(UUID.randomUUID());
+            user.setName(name);
+            user.setEmail(name.toLowerCase().replace(' ', '.') + "@kassandra.org");
+            sprint.getUserMap().put(user.getId(), user);
+            users.add(user);
+        }
+        Task story    = null;
+        Task previous = null;
+        for (int i = 0; i < taskCount; i++) {
+            Task task = new Task();
+            task.setId(UUID.randomUUID());
+            task.setSprintId(sprint.getId());
+            task.setOrderId(i);
+            if (i % 10 == 0) {
+                task.setName("Story-" + i);
+                story    = task;
+                previous = null;
+            } else {
+                task.setName("Task-" + i);
+                task.setResourceId(users.get(i % users.size()).getId());
+                task.setMinEstimate(Duration.ofHours(i % 16 + 1));
+                story.addChildTask(task);
+                if (previous != null) {
+                    task.addPredecessor(previous, true);
+                }
+                previous = task;
+            }
+            sprint.addTask(task);
+        }
+        return sprint;
+    }
+
+    private static Task createTask(UUID sprintId, int index) {
+        Task task = new Task();
+        task.setId(UUID.randomUUID());
+        task.setSprintId(sprintId);
+        task.setOrderId(index);
+        task.setName("Task-" + index);
+        task.setNotes("x".repeat(200));
+        task.setMinEstimate(Duration.ofHours(8));
+        return task;
+    }
+
+    /**
+     * Exports sprints with the given number of tasks through the paged writer and returns the largest amount of heap in use
+     * above the baseline, sampled after a gc every few pages. Fails if any task of an earlier page is still reachable.
+     */
+    private long measurePeakHeap(int taskCount) {
+        int                       pageSize = SprintExportService.TASK_PAGE_SIZE;
+        Sprint                    sprint   = new Sprint();
+        List<WeakReference<Task>> written  = new ArrayList<>();
+        Runtime                   runtime  = Runtime.getRuntime();
+        System.gc();
+        long   baseline     = runtime.totalMemory() - runtime.freeMemory();
+        long[] peak         = {0};
+        int[]  lastPageSize = {0};
+        service.writeSprintsJson(List.of(), List.of(sprint), (s, pageIndex, limit) -> {
+            if (pageIndex % 25 == 0) {
+                // all pages except the last one have been written and must not be reachable anymore
+                System.gc();
+                peak[0] = Math.max(peak[0], runtime.totalMemory() - runtime.freeMemory() - baseline);
+                long alive = written.subList(0, written.size() - lastPageSize[0]).stream().filter(reference -> reference.get() != null).count();
+                assertEquals(0, alive, String.format("%d tasks still reachable before page %d", alive, pageIndex));
+                written.clear();
+            }
+            List<Task> page = new ArrayList<>();
+            for (int i = pageIndex * limit; i < Math.min(taskCount, (pageIndex + 1) * limit); i++) {
+                Task task = createTask(s.getId(), i);
+                page.add(task);
+                written.add(new WeakReference<>(task));
+            }
+            lastPageSize[0] = page.size();
+            return page;
+        }, pageSize, OutputStream.nullOutputStream());
+        return peak[0];
+    }
+
+    private static String normalizeMspdi(byte[] xml) {
+        // timestamps and generated ids differ between two runs of the MPXJ writer
+        return new String(xml, StandardCharsets.UTF_8)
+                .replaceAll("<(CreationDate|LastSaved|GUID)>[^<]*</\\1>", "");
+    }
+
+    @BeforeEach
+    void setUp() {
+        jsonMapper = new JacksonConfig().jsonMapper();
+        service    = new SprintExportService();
+        ReflectionTestUtils.setField(service, "jsonMapper", jsonMapper);
+    }
+
+    @Test
+    void testJsonStreamMatchesByteArrayExport() throws Exception {
+        for (int taskCount : new int[]{0, 1, 57}) {
+            Sprint                sprint = createSprint(taskCount);
+            ByteArrayOutputStream out    = new ByteArrayOutputStream();
+            service.writeJson(sprint, out);
+            assertEquals(new String(service.exportToJson(sprint), StandardCharsets.UTF_8), out.toString(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testMspdiStreamMatchesByteArrayExport() throws Exception {
+        Sprint                sprint = createSprint(57);
+        ByteArrayOutputStream out    = new ByteArrayOutputStream();
+        service.writeMspdiXml(sprint, out);
+        assertEquals(normalizeMspdi(service.exportToMspdiXml(sprint)), normalizeMspdi(out.toByteArray()));
+    }
+
+    @Test
+    void testPagedExportHeapStaysFlat() {
+        measurePeakHeap(2_000);//warm up
+        long small = measurePeakHeap(2_000);
+        long large = measurePeakHeap(50_000);
+        assertTrue(large < small + 16 * MB, String.format("peak heap grew from %d KB to %d KB", small / 1024, large / 1024));
+    }
+
+    @Test
+    void testPagedExportWritesAllPagesInOrder() {
+        for (int taskCount : new int[]{0, 6, 7}) {
+            Sprint                sprint   = createSprint(taskCount);
+            List<Task>            tasks    = sprint.getTasks();
+            List<int[]>           requests = new ArrayList<>();
+            ByteArrayOutputStream out      = new ByteArrayOutputStream();
+            service.writeSprintsJson(sprint.getUserMap().values(), List.of(sprint, sprint), (s, pageIndex, limit) -> {
+                requests.add(new int[]{pageIndex, limit});
+                return tasks.subList(Math.min(tasks.size(), pageIndex * limit), Math.min(tasks.size(), (pageIndex + 1) * limit));
+            }, 3, out);
+
+            JsonNode root = jsonMapper.readTree(out.toByteArray());
+            assertEquals(sprint.getUserMap().size(), root.get("users").size());
+            assertEquals(2, root.get("sprints").size());
+            for (JsonNode sprintNode : root.get("sprints")) {
+                assertEquals(sprint.getName(), sprintNode.get("sprint").get("name").asString());
+                JsonNode taskNodes = sprintNode.get("tasks");
+                assertEquals(taskCount, taskNodes.size());
+                for (int i = 0; i < taskCount; i++) {
+                    assertEquals(tasks.get(i).getName(), taskNodes.get(i).get("name").asString());
+                }
+            }
+            // a full last page needs one more (empty) page to detect the end
+            assertEquals(2 * (taskCount / 3 + 1), requests.size());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.service;
+
+import de.bushnaq.abdalla.kassandra.ParameterOptions;
+import de.bushnaq.abdalla.kassandra.config.DefaultEntitiesInitializer;
+import de.bushnaq.abdalla.kassandra.dto.Sprint;
+import de.bushnaq.abdalla.kassandra.dto.SprintStatistics;
+import de.bushnaq.abdalla.kassandra.dto.SprintStatisticsSnapshot;
+import de.bushnaq.abdalla.kassandra.dto.Worklog;
+import de.bushnaq.abdalla.kassandra.util.AbstractGanttTestUtil;
+import de.bushnaq.abdalla.kassandra.util.RandomCase;
+import de.bushnaq.abdalla.kassandra.util.TestInfoUtil;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.resttestclient.autoconfigure.AutoConfigureTestRestTemplate;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the materialized sprint statistics are identical to the statistics calculated on the fly from the sprint,
+ * its users, tasks and worklogs, also after worklogs have been changed.
+ */
+@Tag("UnitTest")
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureTestRestTemplate
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class SprintStatisticsServiceTest extends AbstractGanttTestUtil {
+    private final JsonMapper              jsonMapper = new JsonMapper();
+    @Autowired
+    private       SprintStatisticsService sprintStatisticsService;
+
+    private void assertSnapshots(List<SprintStatisticsSnapshot> snapshots) {
+        List<Sprint> sprints = peg.sprintApi.getAll().stream()
+                .filter(sprint -> !sprint.getName().equals(DefaultEntitiesInitializer.BACKLOG_SPRINT_NAME))
+                .toList();
+        assertEquals(sprints.size(), snapshots.size(), "one snapshot per sprint");
+        Map<UUID, JsonNode> statistics = new HashMap<>();
+        snapshots.forEach(snapshot -> statistics.put(snapshot.getSprintId(), snapshot.getStatistics()));
+        for (Sprint sprint : sprints) {
+            assertEquals(calculate(sprint.getId()), statistics.get(sprint.getId()), sprint.getName());
+        }
+    }
+
+    /**
+     * The statistics as the insights view used to calculate them.
+     */
+    private JsonNode calculate(UUID sprintId) {
+        Sprint sprint = peg.sprintApi.getById(sprintId);
+        sprint.initialize();
+        sprint.initUserMap(peg.userApi.getAll(sprintId));
+        sprint.initTaskMap(peg.taskApi.getAll(sprintId), peg.worklogApi.getAll(sprintId));
+        sprint.recalculate(ParameterOptions.getLocalNow());
+        return jsonMapper.valueToTree(new SprintStatistics(sprint, ParameterOptions.getLocalNow()));
+    }
+
+    private static List<RandomCase> listRandomCases() {
+        RandomCase[] randomCases = new RandomCase[]{//
+                new RandomCase(1, 10, 2, 1, 2, 1),//
+                new RandomCase(2, 10, 3, 2, 3, 1)//
+        };
+        return Arrays.stream(randomCases).toList();
+    }
+
+    @ParameterizedTest
+    @MethodSource("listRandomCases")
+    @WithMockUser(username = "admin-user", roles = "ADMIN")
+    public void snapshotsMatchCalculation(RandomCase randomCase, TestInfo testInfo) throws Exception {
+        TestInfoUtil.setTestMethod(testInfo, testInfo.getTestMethod().get().getName() + "-" + randomCase.getTestCaseIndex());
+        TestInfoUtil.setTestCaseIndex(testInfo, randomCase.getTestCaseIndex());
+        setTestCaseName(this.getClass().getName(), testInfo.getTestMethod().get().getName() + "-" + randomCase.getTestCaseIndex());
+        generateProductsIfNeeded(testInfo, randomCase);
+        assertSnapshots(peg.sprintApi.getStatistics());
+
+        UUID sprintId = peg.sprintApi.getAll().stream()
+                .filter(s -> peg.worklogApi.getAll(s.getId()).size() >= 2)
+                .findFirst().orElseThrow().getId();
+        JsonNode      before   = calculate(sprintId);
+        List<Worklog> worklogs = peg.worklogApi.getAll(sprintId);
+        {
+            Worklog worklog = worklogs.get(0);
+            worklog.setTimeSpent(worklog.getTimeSpent().plusHours(8));
+            peg.worklogApi.update(worklog);
+        }
+        {
+            peg.worklogApi.deleteById(worklogs.get(1).getId());
+        }
+        assertNotEquals(before, calculate(sprintId), "the changes must be visible in the statistics");
+
+        //the background recalculation must pick up the changes before the next request
+        long deadline = System.currentTimeMillis() + Duration.ofSeconds(10).toMillis();
+        while (!sprintStatisticsService.isUpToDate(sprintId) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+        assertTrue(sprintStatisticsService.isUpToDate(sprintId), "snapshot recalculated in the background");
+        assertSnapshots(peg.sprintApi.getStatistics());
+    }
+}
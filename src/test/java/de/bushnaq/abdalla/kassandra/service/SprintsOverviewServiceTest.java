@@ -2,6 +2,8 @@ package de.bushnaq.abdalla.kassandra.service;
 
 import de.bushnaq.abdalla.kassandra.dao.SprintDAO;
 import de.bushnaq.abdalla.kassandra.dto.Status;
+import de.bushnaq.abdalla.kassandra.report.dao.theme.DarkTheme;
+import de.bushnaq.abdalla.kassandra.report.dao.theme.LightTheme;
 import de.bushnaq.abdalla.kassandra.repository.FeatureRepository;
 import de.bushnaq.abdalla.kassandra.repository.SprintRepository;
 import de.bushnaq.abdalla.kassandra.repository.VersionRepository;
@@ -13,22 +15,31 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.Mockito.when;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class SprintsOverviewServiceTest {
 
+    @Mock
+    DarkTheme         darkTheme;
     @Mock
     FeatureRepository featureRepository;
     @Mock
+    LightTheme        lightTheme;
+    @Mock
     ProductAclService productAclService;
     @InjectMocks
     SprintsOverviewService service;
@@ -44,11 +55,113 @@ public class SprintsOverviewServiceTest {
                 new UsernamePasswordAuthenticationToken("admin", "", List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
     }
 
+    private SprintsOverviewService createCachedService() {
+        return new SprintsOverviewService(sprintRepository, featureRepository, versionRepository, productAclService, lightTheme, darkTheme, new ConcurrentMapCacheManager());
+    }
+
+    private static SprintDAO createSprint(String name, LocalDateTime start, LocalDateTime end) {
+        SprintDAO sprint = new SprintDAO();
+        sprint.setName(name);
+        sprint.setStart(start);
+        sprint.setEnd(end);
+        sprint.setStatus(Status.STARTED);
+        return sprint;
+    }
+
     @AfterEach
     void tearDown() {
         SecurityContextHolder.clearContext();
     }
 
+    @Test
+    void testCacheEvictedAfterCommit() {
+        SprintDAO a = createSprint("A", LocalDateTime.of(2026, 5, 1, 9, 0), LocalDateTime.of(2026, 5, 10, 17, 0));
+        when(sprintRepository.findAll()).thenReturn(List.of(a));
+        SprintsOverviewService cached = createCachedService();
+        LocalDateTime          now    = LocalDateTime.of(2026, 6, 6, 10, 0);
+
+        cached.getOverview(now, null, true);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cached.evict();
+            // not committed yet, readers still get the cached overview
+            cached.getOverview(now, null, true);
+            verify(sprintRepository, times(1)).findAll();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        cached.getOverview(now, null, true);
+        verify(sprintRepository, times(2)).findAll();
+    }
+
+    @Test
+    void testCacheEvictedOnNewDay() {
+        SprintDAO a = createSprint("A", LocalDateTime.of(2026, 5, 1, 9, 0), LocalDateTime.of(2026, 5, 10, 17, 0));
+        when(sprintRepository.findAll()).thenReturn(List.of(a));
+        SprintsOverviewService cached = createCachedService();
+
+        cached.getOverview(LocalDateTime.of(2026, 6, 6, 10, 0), 3, true);
+        cached.getOverview(LocalDateTime.of(2026, 6, 6, 23, 59), 3, true);
+        verify(sprintRepository, times(1)).findAll();
+
+        // chart range depends on the day, the old overview must not be reused
+        SprintOverviewDto nextDay = cached.getOverview(LocalDateTime.of(2026, 6, 7, 0, 1), 3, true);
+        verify(sprintRepository, times(2)).findAll();
+        assertEquals(LocalDateTime.of(2026, 6, 7, 0, 1), nextDay.meta.now);
+    }
+
+    @Test
+    void testCacheEvictedOutsideTransaction() {
+        SprintDAO a = createSprint("A", LocalDateTime.of(2026, 5, 1, 9, 0), LocalDateTime.of(2026, 5, 10, 17, 0));
+        SprintDAO b = createSprint("B", LocalDateTime.of(2026, 5, 5, 9, 0), LocalDateTime.of(2026, 5, 15, 17, 0));
+        when(sprintRepository.findAll()).thenReturn(List.of(a), List.of(a, b));
+        SprintsOverviewService cached = createCachedService();
+        LocalDateTime          now    = LocalDateTime.of(2026, 6, 6, 10, 0);
+
+        assertEquals(1, cached.getOverview(now, null, true).lanes.size());
+        cached.evict();
+        assertEquals(2, cached.getOverview(now, null, true).lanes.size());
+    }
+
+    @Test
+    void testCacheHit() {
+        SprintDAO a = createSprint("A", LocalDateTime.of(2026, 5, 1, 9, 0), LocalDateTime.of(2026, 5, 10, 17, 0));
+        when(sprintRepository.findAll()).thenReturn(List.of(a));
+        SprintsOverviewService cached = createCachedService();
+
+        SprintOverviewDto first  = cached.getOverview(LocalDateTime.of(2026, 6, 6, 10, 0), null, true);
+        SprintOverviewDto second = cached.getOverview(LocalDateTime.of(2026, 6, 6, 11, 0), null, true);
+
+        verify(sprintRepository, times(1)).findAll();
+        assertEquals(first.lanes, second.lanes);
+        // every caller gets its own current time
+        assertEquals(LocalDateTime.of(2026, 6, 6, 11, 0), second.meta.now);
+        // theme and limit are part of the key
+        cached.getOverview(LocalDateTime.of(2026, 6, 6, 11, 0), null, false);
+        cached.getOverview(LocalDateTime.of(2026, 6, 6, 11, 0), 3, true);
+        verify(sprintRepository, times(3)).findAll();
+    }
+
+    @Test
+    void testETagChangesWithSprintTable() {
+        OffsetDateTime updated = OffsetDateTime.of(2026, 6, 1, 8, 0, 0, 0, ZoneOffset.UTC);
+        when(sprintRepository.count()).thenReturn(2L, 2L, 2L, 3L);
+        when(sprintRepository.findMaxUpdated()).thenReturn(updated, updated, updated.plusSeconds(1), updated.plusSeconds(1));
+        LocalDateTime now = LocalDateTime.of(2026, 6, 6, 10, 0);
+
+        String eTag = service.getOverviewETag(now, null, true);
+        assertTrue(eTag.startsWith("W/\""));
+        assertEquals(eTag, service.getOverviewETag(now.plusHours(1), null, true));
+        // a sprint was updated
+        assertNotEquals(eTag, service.getOverviewETag(now, null, true));
+        // a sprint was created
+        assertNotEquals(eTag, service.getOverviewETag(now, null, true));
+        // theme and day are part of the tag
+        assertNotEquals(service.getOverviewETag(now, null, true), service.getOverviewETag(now, null, false));
+        assertNotEquals(service.getOverviewETag(now, null, true), service.getOverviewETag(now.plusDays(1), null, true));
+    }
+
     @Test
     void testLaneAssignment() {
         SprintDAO a = new SprintDAO();
@@ -73,4 +186,3 @@ public class SprintsOverviewServiceTest {
         assertEquals(1, dto.lanes.get(0).sprints.size());
     }
 }
-
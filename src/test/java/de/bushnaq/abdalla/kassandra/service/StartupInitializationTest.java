@@ -0,0 +1,137 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.service;
+
+import de.bushnaq.abdalla.kassandra.config.DefaultEntitiesInitializer;
+import de.bushnaq.abdalla.kassandra.dao.UserDAO;
+import de.bushnaq.abdalla.kassandra.repository.AppliedMigrationRepository;
+import de.bushnaq.abdalla.kassandra.repository.SprintRepository;
+import de.bushnaq.abdalla.kassandra.repository.UserGroupRepository;
+import de.bushnaq.abdalla.kassandra.util.AbstractTestUtil;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.awt.Color;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Times the startup initialization of {@link DefaultEntitiesInitializer} and {@link UserRoleMigrationService} on a
+ * database with {@value #USERS} users, once for the first start and once for a restart.
+ * <p>
+ * Neither start may load user entities. The restart checks the role marker and whether an admin exists, and looks up each default
+ * entity so that deleted ones are created again.
+ */
+@Tag("UnitTest")
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class StartupInitializationTest extends AbstractTestUtil {
+    private static final int                        RESTART_STATEMENTS = 11;// role marker, admin, product, version, feature, backlog, group, acl, three work weeks
+    private static final int                        USERS              = 10_000;
+    @Autowired
+    private              AppliedMigrationRepository appliedMigrationRepository;
+    @Autowired
+    private              DefaultEntitiesInitializer defaultEntitiesInitializer;
+    @Autowired
+    private              EntityManagerFactory       entityManagerFactory;
+    @Autowired
+    private              SprintRepository           sprintRepository;
+    @Autowired
+    private              UserGroupRepository        userGroupRepository;
+    @Autowired
+    private              UserRoleMigrationService   userRoleMigrationService;
+
+    private void createUsers() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int i = 0; i < USERS; i++) {
+                UserDAO user = new UserDAO();
+                user.setName("user-" + i);
+                user.setEmail("user-" + i + "@kassandra.org");
+                user.setColor(Color.BLUE);
+                user.setFirstWorkingDay(LocalDate.of(2025, 1, 1));
+                user.setRoles(i == 0 ? "ADMIN,USER" : i % 100 == 0 ? "" : "USER");
+                entityManager.persist(user);
+                if (i % 500 == 499) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+    }
+
+    private long countUsersWithoutRoles() {
+        return new TransactionTemplate(transactionManager).execute(status ->
+                entityManager.createQuery("SELECT COUNT(u) FROM UserDAO u WHERE u.roles = ''", Long.class).getSingleResult());
+    }
+
+    @Test
+    public void startupWithManyUsers() {
+        createUsers();
+        // the database of an installation that never ran the initialization with markers
+        appliedMigrationRepository.deleteAll();
+        userGroupRepository.findByName(DefaultEntitiesInitializer.ALL_USERS_GROUP_NAME).ifPresent(userGroupRepository::delete);
+        assertEquals(USERS / 100 - 1, countUsersWithoutRoles());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long firstStart = startup();
+        long firstLoads = statistics.getEntityStatistics(UserDAO.class.getName()).getLoadCount();
+
+        assertEquals(0, countUsersWithoutRoles());
+        assertEquals(USERS, userGroupRepository.findByName(DefaultEntitiesInitializer.ALL_USERS_GROUP_NAME).orElseThrow().getMemberCount());
+        assertTrue(appliedMigrationRepository.existsById(UserRoleMigrationService.USER_ROLES_MIGRATION));
+
+        statistics.clear();
+        long restart        = startup();
+        long restartLoads   = statistics.getEntityStatistics(UserDAO.class.getName()).getLoadCount();
+        long restartQueries = statistics.getPrepareStatementCount();
+        logger.info("{} users: first start {} ms with {} user loads, restart {} ms with {} user loads and {} statements",
+                USERS, firstStart, firstLoads, restart, restartLoads, restartQueries);
+
+        assertEquals(0, firstLoads, "the first start must not load users");
+        assertEquals(0, restartLoads, "a restart must not load users");
+        assertTrue(restartQueries <= RESTART_STATEMENTS, "a restart only checks the marker, the admin and the default entities, statements: " + restartQueries);
+
+        sprintRepository.delete(sprintRepository.findByName(DefaultEntitiesInitializer.BACKLOG_SPRINT_NAME));
+        startup();
+        assertNotNull(sprintRepository.findByName(DefaultEntitiesInitializer.BACKLOG_SPRINT_NAME), "a deleted default entity is created again");
+    }
+
+    /**
+     * Runs the initialization in the order of an application start.
+     *
+     * @return the duration in milliseconds
+     */
+    private long startup() {
+        long start = System.nanoTime();
+        userRoleMigrationService.migrateExistingUsers();
+        defaultEntitiesInitializer.run(null);
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
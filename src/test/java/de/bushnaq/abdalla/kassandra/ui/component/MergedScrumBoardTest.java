@@ -0,0 +1,183 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.ui.component;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.internal.StateNode;
+import com.vaadin.flow.server.VaadinSession;
+import de.bushnaq.abdalla.kassandra.dto.*;
+import de.bushnaq.abdalla.kassandra.rest.api.TaskApi;
+import de.bushnaq.abdalla.kassandra.rest.api.WorklogApi;
+import de.bushnaq.abdalla.kassandra.ui.view.GroupingMode;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Measures what a single status change costs on a merged scrum board, the components that are created on the server and
+ * the state tree changes that are sent to the browser.
+ */
+@Tag("UnitTest")
+@Slf4j
+public class MergedScrumBoardTest {
+    private static final int        STORIES         = 10;
+    private static final int        TASKS_PER_STORY = 10;
+    private final        List<Task> allTasks        = new ArrayList<>();
+    private              Feature    feature;
+    private              Sprint     sprint;
+
+    @BeforeEach
+    void beforeEach() {
+        feature = new Feature();
+        feature.setId(UUID.randomUUID());
+        feature.setName("board feature");
+        sprint = new Sprint();
+        sprint.setId(UUID.randomUUID());
+        sprint.setName("board sprint");
+        sprint.setFeatureId(feature.getId());
+        int orderId = 0;
+        for (int s = 0; s < STORIES; s++) {
+            Task story = new Task();
+            story.setId(UUID.randomUUID());
+            story.setName("story " + s);
+            story.setOrderId(orderId++);
+            story.setSprintId(sprint.getId());
+            allTasks.add(story);
+            for (int t = 0; t < TASKS_PER_STORY; t++) {
+                Task task = new Task();
+                task.setId(UUID.randomUUID());
+                task.setName("task " + s + "." + t);
+                task.setOrderId(orderId++);
+                task.setSprintId(sprint.getId());
+                task.setMinEstimate(Duration.ofHours(8));
+                task.setRemainingEstimate(Duration.ofHours(8));
+                story.addChildTask(task);
+                allTasks.add(task);
+            }
+        }
+    }
+
+    /**
+     * Collects the pending state tree changes of the board, the same changes the next response would send to the browser.
+     */
+    private static int collectChanges(UI ui, Component board) {
+        StateNode     root    = board.getElement().getNode();
+        AtomicInteger changes = new AtomicInteger();
+        ui.getInternals().getStateTree().collectChanges(change -> {
+            for (StateNode node = change.getNode(); node != null; node = node.getParent()) {
+                if (node == root) {
+                    changes.incrementAndGet();
+                    break;
+                }
+            }
+        });
+        return changes.get();
+    }
+
+    private static void collectComponents(Component component, Set<Component> components) {
+        components.add(component);
+        component.getChildren().forEach(child -> collectComponents(child, components));
+    }
+
+    private static Set<Component> components(Component component) {
+        Set<Component> components = Collections.newSetFromMap(new IdentityHashMap<>());
+        collectComponents(component, components);
+        return components;
+    }
+
+    private UI createUI() {
+        VaadinSession session = mock(VaadinSession.class, RETURNS_DEEP_STUBS);
+        when(session.hasLock()).thenReturn(true);
+        UI ui = new UI();
+        ui.getInternals().setSession(session);
+        return ui;
+    }
+
+    @Test
+    void featuresModeStatusChange() {
+        statusChange(GroupingMode.FEATURES, 10);// one story card in the IN PROGRESS lane
+    }
+
+    private static TaskCard findTaskCard(Component component, Task task) {
+        return components(component).stream()
+                .filter(TaskCard.class::isInstance)
+                .map(TaskCard.class::cast)
+                .filter(card -> card.getTask() == task)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static boolean isInLane(TaskCard card, TaskStatus status) {
+        return Stream.iterate(card.getParent(), Optional::isPresent, parent -> parent.get().getParent())
+                .map(Optional::get)
+                .anyMatch(parent -> parent.getElement().getClassList().contains("task-lane-" + status.name().toLowerCase().replace("_", "-")));
+    }
+
+    private void statusChange(GroupingMode mode, int maxCreatedComponents) {
+        UI               ui    = createUI();
+        MergedScrumBoard board = new MergedScrumBoard(List.of(sprint), allTasks, new TaskApi(), new HashMap<>(), "", mode, Map.of(feature.getId(), feature), Set.of(), new WorklogApi());
+        ui.add(board);
+        int            initialChanges    = collectChanges(ui, board);
+        Set<Component> initialComponents = components(board);
+
+        // an unchanged refresh sends nothing
+        board.refresh();
+        assertEquals(0, collectChanges(ui, board), "changes of an unchanged refresh");
+        assertEquals(initialComponents, components(board));
+
+        // move one task from TO DO to IN PROGRESS
+        Task     task = allTasks.get(1);
+        TaskCard card = findTaskCard(board, task);
+        assertTrue(isInLane(card, TaskStatus.TODO));
+        task.setTaskStatus(TaskStatus.IN_PROGRESS);
+        board.refresh();
+        long created = components(board).stream().filter(component -> !initialComponents.contains(component)).count();
+        int  changes = collectChanges(ui, board);
+        log.info("{} mode: {} components and {} changes for the board, {} components created and {} changes for one status change",
+                mode, initialComponents.size(), initialChanges, created, changes);
+
+        assertSame(card, findTaskCard(board, task), "the task card is moved, not recreated");
+        assertTrue(isInLane(card, TaskStatus.IN_PROGRESS));
+        assertTrue(created <= maxCreatedComponents, "created components: " + created);
+        assertTrue(changes > 0);
+        assertTrue(changes < initialChanges / 20, "changes: " + changes + " of " + initialChanges);
+
+        // an edit of the name replaces only the card of that task
+        task.setName("renamed task");
+        board.refresh();
+        TaskCard renamed = findTaskCard(board, task);
+        assertNotSame(card, renamed);
+        assertTrue(isInLane(renamed, TaskStatus.IN_PROGRESS));
+        assertEquals(STORIES * TASKS_PER_STORY, components(board).stream().filter(TaskCard.class::isInstance).count());
+    }
+
+    @Test
+    void storiesModeStatusChange() {
+        statusChange(GroupingMode.STORIES, 0);
+    }
+}
@@ -0,0 +1,353 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.ui.component;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.html.Div;
+import com.vaadin.flow.component.html.Image;
+import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.treegrid.TreeGrid;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.data.provider.hierarchy.TreeData;
+import com.vaadin.flow.data.renderer.ComponentRenderer;
+import com.vaadin.flow.data.renderer.LitRenderer;
+import com.vaadin.flow.function.SerializableBiConsumer;
+import com.vaadin.flow.internal.ConstantPool;
+import com.vaadin.flow.internal.StateNode;
+import com.vaadin.flow.server.VaadinSession;
+import de.bushnaq.abdalla.kassandra.dto.Sprint;
+import de.bushnaq.abdalla.kassandra.dto.Task;
+import de.bushnaq.abdalla.kassandra.dto.TaskMode;
+import de.bushnaq.abdalla.kassandra.dto.User;
+import de.bushnaq.abdalla.util.date.DateUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.JsonNodeFactory;
+
+import java.awt.Color;
+import java.lang.reflect.Field;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Compares the {@link TaskGrid} with a grid that renders the same columns with {@link ComponentRenderer}s, the server side
+ * state nodes per rendered row and the payload of a scroll round trip on a large generated sprint.
+ */
+@Tag("UnitTest")
+@Slf4j
+public class TaskGridRenderTest {
+    private static final int        STORIES         = 100;
+    private static final int        TASKS_PER_STORY = 9;
+    private static final int        VIEWPORT        = 50;
+    private final        List<Task> allTasks        = new ArrayList<>();
+    private final        List<User> allUsers        = new ArrayList<>();
+    private              Sprint     sprint;
+    private              UI         ui;
+
+    @AfterEach
+    void afterEach() {
+        UI.setCurrent(null);
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        VaadinSession session = mock(VaadinSession.class, RETURNS_DEEP_STUBS);
+        when(session.hasLock()).thenReturn(true);
+        ui = new UI();
+        ui.getInternals().setSession(session);
+        UI.setCurrent(ui);
+
+        for (int u = 0; u < 5; u++) {
+            User user = new User();
+            user.setId(UUID.randomUUID());
+            user.setName("user " + u);
+            user.setColor(Color.getHSBColor(u / 5f, 0.8f, 0.8f));
+            allUsers.add(user);
+        }
+        sprint = new Sprint();
+        sprint.setId(UUID.randomUUID());
+        sprint.setName("large sprint");
+        sprint.initUserMap(allUsers);
+        int orderId = 0;
+        for (int s = 0; s < STORIES; s++) {
+            Task story = new Task();
+            story.setId(UUID.randomUUID());
+            story.setName("story " + s);
+            story.setOrderId(orderId++);
+            story.setSprint(sprint);
+            story.setSprintId(sprint.getId());
+            sprint.addTask(story);
+            allTasks.add(story);
+            for (int t = 0; t < TASKS_PER_STORY; t++) {
+                Task task = new Task();
+                task.setId(UUID.randomUUID());
+                task.setName("task " + s + "." + t);
+                task.setOrderId(orderId++);
+                task.setSprint(sprint);
+                task.setSprintId(sprint.getId());
+                task.setMinEstimate(Duration.ofHours(8));
+                task.setMaxEstimate(Duration.ofHours(12));
+                task.setRemainingEstimate(Duration.ofHours(8));
+                task.setResourceId(allUsers.get(t % allUsers.size()).getId());
+                story.addChildTask(task);
+                sprint.addTask(task);
+                allTasks.add(task);
+            }
+        }
+    }
+
+    /**
+     * Calls a client side function of the renderer the way the browser would, the functions are not exposed by {@link LitRenderer}.
+     */
+    @SuppressWarnings("unchecked")
+    private static void call(LitRenderer<Task> renderer, String function, Task task, Object... args) throws ReflectiveOperationException {
+        Field field = LitRenderer.class.getDeclaredField("clientCallables");
+        field.setAccessible(true);
+        ArrayNode arguments = JsonNodeFactory.instance.arrayNode();
+        for (Object arg : args) {
+            if (arg instanceof Boolean b) {
+                arguments.add(b);
+            } else {
+                arguments.add(arg.toString());
+            }
+        }
+        ((Map<String, SerializableBiConsumer<Task, ArrayNode>>) field.get(renderer)).get(function).accept(task, arguments);
+    }
+
+    /**
+     * State nodes attached below the grid, including the virtual children of the rendered cells.
+     */
+    private static int countNodes(TreeGrid<Task> grid) {
+        AtomicInteger nodes = new AtomicInteger();
+        grid.getElement().getNode().visitNodeTree(node -> nodes.incrementAndGet());
+        return nodes.get();
+    }
+
+    /**
+     * The view mode columns of the task grid as they used to be rendered, one server side component tree per cell.
+     */
+    private TreeGrid<Task> createComponentGrid() {
+        TreeGrid<Task> grid = new TreeGrid<>();
+        grid.addComponentHierarchyColumn(task -> {
+            Span key = new Span(task.getKey());
+            key.setId(TaskGrid.TASK_GRID_KEY_PREFIX + task.getName());
+            Div name = new Div(task.getName());
+            name.setId(TaskGrid.TASK_GRID_NAME_PREFIX + task.getName());
+            HorizontalLayout container = new HorizontalLayout(new Div(), key, name);
+            container.setSpacing(false);
+            return container;
+        });
+        grid.addColumn(new ComponentRenderer<>(task -> textDiv(TaskGrid.TASK_GRID_DEPENDENCY_PREFIX, task, "")));
+        grid.addColumn(new ComponentRenderer<>(task -> textDiv(TaskGrid.TASK_GRID_PARENT_PREFIX, task, task.getParentTask() != null ? "T-" + task.getParentTask().getOrderId() : "")));
+        grid.addColumn(new ComponentRenderer<>(task -> textDiv(TaskGrid.TASK_GRID_START_PREFIX, task, "")));
+        grid.addColumn(new ComponentRenderer<>(task -> textDiv(TaskGrid.TASK_GRID_MIN_EST_PREFIX, task, task.isTask() ? "1d" : "")));
+        grid.addColumn(new ComponentRenderer<>(task -> textDiv(TaskGrid.TASK_GRID_MAX_EST_PREFIX, task, task.isTask() ? "1d 4h" : "")));
+        grid.addColumn(new ComponentRenderer<>(task -> {
+            HorizontalLayout container = new HorizontalLayout();
+            container.setId(TaskGrid.TASK_GRID_ASSIGNED_PREFIX + task.getName());
+            User user = task.getResourceId() != null ? sprint.getUser(task.getResourceId()) : null;
+            if (user != null) {
+                container.add(new Image(user.getAvatarUrl(), user.getName()), new Span(user.getName()));
+            }
+            return container;
+        }));
+        grid.addComponentColumn(task -> {
+            Button button = new Button("delete");
+            button.setId(TaskGrid.TASK_GRID_DELETE_BUTTON_PREFIX + task.getName());
+            button.addClickListener(e -> {
+            });
+            return button;
+        });
+        TreeData<Task> treeData = new TreeData<>();
+        treeData.addItems(allTasks.stream().filter(task -> task.getParentTask() == null).toList(), Task::getChildTasks);
+        grid.setTreeData(treeData);
+        grid.expandRecursively(treeData.getRootItems(), Integer.MAX_VALUE);
+        return grid;
+    }
+
+    private TaskGrid createTaskGrid() {
+        TaskGrid grid = new TaskGrid(Clock.systemDefaultZone(), Locale.ENGLISH, JsonMapper.builder().build());
+        grid.setOnDeleteTask(task -> {
+        });
+        grid.updateData(sprint, new ArrayList<>(allTasks), allUsers);
+        return grid;
+    }
+
+    private static Object editable(LitRenderer<Task> renderer, Task task) {
+        return renderer.getValueProviders().get("editable").apply(task);
+    }
+
+    @Test
+    void editModeRendersInlineEditors() throws ReflectiveOperationException {
+        Task milestone = new Task();
+        milestone.setId(UUID.randomUUID());
+        milestone.setName("milestone");
+        milestone.setOrderId(allTasks.size());
+        milestone.setMilestone(true);
+        milestone.setTaskMode(TaskMode.MANUALLY_SCHEDULED);
+        milestone.setSprint(sprint);
+        milestone.setSprintId(sprint.getId());
+        sprint.addTask(milestone);
+        allTasks.add(milestone);
+        TaskGrid grid = createTaskGrid();
+        grid.setEditMode(true);
+        ui.add(grid);
+        Task story = allTasks.getFirst();
+        Task task  = allTasks.get(1);
+
+        Object users = grid.getElement().getPropertyRaw("assignableUsers");
+        assertFalse(users instanceof String, "the combo box items are sent as an array and not parsed for every row");
+        allUsers.forEach(user -> assertTrue(users.toString().contains(user.getId().toString()), user.getName()));
+
+        // estimates
+        LitRenderer<Task> estimate   = renderer(grid, "Min Estimate");
+        String            estimateId = TaskGrid.TASK_GRID_MIN_EST_PREFIX + task.getName();
+        assertEquals(true, editable(estimate, task));
+        assertEquals(false, editable(estimate, story), "stories have no estimate editor");
+        call(estimate, "onEstimateChange", task, "2d", estimateId);
+        assertEquals(DateUtil.parseWorkDayDurationString("2d"), task.getMinEstimate());
+        assertTrue(grid.getModifiedTasks().contains(task));
+        call(estimate, "onEstimateChange", task, "abc", estimateId);
+        assertEquals(DateUtil.parseWorkDayDurationString("2d"), task.getMinEstimate(), "invalid input keeps the estimate");
+        assertTrue(markedInvalid(estimateId, "Invalid format"));
+
+        // start of a milestone
+        LitRenderer<Task> start   = renderer(grid, "Start");
+        String            startId = TaskGrid.TASK_GRID_START_PREFIX + milestone.getName();
+        assertEquals(true, editable(start, milestone));
+        assertEquals(false, editable(start, task), "only milestones have a start editor");
+        call(start, "onStartChange", milestone, "2025-05-05T10:00", startId);
+        assertEquals(LocalDateTime.of(2025, 5, 5, 10, 0), milestone.getStart());
+        assertTrue(grid.getModifiedTasks().contains(milestone));
+        call(start, "onStartChange", milestone, "not a date", startId);
+        assertEquals(LocalDateTime.of(2025, 5, 5, 10, 0), milestone.getStart(), "invalid input keeps the start");
+        assertTrue(markedInvalid(startId, "Invalid date/time format"));
+        call(start, "onManualChange", milestone, false);
+        assertEquals(TaskMode.AUTO_SCHEDULED, milestone.getTaskMode());
+
+        // assignment
+        LitRenderer<Task> assigned = renderer(grid, "Assigned");
+        assertEquals(true, editable(assigned, task));
+        assertEquals(task.getResourceId().toString(), assigned.getValueProviders().get("resourceId").apply(task));
+        call(assigned, "onAssign", task, allUsers.get(3).getId());
+        assertEquals(allUsers.get(3).getId(), task.getResourceId());
+        call(assigned, "onAssign", task, "");
+        assertNull(task.getResourceId());
+    }
+
+    /**
+     * Runs what the next response would run and returns the size of the state changes and JavaScript invocations that
+     * would be sent to the browser.
+     */
+    private long flush(TreeGrid<Task> grid) {
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+        StateNode    root     = grid.getElement().getNode();
+        ConstantPool pool     = new ConstantPool();
+        AtomicLong   payload  = new AtomicLong();
+        ui.getInternals().getStateTree().collectChanges(change -> {
+            for (StateNode node = change.getNode(); node != null; node = node.getParent()) {
+                if (node == root) {
+                    payload.addAndGet(change.toJson(pool).toString().length());
+                    break;
+                }
+            }
+        });
+        ui.getInternals().dumpPendingJavaScriptInvocations().forEach(invocation ->
+                payload.addAndGet(invocation.getInvocation().getExpression().length() + invocation.getInvocation().getParameters().toString().length()));
+        return payload.get();
+    }
+
+    @Test
+    void litRenderersKeepRowsOffTheServer() {
+        Measurement components = measure(createComponentGrid());
+        Measurement lit        = measure(createTaskGrid());
+        log.info("{} rows, {} rows per page", allTasks.size(), VIEWPORT);
+        log.info("component renderers: {} state nodes per row, {} bytes first page, {} bytes scroll, {} state nodes after scroll",
+                components.nodesPerRow, components.initialPayload, components.scrollPayload, components.scrollNodes);
+        log.info("lit renderers      : {} state nodes per row, {} bytes first page, {} bytes scroll, {} state nodes after scroll",
+                lit.nodesPerRow, lit.initialPayload, lit.scrollPayload, lit.scrollNodes);
+
+        assertTrue(lit.nodesPerRow < 1, "rows rendered with lit templates do not create state nodes");
+        assertTrue(components.nodesPerRow >= 10, "component renderers create a state node per component");
+        assertTrue(lit.scrollPayload < components.scrollPayload, "scroll payload " + lit.scrollPayload + " of " + components.scrollPayload);
+    }
+
+    /**
+     * @return true if a pending JavaScript invocation marks the inline editor with the given id invalid
+     */
+    private boolean markedInvalid(String id, String errorMessage) {
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+        return ui.getInternals().dumpPendingJavaScriptInvocations().stream()
+                .map(invocation -> invocation.getInvocation())
+                .anyMatch(invocation -> invocation.getExpression().contains("field.invalid = true")
+                        && invocation.getParameters().contains(id) && invocation.getParameters().contains(errorMessage));
+    }
+
+    /**
+     * Renders the first page and scrolls to the middle of the sprint.
+     */
+    private Measurement measure(TreeGrid<Task> grid) {
+        grid.setAllRowsVisible(false);
+        ui.add(grid);
+        grid.getDataCommunicator().setViewportRange(0, 0);
+        flush(grid);
+        int emptyNodes = countNodes(grid);
+        grid.getDataCommunicator().setViewportRange(0, VIEWPORT);
+        long initialPayload = flush(grid);
+        int  pageNodes      = countNodes(grid);
+        grid.getDataCommunicator().setViewportRange(allTasks.size() / 2, VIEWPORT);
+        long scrollPayload = flush(grid);
+        int  scrollNodes   = countNodes(grid);
+        ui.remove(grid);
+        return new Measurement((pageNodes - emptyNodes) / (double) VIEWPORT, initialPayload, scrollPayload, scrollNodes - emptyNodes);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static LitRenderer<Task> renderer(TaskGrid grid, String header) {
+        return grid.getColumns().stream()
+                .filter(column -> header.equals(column.getHeaderText()))
+                .map(Grid.Column::getRenderer)
+                .map(renderer -> (LitRenderer<Task>) renderer)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static Div textDiv(String prefix, Task task, String text) {
+        Div div = new Div(text);
+        div.setId(prefix + task.getName());
+        return div;
+    }
+
+    private record Measurement(double nodesPerRow, long initialPayload, long scrollPayload, int scrollNodes) {
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+
+package de.bushnaq.abdalla.kassandra.ui.component;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Replays a scripted token stream against a fake clock and measures how many pushes and bytes reach the client.
+ */
+@Tag("UnitTest")
+public class TokenStreamRendererTest {
+    private static final int  TOKENS           = 2000;
+    private static final long TOKEN_GAP_MILLIS = 10;
+
+    private static String token(int i) {
+        return i % 10 == 0 ? "\n" : "tok" + i + " ";
+    }
+
+    @Test
+    void testCoalescesTokensIntoFrames() {
+        AtomicLong    clock      = new AtomicLong();
+        StringBuilder client     = new StringBuilder();
+        long          naiveBytes = 0;
+        StringBuilder naiveText  = new StringBuilder();
+
+        TokenStreamRenderer renderer = new TokenStreamRenderer(ChatAgentPanel.STREAM_FRAME_MS, clock::get, () -> true, client::append);
+        for (int i = 0; i < TOKENS; i++) {
+            String token = token(i);
+            renderer.append(token);
+            // what the old implementation sent: the complete text after every token
+            naiveText.append(token);
+            naiveBytes += naiveText.toString().getBytes(StandardCharsets.UTF_8).length;
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(TOKEN_GAP_MILLIS));
+        }
+        renderer.flush();
+
+        long textBytes = naiveText.toString().getBytes(StandardCharsets.UTF_8).length;
+        assertEquals(naiveText.toString(), client.toString(), "client must end up with the complete text");
+        assertEquals(naiveText.toString(), renderer.getText());
+        assertEquals(textBytes, renderer.getPushedBytes(), "every byte is sent exactly once");
+        long expectedFrames = TOKENS * TOKEN_GAP_MILLIS / ChatAgentPanel.STREAM_FRAME_MS;
+        assertTrue(renderer.getPushCount() <= expectedFrames + 2, String.format("%d pushes for %d tokens", renderer.getPushCount(), TOKENS));
+        assertTrue(renderer.getPushCount() < TOKENS / 5);
+        assertTrue(naiveBytes > 100 * renderer.getPushedBytes(), String.format("naive %d bytes, coalesced %d bytes", naiveBytes, renderer.getPushedBytes()));
+    }
+
+    @Test
+    void testFirstTokenIsPushedImmediately() {
+        AtomicLong          clock    = new AtomicLong(123456789L);
+        List<String>        pushes   = new ArrayList<>();
+        TokenStreamRenderer renderer = new TokenStreamRenderer(ChatAgentPanel.STREAM_FRAME_MS, clock::get, () -> true, pushes::add);
+        renderer.append("Hello");
+        renderer.append(" world");
+        assertEquals(List.of("Hello"), pushes);
+        renderer.flush();
+        assertEquals(List.of("Hello", " world"), pushes);
+        renderer.flush();
+        assertEquals(2, renderer.getPushCount(), "nothing pending, nothing pushed");
+    }
+
+    @Test
+    void testStopsPushingWhenReceiverIsGone() {
+        AtomicLong          clock    = new AtomicLong();
+        AtomicBoolean       alive    = new AtomicBoolean(true);
+        List<String>        pushes   = new ArrayList<>();
+        TokenStreamRenderer renderer = new TokenStreamRenderer(ChatAgentPanel.STREAM_FRAME_MS, clock::get, alive::get, pushes::add);
+        for (int i = 0; i < 100; i++) {
+            if (i == 50) {
+                alive.set(false);
+            }
+            renderer.append(token(i));
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(TOKEN_GAP_MILLIS));
+        }
+        renderer.flush();
+        assertTrue(renderer.isClosed());
+        int pushCount = pushes.size();
+        renderer.append("late");
+        renderer.flush();
+        assertEquals(pushCount, pushes.size());
+        assertEquals(pushCount, renderer.getPushCount());
+    }
+
+    @Test
+    void testSinkFailureClosesRenderer() {
+        AtomicLong clock = new AtomicLong();
+        TokenStreamRenderer renderer = new TokenStreamRenderer(ChatAgentPanel.STREAM_FRAME_MS, clock::get, () -> true, delta -> {
+            throw new IllegalStateException("UI detached");
+        });
+        renderer.append("a");
+        assertTrue(renderer.isClosed());
+        assertEquals(0, renderer.getPushCount());
+    }
+
+    @Test
+    void testTrailingFlushPushesTailOfFrame() {
+        AtomicLong               clock     = new AtomicLong();
+        List<String>             pushes    = new ArrayList<>();
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        TokenStreamRenderer      renderer  = new TokenStreamRenderer(ChatAgentPanel.STREAM_FRAME_MS, clock::get, scheduler, () -> true, pushes::add);
+        renderer.append("Hello");
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(TOKEN_GAP_MILLIS));
+        renderer.append(" wor");
+        renderer.append("ld");
+        assertEquals(List.of("Hello"), pushes, "tokens inside the frame are buffered");
+
+        // the stream pauses, only one trailing flush is scheduled for the rest of the frame
+        ArgumentCaptor<Runnable> trailingFlush = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler, times(1)).schedule(trailingFlush.capture(), eq(TimeUnit.MILLISECONDS.toNanos(ChatAgentPanel.STREAM_FRAME_MS - TOKEN_GAP_MILLIS)), eq(TimeUnit.NANOSECONDS));
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(ChatAgentPanel.STREAM_FRAME_MS - TOKEN_GAP_MILLIS));
+        trailingFlush.getValue().run();
+        assertEquals(List.of("Hello", " world"), pushes);
+
+        // a token that arrives after the trailing flush schedules the next one
+        renderer.append("!");
+        verify(scheduler, times(2)).schedule(any(Runnable.class), anyLong(), eq(TimeUnit.NANOSECONDS));
+        assertEquals("Hello world!", renderer.getText());
+    }
+}
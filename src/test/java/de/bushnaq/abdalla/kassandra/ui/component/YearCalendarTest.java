@@ -0,0 +1,127 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.ui.component;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.dom.Element;
+import de.bushnaq.abdalla.kassandra.ParameterOptions;
+import de.bushnaq.abdalla.kassandra.dto.Availability;
+import de.bushnaq.abdalla.kassandra.dto.OffDay;
+import de.bushnaq.abdalla.kassandra.dto.OffDayType;
+import de.bushnaq.abdalla.kassandra.dto.User;
+import de.bushnaq.abdalla.kassandra.report.calendar.CalendarDayType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures the server side cost of the year calendars, the number of elements the server keeps and the size of the
+ * day data sent to the browser for a whole year and for an edit.
+ */
+@Tag("UnitTest")
+public class YearCalendarTest {
+    private static final int MAX_ELEMENTS     = 60;// header, one calendar element and the legend
+    private static final int MAX_YEAR_PAYLOAD = 2500;// characters for 365 day codes and the palette
+
+    @BeforeEach
+    void beforeEach() {
+        ParameterOptions.setNow(OffsetDateTime.parse("2025-05-05T08:00:00+01:00"));
+    }
+
+    private static int countElements(Element element) {
+        return 1 + element.getChildren().mapToInt(YearCalendarTest::countElements).sum();
+    }
+
+    private static User createUser(OffDay... offDays) {
+        User user = new User();
+        user.setName("calendar user");
+        for (OffDay offDay : offDays) {
+            user.addOffday(offDay);
+        }
+        user.initialize();
+        return user;
+    }
+
+    private static YearCalendar getYearCalendar(Component component) {
+        return component.getChildren().filter(YearCalendar.class::isInstance).map(YearCalendar.class::cast).findFirst().orElseThrow();
+    }
+
+    @Test
+    void availabilityEditSendsDelta() {
+        List<Availability> availabilities = new ArrayList<>();
+        availabilities.add(new Availability(0.8f, LocalDate.of(2024, 1, 1)));
+        AvailabilityCalendarComponent component = new AvailabilityCalendarComponent(createUser(), 2025, date -> {
+        });
+        component.updateCalendar(null, availabilities);
+        YearCalendar calendar = getYearCalendar(component);
+        assertTrue(countElements(component.getElement()) < MAX_ELEMENTS, "elements: " + countElements(component.getElement()));
+        assertTrue(calendar.getLastPayloadSize() < MAX_YEAR_PAYLOAD, "year payload: " + calendar.getLastPayloadSize());
+
+        // availability changes for the last 10 days of the year
+        availabilities.addFirst(new Availability(0.5f, LocalDate.of(2025, 12, 22)));
+        component.updateCalendar(null, availabilities);
+        assertTrue(calendar.getLastPayloadSize() > 0);
+        assertTrue(calendar.getLastPayloadSize() < 10 * 10, "delta payload: " + calendar.getLastPayloadSize());
+    }
+
+    @Test
+    void codesAreDecodable() {
+        int code = YearCalendar.code(CalendarDayType.WEEKEND, true, 0.6f);
+        assertEquals(CalendarDayType.WEEKEND, YearCalendar.typeOf(code));
+        assertEquals(8, code & 8);
+        assertEquals(61, code >> 4);
+        for (CalendarDayType type : CalendarDayType.values()) {
+            assertEquals(type, YearCalendar.typeOf(YearCalendar.code(type, false, null)));
+        }
+    }
+
+    @Test
+    void offDayEditSendsDelta() {
+        OffDay                   vacation  = new OffDay(LocalDate.of(2025, 8, 4), LocalDate.of(2025, 8, 8), OffDayType.VACATION);
+        OffDaysCalendarComponent component = new OffDaysCalendarComponent(createUser(vacation), 2025, date -> {
+        });
+        component.updateCalendar(null);
+        YearCalendar calendar = getYearCalendar(component);
+        int          elements = countElements(component.getElement());
+        assertTrue(elements < MAX_ELEMENTS, "elements: " + elements);
+        assertTrue(calendar.getLastPayloadSize() < MAX_YEAR_PAYLOAD, "year payload: " + calendar.getLastPayloadSize());
+
+        // unchanged data sends nothing
+        component.updateCalendar(null);
+        assertEquals(0, calendar.getLastPayloadSize());
+
+        // one sick day is one index and one code
+        component.updateCalendar(createUser(vacation, new OffDay(LocalDate.of(2025, 3, 4), LocalDate.of(2025, 3, 4), OffDayType.SICK)));
+        assertTrue(calendar.getLastPayloadSize() > 0);
+        assertTrue(calendar.getLastPayloadSize() < 20, "delta payload: " + calendar.getLastPayloadSize());
+        assertEquals(elements, countElements(component.getElement()), "no elements are added by an edit");
+
+        // a year switch sends the whole year, but does not add elements
+        component.setYear(2026);
+        assertTrue(calendar.getLastPayloadSize() > 365);
+        assertTrue(calendar.getLastPayloadSize() < MAX_YEAR_PAYLOAD);
+        assertEquals(elements, countElements(component.getElement()));
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ *
+ * Copyright (C) 2025-2026 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package de.bushnaq.abdalla.kassandra.ui.util;
+
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.DetachEvent;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.server.VaadinSession;
+import de.bushnaq.abdalla.kassandra.config.KassandraProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@Tag("UnitTest")
+public class ViewExecutorTest {
+    private static final long         TIMEOUT_SECONDS = 10;
+    private              ViewExecutor viewExecutor;
+
+    @AfterEach
+    void afterEach() {
+        UI.setCurrent(null);
+        SecurityContextHolder.clearContext();
+        if (viewExecutor != null) {
+            viewExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Occupies the only worker thread until the returned latch is released.
+     */
+    private CountDownLatch block(ViewExecutor.Scope scope) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        viewExecutor.supply(scope, ViewExecutor.Priority.INTERACTIVE, () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+        assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        return release;
+    }
+
+    private static ViewExecutor createViewExecutor(int queueCapacity) {
+        KassandraProperties kassandraProperties = new KassandraProperties();
+        kassandraProperties.getViewExecutor().setThreads(1);
+        kassandraProperties.getViewExecutor().setQueueCapacity(queueCapacity);
+        return new ViewExecutor(kassandraProperties);
+    }
+
+    private static UI createUi() {
+        VaadinSession session = mock(VaadinSession.class, RETURNS_DEEP_STUBS);
+        when(session.hasLock()).thenReturn(true);
+        UI ui = new UI();
+        ui.getInternals().setSession(session);
+        return ui;
+    }
+
+    @Test
+    void detachCancelsPendingAndRunningWork() throws Exception {
+        viewExecutor = createViewExecutor(10);
+        UI ui = createUi();
+        UI.setCurrent(ui);
+        CountDownLatch started     = new CountDownLatch(1);
+        AtomicBoolean  interrupted = new AtomicBoolean();
+        AtomicBoolean  pendingRan  = new AtomicBoolean();
+        CompletableFuture<Void> running = viewExecutor.run(ViewExecutor.Priority.RENDER, () -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+        });
+        assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        CompletableFuture<Void> pending = viewExecutor.run(ViewExecutor.Priority.RENDER, () -> pendingRan.set(true));
+
+        ComponentUtil.fireEvent(ui, new DetachEvent(ui));
+
+        assertTrue(running.isCancelled());
+        assertTrue(pending.isCancelled());
+        assertEquals(0, viewExecutor.getStats().queued(), "cancelled work must leave the queue");
+        // the interrupted worker is free again and runs new work
+        assertEquals("next", viewExecutor.supply(ViewExecutor.Priority.INTERACTIVE, () -> "next").get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(interrupted.get());
+        assertFalse(pendingRan.get());
+    }
+
+    @Test
+    void fullQueueRejectsWork() throws Exception {
+        viewExecutor = createViewExecutor(1);
+        CountDownLatch          release  = block(null);
+        CompletableFuture<Void> queued   = viewExecutor.run(ViewExecutor.Priority.INTERACTIVE, () -> {
+        });
+        CompletableFuture<Void> rejected = viewExecutor.run(ViewExecutor.Priority.INTERACTIVE, () -> {
+        });
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> rejected.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+        assertTrue(ViewExecutor.isRejected(e), "views tell a busy server apart from a failed load");
+        assertFalse(ViewExecutor.isRejected(new ExecutionException(new IllegalStateException("failed"))));
+        assertEquals(1, viewExecutor.getStats().rejected());
+
+        release.countDown();
+        queued.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        // the slot of the queued task is free again
+        viewExecutor.run(ViewExecutor.Priority.INTERACTIVE, () -> {
+        }).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(1, viewExecutor.getStats().rejected());
+    }
+
+    @Test
+    void higherPriorityRunsFirst() throws Exception {
+        viewExecutor = createViewExecutor(10);
+        List<ViewExecutor.Priority>   order   = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch                release = block(null);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (ViewExecutor.Priority priority : List.of(ViewExecutor.Priority.BACKGROUND, ViewExecutor.Priority.RENDER, ViewExecutor.Priority.INTERACTIVE)) {
+            futures.add(viewExecutor.run(priority, () -> order.add(priority)));
+        }
+        release.countDown();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertEquals(List.of(ViewExecutor.Priority.INTERACTIVE, ViewExecutor.Priority.RENDER, ViewExecutor.Priority.BACKGROUND), order);
+    }
+
+    @Test
+    void lateCancelDoesNotInterruptNextTask() throws Exception {
+        viewExecutor = createViewExecutor(10);
+        for (int i = 0; i < 200; i++) {
+            CountDownLatch          started = new CountDownLatch(1);
+            CompletableFuture<Void> first   = viewExecutor.run(ViewExecutor.Priority.RENDER, () -> {
+                started.countDown();
+                Thread.currentThread().interrupt();// a task that leaves its interrupt flag set
+            });
+            CompletableFuture<Boolean> next = viewExecutor.supply(ViewExecutor.Priority.RENDER, () -> {
+                try {
+                    Thread.sleep(1);
+                    return false;
+                } catch (InterruptedException e) {
+                    return true;
+                }
+            });
+            assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            first.cancel(true);// races with the end of the first task on the single worker thread
+
+            assertFalse(next.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), "cancelling the first task must not interrupt the next one");
+        }
+    }
+
+    @Test
+    void securityContextIsPropagatedAndCleared() throws Exception {
+        viewExecutor = createViewExecutor(10);
+        Authentication  authentication = new TestingAuthenticationToken("christopher", "password", "ROLE_USER");
+        SecurityContext context        = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+
+        assertSame(authentication, viewExecutor.supply(ViewExecutor.Priority.INTERACTIVE, () -> SecurityContextHolder.getContext().getAuthentication())
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        // the single worker thread must not keep the authentication of the previous task
+        SecurityContextHolder.clearContext();
+        assertNull(viewExecutor.supply(ViewExecutor.Priority.INTERACTIVE, () -> SecurityContextHolder.getContext().getAuthentication())
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void workIsRegisteredInScopeOfCurrentUi() throws Exception {
+        viewExecutor = createViewExecutor(10);
+        UI ui = createUi();
+        UI.setCurrent(ui);
+        CountDownLatch          release = block(viewExecutor.scope(ui));
+        CompletableFuture<Void> future  = viewExecutor.run(ViewExecutor.Priority.RENDER, () -> {
+        });
+
+        assertSame(viewExecutor.scope(ui), ComponentUtil.getData(ui, ViewExecutor.Scope.class), "scope is created once per UI");
+        viewExecutor.scope(ui).cancelAll();
+        assertTrue(future.isCancelled());
+        release.countDown();
+    }
+}
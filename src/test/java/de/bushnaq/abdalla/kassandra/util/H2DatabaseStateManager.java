@@ -17,6 +17,7 @@
 
 package de.bushnaq.abdalla.kassandra.util;
 
+import de.bushnaq.abdalla.kassandra.service.WorklogRollupService;
 import de.bushnaq.abdalla.profiler.Profiler;
 import de.bushnaq.abdalla.profiler.SampleType;
 import org.slf4j.Logger;
@@ -51,11 +52,13 @@ public class H2DatabaseStateManager {
     private              DataSource        dataSource;
 
     @Autowired
-    private JdbcTemplate jdbcTemplate;
+    private JdbcTemplate         jdbcTemplate;
     @Value("${spring.datasource.password}")
-    private String       password;
+    private String               password;
     @Value("${spring.datasource.username}")
-    private String       username;
+    private String               username;
+    @Autowired
+    private WorklogRollupService worklogRollupService;
 
     /**
      * Properly drops all user tables from the database
@@ -190,9 +193,11 @@ public class H2DatabaseStateManager {
                         Paths.get(snapshotFilePath).toAbsolutePath() +
                         "' COMPRESSION ZIP";
                 conn.createStatement().execute(runScriptCommand);
-                logger.info("Database snapshot imported successfully");
-                return true;
             }
+            // plain sql bypasses the rollup maintenance, a snapshot without the worklog_days table fails here and is generated again
+            worklogRollupService.rebuildAll();
+            logger.info("Database snapshot imported successfully");
+            return true;
         } catch (Exception e) {
             logger.error("Failed to import database snapshot", e);
             return false;
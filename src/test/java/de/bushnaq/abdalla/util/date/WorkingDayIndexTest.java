@@ -0,0 +1,94 @@
+/*
+ *
+ * Copyright (C) 2025-2025 Abdalla Bushnaq
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package de.bushnaq.abdalla.util.date;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+ * WorkingDayIndex must answer exactly like walking the days one by one, inside and outside of its horizon.
+ */
+@Tag("UnitTest")
+public class WorkingDayIndexTest {
+    private static final LocalDate            FIRST   = LocalDate.parse("2018-03-01");
+    private static final LocalDate            LAST    = LocalDate.parse("2018-06-30");
+    private static final LocalDate            HOLIDAY = LocalDate.parse("2018-05-01");
+    private static final Predicate<LocalDate> WORKING = day -> DateUtil.isWorkDay(day) && !day.equals(HOLIDAY);
+
+    private static LocalDate addByWalking(LocalDate start, int n) {
+        LocalDate day = start;
+        while (true) {
+            if (WORKING.test(day) && --n == 0) {
+                return day;
+            }
+            day = day.plusDays(1);
+        }
+    }
+
+    @Test
+    public void addWorkingDaysTest() {
+        WorkingDayIndex index = new WorkingDayIndex(WORKING, FIRST, LAST);
+        for (LocalDate start = FIRST.minusDays(20); start.isBefore(LAST.plusDays(20)); start = start.plusDays(1)) {
+            for (int n = 1; n < 80; n++) {
+                assertEquals(addByWalking(start, n), index.addWorkingDays(start, n), String.format("start=%s n=%d", start, n));
+            }
+        }
+    }
+
+    private static int countByWalking(LocalDate start, LocalDate end) {
+        int count = 0;
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+            if (WORKING.test(day)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Test
+    public void countWorkingDaysIncludingTest() {
+        WorkingDayIndex index = new WorkingDayIndex(WORKING, FIRST, LAST);
+        for (LocalDate start = FIRST.minusDays(20); start.isBefore(LAST.plusDays(20)); start = start.plusDays(1)) {
+            for (int days = -2; days < 150; days += 3) {
+                LocalDate end = start.plusDays(days);
+                assertEquals(countByWalking(start, end), index.countWorkingDaysIncluding(start, end), String.format("start=%s end=%s", start, end));
+            }
+        }
+    }
+
+    @Test
+    public void isWorkingDateTest() {
+        WorkingDayIndex index = new WorkingDayIndex(WORKING, FIRST, LAST);
+        for (LocalDate day = FIRST.minusDays(20); day.isBefore(LAST.plusDays(20)); day = day.plusDays(1)) {
+            assertEquals(WORKING.test(day), index.isWorkingDate(day), day.toString());
+        }
+    }
+
+    @Test
+    public void weekdaysMatchDateUtilTest() {
+        WorkingDayIndex index = WorkingDayIndex.ofWeekdays(FIRST, LAST);
+        LocalDate       start = LocalDate.parse("2018-03-12");
+        for (LocalDate end = start; end.isBefore(LAST); end = end.plusDays(1)) {
+            assertEquals(DateUtil.calculateWorkingDaysIncluding(start, end), index.countWorkingDaysIncluding(start, end), end.toString());
+        }
+    }
+}